@@ -0,0 +1,116 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * Helper to write into any {@link Appendable} without intermediate copy when
+ * the target is a {@link StringBuilder} or a {@link Writer}.
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+final class Appendables {
+
+    /**
+     * Hidden constructor.
+     */
+    private Appendables() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Append a part of the char array
+     * 
+     * @param output
+     *            the output
+     * @param chars
+     *            the characters
+     * @param start
+     *            the start position (inclusive)
+     * @param end
+     *            the end position (exclusive)
+     * @throws IOException
+     *             on write failure
+     */
+    static void append(final Appendable output, final char[] chars, final int start, final int end) throws IOException {
+        if (start >= end) {
+            return;
+        } else if (output instanceof StringBuilder) {
+            ((StringBuilder) output).append(chars, start, end - start);
+        } else if (output instanceof Writer) {
+            ((Writer) output).write(chars, start, end - start);
+        } else {
+            output.append(CharBuffer.wrap(chars, start, end - start));
+        }
+    }
+
+    /**
+     * Append a part of the char sequence
+     * 
+     * @param output
+     *            the output
+     * @param sequence
+     *            the characters
+     * @param start
+     *            the start position (inclusive)
+     * @param end
+     *            the end position (exclusive)
+     * @throws IOException
+     *             on write failure
+     */
+    static void append(final Appendable output, final CharSequence sequence, final int start, final int end)
+            throws IOException {
+        if (start >= end) {
+            return;
+        } else if (output instanceof Writer && sequence instanceof String) {
+            ((Writer) output).write((String) sequence, start, end - start);
+        } else if (output instanceof Writer && sequence instanceof CharBuffer && ((CharBuffer) sequence).hasArray()) {
+            final CharBuffer buffer = (CharBuffer) sequence;
+            ((Writer) output).write(buffer.array(), buffer.arrayOffset() + buffer.position() + start, end - start);
+        } else {
+            output.append(sequence, start, end);
+        }
+    }
+
+    /**
+     * Append the string value of the object
+     * 
+     * @param output
+     *            the output
+     * @param value
+     *            the value (may be null)
+     * @throws IOException
+     *             on write failure
+     */
+    static void append(final Appendable output, final Object value) throws IOException {
+        if (output instanceof StringBuilder) {
+            ((StringBuilder) output).append(value);
+        } else if (output instanceof Writer) {
+            ((Writer) output).write(String.valueOf(value));
+        } else {
+            output.append(String.valueOf(value));
+        }
+    }
+}
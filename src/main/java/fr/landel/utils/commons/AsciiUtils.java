@@ -22,7 +22,9 @@ package fr.landel.utils.commons;
 import java.util.function.IntPredicate;
 
 /**
- * ASCII utility class
+ * ASCII utility class. The predicates are {@link CharClass} bitmaps (the
+ * same receiver type for all, so the calls stay monomorphic), use
+ * {@link CharClass} directly for the bulk scans.
  *
  * @since Mar 25, 2017
  * @author Gilles
@@ -70,32 +72,45 @@ public class AsciiUtils {
      */
     public static final int ALPHA_LC_LAST = ALPHA_LC_FIRST + 25;
 
+    /**
+     * First printable character in ASCII table (space)
+     */
+    public static final int PRINTABLE_FIRST = 32;
+
+    /**
+     * Last printable character in ASCII table (~)
+     */
+    public static final int PRINTABLE_LAST = 126;
+
     /**
      * Predicate to check if a character is a number character /0-9/
      */
-    public static final IntPredicate IS_NUMERIC = c -> NUM_FIRST <= c && c <= NUM_LAST;
+    public static final IntPredicate IS_NUMERIC = CharClass.DIGITS;
 
     /**
      * Predicate to check if a character is an lower case alpha character /a-z/
      */
-    public static final IntPredicate IS_ALPHA_LC = c -> ALPHA_LC_FIRST <= c && c <= ALPHA_LC_LAST;
+    public static final IntPredicate IS_ALPHA_LC = CharClass.ALPHA_LC;
 
     /**
      * Predicate to check if a character is an upper case alpha character /A-Z/
      */
-    public static final IntPredicate IS_ALPHA_UC = c -> ALPHA_UC_FIRST <= c && c <= ALPHA_UC_LAST;
+    public static final IntPredicate IS_ALPHA_UC = CharClass.ALPHA_UC;
 
     /**
      * Predicate to check if a character is an alpha character /a-zA-Z/
      */
-    public static final IntPredicate IS_ALPHA = c -> (ALPHA_UC_FIRST <= c && c <= ALPHA_UC_LAST)
-            || (ALPHA_LC_FIRST <= c && c <= ALPHA_LC_LAST);
+    public static final IntPredicate IS_ALPHA = CharClass.ALPHA;
 
     /**
      * Predicate to check if a character is alphanumeric /0-9a-zA-Z/
      */
-    public static final IntPredicate IS_ALPHANUMERIC = c -> (NUM_FIRST <= c && c <= NUM_LAST) || (ALPHA_UC_FIRST <= c && c <= ALPHA_UC_LAST)
-            || (ALPHA_LC_FIRST <= c && c <= ALPHA_LC_LAST);
+    public static final IntPredicate IS_ALPHANUMERIC = CharClass.ALPHANUMERIC;
+
+    /**
+     * Predicate to check if a character is printable /[ -~]/
+     */
+    public static final IntPredicate IS_PRINTABLE = CharClass.PRINTABLE;
 
     /**
      * Hidden constructor
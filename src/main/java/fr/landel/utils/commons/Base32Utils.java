@@ -0,0 +1,468 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Crockford's Base32 utility class (digits and upper case letters, without
+ * I, L, O and U, no padding). The codec is table-driven, works on ranges,
+ * and writes into caller-provided arrays, buffers and {@link Appendable}s
+ * (no allocation per byte). The decoder is case insensitive, reads 'I' and
+ * 'L' as '1' and 'O' as '0', and skips the hyphens (used to group the chars).
+ *
+ * <pre>
+ * Base32Utils.encode(new byte[] {0x12, 0x34, 0x56}); // =&gt; "28T5C"
+ * Base32Utils.decode("28t5c"); // =&gt; {0x12, 0x34, 0x56}
+ * Base32Utils.decode("28-T5C"); // =&gt; {0x12, 0x34, 0x56}
+ * </pre>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public final class Base32Utils {
+
+    /**
+     * The separator skipped by the decoder
+     */
+    public static final char HYPHEN = '-';
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private static final int ASCII_SIZE = 128;
+    private static final int INVALID = -1;
+    private static final int SKIPPED = -2;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int QUINTET_MASK = 0x1F;
+    private static final int QUINTET = 5;
+    private static final int BYTE_SIZE = 8;
+    private static final int BLOCK_BYTES = 5;
+    private static final int BLOCK_CHARS = 8;
+
+    /**
+     * Number of chars for 0 to 4 remaining bytes
+     */
+    private static final int[] TAIL_CHARS = {0, 2, 4, 5, 7};
+
+    /**
+     * Number of blocks of the local buffers (for the inputs or outputs
+     * without array)
+     */
+    private static final int BUFFER_BLOCKS = 512;
+
+    /**
+     * For each ASCII char, the quintet value, {@link #SKIPPED} or
+     * {@link #INVALID}
+     */
+    private static final byte[] VALUES = new byte[ASCII_SIZE];
+
+    static {
+        Arrays.fill(VALUES, (byte) INVALID);
+        for (int i = 0; i < ALPHABET.length; ++i) {
+            VALUES[ALPHABET[i]] = (byte) i;
+            VALUES[Character.toLowerCase(ALPHABET[i])] = (byte) i;
+        }
+        VALUES['O'] = 0;
+        VALUES['o'] = 0;
+        VALUES['I'] = 1;
+        VALUES['i'] = 1;
+        VALUES['L'] = 1;
+        VALUES['l'] = 1;
+        VALUES[HYPHEN] = SKIPPED;
+    }
+
+    /**
+     * Hidden constructor
+     */
+    private Base32Utils() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Get the number of chars of the encoded bytes
+     * 
+     * @param length
+     *            the number of bytes
+     * @return the number of chars
+     * @throws IllegalArgumentException
+     *             if the length is negative or too large
+     */
+    public static int encodedLength(final int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("The length cannot be negative");
+        }
+        final long chars = (long) length / BLOCK_BYTES * BLOCK_CHARS + TAIL_CHARS[length % BLOCK_BYTES];
+        if (chars > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The encoded length exceeds the maximum array size");
+        }
+        return (int) chars;
+    }
+
+    /**
+     * Encode the bytes
+     * 
+     * @param bytes
+     *            the bytes
+     * @return the Base32 string
+     * @throws NullPointerException
+     *             if bytes is {@code null}
+     */
+    public static String encode(final byte[] bytes) {
+        return encode(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Encode the range of bytes
+     * 
+     * @param bytes
+     *            the bytes
+     * @param offset
+     *            the range offset
+     * @param length
+     *            the range length
+     * @return the Base32 string
+     * @throws NullPointerException
+     *             if bytes is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the array
+     */
+    public static String encode(final byte[] bytes, final int offset, final int length) {
+        checkRange(bytes.length, offset, length);
+
+        final char[] chars = new char[encodedLength(length)];
+        encode(bytes, offset, length, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Encode the range of bytes into the char array
+     * 
+     * @param bytes
+     *            the bytes
+     * @param offset
+     *            the range offset
+     * @param length
+     *            the range length
+     * @param target
+     *            the target array (see {@link #encodedLength(int)})
+     * @param targetOffset
+     *            the offset in the target array
+     * @return the number of chars written
+     * @throws NullPointerException
+     *             if bytes or target is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if a range is out of its array
+     */
+    public static int encode(final byte[] bytes, final int offset, final int length, final char[] target, final int targetOffset) {
+        checkRange(bytes.length, offset, length);
+        checkRange(target.length, targetOffset, encodedLength(length));
+
+        int j = targetOffset;
+        int i = offset;
+        for (final int end = offset + length - length % BLOCK_BYTES; i < end; i += BLOCK_BYTES) {
+            final long bits = block(bytes, i, BLOCK_BYTES);
+            for (int shift = (BLOCK_CHARS - 1) * QUINTET; shift >= 0; shift -= QUINTET) {
+                target[j++] = ALPHABET[(int) (bits >>> shift) & QUINTET_MASK];
+            }
+        }
+        final int remaining = offset + length - i;
+        if (remaining > 0) {
+            final long bits = block(bytes, i, remaining);
+            for (int k = 0, shift = (BLOCK_CHARS - 1) * QUINTET; k < TAIL_CHARS[remaining]; ++k, shift -= QUINTET) {
+                target[j++] = ALPHABET[(int) (bits >>> shift) & QUINTET_MASK];
+            }
+        }
+        return j - targetOffset;
+    }
+
+    /**
+     * Encode the remaining bytes of the buffer (heap or direct), the buffer
+     * position is moved to its limit
+     * 
+     * @param buffer
+     *            the buffer
+     * @return the Base32 string
+     * @throws NullPointerException
+     *             if buffer is {@code null}
+     */
+    public static String encode(final ByteBuffer buffer) {
+        try {
+            return encodeTo(new StringBuilder(encodedLength(buffer.remaining())), buffer).toString();
+        } catch (IOException e) {
+            // never thrown by a string builder
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Encode the range of bytes into the output (through a local buffer, if
+     * the output is not a {@link StringBuilder} nor a {@link java.io.Writer})
+     * 
+     * @param output
+     *            the output
+     * @param bytes
+     *            the bytes
+     * @param offset
+     *            the range offset
+     * @param length
+     *            the range length
+     * @param <A>
+     *            the output type
+     * @return the output
+     * @throws NullPointerException
+     *             if output or bytes is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the array
+     * @throws IOException
+     *             on write failure
+     */
+    public static <A extends Appendable> A encodeTo(final A output, final byte[] bytes, final int offset, final int length)
+            throws IOException {
+        Objects.requireNonNull(output, "output");
+        checkRange(bytes.length, offset, length);
+
+        final int chunk = BUFFER_BLOCKS * BLOCK_BYTES;
+        final char[] chars = new char[encodedLength(Math.min(length, chunk))];
+        for (int i = offset; i < offset + length; i += chunk) {
+            final int count = encode(bytes, i, Math.min(chunk, offset + length - i), chars, 0);
+            Appendables.append(output, chars, 0, count);
+        }
+        return output;
+    }
+
+    /**
+     * Encode the remaining bytes of the buffer (heap or direct) into the
+     * output, the buffer position is moved to its limit
+     * 
+     * @param output
+     *            the output
+     * @param buffer
+     *            the buffer
+     * @param <A>
+     *            the output type
+     * @return the output
+     * @throws NullPointerException
+     *             if output or buffer is {@code null}
+     * @throws IOException
+     *             on write failure
+     */
+    public static <A extends Appendable> A encodeTo(final A output, final ByteBuffer buffer) throws IOException {
+        Objects.requireNonNull(output, "output");
+
+        if (buffer.hasArray()) {
+            encodeTo(output, buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+        } else {
+            // the chunks are multiples of the block size
+            final byte[] bytes = new byte[Math.min(buffer.remaining(), BUFFER_BLOCKS * BLOCK_BYTES)];
+            final char[] chars = new char[encodedLength(bytes.length)];
+            while (buffer.hasRemaining()) {
+                final int length = Math.min(bytes.length, buffer.remaining());
+                buffer.get(bytes, 0, length);
+                Appendables.append(output, chars, 0, encode(bytes, 0, length, chars, 0));
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Get the number of decoded bytes
+     * 
+     * @param base32
+     *            the Base32 chars
+     * @param start
+     *            the start position (inclusive)
+     * @param end
+     *            the end position (exclusive)
+     * @return the number of bytes
+     * @throws NullPointerException
+     *             if base32 is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the sequence
+     * @throws IllegalArgumentException
+     *             if a char is not a Base32 char, or if the number of chars is
+     *             invalid
+     */
+    public static int decodedLength(final CharSequence base32, final int start, final int end) {
+        checkRange(base32.length(), start, end - start);
+
+        int chars = 0;
+        for (int i = start; i < end; ++i) {
+            final int value = value(base32.charAt(i));
+            if (value == INVALID) {
+                throw invalid(i);
+            } else if (value != SKIPPED) {
+                ++chars;
+            }
+        }
+        final int bits = chars % BLOCK_CHARS * QUINTET;
+        // the remaining bits have to be less than a byte
+        if (bits % BYTE_SIZE >= QUINTET) {
+            throw new IllegalArgumentException("Invalid Base32 length");
+        }
+        return (int) (chars * (long) QUINTET / BYTE_SIZE);
+    }
+
+    /**
+     * Decode the Base32 chars
+     * 
+     * @param base32
+     *            the Base32 chars
+     * @return the bytes
+     * @throws NullPointerException
+     *             if base32 is {@code null}
+     * @throws IllegalArgumentException
+     *             if a char is not a Base32 char, or if the number of chars is
+     *             invalid
+     */
+    public static byte[] decode(final CharSequence base32) {
+        final byte[] bytes = new byte[decodedLength(base32, 0, base32.length())];
+        decodeRange(base32, 0, base32.length(), bytes, 0);
+        return bytes;
+    }
+
+    /**
+     * Decode the range of Base32 chars into the array
+     * 
+     * @param base32
+     *            the Base32 chars
+     * @param start
+     *            the start position (inclusive)
+     * @param end
+     *            the end position (exclusive)
+     * @param target
+     *            the target array
+     * @param targetOffset
+     *            the offset in the target array
+     * @return the number of bytes written
+     * @throws NullPointerException
+     *             if base32 or target is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the sequence, or if the target array
+     *             is too small
+     * @throws IllegalArgumentException
+     *             if a char is not a Base32 char, or if the number of chars is
+     *             invalid
+     */
+    public static int decode(final CharSequence base32, final int start, final int end, final byte[] target, final int targetOffset) {
+        final int length = decodedLength(base32, start, end);
+        checkRange(target.length, targetOffset, length);
+
+        return decodeRange(base32, start, end, target, targetOffset);
+    }
+
+    /**
+     * Decode the Base32 chars into the target buffer (heap or direct), the
+     * target position is moved
+     * 
+     * @param base32
+     *            the Base32 chars
+     * @param target
+     *            the target buffer
+     * @return the number of bytes written
+     * @throws NullPointerException
+     *             if base32 or target is {@code null}
+     * @throws BufferOverflowException
+     *             if the target has not enough remaining space
+     * @throws IllegalArgumentException
+     *             if a char is not a Base32 char, or if the number of chars is
+     *             invalid
+     */
+    public static int decode(final CharSequence base32, final ByteBuffer target) {
+        final int length = decodedLength(base32, 0, base32.length());
+        if (target.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+
+        if (target.hasArray()) {
+            decodeRange(base32, 0, base32.length(), target.array(), target.arrayOffset() + target.position());
+            target.position(target.position() + length);
+        } else {
+            // decoded by chunks of whole blocks (8 significant chars)
+            final byte[] bytes = new byte[Math.min(length, BUFFER_BLOCKS * BLOCK_BYTES)];
+            final int end = base32.length();
+            int start = 0;
+            while (start < end) {
+                int chunkEnd = start;
+                for (int chars = 0; chunkEnd < end && chars < BUFFER_BLOCKS * BLOCK_CHARS; ++chunkEnd) {
+                    if (value(base32.charAt(chunkEnd)) != SKIPPED) {
+                        ++chars;
+                    }
+                }
+                target.put(bytes, 0, decodeRange(base32, start, chunkEnd, bytes, 0));
+                start = chunkEnd;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Decode the range (checked before), the bits are accumulated, a byte is
+     * written each time 8 bits are available
+     */
+    private static int decodeRange(final CharSequence base32, final int start, final int end, final byte[] target, final int offset) {
+        int j = offset;
+        int bits = 0;
+        int count = 0;
+        for (int i = start; i < end; ++i) {
+            final int value = value(base32.charAt(i));
+            if (value >= 0) {
+                bits = bits << QUINTET | value;
+                count += QUINTET;
+                if (count >= BYTE_SIZE) {
+                    count -= BYTE_SIZE;
+                    target[j++] = (byte) (bits >>> count);
+                }
+            }
+        }
+        return j - offset;
+    }
+
+    /**
+     * Read a block of bytes, big endian, aligned on 40 bits
+     */
+    private static long block(final byte[] bytes, final int offset, final int length) {
+        long bits = 0;
+        for (int k = 0; k < BLOCK_BYTES; ++k) {
+            bits = bits << BYTE_SIZE | (k < length ? bytes[offset + k] & BYTE_MASK : 0);
+        }
+        return bits;
+    }
+
+    private static int value(final char c) {
+        return c < ASCII_SIZE ? VALUES[c] : INVALID;
+    }
+
+    private static IllegalArgumentException invalid(final int index) {
+        return new IllegalArgumentException("Invalid Base32 character at index " + index);
+    }
+
+    private static void checkRange(final int size, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset > size - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", size: " + size);
+        }
+    }
+}
@@ -0,0 +1,553 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * URL and filename safe Base64 utility class (RFC 4648 section 5, '-' and
+ * '_' instead of '+' and '/'). The codec is table-driven, works on ranges,
+ * and writes into caller-provided arrays, buffers and {@link Appendable}s
+ * (no allocation per byte). The padding is optional when encoding ('=' up to
+ * a multiple of 4 chars) and accepted, but not required, when decoding.
+ *
+ * <p>
+ * The whole array to string conversions are delegated to {@link Base64}
+ * (intrinsified by the recent JVMs, the result is the same), the other ones
+ * use the local codec.
+ * </p>
+ *
+ * <pre>
+ * Base64Utils.encode(new byte[] {(byte) 0xfb, (byte) 0xff}); // =&gt; "-_8"
+ * Base64Utils.encode(new byte[] {(byte) 0xfb, (byte) 0xff}, 0, 2, true); // =&gt; "-_8="
+ * Base64Utils.decode("-_8"); // =&gt; {0xfb, 0xff}
+ * </pre>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public final class Base64Utils {
+
+    /**
+     * The padding char
+     */
+    public static final char PADDING = '=';
+
+    private static final char[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+
+    private static final int ASCII_SIZE = 128;
+    private static final int INVALID = -1;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int SIXTET_MASK = 0x3F;
+    private static final int SIXTET = 6;
+    private static final int BLOCK_BYTES = 3;
+    private static final int BLOCK_CHARS = 4;
+
+    /**
+     * Number of blocks of the local buffers (for the inputs or outputs
+     * without array)
+     */
+    private static final int BUFFER_BLOCKS = 512;
+
+    /**
+     * For each ASCII char, the sextet value or {@link #INVALID}
+     */
+    private static final byte[] VALUES = new byte[ASCII_SIZE];
+
+    static {
+        Arrays.fill(VALUES, (byte) INVALID);
+        for (int i = 0; i < ALPHABET.length; ++i) {
+            VALUES[ALPHABET[i]] = (byte) i;
+        }
+    }
+
+    /**
+     * Hidden constructor
+     */
+    private Base64Utils() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Get the number of chars of the encoded bytes
+     * 
+     * @param length
+     *            the number of bytes
+     * @param padding
+     *            if padded
+     * @return the number of chars
+     * @throws IllegalArgumentException
+     *             if the length is negative or too large
+     */
+    public static int encodedLength(final int length, final boolean padding) {
+        if (length < 0) {
+            throw new IllegalArgumentException("The length cannot be negative");
+        }
+        final long chars;
+        if (padding) {
+            chars = (length + 2L) / BLOCK_BYTES * BLOCK_CHARS;
+        } else {
+            chars = (length * 4L + 2) / BLOCK_BYTES;
+        }
+        if (chars > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The encoded length exceeds the maximum array size");
+        }
+        return (int) chars;
+    }
+
+    /**
+     * Encode the bytes (without padding)
+     * 
+     * @param bytes
+     *            the bytes
+     * @return the Base64 string
+     * @throws NullPointerException
+     *             if bytes is {@code null}
+     */
+    public static String encode(final byte[] bytes) {
+        return encode(bytes, 0, bytes.length, false);
+    }
+
+    /**
+     * Encode the range of bytes
+     * 
+     * @param bytes
+     *            the bytes
+     * @param offset
+     *            the range offset
+     * @param length
+     *            the range length
+     * @param padding
+     *            if padded
+     * @return the Base64 string
+     * @throws NullPointerException
+     *             if bytes is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the array
+     */
+    public static String encode(final byte[] bytes, final int offset, final int length, final boolean padding) {
+        checkRange(bytes.length, offset, length);
+        if (offset == 0 && length == bytes.length) {
+            return (padding ? Base64.getUrlEncoder() : Base64.getUrlEncoder().withoutPadding()).encodeToString(bytes);
+        }
+
+        final char[] chars = new char[encodedLength(length, padding)];
+        encode(bytes, offset, length, chars, 0, padding);
+        return new String(chars);
+    }
+
+    /**
+     * Encode the range of bytes into the char array
+     * 
+     * @param bytes
+     *            the bytes
+     * @param offset
+     *            the range offset
+     * @param length
+     *            the range length
+     * @param target
+     *            the target array (see {@link #encodedLength(int, boolean)})
+     * @param targetOffset
+     *            the offset in the target array
+     * @param padding
+     *            if padded
+     * @return the number of chars written
+     * @throws NullPointerException
+     *             if bytes or target is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if a range is out of its array
+     */
+    public static int encode(final byte[] bytes, final int offset, final int length, final char[] target, final int targetOffset,
+            final boolean padding) {
+        checkRange(bytes.length, offset, length);
+        checkRange(target.length, targetOffset, encodedLength(length, padding));
+
+        int j = targetOffset;
+        int i = offset;
+        for (final int end = offset + length - length % BLOCK_BYTES; i < end; i += BLOCK_BYTES) {
+            final int bits = (bytes[i] & BYTE_MASK) << 16 | (bytes[i + 1] & BYTE_MASK) << 8 | bytes[i + 2] & BYTE_MASK;
+            target[j++] = ALPHABET[bits >>> 18];
+            target[j++] = ALPHABET[bits >>> 12 & SIXTET_MASK];
+            target[j++] = ALPHABET[bits >>> SIXTET & SIXTET_MASK];
+            target[j++] = ALPHABET[bits & SIXTET_MASK];
+        }
+        final int remaining = offset + length - i;
+        if (remaining > 0) {
+            final int bits = (bytes[i] & BYTE_MASK) << 16 | (remaining > 1 ? (bytes[i + 1] & BYTE_MASK) << 8 : 0);
+            target[j++] = ALPHABET[bits >>> 18];
+            target[j++] = ALPHABET[bits >>> 12 & SIXTET_MASK];
+            if (remaining > 1) {
+                target[j++] = ALPHABET[bits >>> SIXTET & SIXTET_MASK];
+            } else if (padding) {
+                target[j++] = PADDING;
+            }
+            if (padding) {
+                target[j++] = PADDING;
+            }
+        }
+        return j - targetOffset;
+    }
+
+    /**
+     * Encode the range of bytes into ASCII chars in the byte array
+     * 
+     * @param bytes
+     *            the bytes
+     * @param offset
+     *            the range offset
+     * @param length
+     *            the range length
+     * @param target
+     *            the target array (see {@link #encodedLength(int, boolean)})
+     * @param targetOffset
+     *            the offset in the target array
+     * @param padding
+     *            if padded
+     * @return the number of bytes written
+     * @throws NullPointerException
+     *             if bytes or target is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if a range is out of its array
+     */
+    public static int encode(final byte[] bytes, final int offset, final int length, final byte[] target, final int targetOffset,
+            final boolean padding) {
+        checkRange(bytes.length, offset, length);
+        checkRange(target.length, targetOffset, encodedLength(length, padding));
+
+        int j = targetOffset;
+        int i = offset;
+        for (final int end = offset + length - length % BLOCK_BYTES; i < end; i += BLOCK_BYTES) {
+            final int bits = (bytes[i] & BYTE_MASK) << 16 | (bytes[i + 1] & BYTE_MASK) << 8 | bytes[i + 2] & BYTE_MASK;
+            target[j++] = (byte) ALPHABET[bits >>> 18];
+            target[j++] = (byte) ALPHABET[bits >>> 12 & SIXTET_MASK];
+            target[j++] = (byte) ALPHABET[bits >>> SIXTET & SIXTET_MASK];
+            target[j++] = (byte) ALPHABET[bits & SIXTET_MASK];
+        }
+        final int remaining = offset + length - i;
+        if (remaining > 0) {
+            final int bits = (bytes[i] & BYTE_MASK) << 16 | (remaining > 1 ? (bytes[i + 1] & BYTE_MASK) << 8 : 0);
+            target[j++] = (byte) ALPHABET[bits >>> 18];
+            target[j++] = (byte) ALPHABET[bits >>> 12 & SIXTET_MASK];
+            if (remaining > 1) {
+                target[j++] = (byte) ALPHABET[bits >>> SIXTET & SIXTET_MASK];
+            } else if (padding) {
+                target[j++] = PADDING;
+            }
+            if (padding) {
+                target[j++] = PADDING;
+            }
+        }
+        return j - targetOffset;
+    }
+
+    /**
+     * Encode the remaining bytes of the buffer (heap or direct), the buffer
+     * position is moved to its limit
+     * 
+     * @param buffer
+     *            the buffer
+     * @param padding
+     *            if padded
+     * @return the Base64 string
+     * @throws NullPointerException
+     *             if buffer is {@code null}
+     */
+    public static String encode(final ByteBuffer buffer, final boolean padding) {
+        try {
+            return encodeTo(new StringBuilder(encodedLength(buffer.remaining(), padding)), buffer, padding).toString();
+        } catch (IOException e) {
+            // never thrown by a string builder
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Encode the range of bytes into the output (through a local buffer, if
+     * the output is not a {@link StringBuilder} nor a {@link java.io.Writer})
+     * 
+     * @param output
+     *            the output
+     * @param bytes
+     *            the bytes
+     * @param offset
+     *            the range offset
+     * @param length
+     *            the range length
+     * @param padding
+     *            if padded
+     * @param <A>
+     *            the output type
+     * @return the output
+     * @throws NullPointerException
+     *             if output or bytes is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the array
+     * @throws IOException
+     *             on write failure
+     */
+    public static <A extends Appendable> A encodeTo(final A output, final byte[] bytes, final int offset, final int length,
+            final boolean padding) throws IOException {
+        Objects.requireNonNull(output, "output");
+        checkRange(bytes.length, offset, length);
+
+        final int chunk = BUFFER_BLOCKS * BLOCK_BYTES;
+        final char[] chars = new char[encodedLength(Math.min(length, chunk), padding)];
+        for (int i = offset; i < offset + length; i += chunk) {
+            final int count = encode(bytes, i, Math.min(chunk, offset + length - i), chars, 0, padding);
+            Appendables.append(output, chars, 0, count);
+        }
+        return output;
+    }
+
+    /**
+     * Encode the remaining bytes of the buffer (heap or direct) into the
+     * output, the buffer position is moved to its limit
+     * 
+     * @param output
+     *            the output
+     * @param buffer
+     *            the buffer
+     * @param padding
+     *            if padded
+     * @param <A>
+     *            the output type
+     * @return the output
+     * @throws NullPointerException
+     *             if output or buffer is {@code null}
+     * @throws IOException
+     *             on write failure
+     */
+    public static <A extends Appendable> A encodeTo(final A output, final ByteBuffer buffer, final boolean padding) throws IOException {
+        Objects.requireNonNull(output, "output");
+
+        if (buffer.hasArray()) {
+            encodeTo(output, buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), padding);
+            buffer.position(buffer.limit());
+        } else {
+            // the chunks are multiples of the block size, only the last one is padded
+            final byte[] bytes = new byte[Math.min(buffer.remaining(), BUFFER_BLOCKS * BLOCK_BYTES)];
+            final char[] chars = new char[encodedLength(bytes.length, padding)];
+            while (buffer.hasRemaining()) {
+                final int length = Math.min(bytes.length, buffer.remaining());
+                buffer.get(bytes, 0, length);
+                Appendables.append(output, chars, 0, encode(bytes, 0, length, chars, 0, padding));
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Get the number of decoded bytes
+     * 
+     * @param base64
+     *            the Base64 chars
+     * @param start
+     *            the start position (inclusive)
+     * @param end
+     *            the end position (exclusive)
+     * @return the number of bytes
+     * @throws NullPointerException
+     *             if base64 is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the sequence
+     * @throws IllegalArgumentException
+     *             if the number of chars or the padding is invalid
+     */
+    public static int decodedLength(final CharSequence base64, final int start, final int end) {
+        checkRange(base64.length(), start, end - start);
+        return decodedLength(end(base64, start, end) - start);
+    }
+
+    /**
+     * Decode the Base64 chars (padded or not)
+     * 
+     * @param base64
+     *            the Base64 chars
+     * @return the bytes
+     * @throws NullPointerException
+     *             if base64 is {@code null}
+     * @throws IllegalArgumentException
+     *             if a char is not a Base64 URL-safe char, or if the number
+     *             of chars or the padding is invalid
+     */
+    public static byte[] decode(final CharSequence base64) {
+        if (base64 instanceof String) {
+            try {
+                return Base64.getUrlDecoder().decode((String) base64);
+            } catch (IllegalArgumentException e) {
+                // decoded below to get the position of the error
+            }
+        }
+        final byte[] bytes = new byte[decodedLength(base64, 0, base64.length())];
+        decode(base64, 0, base64.length(), bytes, 0);
+        return bytes;
+    }
+
+    /**
+     * Decode the range of Base64 chars (padded or not) into the array
+     * 
+     * @param base64
+     *            the Base64 chars
+     * @param start
+     *            the start position (inclusive)
+     * @param end
+     *            the end position (exclusive)
+     * @param target
+     *            the target array
+     * @param targetOffset
+     *            the offset in the target array
+     * @return the number of bytes written
+     * @throws NullPointerException
+     *             if base64 or target is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the sequence, or if the target array
+     *             is too small
+     * @throws IllegalArgumentException
+     *             if a char is not a Base64 URL-safe char, or if the number
+     *             of chars or the padding is invalid
+     */
+    public static int decode(final CharSequence base64, final int start, final int end, final byte[] target, final int targetOffset) {
+        final int length = decodedLength(base64, start, end);
+        checkRange(target.length, targetOffset, length);
+
+        decodeRange(base64, start, end(base64, start, end), target, targetOffset);
+        return length;
+    }
+
+    /**
+     * Decode the Base64 chars (padded or not) into the target buffer (heap or
+     * direct), the target position is moved
+     * 
+     * @param base64
+     *            the Base64 chars
+     * @param target
+     *            the target buffer
+     * @return the number of bytes written
+     * @throws NullPointerException
+     *             if base64 or target is {@code null}
+     * @throws BufferOverflowException
+     *             if the target has not enough remaining space
+     * @throws IllegalArgumentException
+     *             if a char is not a Base64 URL-safe char, or if the number
+     *             of chars or the padding is invalid
+     */
+    public static int decode(final CharSequence base64, final ByteBuffer target) {
+        final int end = end(base64, 0, base64.length());
+        final int length = decodedLength(end);
+        if (target.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+
+        if (target.hasArray()) {
+            decodeRange(base64, 0, end, target.array(), target.arrayOffset() + target.position());
+            target.position(target.position() + length);
+        } else {
+            // the chunks are multiples of the block size
+            final byte[] bytes = new byte[Math.min(length, BUFFER_BLOCKS * BLOCK_BYTES)];
+            for (int i = 0; i < end; i += BUFFER_BLOCKS * BLOCK_CHARS) {
+                final int chunkEnd = Math.min(end, i + BUFFER_BLOCKS * BLOCK_CHARS);
+                target.put(bytes, 0, decodeRange(base64, i, chunkEnd, bytes, 0));
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Decode the range without padding (checked before)
+     */
+    private static int decodeRange(final CharSequence base64, final int start, final int end, final byte[] target, final int offset) {
+        int j = offset;
+        int i = start;
+        for (final int blocks = end - (end - start) % BLOCK_CHARS; i < blocks; i += BLOCK_CHARS) {
+            final int c0 = value(base64, i);
+            final int c1 = value(base64, i + 1);
+            final int c2 = value(base64, i + 2);
+            final int c3 = value(base64, i + 3);
+            if ((c0 | c1 | c2 | c3) < 0) {
+                throw invalid(base64, i);
+            }
+            final int bits = c0 << 18 | c1 << 12 | c2 << SIXTET | c3;
+            target[j++] = (byte) (bits >>> 16);
+            target[j++] = (byte) (bits >>> 8);
+            target[j++] = (byte) bits;
+        }
+        if (i < end) {
+            final int c0 = value(base64, i);
+            final int c1 = value(base64, i + 1);
+            final int c2 = end - i > 2 ? value(base64, i + 2) : 0;
+            if ((c0 | c1 | c2) < 0) {
+                throw invalid(base64, i);
+            }
+            final int bits = c0 << 18 | c1 << 12 | c2 << SIXTET;
+            target[j++] = (byte) (bits >>> 16);
+            if (end - i > 2) {
+                target[j++] = (byte) (bits >>> 8);
+            }
+        }
+        return j - offset;
+    }
+
+    /**
+     * Get the end of the range without the padding
+     */
+    private static int end(final CharSequence base64, final int start, final int end) {
+        int last = end;
+        while (last > start && end - last < 2 && base64.charAt(last - 1) == PADDING) {
+            --last;
+        }
+        if (last < end && (end - start) % BLOCK_CHARS != 0) {
+            throw new IllegalArgumentException("The padded Base64 length must be a multiple of 4");
+        }
+        return last;
+    }
+
+    private static int decodedLength(final int chars) {
+        if (chars % BLOCK_CHARS == 1) {
+            throw new IllegalArgumentException("Invalid Base64 length");
+        }
+        return (int) (chars * 3L / BLOCK_CHARS);
+    }
+
+    private static int value(final CharSequence base64, final int index) {
+        final char c = base64.charAt(index);
+        return c < ASCII_SIZE ? VALUES[c] : INVALID;
+    }
+
+    private static IllegalArgumentException invalid(final CharSequence base64, final int from) {
+        int index = from;
+        while (value(base64, index) != INVALID) {
+            ++index;
+        }
+        return new IllegalArgumentException("Invalid Base64 character at index " + index);
+    }
+
+    private static void checkRange(final int size, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset > size - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", size: " + size);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Simple thread-safe cache with a maximum number of entries. Reads are
+ * lock-free, when the limit is reached the cache is fully cleared before
+ * adding the new entry (the aim is to keep hot entries without the cost of an
+ * access ordered map, not to be a precise LRU).
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ * @param <K>
+ *            the key type
+ * @param <V>
+ *            the value type
+ */
+final class BoundedCache<K, V> {
+
+    private final ConcurrentMap<K, V> cache = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    /**
+     * Constructor
+     *
+     * @param maxSize
+     *            the maximum number of entries (strictly positive)
+     */
+    BoundedCache(final int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The maximum size must be greater than 0");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the cached value or compute and cache it.
+     *
+     * @param key
+     *            the key (required, not null)
+     * @param loader
+     *            the function to create the value if missing (required, not
+     *            null, cannot return null)
+     * @return the value
+     */
+    V get(final K key, final Function<? super K, ? extends V> loader) {
+        V value = this.cache.get(key);
+        if (value == null) {
+            value = Objects.requireNonNull(loader.apply(key), "value");
+            if (this.cache.size() >= this.maxSize) {
+                this.cache.clear();
+            }
+            final V previous = this.cache.putIfAbsent(key, value);
+            if (previous != null) {
+                value = previous;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @return the current number of entries
+     */
+    int size() {
+        return this.cache.size();
+    }
+
+    /**
+     * Remove all entries
+     */
+    void clear() {
+        this.cache.clear();
+    }
+}
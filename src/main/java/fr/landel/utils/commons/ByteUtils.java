@@ -0,0 +1,1019 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * Primitive byte codecs: read and write short, int, long, float and double
+ * values in either byte order, into and out of caller-provided byte arrays and
+ * buffers (at an offset or index, nothing is allocated and the buffer order
+ * and position are not modified), plus bulk array variants.
+ *
+ * <pre>
+ * final byte[] header = new byte[12];
+ * int offset = ByteUtils.putInt(header, 0, MAGIC, ByteOrder.BIG_ENDIAN);
+ * offset = ByteUtils.putLong(header, offset, timestamp, ByteOrder.BIG_ENDIAN);
+ * ByteUtils.getLong(header, 4, ByteOrder.BIG_ENDIAN); // =&gt; timestamp
+ *
+ * ByteUtils.toBytes(new int[] {1, 2}, ByteOrder.LITTLE_ENDIAN); // =&gt; {1, 0, 0, 0, 2, 0, 0, 0}
+ * </pre>
+ *
+ * <p>
+ * The single values are assembled with shifts in big endian order, then
+ * reversed if needed ({@link Integer#reverseBytes(int)} and the others are
+ * intrinsics), the bulk variants go through the {@link ByteBuffer} views
+ * (block copies).
+ * </p>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public final class ByteUtils {
+
+    private static final int BYTE_MASK = 0xFF;
+    private static final int SHIFT_1 = 8;
+    private static final int SHIFT_2 = 16;
+    private static final int SHIFT_3 = 24;
+    private static final int SHIFT_4 = 32;
+
+    /**
+     * Hidden constructor
+     */
+    private ByteUtils() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Read a short from the byte array
+     *
+     * @param bytes
+     *            the byte array
+     * @param offset
+     *            the offset of the first byte
+     * @param order
+     *            the byte order
+     * @return the value
+     * @throws NullPointerException
+     *             if bytes or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the value is out of the array
+     */
+    public static short getShort(final byte[] bytes, final int offset, final ByteOrder order) {
+        checkRange(bytes, offset, Short.BYTES);
+        final short value = (short) ((bytes[offset] & BYTE_MASK) << SHIFT_1 | bytes[offset + 1] & BYTE_MASK);
+        return isBigEndian(order) ? value : Short.reverseBytes(value);
+    }
+
+    /**
+     * Write a short into the byte array
+     *
+     * @param bytes
+     *            the byte array
+     * @param offset
+     *            the offset of the first byte
+     * @param value
+     *            the value
+     * @param order
+     *            the byte order
+     * @return the offset after the value
+     * @throws NullPointerException
+     *             if bytes or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the value is out of the array (nothing is written)
+     */
+    public static int putShort(final byte[] bytes, final int offset, final short value, final ByteOrder order) {
+        checkRange(bytes, offset, Short.BYTES);
+        final short ordered = isBigEndian(order) ? value : Short.reverseBytes(value);
+        bytes[offset] = (byte) (ordered >>> SHIFT_1);
+        bytes[offset + 1] = (byte) ordered;
+        return offset + Short.BYTES;
+    }
+
+    /**
+     * Read a short from the buffer (heap or direct), whatever the buffer
+     * order, the buffer position is not modified
+     *
+     * @param buffer
+     *            the buffer
+     * @param index
+     *            the index of the first byte
+     * @param order
+     *            the byte order
+     * @return the value
+     * @throws NullPointerException
+     *             if buffer or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the value is out of the buffer limit
+     */
+    public static short getShort(final ByteBuffer buffer, final int index, final ByteOrder order) {
+        final short value = buffer.getShort(index);
+        return buffer.order() == Objects.requireNonNull(order, "order") ? value : Short.reverseBytes(value);
+    }
+
+    /**
+     * Write a short into the buffer (heap or direct), whatever the buffer
+     * order, the buffer position is not modified
+     *
+     * @param buffer
+     *            the buffer
+     * @param index
+     *            the index of the first byte
+     * @param value
+     *            the value
+     * @param order
+     *            the byte order
+     * @return the index after the value
+     * @throws NullPointerException
+     *             if buffer or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the value is out of the buffer limit
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the buffer is read-only
+     */
+    public static int putShort(final ByteBuffer buffer, final int index, final short value, final ByteOrder order) {
+        buffer.putShort(index, buffer.order() == Objects.requireNonNull(order, "order") ? value : Short.reverseBytes(value));
+        return index + Short.BYTES;
+    }
+
+    /**
+     * Read an int from the byte array
+     *
+     * @param bytes
+     *            the byte array
+     * @param offset
+     *            the offset of the first byte
+     * @param order
+     *            the byte order
+     * @return the value
+     * @throws NullPointerException
+     *             if bytes or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the value is out of the array
+     */
+    public static int getInt(final byte[] bytes, final int offset, final ByteOrder order) {
+        checkRange(bytes, offset, Integer.BYTES);
+        final int value = (bytes[offset] & BYTE_MASK) << SHIFT_3 | (bytes[offset + 1] & BYTE_MASK) << SHIFT_2
+                | (bytes[offset + 2] & BYTE_MASK) << SHIFT_1 | bytes[offset + 3] & BYTE_MASK;
+        return isBigEndian(order) ? value : Integer.reverseBytes(value);
+    }
+
+    /**
+     * Write an int into the byte array
+     *
+     * @param bytes
+     *            the byte array
+     * @param offset
+     *            the offset of the first byte
+     * @param value
+     *            the value
+     * @param order
+     *            the byte order
+     * @return the offset after the value
+     * @throws NullPointerException
+     *             if bytes or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the value is out of the array (nothing is written)
+     */
+    public static int putInt(final byte[] bytes, final int offset, final int value, final ByteOrder order) {
+        checkRange(bytes, offset, Integer.BYTES);
+        final int ordered = isBigEndian(order) ? value : Integer.reverseBytes(value);
+        bytes[offset] = (byte) (ordered >>> SHIFT_3);
+        bytes[offset + 1] = (byte) (ordered >>> SHIFT_2);
+        bytes[offset + 2] = (byte) (ordered >>> SHIFT_1);
+        bytes[offset + 3] = (byte) ordered;
+        return offset + Integer.BYTES;
+    }
+
+    /**
+     * Read an int from the buffer (heap or direct), whatever the buffer
+     * order, the buffer position is not modified
+     *
+     * @param buffer
+     *            the buffer
+     * @param index
+     *            the index of the first byte
+     * @param order
+     *            the byte order
+     * @return the value
+     * @throws NullPointerException
+     *             if buffer or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the value is out of the buffer limit
+     */
+    public static int getInt(final ByteBuffer buffer, final int index, final ByteOrder order) {
+        final int value = buffer.getInt(index);
+        return buffer.order() == Objects.requireNonNull(order, "order") ? value : Integer.reverseBytes(value);
+    }
+
+    /**
+     * Write an int into the buffer (heap or direct), whatever the buffer
+     * order, the buffer position is not modified
+     *
+     * @param buffer
+     *            the buffer
+     * @param index
+     *            the index of the first byte
+     * @param value
+     *            the value
+     * @param order
+     *            the byte order
+     * @return the index after the value
+     * @throws NullPointerException
+     *             if buffer or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the value is out of the buffer limit
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the buffer is read-only
+     */
+    public static int putInt(final ByteBuffer buffer, final int index, final int value, final ByteOrder order) {
+        buffer.putInt(index, buffer.order() == Objects.requireNonNull(order, "order") ? value : Integer.reverseBytes(value));
+        return index + Integer.BYTES;
+    }
+
+    /**
+     * Read a long from the byte array
+     *
+     * @param bytes
+     *            the byte array
+     * @param offset
+     *            the offset of the first byte
+     * @param order
+     *            the byte order
+     * @return the value
+     * @throws NullPointerException
+     *             if bytes or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the value is out of the array
+     */
+    public static long getLong(final byte[] bytes, final int offset, final ByteOrder order) {
+        checkRange(bytes, offset, Long.BYTES);
+        final long value = (long) getInt(bytes, offset, ByteOrder.BIG_ENDIAN) << SHIFT_4
+                | getInt(bytes, offset + Integer.BYTES, ByteOrder.BIG_ENDIAN) & 0xFFFF_FFFFL;
+        return isBigEndian(order) ? value : Long.reverseBytes(value);
+    }
+
+    /**
+     * Write a long into the byte array
+     *
+     * @param bytes
+     *            the byte array
+     * @param offset
+     *            the offset of the first byte
+     * @param value
+     *            the value
+     * @param order
+     *            the byte order
+     * @return the offset after the value
+     * @throws NullPointerException
+     *             if bytes or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the value is out of the array (nothing is written)
+     */
+    public static int putLong(final byte[] bytes, final int offset, final long value, final ByteOrder order) {
+        checkRange(bytes, offset, Long.BYTES);
+        final long ordered = isBigEndian(order) ? value : Long.reverseBytes(value);
+        putInt(bytes, offset, (int) (ordered >>> SHIFT_4), ByteOrder.BIG_ENDIAN);
+        return putInt(bytes, offset + Integer.BYTES, (int) ordered, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Read a long from the buffer (heap or direct), whatever the buffer
+     * order, the buffer position is not modified
+     *
+     * @param buffer
+     *            the buffer
+     * @param index
+     *            the index of the first byte
+     * @param order
+     *            the byte order
+     * @return the value
+     * @throws NullPointerException
+     *             if buffer or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the value is out of the buffer limit
+     */
+    public static long getLong(final ByteBuffer buffer, final int index, final ByteOrder order) {
+        final long value = buffer.getLong(index);
+        return buffer.order() == Objects.requireNonNull(order, "order") ? value : Long.reverseBytes(value);
+    }
+
+    /**
+     * Write a long into the buffer (heap or direct), whatever the buffer
+     * order, the buffer position is not modified
+     *
+     * @param buffer
+     *            the buffer
+     * @param index
+     *            the index of the first byte
+     * @param value
+     *            the value
+     * @param order
+     *            the byte order
+     * @return the index after the value
+     * @throws NullPointerException
+     *             if buffer or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the value is out of the buffer limit
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the buffer is read-only
+     */
+    public static int putLong(final ByteBuffer buffer, final int index, final long value, final ByteOrder order) {
+        buffer.putLong(index, buffer.order() == Objects.requireNonNull(order, "order") ? value : Long.reverseBytes(value));
+        return index + Long.BYTES;
+    }
+
+    /**
+     * Read a float from the byte array
+     *
+     * @param bytes
+     *            the byte array
+     * @param offset
+     *            the offset of the first byte
+     * @param order
+     *            the byte order
+     * @return the value
+     * @throws NullPointerException
+     *             if bytes or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the value is out of the array
+     */
+    public static float getFloat(final byte[] bytes, final int offset, final ByteOrder order) {
+        return Float.intBitsToFloat(getInt(bytes, offset, order));
+    }
+
+    /**
+     * Write a float into the byte array
+     *
+     * @param bytes
+     *            the byte array
+     * @param offset
+     *            the offset of the first byte
+     * @param value
+     *            the value
+     * @param order
+     *            the byte order
+     * @return the offset after the value
+     * @throws NullPointerException
+     *             if bytes or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the value is out of the array (nothing is written)
+     */
+    public static int putFloat(final byte[] bytes, final int offset, final float value, final ByteOrder order) {
+        return putInt(bytes, offset, Float.floatToRawIntBits(value), order);
+    }
+
+    /**
+     * Read a float from the buffer (heap or direct), whatever the buffer
+     * order, the buffer position is not modified
+     *
+     * @param buffer
+     *            the buffer
+     * @param index
+     *            the index of the first byte
+     * @param order
+     *            the byte order
+     * @return the value
+     * @throws NullPointerException
+     *             if buffer or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the value is out of the buffer limit
+     */
+    public static float getFloat(final ByteBuffer buffer, final int index, final ByteOrder order) {
+        return Float.intBitsToFloat(getInt(buffer, index, order));
+    }
+
+    /**
+     * Write a float into the buffer (heap or direct), whatever the buffer
+     * order, the buffer position is not modified
+     *
+     * @param buffer
+     *            the buffer
+     * @param index
+     *            the index of the first byte
+     * @param value
+     *            the value
+     * @param order
+     *            the byte order
+     * @return the index after the value
+     * @throws NullPointerException
+     *             if buffer or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the value is out of the buffer limit
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the buffer is read-only
+     */
+    public static int putFloat(final ByteBuffer buffer, final int index, final float value, final ByteOrder order) {
+        return putInt(buffer, index, Float.floatToRawIntBits(value), order);
+    }
+
+    /**
+     * Read a double from the byte array
+     *
+     * @param bytes
+     *            the byte array
+     * @param offset
+     *            the offset of the first byte
+     * @param order
+     *            the byte order
+     * @return the value
+     * @throws NullPointerException
+     *             if bytes or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the value is out of the array
+     */
+    public static double getDouble(final byte[] bytes, final int offset, final ByteOrder order) {
+        return Double.longBitsToDouble(getLong(bytes, offset, order));
+    }
+
+    /**
+     * Write a double into the byte array
+     *
+     * @param bytes
+     *            the byte array
+     * @param offset
+     *            the offset of the first byte
+     * @param value
+     *            the value
+     * @param order
+     *            the byte order
+     * @return the offset after the value
+     * @throws NullPointerException
+     *             if bytes or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the value is out of the array (nothing is written)
+     */
+    public static int putDouble(final byte[] bytes, final int offset, final double value, final ByteOrder order) {
+        return putLong(bytes, offset, Double.doubleToRawLongBits(value), order);
+    }
+
+    /**
+     * Read a double from the buffer (heap or direct), whatever the buffer
+     * order, the buffer position is not modified
+     *
+     * @param buffer
+     *            the buffer
+     * @param index
+     *            the index of the first byte
+     * @param order
+     *            the byte order
+     * @return the value
+     * @throws NullPointerException
+     *             if buffer or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the value is out of the buffer limit
+     */
+    public static double getDouble(final ByteBuffer buffer, final int index, final ByteOrder order) {
+        return Double.longBitsToDouble(getLong(buffer, index, order));
+    }
+
+    /**
+     * Write a double into the buffer (heap or direct), whatever the buffer
+     * order, the buffer position is not modified
+     *
+     * @param buffer
+     *            the buffer
+     * @param index
+     *            the index of the first byte
+     * @param value
+     *            the value
+     * @param order
+     *            the byte order
+     * @return the index after the value
+     * @throws NullPointerException
+     *             if buffer or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the value is out of the buffer limit
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the buffer is read-only
+     */
+    public static int putDouble(final ByteBuffer buffer, final int index, final double value, final ByteOrder order) {
+        return putLong(buffer, index, Double.doubleToRawLongBits(value), order);
+    }
+
+    /**
+     * Read shorts from the byte array
+     *
+     * @param bytes
+     *            the byte array
+     * @param offset
+     *            the offset of the first byte
+     * @param target
+     *            the target array
+     * @param targetOffset
+     *            the offset of the first short in the target array
+     * @param length
+     *            the number of shorts
+     * @param order
+     *            the byte order
+     * @return the offset after the last value in the byte array
+     * @throws NullPointerException
+     *             if bytes, target or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the values are out of an array
+     */
+    public static int getShorts(final byte[] bytes, final int offset, final short[] target, final int targetOffset, final int length,
+            final ByteOrder order) {
+        checkRange(bytes, offset, (long) length * Short.BYTES);
+        ByteBuffer.wrap(bytes, offset, length * Short.BYTES).order(Objects.requireNonNull(order, "order")).asShortBuffer().get(target,
+                targetOffset, length);
+        return offset + length * Short.BYTES;
+    }
+
+    /**
+     * Write shorts into the byte array
+     *
+     * @param values
+     *            the values
+     * @param valuesOffset
+     *            the offset of the first value
+     * @param length
+     *            the number of values
+     * @param bytes
+     *            the byte array
+     * @param offset
+     *            the offset of the first byte
+     * @param order
+     *            the byte order
+     * @return the offset after the last value in the byte array
+     * @throws NullPointerException
+     *             if values, bytes or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the values are out of an array (nothing is written)
+     */
+    public static int putShorts(final short[] values, final int valuesOffset, final int length, final byte[] bytes, final int offset,
+            final ByteOrder order) {
+        checkRange(bytes, offset, (long) length * Short.BYTES);
+        if (valuesOffset < 0 || length < 0 || valuesOffset > values.length - length) {
+            throw new IndexOutOfBoundsException("offset: " + valuesOffset + ", length: " + length + ", size: " + values.length);
+        }
+        ByteBuffer.wrap(bytes, offset, length * Short.BYTES).order(Objects.requireNonNull(order, "order")).asShortBuffer().put(values,
+                valuesOffset, length);
+        return offset + length * Short.BYTES;
+    }
+
+    /**
+     * Convert the shorts into bytes
+     *
+     * @param values
+     *            the values
+     * @param order
+     *            the byte order
+     * @return the byte array
+     * @throws NullPointerException
+     *             if values or order is {@code null}
+     */
+    public static byte[] toBytes(final short[] values, final ByteOrder order) {
+        final byte[] bytes = new byte[values.length * Short.BYTES];
+        putShorts(values, 0, values.length, bytes, 0, order);
+        return bytes;
+    }
+
+    /**
+     * Convert the bytes into shorts
+     *
+     * @param bytes
+     *            the byte array (its length has to be a multiple of Short.BYTES)
+     * @param order
+     *            the byte order
+     * @return the short array
+     * @throws NullPointerException
+     *             if bytes or order is {@code null}
+     * @throws IllegalArgumentException
+     *             if the length of bytes is not a multiple of Short.BYTES
+     */
+    public static short[] toShorts(final byte[] bytes, final ByteOrder order) {
+        checkMultiple(bytes, Short.BYTES);
+        final short[] values = new short[bytes.length / Short.BYTES];
+        getShorts(bytes, 0, values, 0, values.length, order);
+        return values;
+    }
+
+    /**
+     * Read ints from the byte array
+     *
+     * @param bytes
+     *            the byte array
+     * @param offset
+     *            the offset of the first byte
+     * @param target
+     *            the target array
+     * @param targetOffset
+     *            the offset of the first int in the target array
+     * @param length
+     *            the number of ints
+     * @param order
+     *            the byte order
+     * @return the offset after the last value in the byte array
+     * @throws NullPointerException
+     *             if bytes, target or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the values are out of an array
+     */
+    public static int getInts(final byte[] bytes, final int offset, final int[] target, final int targetOffset, final int length,
+            final ByteOrder order) {
+        checkRange(bytes, offset, (long) length * Integer.BYTES);
+        ByteBuffer.wrap(bytes, offset, length * Integer.BYTES).order(Objects.requireNonNull(order, "order")).asIntBuffer().get(target,
+                targetOffset, length);
+        return offset + length * Integer.BYTES;
+    }
+
+    /**
+     * Write ints into the byte array
+     *
+     * @param values
+     *            the values
+     * @param valuesOffset
+     *            the offset of the first value
+     * @param length
+     *            the number of values
+     * @param bytes
+     *            the byte array
+     * @param offset
+     *            the offset of the first byte
+     * @param order
+     *            the byte order
+     * @return the offset after the last value in the byte array
+     * @throws NullPointerException
+     *             if values, bytes or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the values are out of an array (nothing is written)
+     */
+    public static int putInts(final int[] values, final int valuesOffset, final int length, final byte[] bytes, final int offset,
+            final ByteOrder order) {
+        checkRange(bytes, offset, (long) length * Integer.BYTES);
+        if (valuesOffset < 0 || length < 0 || valuesOffset > values.length - length) {
+            throw new IndexOutOfBoundsException("offset: " + valuesOffset + ", length: " + length + ", size: " + values.length);
+        }
+        ByteBuffer.wrap(bytes, offset, length * Integer.BYTES).order(Objects.requireNonNull(order, "order")).asIntBuffer().put(values,
+                valuesOffset, length);
+        return offset + length * Integer.BYTES;
+    }
+
+    /**
+     * Convert the ints into bytes
+     *
+     * @param values
+     *            the values
+     * @param order
+     *            the byte order
+     * @return the byte array
+     * @throws NullPointerException
+     *             if values or order is {@code null}
+     */
+    public static byte[] toBytes(final int[] values, final ByteOrder order) {
+        final byte[] bytes = new byte[values.length * Integer.BYTES];
+        putInts(values, 0, values.length, bytes, 0, order);
+        return bytes;
+    }
+
+    /**
+     * Convert the bytes into ints
+     *
+     * @param bytes
+     *            the byte array (its length has to be a multiple of Integer.BYTES)
+     * @param order
+     *            the byte order
+     * @return the int array
+     * @throws NullPointerException
+     *             if bytes or order is {@code null}
+     * @throws IllegalArgumentException
+     *             if the length of bytes is not a multiple of Integer.BYTES
+     */
+    public static int[] toInts(final byte[] bytes, final ByteOrder order) {
+        checkMultiple(bytes, Integer.BYTES);
+        final int[] values = new int[bytes.length / Integer.BYTES];
+        getInts(bytes, 0, values, 0, values.length, order);
+        return values;
+    }
+
+    /**
+     * Read longs from the byte array
+     *
+     * @param bytes
+     *            the byte array
+     * @param offset
+     *            the offset of the first byte
+     * @param target
+     *            the target array
+     * @param targetOffset
+     *            the offset of the first long in the target array
+     * @param length
+     *            the number of longs
+     * @param order
+     *            the byte order
+     * @return the offset after the last value in the byte array
+     * @throws NullPointerException
+     *             if bytes, target or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the values are out of an array
+     */
+    public static int getLongs(final byte[] bytes, final int offset, final long[] target, final int targetOffset, final int length,
+            final ByteOrder order) {
+        checkRange(bytes, offset, (long) length * Long.BYTES);
+        ByteBuffer.wrap(bytes, offset, length * Long.BYTES).order(Objects.requireNonNull(order, "order")).asLongBuffer().get(target,
+                targetOffset, length);
+        return offset + length * Long.BYTES;
+    }
+
+    /**
+     * Write longs into the byte array
+     *
+     * @param values
+     *            the values
+     * @param valuesOffset
+     *            the offset of the first value
+     * @param length
+     *            the number of values
+     * @param bytes
+     *            the byte array
+     * @param offset
+     *            the offset of the first byte
+     * @param order
+     *            the byte order
+     * @return the offset after the last value in the byte array
+     * @throws NullPointerException
+     *             if values, bytes or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the values are out of an array (nothing is written)
+     */
+    public static int putLongs(final long[] values, final int valuesOffset, final int length, final byte[] bytes, final int offset,
+            final ByteOrder order) {
+        checkRange(bytes, offset, (long) length * Long.BYTES);
+        if (valuesOffset < 0 || length < 0 || valuesOffset > values.length - length) {
+            throw new IndexOutOfBoundsException("offset: " + valuesOffset + ", length: " + length + ", size: " + values.length);
+        }
+        ByteBuffer.wrap(bytes, offset, length * Long.BYTES).order(Objects.requireNonNull(order, "order")).asLongBuffer().put(values,
+                valuesOffset, length);
+        return offset + length * Long.BYTES;
+    }
+
+    /**
+     * Convert the longs into bytes
+     *
+     * @param values
+     *            the values
+     * @param order
+     *            the byte order
+     * @return the byte array
+     * @throws NullPointerException
+     *             if values or order is {@code null}
+     */
+    public static byte[] toBytes(final long[] values, final ByteOrder order) {
+        final byte[] bytes = new byte[values.length * Long.BYTES];
+        putLongs(values, 0, values.length, bytes, 0, order);
+        return bytes;
+    }
+
+    /**
+     * Convert the bytes into longs
+     *
+     * @param bytes
+     *            the byte array (its length has to be a multiple of Long.BYTES)
+     * @param order
+     *            the byte order
+     * @return the long array
+     * @throws NullPointerException
+     *             if bytes or order is {@code null}
+     * @throws IllegalArgumentException
+     *             if the length of bytes is not a multiple of Long.BYTES
+     */
+    public static long[] toLongs(final byte[] bytes, final ByteOrder order) {
+        checkMultiple(bytes, Long.BYTES);
+        final long[] values = new long[bytes.length / Long.BYTES];
+        getLongs(bytes, 0, values, 0, values.length, order);
+        return values;
+    }
+
+    /**
+     * Read floats from the byte array
+     *
+     * @param bytes
+     *            the byte array
+     * @param offset
+     *            the offset of the first byte
+     * @param target
+     *            the target array
+     * @param targetOffset
+     *            the offset of the first float in the target array
+     * @param length
+     *            the number of floats
+     * @param order
+     *            the byte order
+     * @return the offset after the last value in the byte array
+     * @throws NullPointerException
+     *             if bytes, target or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the values are out of an array
+     */
+    public static int getFloats(final byte[] bytes, final int offset, final float[] target, final int targetOffset, final int length,
+            final ByteOrder order) {
+        checkRange(bytes, offset, (long) length * Float.BYTES);
+        ByteBuffer.wrap(bytes, offset, length * Float.BYTES).order(Objects.requireNonNull(order, "order")).asFloatBuffer().get(target,
+                targetOffset, length);
+        return offset + length * Float.BYTES;
+    }
+
+    /**
+     * Write floats into the byte array
+     *
+     * @param values
+     *            the values
+     * @param valuesOffset
+     *            the offset of the first value
+     * @param length
+     *            the number of values
+     * @param bytes
+     *            the byte array
+     * @param offset
+     *            the offset of the first byte
+     * @param order
+     *            the byte order
+     * @return the offset after the last value in the byte array
+     * @throws NullPointerException
+     *             if values, bytes or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the values are out of an array (nothing is written)
+     */
+    public static int putFloats(final float[] values, final int valuesOffset, final int length, final byte[] bytes, final int offset,
+            final ByteOrder order) {
+        checkRange(bytes, offset, (long) length * Float.BYTES);
+        if (valuesOffset < 0 || length < 0 || valuesOffset > values.length - length) {
+            throw new IndexOutOfBoundsException("offset: " + valuesOffset + ", length: " + length + ", size: " + values.length);
+        }
+        ByteBuffer.wrap(bytes, offset, length * Float.BYTES).order(Objects.requireNonNull(order, "order")).asFloatBuffer().put(values,
+                valuesOffset, length);
+        return offset + length * Float.BYTES;
+    }
+
+    /**
+     * Convert the floats into bytes
+     *
+     * @param values
+     *            the values
+     * @param order
+     *            the byte order
+     * @return the byte array
+     * @throws NullPointerException
+     *             if values or order is {@code null}
+     */
+    public static byte[] toBytes(final float[] values, final ByteOrder order) {
+        final byte[] bytes = new byte[values.length * Float.BYTES];
+        putFloats(values, 0, values.length, bytes, 0, order);
+        return bytes;
+    }
+
+    /**
+     * Convert the bytes into floats
+     *
+     * @param bytes
+     *            the byte array (its length has to be a multiple of Float.BYTES)
+     * @param order
+     *            the byte order
+     * @return the float array
+     * @throws NullPointerException
+     *             if bytes or order is {@code null}
+     * @throws IllegalArgumentException
+     *             if the length of bytes is not a multiple of Float.BYTES
+     */
+    public static float[] toFloats(final byte[] bytes, final ByteOrder order) {
+        checkMultiple(bytes, Float.BYTES);
+        final float[] values = new float[bytes.length / Float.BYTES];
+        getFloats(bytes, 0, values, 0, values.length, order);
+        return values;
+    }
+
+    /**
+     * Read doubles from the byte array
+     *
+     * @param bytes
+     *            the byte array
+     * @param offset
+     *            the offset of the first byte
+     * @param target
+     *            the target array
+     * @param targetOffset
+     *            the offset of the first double in the target array
+     * @param length
+     *            the number of doubles
+     * @param order
+     *            the byte order
+     * @return the offset after the last value in the byte array
+     * @throws NullPointerException
+     *             if bytes, target or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the values are out of an array
+     */
+    public static int getDoubles(final byte[] bytes, final int offset, final double[] target, final int targetOffset, final int length,
+            final ByteOrder order) {
+        checkRange(bytes, offset, (long) length * Double.BYTES);
+        ByteBuffer.wrap(bytes, offset, length * Double.BYTES).order(Objects.requireNonNull(order, "order")).asDoubleBuffer().get(target,
+                targetOffset, length);
+        return offset + length * Double.BYTES;
+    }
+
+    /**
+     * Write doubles into the byte array
+     *
+     * @param values
+     *            the values
+     * @param valuesOffset
+     *            the offset of the first value
+     * @param length
+     *            the number of values
+     * @param bytes
+     *            the byte array
+     * @param offset
+     *            the offset of the first byte
+     * @param order
+     *            the byte order
+     * @return the offset after the last value in the byte array
+     * @throws NullPointerException
+     *             if values, bytes or order is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the values are out of an array (nothing is written)
+     */
+    public static int putDoubles(final double[] values, final int valuesOffset, final int length, final byte[] bytes, final int offset,
+            final ByteOrder order) {
+        checkRange(bytes, offset, (long) length * Double.BYTES);
+        if (valuesOffset < 0 || length < 0 || valuesOffset > values.length - length) {
+            throw new IndexOutOfBoundsException("offset: " + valuesOffset + ", length: " + length + ", size: " + values.length);
+        }
+        ByteBuffer.wrap(bytes, offset, length * Double.BYTES).order(Objects.requireNonNull(order, "order")).asDoubleBuffer().put(values,
+                valuesOffset, length);
+        return offset + length * Double.BYTES;
+    }
+
+    /**
+     * Convert the doubles into bytes
+     *
+     * @param values
+     *            the values
+     * @param order
+     *            the byte order
+     * @return the byte array
+     * @throws NullPointerException
+     *             if values or order is {@code null}
+     */
+    public static byte[] toBytes(final double[] values, final ByteOrder order) {
+        final byte[] bytes = new byte[values.length * Double.BYTES];
+        putDoubles(values, 0, values.length, bytes, 0, order);
+        return bytes;
+    }
+
+    /**
+     * Convert the bytes into doubles
+     *
+     * @param bytes
+     *            the byte array (its length has to be a multiple of Double.BYTES)
+     * @param order
+     *            the byte order
+     * @return the double array
+     * @throws NullPointerException
+     *             if bytes or order is {@code null}
+     * @throws IllegalArgumentException
+     *             if the length of bytes is not a multiple of Double.BYTES
+     */
+    public static double[] toDoubles(final byte[] bytes, final ByteOrder order) {
+        checkMultiple(bytes, Double.BYTES);
+        final double[] values = new double[bytes.length / Double.BYTES];
+        getDoubles(bytes, 0, values, 0, values.length, order);
+        return values;
+    }
+
+    private static boolean isBigEndian(final ByteOrder order) {
+        return Objects.requireNonNull(order, "order") == ByteOrder.BIG_ENDIAN;
+    }
+
+    private static void checkRange(final byte[] bytes, final int offset, final long length) {
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", size: " + bytes.length);
+        }
+    }
+
+    private static void checkMultiple(final byte[] bytes, final int size) {
+        if (bytes.length % size != 0) {
+            throw new IllegalArgumentException("The number of bytes (" + bytes.length + ") must be a multiple of " + size);
+        }
+    }
+}
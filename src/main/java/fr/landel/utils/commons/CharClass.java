@@ -0,0 +1,684 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Immutable set of chars, backed by a two-level bitmap over the BMP (256
+ * pages of 256 bits, the empty and full pages are shared). A membership check
+ * is two array loads, whatever the number of chars or ranges, and the
+ * instances are combined with {@link #union(CharClass)},
+ * {@link #intersection(CharClass)} and {@link #complement()}.
+ *
+ * <p>
+ * The bulk operations ({@link #indexOfFirstNotIn(CharSequence)},
+ * {@link #countIn(CharSequence)}, {@link #allIn(CharSequence)}) scan
+ * {@link CharSequence}s, {@code char[]} and {@code byte[]} (each byte is read
+ * as an unsigned ISO-8859-1 char) without any call per char. For the byte
+ * arrays, the ASCII runs are checked 8 bytes at a time (SWAR: each ASCII range
+ * of the class is checked with two additions over a long), if the class has
+ * few ASCII ranges.
+ * </p>
+ *
+ * <pre>
+ * CharClass hex = CharClass.DIGITS.union(CharClass.range('a', 'f'));
+ * hex.contains('c'); // =&gt; true
+ * hex.indexOfFirstNotIn("12ab-34"); // =&gt; 4
+ * hex.countIn("12ab-34"); // =&gt; 6
+ * hex.complement().allIn("-+"); // =&gt; true
+ * hex.toString(); // =&gt; "[0-9a-f]"
+ * </pre>
+ *
+ * <p>
+ * Thread-safe. {@link CharClass} implements {@link IntPredicate}, the values
+ * out of the char range are never contained (so they are accepted by the
+ * predicate returned by {@link #negate()}).
+ * </p>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public final class CharClass implements IntPredicate {
+
+    private static final int PAGE_SHIFT = 8;
+    private static final int PAGE_COUNT = 1 << PAGE_SHIFT;
+    private static final int PAGE_WORDS = 4;
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_MASK = PAGE_WORDS - 1;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int ASCII_SIZE = 128;
+
+    private static final long[] EMPTY_PAGE = new long[PAGE_WORDS];
+    private static final long[] FULL_PAGE = {-1L, -1L, -1L, -1L};
+
+    /**
+     * Over this number of ASCII ranges, the bytes are checked one by one
+     */
+    private static final int SWAR_MAX_RANGES = 6;
+
+    /**
+     * Under this length, the bytes are checked one by one
+     */
+    private static final int SWAR_MIN_LENGTH = 16;
+    private static final long SWAR_ONES = 0x0101010101010101L;
+    private static final long SWAR_HIGHS = 0x8080808080808080L;
+
+    /**
+     * No char
+     */
+    public static final CharClass NONE = new CharClass(emptyPages());
+
+    /**
+     * All chars
+     */
+    public static final CharClass ALL = NONE.complement();
+
+    /**
+     * ASCII chars (0 to 127)
+     */
+    public static final CharClass ASCII = range((char) 0, (char) (ASCII_SIZE - 1));
+
+    /**
+     * Number chars /0-9/
+     */
+    public static final CharClass DIGITS = range((char) AsciiUtils.NUM_FIRST, (char) AsciiUtils.NUM_LAST);
+
+    /**
+     * Lower case alpha chars /a-z/
+     */
+    public static final CharClass ALPHA_LC = range((char) AsciiUtils.ALPHA_LC_FIRST, (char) AsciiUtils.ALPHA_LC_LAST);
+
+    /**
+     * Upper case alpha chars /A-Z/
+     */
+    public static final CharClass ALPHA_UC = range((char) AsciiUtils.ALPHA_UC_FIRST, (char) AsciiUtils.ALPHA_UC_LAST);
+
+    /**
+     * Alpha chars /a-zA-Z/
+     */
+    public static final CharClass ALPHA = ALPHA_LC.union(ALPHA_UC);
+
+    /**
+     * Alphanumeric chars /0-9a-zA-Z/
+     */
+    public static final CharClass ALPHANUMERIC = ALPHA.union(DIGITS);
+
+    /**
+     * Printable ASCII chars /[ -~]/
+     */
+    public static final CharClass PRINTABLE = range((char) AsciiUtils.PRINTABLE_FIRST, (char) AsciiUtils.PRINTABLE_LAST);
+
+    private final long[][] pages;
+
+    /**
+     * For each ASCII range, the SWAR constants: (128 - first) * 0x01 and
+     * (127 - last) * 0x01 for each byte, {@code null} if too many ranges
+     */
+    private final long[] swarFirsts;
+    private final long[] swarLasts;
+
+    private CharClass(final long[][] pages) {
+        this.pages = pages;
+        for (int p = 0; p < PAGE_COUNT; ++p) {
+            if (Arrays.equals(pages[p], EMPTY_PAGE)) {
+                pages[p] = EMPTY_PAGE;
+            } else if (Arrays.equals(pages[p], FULL_PAGE)) {
+                pages[p] = FULL_PAGE;
+            }
+        }
+
+        final long[] firsts = new long[SWAR_MAX_RANGES];
+        final long[] lasts = new long[SWAR_MAX_RANGES];
+        int ranges = 0;
+        for (int c = 0; c < ASCII_SIZE && ranges <= SWAR_MAX_RANGES; ++c) {
+            if (this.contains((char) c)) {
+                final int first = c;
+                while (c + 1 < ASCII_SIZE && this.contains((char) (c + 1))) {
+                    ++c;
+                }
+                if (ranges < SWAR_MAX_RANGES) {
+                    firsts[ranges] = (ASCII_SIZE - first) * SWAR_ONES;
+                    lasts[ranges] = (ASCII_SIZE - 1 - c) * SWAR_ONES;
+                }
+                ++ranges;
+            }
+        }
+        if (ranges <= SWAR_MAX_RANGES) {
+            this.swarFirsts = Arrays.copyOf(firsts, ranges);
+            this.swarLasts = Arrays.copyOf(lasts, ranges);
+        } else {
+            this.swarFirsts = null;
+            this.swarLasts = null;
+        }
+    }
+
+    /**
+     * Create the class of the chars
+     *
+     * @param chars
+     *            the chars
+     * @return the class
+     * @throws NullPointerException
+     *             if chars is {@code null}
+     */
+    public static CharClass of(final char... chars) {
+        Objects.requireNonNull(chars, "chars");
+
+        final long[][] pages = emptyPages();
+        for (char c : chars) {
+            set(pages, c, c);
+        }
+        return new CharClass(pages);
+    }
+
+    /**
+     * Create the class of the chars of the sequence
+     *
+     * @param chars
+     *            the chars
+     * @return the class
+     * @throws NullPointerException
+     *             if chars is {@code null}
+     */
+    public static CharClass of(final CharSequence chars) {
+        Objects.requireNonNull(chars, "chars");
+
+        final long[][] pages = emptyPages();
+        for (int i = 0; i < chars.length(); ++i) {
+            set(pages, chars.charAt(i), chars.charAt(i));
+        }
+        return new CharClass(pages);
+    }
+
+    /**
+     * Create the class of the range of chars
+     *
+     * @param first
+     *            the first char (inclusive)
+     * @param last
+     *            the last char (inclusive)
+     * @return the class
+     * @throws IllegalArgumentException
+     *             if first is greater than last
+     */
+    public static CharClass range(final char first, final char last) {
+        if (first > last) {
+            throw new IllegalArgumentException("The first char cannot be greater than the last one");
+        }
+
+        final long[][] pages = emptyPages();
+        set(pages, first, last);
+        return new CharClass(pages);
+    }
+
+    /**
+     * Create the class of the chars matching the predicate (the predicate is
+     * evaluated once for each char of the BMP)
+     *
+     * @param predicate
+     *            the predicate
+     * @return the class
+     * @throws NullPointerException
+     *             if predicate is {@code null}
+     */
+    public static CharClass matching(final IntPredicate predicate) {
+        Objects.requireNonNull(predicate, "predicate");
+
+        final long[][] pages = emptyPages();
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; ++c) {
+            if (predicate.test(c)) {
+                set(pages, (char) c, (char) c);
+            }
+        }
+        return new CharClass(pages);
+    }
+
+    /**
+     * @param c
+     *            the char
+     * @return {@code true}, if the char is in the class
+     */
+    public boolean contains(final char c) {
+        return (this.pages[c >>> PAGE_SHIFT][c >>> WORD_SHIFT & WORD_MASK] & 1L << c) != 0;
+    }
+
+    @Override
+    public boolean test(final int value) {
+        return value >= Character.MIN_VALUE && value <= Character.MAX_VALUE && this.contains((char) value);
+    }
+
+    /**
+     * @param other
+     *            the other class
+     * @return the class of the chars in this class or in the other one
+     * @throws NullPointerException
+     *             if other is {@code null}
+     */
+    public CharClass union(final CharClass other) {
+        return this.combine(other, (a, b) -> a | b);
+    }
+
+    /**
+     * @param other
+     *            the other class
+     * @return the class of the chars in this class and in the other one
+     * @throws NullPointerException
+     *             if other is {@code null}
+     */
+    public CharClass intersection(final CharClass other) {
+        return this.combine(other, (a, b) -> a & b);
+    }
+
+    /**
+     * The complement is limited to the BMP, unlike {@link #negate()} (which
+     * keeps the {@link IntPredicate} contract and so accepts the values out of
+     * the char range, like the supplementary code points).
+     *
+     * @return the class of the chars not in this class
+     */
+    public CharClass complement() {
+        return this.combine(this, (a, b) -> ~a);
+    }
+
+    /**
+     * Get the index of the first char not in the class
+     *
+     * @param sequence
+     *            the sequence
+     * @return the index or -1 if all chars are in the class
+     * @throws NullPointerException
+     *             if sequence is {@code null}
+     */
+    public int indexOfFirstNotIn(final CharSequence sequence) {
+        return this.indexOfFirstNotIn(sequence, 0, sequence.length());
+    }
+
+    /**
+     * Get the index of the first char not in the class, in the range
+     *
+     * @param sequence
+     *            the sequence
+     * @param start
+     *            the start position (inclusive)
+     * @param end
+     *            the end position (exclusive)
+     * @return the index in the sequence or -1 if all chars of the range are in
+     *         the class
+     * @throws NullPointerException
+     *             if sequence is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the sequence
+     */
+    public int indexOfFirstNotIn(final CharSequence sequence, final int start, final int end) {
+        checkRange(sequence.length(), start, end - start);
+
+        for (int i = start; i < end; ++i) {
+            if (!this.contains(sequence.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the index of the first char not in the class, in the range
+     *
+     * @param chars
+     *            the chars
+     * @param offset
+     *            the range offset
+     * @param length
+     *            the range length
+     * @return the index in the array or -1 if all chars of the range are in
+     *         the class
+     * @throws NullPointerException
+     *             if chars is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the array
+     */
+    public int indexOfFirstNotIn(final char[] chars, final int offset, final int length) {
+        checkRange(chars.length, offset, length);
+
+        for (int i = offset; i < offset + length; ++i) {
+            if (!this.contains(chars[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the index of the first byte (ISO-8859-1 char) not in the class, in
+     * the range
+     *
+     * @param bytes
+     *            the bytes
+     * @param offset
+     *            the range offset
+     * @param length
+     *            the range length
+     * @return the index in the array or -1 if all bytes of the range are in
+     *         the class
+     * @throws NullPointerException
+     *             if bytes is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the array
+     */
+    public int indexOfFirstNotIn(final byte[] bytes, final int offset, final int length) {
+        checkRange(bytes.length, offset, length);
+
+        final int end = offset + length;
+        int i = offset;
+        if (this.swarFirsts != null && length >= SWAR_MIN_LENGTH) {
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+            for (; i <= end - Long.BYTES; i += Long.BYTES) {
+                final long out = ~this.swarIn(buffer.getLong(i)) & SWAR_HIGHS;
+                if (out != 0) {
+                    return i + (Long.numberOfTrailingZeros(out) >>> 3);
+                }
+            }
+        }
+        for (; i < end; ++i) {
+            if (!this.contains((char) (bytes[i] & BYTE_MASK))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Count the chars in the class
+     *
+     * @param sequence
+     *            the sequence
+     * @return the number of chars in the class
+     * @throws NullPointerException
+     *             if sequence is {@code null}
+     */
+    public int countIn(final CharSequence sequence) {
+        return this.countIn(sequence, 0, sequence.length());
+    }
+
+    /**
+     * Count the chars in the class, in the range
+     *
+     * @param sequence
+     *            the sequence
+     * @param start
+     *            the start position (inclusive)
+     * @param end
+     *            the end position (exclusive)
+     * @return the number of chars in the class
+     * @throws NullPointerException
+     *             if sequence is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the sequence
+     */
+    public int countIn(final CharSequence sequence, final int start, final int end) {
+        checkRange(sequence.length(), start, end - start);
+
+        int count = 0;
+        for (int i = start; i < end; ++i) {
+            if (this.contains(sequence.charAt(i))) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Count the chars in the class, in the range
+     *
+     * @param chars
+     *            the chars
+     * @param offset
+     *            the range offset
+     * @param length
+     *            the range length
+     * @return the number of chars in the class
+     * @throws NullPointerException
+     *             if chars is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the array
+     */
+    public int countIn(final char[] chars, final int offset, final int length) {
+        checkRange(chars.length, offset, length);
+
+        int count = 0;
+        for (int i = offset; i < offset + length; ++i) {
+            if (this.contains(chars[i])) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Count the bytes (ISO-8859-1 chars) in the class, in the range
+     *
+     * @param bytes
+     *            the bytes
+     * @param offset
+     *            the range offset
+     * @param length
+     *            the range length
+     * @return the number of bytes in the class
+     * @throws NullPointerException
+     *             if bytes is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the array
+     */
+    public int countIn(final byte[] bytes, final int offset, final int length) {
+        checkRange(bytes.length, offset, length);
+
+        final int end = offset + length;
+        int i = offset;
+        int count = 0;
+        if (this.swarFirsts != null && length >= SWAR_MIN_LENGTH) {
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+            for (; i <= end - Long.BYTES; i += Long.BYTES) {
+                count += Long.bitCount(this.swarIn(buffer.getLong(i)));
+            }
+        }
+        for (; i < end; ++i) {
+            if (this.contains((char) (bytes[i] & BYTE_MASK))) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @param sequence
+     *            the sequence
+     * @return {@code true}, if all chars are in the class (so if empty)
+     * @throws NullPointerException
+     *             if sequence is {@code null}
+     */
+    public boolean allIn(final CharSequence sequence) {
+        return this.indexOfFirstNotIn(sequence) < 0;
+    }
+
+    /**
+     * @param sequence
+     *            the sequence
+     * @param start
+     *            the start position (inclusive)
+     * @param end
+     *            the end position (exclusive)
+     * @return {@code true}, if all chars of the range are in the class (so if
+     *         empty)
+     * @throws NullPointerException
+     *             if sequence is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the sequence
+     */
+    public boolean allIn(final CharSequence sequence, final int start, final int end) {
+        return this.indexOfFirstNotIn(sequence, start, end) < 0;
+    }
+
+    /**
+     * @param chars
+     *            the chars
+     * @param offset
+     *            the range offset
+     * @param length
+     *            the range length
+     * @return {@code true}, if all chars of the range are in the class (so if
+     *         empty)
+     * @throws NullPointerException
+     *             if chars is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the array
+     */
+    public boolean allIn(final char[] chars, final int offset, final int length) {
+        return this.indexOfFirstNotIn(chars, offset, length) < 0;
+    }
+
+    /**
+     * @param bytes
+     *            the bytes
+     * @param offset
+     *            the range offset
+     * @param length
+     *            the range length
+     * @return {@code true}, if all bytes (ISO-8859-1 chars) of the range are
+     *         in the class (so if empty)
+     * @throws NullPointerException
+     *             if bytes is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the array
+     */
+    public boolean allIn(final byte[] bytes, final int offset, final int length) {
+        return this.indexOfFirstNotIn(bytes, offset, length) < 0;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj || (obj instanceof CharClass && Arrays.deepEquals(this.pages, ((CharClass) obj).pages));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.deepHashCode(this.pages);
+    }
+
+    /**
+     * @return the ranges, like "[0-9a-f]" (the chars out of the printable
+     *         ASCII chars and the chars '-', '\', ']' and '^' are escaped)
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("[");
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; ++c) {
+            if (this.contains((char) c)) {
+                final int first = c;
+                while (c < Character.MAX_VALUE && this.contains((char) (c + 1))) {
+                    ++c;
+                }
+                appendChar(builder, (char) first);
+                if (c > first) {
+                    appendChar(builder.append('-'), (char) c);
+                }
+            }
+        }
+        return builder.append(']').toString();
+    }
+
+    /**
+     * Get the SWAR mask of the bytes in the class: 0x80 for each byte in the
+     * class (the ASCII bytes are checked against each range at once, the
+     * others through the bitmap)
+     */
+    private long swarIn(final long word) {
+        long in = 0;
+        if ((word & SWAR_HIGHS) == 0) {
+            // for a byte b < 128: b + 128 - first >= 128 if b >= first, and
+            // b + 127 - last >= 128 if b > last (no carry between the bytes)
+            for (int r = 0; r < this.swarFirsts.length; ++r) {
+                in |= (word + this.swarFirsts[r]) & ~(word + this.swarLasts[r]);
+            }
+            return in & SWAR_HIGHS;
+        }
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            if (this.contains((char) (word >>> shift & BYTE_MASK))) {
+                in |= (long) ASCII_SIZE << shift;
+            }
+        }
+        return in;
+    }
+
+    private CharClass combine(final CharClass other, final LongBinaryOperator operator) {
+        Objects.requireNonNull(other, "other");
+
+        final long[][] result = new long[PAGE_COUNT][];
+        for (int p = 0; p < PAGE_COUNT; ++p) {
+            final long[] page = new long[PAGE_WORDS];
+            for (int w = 0; w < PAGE_WORDS; ++w) {
+                page[w] = operator.applyAsLong(this.pages[p][w], other.pages[p][w]);
+            }
+            result[p] = page;
+        }
+        return new CharClass(result);
+    }
+
+    private static long[][] emptyPages() {
+        final long[][] pages = new long[PAGE_COUNT][];
+        Arrays.fill(pages, EMPTY_PAGE);
+        return pages;
+    }
+
+    /**
+     * Set the range of chars (the shared pages are copied before being
+     * modified)
+     */
+    private static void set(final long[][] pages, final char first, final char last) {
+        for (int c = first; c <= last; ++c) {
+            final int p = c >>> PAGE_SHIFT;
+            if (pages[p] == EMPTY_PAGE) {
+                pages[p] = new long[PAGE_WORDS];
+            }
+            pages[p][c >>> WORD_SHIFT & WORD_MASK] |= 1L << c;
+        }
+    }
+
+    private static void appendChar(final StringBuilder builder, final char c) {
+        if (c == '-' || c == '\\' || c == ']' || c == '^') {
+            builder.append('\\').append(c);
+        } else if (c >= AsciiUtils.PRINTABLE_FIRST && c <= AsciiUtils.PRINTABLE_LAST) {
+            builder.append(c);
+        } else {
+            builder.append(String.format("\\u%04x", (int) c));
+        }
+    }
+
+    private static void checkRange(final int size, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset > size - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", size: " + size);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntFunction;
+
+/**
+ * Bulk parsers used by {@link NumberUtils#parseInts(CharSequence[], int, BitSet)}
+ * and the other column parsers. The cells are parsed by chunks (in parallel
+ * through fork/join, if requested) directly into the primitive array, the
+ * positions of the empty or invalid cells are stored in a bitmap (each chunk
+ * starts on a bitmap word boundary, so the chunks never write the same word).
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+final class ColumnParser {
+
+    /**
+     * Under this number of cells, a chunk is parsed in the current thread
+     * (multiple of {@link #WORD_SIZE})
+     */
+    static final int CHUNK_SIZE = 4_096;
+
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_SIZE = 1 << WORD_SHIFT;
+    private static final int RADIX = 10;
+
+    private ColumnParser() {
+    }
+
+    /**
+     * Get the cells accessor (the lists without random access are copied)
+     *
+     * @param column
+     *            the column
+     * @return the accessor
+     */
+    static IntFunction<CharSequence> cells(final List<? extends CharSequence> column) {
+        if (column instanceof RandomAccess) {
+            return column::get;
+        }
+        final CharSequence[] cells = column.toArray(new CharSequence[column.size()]);
+        return i -> cells[i];
+    }
+
+    /**
+     * Parse the cells into integers
+     *
+     * @param cells
+     *            the cells accessor
+     * @param size
+     *            the number of cells
+     * @param defaultValue
+     *            the value of the empty, invalid or out of range cells
+     * @param invalids
+     *            the bitmap of the empty or invalid cells (may be
+     *            {@code null})
+     * @param parallel
+     *            if the chunks are parsed in the common fork/join pool
+     * @return the values
+     */
+    static int[] parseInts(final IntFunction<? extends CharSequence> cells, final int size, final int defaultValue, final BitSet invalids,
+            final boolean parallel) {
+        final int[] values = new int[size];
+        parse(size, invalids, parallel, (from, to, words) -> {
+            final NumberParseResult result = new NumberParseResult();
+            for (int i = from; i < to; ++i) {
+                final CharSequence cell = cells.apply(i);
+                values[i] = (int) NumberScanner.parseIntegral(cell, 0, NumberScanner.length(cell), RADIX, Integer.MIN_VALUE,
+                        Integer.MAX_VALUE, true, defaultValue, result);
+                mark(words, i, result);
+            }
+        });
+        return values;
+    }
+
+    /**
+     * Parse the cells into longs
+     *
+     * @param cells
+     *            the cells accessor
+     * @param size
+     *            the number of cells
+     * @param defaultValue
+     *            the value of the empty, invalid or out of range cells
+     * @param invalids
+     *            the bitmap of the empty or invalid cells (may be
+     *            {@code null})
+     * @param parallel
+     *            if the chunks are parsed in the common fork/join pool
+     * @return the values
+     */
+    static long[] parseLongs(final IntFunction<? extends CharSequence> cells, final int size, final long defaultValue,
+            final BitSet invalids, final boolean parallel) {
+        final long[] values = new long[size];
+        parse(size, invalids, parallel, (from, to, words) -> {
+            final NumberParseResult result = new NumberParseResult();
+            for (int i = from; i < to; ++i) {
+                final CharSequence cell = cells.apply(i);
+                values[i] = NumberScanner.parseIntegral(cell, 0, NumberScanner.length(cell), RADIX, Long.MIN_VALUE, Long.MAX_VALUE, true,
+                        defaultValue, result);
+                mark(words, i, result);
+            }
+        });
+        return values;
+    }
+
+    /**
+     * Parse the cells into doubles
+     *
+     * @param cells
+     *            the cells accessor
+     * @param size
+     *            the number of cells
+     * @param defaultValue
+     *            the value of the empty or invalid cells
+     * @param invalids
+     *            the bitmap of the empty or invalid cells (may be
+     *            {@code null})
+     * @param parallel
+     *            if the chunks are parsed in the common fork/join pool
+     * @return the values
+     */
+    static double[] parseDoubles(final IntFunction<? extends CharSequence> cells, final int size, final double defaultValue,
+            final BitSet invalids, final boolean parallel) {
+        final double[] values = new double[size];
+        parse(size, invalids, parallel, (from, to, words) -> {
+            final NumberParseResult result = new NumberParseResult();
+            for (int i = from; i < to; ++i) {
+                final CharSequence cell = cells.apply(i);
+                values[i] = NumberScanner.parseFloating(cell, 0, NumberScanner.length(cell), true, false, defaultValue, result);
+                mark(words, i, result);
+            }
+        });
+        return values;
+    }
+
+    private static void mark(final long[] words, final int index, final NumberParseResult result) {
+        if (words != null && !result.isValid()) {
+            words[index >>> WORD_SHIFT] |= 1L << index;
+        }
+    }
+
+    private static void parse(final int size, final BitSet invalids, final boolean parallel, final Chunk chunk) {
+        final long[] words = invalids != null ? new long[(size + WORD_SIZE - 1) >>> WORD_SHIFT] : null;
+        if (!parallel || size <= CHUNK_SIZE || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            chunk.parse(0, size, words);
+        } else {
+            ForkJoinPool.commonPool().invoke(new ParseTask(chunk, 0, size, words));
+        }
+        if (invalids != null) {
+            invalids.clear();
+            invalids.or(BitSet.valueOf(words));
+        }
+    }
+
+    /**
+     * Parser of the cells between two positions
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    @FunctionalInterface
+    private interface Chunk {
+
+        void parse(int from, int to, long[] words);
+    }
+
+    /**
+     * Split the cells until the chunks are small enough, then parse them
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    private static final class ParseTask extends RecursiveAction {
+
+        /**
+         * serialVersionUID
+         */
+        private static final long serialVersionUID = 6206416373508237142L;
+
+        private final transient Chunk chunk;
+        private final int from;
+        private final int to;
+        private final long[] words;
+
+        private ParseTask(final Chunk chunk, final int from, final int to, final long[] words) {
+            this.chunk = chunk;
+            this.from = from;
+            this.to = to;
+            this.words = words;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= CHUNK_SIZE) {
+                this.chunk.parse(this.from, this.to, this.words);
+                return;
+            }
+
+            // the middle is aligned on a bitmap word
+            final int middle = (this.from + ((this.to - this.from) >>> 1)) & -WORD_SIZE;
+            invokeAll(new ParseTask(this.chunk, this.from, middle, this.words), new ParseTask(this.chunk, middle, this.to, this.words));
+        }
+    }
+}
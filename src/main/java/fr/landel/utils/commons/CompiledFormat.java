@@ -0,0 +1,827 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.IllegalFormatException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Rendering engine of a {@link PreparedFormat} for the common conversions
+ * ({@code %s}, {@code %d}, {@code %x}, {@code %X}, {@code %f} with width,
+ * precision and flags, {@code %n} and {@code %%}). The values are written
+ * directly into the output, without boxing, regular expression or
+ * {@link Formatter} instance. Any other specifier (dates, {@code %e},
+ * {@link Formattable}, {@link java.math.BigInteger}, unsupported flags or
+ * locales with non ASCII digits...) is delegated to a per-thread
+ * {@link Formatter}, one specifier at a time, so the output and the thrown
+ * exceptions are the same as {@link String#format(Locale, String, Object...)}.
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+final class CompiledFormat {
+
+    private static final char PERCENT = '%';
+    private static final char INDEX_SUFFIX = '$';
+    private static final char DOT = '.';
+    private static final char ZERO = '0';
+    private static final char SPACE = ' ';
+
+    private static final String FLAGS = "-#+ 0,(<";
+
+    private static final int FLAG_LEFT_JUSTIFY = 1;
+    private static final int FLAG_ALTERNATE = 2;
+    private static final int FLAG_PLUS = 4;
+    private static final int FLAG_LEADING_SPACE = 8;
+    private static final int FLAG_ZERO_PAD = 16;
+    private static final int FLAG_GROUP = 32;
+    private static final int FLAG_PARENTHESES = 64;
+    private static final int FLAG_PREVIOUS = 128;
+    private static final int FLAG_DUPLICATE = 256;
+
+    private static final int FLAGS_STRING = FLAG_LEFT_JUSTIFY;
+    private static final int FLAGS_DECIMAL = FLAG_LEFT_JUSTIFY | FLAG_PLUS | FLAG_LEADING_SPACE | FLAG_ZERO_PAD
+            | FLAG_GROUP | FLAG_PARENTHESES;
+    private static final int FLAGS_HEXADECIMAL = FLAG_LEFT_JUSTIFY | FLAG_ALTERNATE | FLAG_ZERO_PAD;
+
+    private static final int KIND_GENERIC = 0;
+    private static final int KIND_TEXT = 1;
+    private static final int KIND_STRING = 2;
+    private static final int KIND_DECIMAL = 3;
+    private static final int KIND_HEXADECIMAL = 4;
+    private static final int KIND_FLOAT = 5;
+
+    private static final int DEFAULT_PRECISION = 6;
+
+    /**
+     * Maximum number of digits of an index, a width or a precision (avoid
+     * overflow)
+     */
+    private static final int MAX_DIGITS = 9;
+
+    private static final int SHIFT_LEFT = 10;
+
+    private static final int HEX_SHIFT = 4;
+    private static final int HEX_MASK = 0xF;
+    private static final char[] HEX_LOWER = "0123456789abcdef".toCharArray();
+    private static final char[] HEX_UPPER = "0123456789ABCDEF".toCharArray();
+
+    private static final String PERCENT_TEXT = String.valueOf(PERCENT);
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private static final int SYMBOLS_CACHE_SIZE = 64;
+
+    private static final BoundedCache<Locale, Symbols> SYMBOLS = new BoundedCache<>(SYMBOLS_CACHE_SIZE);
+
+    private static final ThreadLocal<Buffer> BUFFER = ThreadLocal.withInitial(Buffer::new);
+
+    /**
+     * Literals, one more than specifiers (literal, specifier, literal...)
+     */
+    private final String[] literals;
+    private final Specifier[] specifiers;
+    private final int literalLength;
+
+    private CompiledFormat(final String[] literals, final Specifier[] specifiers, final int literalLength) {
+        this.literals = literals;
+        this.specifiers = specifiers;
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * Compile the reindexed format (see {@link PreparedFormat#getFormat()}).
+     *
+     * @param format
+     *            the reindexed format
+     * @param count
+     *            the number of values (parameters and arguments)
+     * @return the compiled format or {@code null}, if the format has to be
+     *         fully handled by {@link String#format(Locale, String, Object...)}
+     *         (syntax error, missing argument...)
+     */
+    static CompiledFormat compile(final String format, final int count) {
+        try {
+            // the formatter checks the syntax of all specifiers before
+            // printing, with null values no conversion can fail
+            new Formatter(new StringBuilder(), Locale.ROOT).format(format, new Object[count]);
+        } catch (IllegalFormatException e) {
+            return null;
+        }
+
+        final List<String> literals = new ArrayList<>();
+        final List<Specifier> specifiers = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        final int length = format.length();
+
+        int literalLength = 0;
+        int last = -1;
+        int ordinary = -1;
+        int i = 0;
+        int j;
+        int k;
+        char c;
+
+        while (i < length) {
+            c = format.charAt(i);
+            if (c != PERCENT) {
+                literal.append(c);
+                i++;
+                continue;
+            }
+
+            // %(\d+\$)?([-#+ 0,(\<]*)?(\d+)?(\.\d+)?([tT])?([a-zA-Z%])
+            j = i + 1;
+            int index = -1;
+            k = digits(format, j);
+            if (k > j && k < length && format.charAt(k) == INDEX_SUFFIX) {
+                if (k - j > MAX_DIGITS) {
+                    return null;
+                }
+                index = Integer.parseInt(format.substring(j, k));
+                j = k + 1;
+            }
+
+            final int flagsStart = j;
+            int flags = 0;
+            int flag;
+            while (j < length && (flag = FLAGS.indexOf(format.charAt(j))) > -1) {
+                if ((flags & (1 << flag)) != 0) {
+                    flags |= FLAG_DUPLICATE;
+                }
+                flags |= 1 << flag;
+                j++;
+            }
+            final String flagsText = format.substring(flagsStart, j);
+            final int flagsEnd = j;
+
+            int width = -1;
+            k = digits(format, j);
+            if (k > j) {
+                if (k - j > MAX_DIGITS) {
+                    return null;
+                }
+                width = Integer.parseInt(format.substring(j, k));
+                j = k;
+            }
+
+            int precision = -1;
+            if (j < length && format.charAt(j) == DOT) {
+                k = digits(format, j + 1);
+                if (k == j + 1 || k - j - 1 > MAX_DIGITS) {
+                    return null;
+                }
+                precision = Integer.parseInt(format.substring(j + 1, k));
+                j = k;
+            }
+
+            char time = 0;
+            if (j < length && (format.charAt(j) == 't' || format.charAt(j) == 'T')) {
+                time = format.charAt(j);
+                j++;
+            }
+
+            if (j >= length || !(CharClass.ALPHA.contains(format.charAt(j)) || format.charAt(j) == PERCENT)) {
+                return null;
+            }
+            final char conversion = format.charAt(j);
+            i = j + 1;
+
+            final Specifier specifier;
+            if (time == 0 && (conversion == PERCENT || conversion == 'n')) {
+                // no argument, only the bare forms are handled
+                final boolean bare = flagsText.isEmpty() && width == -1 && precision == -1;
+                specifier = new Specifier(bare ? KIND_TEXT : KIND_GENERIC, -1, flags, width, precision, conversion,
+                        PERCENT + format.substring(flagsStart, i));
+            } else {
+                final int argument;
+                if ((flags & FLAG_PREVIOUS) != 0) {
+                    argument = last;
+                } else if (index == -1) {
+                    argument = ++ordinary;
+                } else if (index == 0) {
+                    // not handled in the same way by all JDK versions
+                    return null;
+                } else {
+                    argument = index - 1;
+                }
+                if (argument < 0 || argument >= count) {
+                    return null;
+                }
+                last = argument;
+
+                // the relative index is already resolved
+                final String generic = PERCENT + flagsText.replace("<", "") + format.substring(flagsEnd, i);
+                specifier = new Specifier(classify(flags, width, precision, time, conversion), argument, flags, width,
+                        precision, conversion, generic);
+            }
+
+            literals.add(literal.toString());
+            literalLength += literal.length();
+            literal.setLength(0);
+            specifiers.add(specifier);
+        }
+
+        literals.add(literal.toString());
+        literalLength += literal.length();
+
+        return new CompiledFormat(literals.toArray(new String[literals.size()]),
+                specifiers.toArray(new Specifier[specifiers.size()]), literalLength);
+    }
+
+    private static int digits(final String format, final int start) {
+        final int end = CharClass.DIGITS.indexOfFirstNotIn(format, start, format.length());
+        return end < 0 ? format.length() : end;
+    }
+
+    private static int classify(final int flags, final int width, final int precision, final char time,
+            final char conversion) {
+        final int current = flags & ~FLAG_PREVIOUS;
+        if (time != 0 || (current & FLAG_DUPLICATE) != 0) {
+            return KIND_GENERIC;
+        } else if (width == -1 && (current & (FLAG_LEFT_JUSTIFY | FLAG_ZERO_PAD)) != 0) {
+            // missing width
+            return KIND_GENERIC;
+        } else if (has(current, FLAG_LEFT_JUSTIFY | FLAG_ZERO_PAD) || has(current, FLAG_PLUS | FLAG_LEADING_SPACE)) {
+            // illegal combination
+            return KIND_GENERIC;
+        }
+
+        switch (conversion) {
+        case 's':
+            return (current & ~FLAGS_STRING) == 0 ? KIND_STRING : KIND_GENERIC;
+        case 'd':
+            return precision == -1 && (current & ~FLAGS_DECIMAL) == 0 ? KIND_DECIMAL : KIND_GENERIC;
+        case 'x':
+        case 'X':
+            return precision == -1 && (current & ~FLAGS_HEXADECIMAL) == 0 ? KIND_HEXADECIMAL : KIND_GENERIC;
+        case 'f':
+            return (current & ~FLAGS_DECIMAL) == 0 ? KIND_FLOAT : KIND_GENERIC;
+        default:
+            return KIND_GENERIC;
+        }
+    }
+
+    private static boolean has(final int flags, final int expected) {
+        return (flags & expected) == expected;
+    }
+
+    /**
+     * Render the values.
+     *
+     * @param locale
+     *            the locale (required, not null)
+     * @param nbParameters
+     *            the number of parameters
+     * @param parameters
+     *            the parameters
+     * @param arguments
+     *            the arguments
+     * @return the result
+     */
+    String render(final Locale locale, final int nbParameters, final Object[] parameters, final Object[] arguments) {
+        final Buffer buffer = Buffer.acquire();
+        try {
+            this.render(buffer.output, buffer, locale, nbParameters, parameters, arguments);
+            return buffer.output.toString();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Render the values into the output.
+     *
+     * @param output
+     *            the output
+     * @param locale
+     *            the locale (required, not null)
+     * @param nbParameters
+     *            the number of parameters
+     * @param parameters
+     *            the parameters
+     * @param arguments
+     *            the arguments
+     */
+    void renderTo(final StringBuilder output, final Locale locale, final int nbParameters, final Object[] parameters,
+            final Object[] arguments) {
+        final Buffer buffer = Buffer.acquire();
+        try {
+            this.render(output, buffer, locale, nbParameters, parameters, arguments);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private void render(final StringBuilder output, final Buffer buffer, final Locale locale, final int nbParameters,
+            final Object[] parameters, final Object[] arguments) {
+
+        output.ensureCapacity(output.length() + this.literalLength + (this.specifiers.length << 3));
+
+        Specifier specifier;
+        Object value;
+        Symbols symbols = null;
+        boolean done;
+
+        for (int i = 0; i < this.specifiers.length; ++i) {
+            output.append(this.literals[i]);
+
+            specifier = this.specifiers[i];
+            if (specifier.argument < 0) {
+                value = null;
+            } else if (specifier.argument < nbParameters) {
+                value = parameters[specifier.argument];
+            } else {
+                value = arguments[specifier.argument - nbParameters];
+            }
+
+            switch (specifier.kind) {
+            case KIND_TEXT:
+                output.append(specifier.conversion == PERCENT ? PERCENT_TEXT : LINE_SEPARATOR);
+                done = true;
+                break;
+            case KIND_STRING:
+                done = !(value instanceof Formattable);
+                if (done) {
+                    appendString(output, specifier, String.valueOf(value));
+                }
+                break;
+            case KIND_DECIMAL:
+                if (symbols == null) {
+                    symbols = SYMBOLS.get(locale, Symbols::new);
+                }
+                done = appendDecimal(output, specifier, symbols, value);
+                break;
+            case KIND_HEXADECIMAL:
+                done = appendHexadecimal(output, specifier, value);
+                break;
+            case KIND_FLOAT:
+                if (symbols == null) {
+                    symbols = SYMBOLS.get(locale, Symbols::new);
+                }
+                done = appendFloat(output, buffer, specifier, symbols, value);
+                break;
+            default:
+                done = false;
+            }
+
+            if (!done) {
+                buffer.format(output, locale, specifier.generic, value);
+            }
+        }
+        output.append(this.literals[this.specifiers.length]);
+    }
+
+    private static void appendString(final StringBuilder output, final Specifier specifier, final String text) {
+        int length = text.length();
+        if (specifier.precision > -1 && specifier.precision < length) {
+            length = specifier.precision;
+        }
+        final int padding = specifier.width - length;
+        final boolean left = (specifier.flags & FLAG_LEFT_JUSTIFY) != 0;
+        if (!left) {
+            pad(output, padding);
+        }
+        output.append(text, 0, length);
+        if (left) {
+            pad(output, padding);
+        }
+    }
+
+    private static void pad(final StringBuilder output, final int padding) {
+        for (int i = 0; i < padding; ++i) {
+            output.append(SPACE);
+        }
+    }
+
+    private static boolean appendDecimal(final StringBuilder output, final Specifier specifier, final Symbols symbols,
+            final Object value) {
+        final long number;
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            number = ((Number) value).longValue();
+        } else {
+            return false;
+        }
+        final int flags = specifier.flags;
+        final boolean group = (flags & FLAG_GROUP) != 0;
+        if (!symbols.digits || (group && symbols.groupingSeparator == 0)) {
+            return false;
+        }
+
+        final boolean negative = number < 0;
+        final int digits = count(number);
+        final int separators = group ? separators(digits, symbols.groupingSize) : 0;
+
+        final int signLength = negative || (flags & (FLAG_PLUS | FLAG_LEADING_SPACE)) != 0 ? 1 : 0;
+        final boolean parentheses = negative && (flags & FLAG_PARENTHESES) != 0;
+        final int zeros = zeros(specifier, parentheses, signLength + digits + separators);
+        final int length = signLength + zeros + digits + separators + (parentheses ? 1 : 0);
+
+        final boolean left = (flags & FLAG_LEFT_JUSTIFY) != 0;
+        if (!left) {
+            pad(output, specifier.width - length);
+        }
+        appendSign(output, flags, negative);
+        for (int i = 0; i < zeros; ++i) {
+            output.append(ZERO);
+        }
+
+        // digits from left to right, using the negative form to support
+        // Long.MIN_VALUE
+        final long negated = negative ? number : -number;
+        long divisor = 1;
+        for (int i = 1; i < digits; ++i) {
+            divisor *= SHIFT_LEFT;
+        }
+        for (int i = 0; i < digits; ++i) {
+            output.append((char) (ZERO - (negated / divisor) % SHIFT_LEFT));
+            divisor /= SHIFT_LEFT;
+            if (separators > 0 && isSeparator(digits, i, symbols.groupingSize)) {
+                output.append(symbols.groupingSeparator);
+            }
+        }
+
+        if (parentheses) {
+            output.append(')');
+        }
+        if (left) {
+            pad(output, specifier.width - length);
+        }
+        return true;
+    }
+
+    private static int count(final long number) {
+        long negated = number < 0 ? number : -number;
+        int digits = 1;
+        while (negated <= -SHIFT_LEFT) {
+            negated /= SHIFT_LEFT;
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * Same rule as {@link Formatter}, a separator follows the digit at the
+     * position {@code i} if the number of remaining digits (including this
+     * one) modulo the group size is 1
+     */
+    private static boolean isSeparator(final int digits, final int i, final int groupingSize) {
+        return i != digits - 1 && (digits - i) % groupingSize == 1;
+    }
+
+    private static int separators(final int digits, final int groupingSize) {
+        int separators = 0;
+        for (int i = 0; i < digits - 1; ++i) {
+            if (isSeparator(digits, i, groupingSize)) {
+                separators++;
+            }
+        }
+        return separators;
+    }
+
+    private static int zeros(final Specifier specifier, final boolean parentheses, final int length) {
+        if ((specifier.flags & FLAG_ZERO_PAD) == 0) {
+            return 0;
+        }
+        // the closing parenthesis is included in the width
+        return Math.max(0, specifier.width - (parentheses ? 1 : 0) - length);
+    }
+
+    private static void appendSign(final StringBuilder output, final int flags, final boolean negative) {
+        if (negative) {
+            output.append((flags & FLAG_PARENTHESES) != 0 ? '(' : '-');
+        } else if ((flags & FLAG_PLUS) != 0) {
+            output.append('+');
+        } else if ((flags & FLAG_LEADING_SPACE) != 0) {
+            output.append(SPACE);
+        }
+    }
+
+    private static boolean appendHexadecimal(final StringBuilder output, final Specifier specifier,
+            final Object value) {
+        final long number;
+        if (value instanceof Integer) {
+            number = ((Integer) value).intValue() & 0xFFFF_FFFFL;
+        } else if (value instanceof Long) {
+            number = (Long) value;
+        } else if (value instanceof Short) {
+            number = ((Short) value).shortValue() & 0xFFFFL;
+        } else if (value instanceof Byte) {
+            number = ((Byte) value).byteValue() & 0xFFL;
+        } else {
+            return false;
+        }
+
+        final int flags = specifier.flags;
+        final boolean upper = specifier.conversion == 'X';
+        final int digits = Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(number) + HEX_SHIFT - 1) / HEX_SHIFT);
+        final int prefix = (flags & FLAG_ALTERNATE) != 0 ? 2 : 0;
+        final int zeros = (flags & FLAG_ZERO_PAD) != 0 ? Math.max(0, specifier.width - prefix - digits) : 0;
+        final int length = prefix + zeros + digits;
+
+        final boolean left = (flags & FLAG_LEFT_JUSTIFY) != 0;
+        if (!left) {
+            pad(output, specifier.width - length);
+        }
+        if (prefix > 0) {
+            output.append(ZERO).append(upper ? 'X' : 'x');
+        }
+        for (int i = 0; i < zeros; ++i) {
+            output.append(ZERO);
+        }
+        final char[] chars = upper ? HEX_UPPER : HEX_LOWER;
+        for (int shift = (digits - 1) * HEX_SHIFT; shift >= 0; shift -= HEX_SHIFT) {
+            output.append(chars[(int) (number >>> shift) & HEX_MASK]);
+        }
+        if (left) {
+            pad(output, specifier.width - length);
+        }
+        return true;
+    }
+
+    private static boolean appendFloat(final StringBuilder output, final Buffer buffer, final Specifier specifier,
+            final Symbols symbols, final Object value) {
+        final double number;
+        if (value instanceof Double) {
+            number = (Double) value;
+        } else if (value instanceof Float) {
+            // like Formatter, float values are converted into double
+            number = ((Float) value).doubleValue();
+        } else {
+            return false;
+        }
+        final int flags = specifier.flags;
+        final boolean group = (flags & FLAG_GROUP) != 0;
+        if (Double.isNaN(number) || Double.isInfinite(number) || !symbols.digits
+                || (group && symbols.groupingSeparator == 0)) {
+            return false;
+        }
+
+        final boolean negative = Double.compare(number, 0d) < 0;
+        final int precision = specifier.precision > -1 ? specifier.precision : DEFAULT_PRECISION;
+
+        // decimal digits of the shortest representation (like Formatter)
+        final char[] digits = buffer.digits;
+        int count = 0;
+        int exponent = 0;
+        int point = -1;
+        final String text = Double.toString(Math.abs(number));
+        final int length = text.length();
+        for (int i = 0; i < length; ++i) {
+            final char c = text.charAt(i);
+            if (c == DOT) {
+                point = count;
+            } else if (c == 'E') {
+                exponent = Integer.parseInt(text.substring(i + 1));
+                break;
+            } else {
+                digits[count++] = c;
+            }
+        }
+        int decimalExponent = point + exponent;
+
+        // remove leading zeros
+        int start = 0;
+        while (start < count - 1 && digits[start] == ZERO) {
+            start++;
+        }
+        if (start > 0) {
+            System.arraycopy(digits, start, digits, 0, count - start);
+            count -= start;
+            decimalExponent -= start;
+        }
+        if (digits[0] == ZERO) {
+            count = 0;
+        }
+
+        // round half up
+        final int keep = decimalExponent + precision;
+        if (keep < 0) {
+            count = 0;
+        } else if (keep < count) {
+            if (digits[keep] >= '5') {
+                int i = keep - 1;
+                while (i >= 0 && digits[i] == '9') {
+                    i--;
+                }
+                if (i < 0) {
+                    digits[0] = '1';
+                    count = 1;
+                    decimalExponent++;
+                } else {
+                    digits[i]++;
+                    count = i + 1;
+                }
+            } else {
+                count = keep;
+            }
+        }
+        if (count == 0) {
+            decimalExponent = 0;
+        }
+
+        final int integers = Math.max(1, decimalExponent);
+        final int separators = group ? separators(integers, symbols.groupingSize) : 0;
+        final int signLength = negative || (flags & (FLAG_PLUS | FLAG_LEADING_SPACE)) != 0 ? 1 : 0;
+        final int magnitude = integers + separators + (precision > 0 ? precision + 1 : 0);
+        final boolean parentheses = negative && (flags & FLAG_PARENTHESES) != 0;
+        final int zeros = zeros(specifier, parentheses, signLength + magnitude);
+        final int total = signLength + zeros + magnitude + (parentheses ? 1 : 0);
+
+        final boolean left = (flags & FLAG_LEFT_JUSTIFY) != 0;
+        if (!left) {
+            pad(output, specifier.width - total);
+        }
+        appendSign(output, flags, negative);
+        for (int i = 0; i < zeros; ++i) {
+            output.append(ZERO);
+        }
+        // the digit at the position p is digits[p - (integers - decimalExponent)]
+        final int offset = integers - decimalExponent;
+        for (int i = 0; i < integers; ++i) {
+            output.append(digit(digits, count, i - offset));
+            if (separators > 0 && isSeparator(integers, i, symbols.groupingSize)) {
+                output.append(symbols.groupingSeparator);
+            }
+        }
+        if (precision > 0) {
+            output.append(symbols.decimalSeparator);
+            for (int i = 0; i < precision; ++i) {
+                output.append(digit(digits, count, decimalExponent + i));
+            }
+        }
+        if (parentheses) {
+            output.append(')');
+        }
+        if (left) {
+            pad(output, specifier.width - total);
+        }
+        return true;
+    }
+
+    private static char digit(final char[] digits, final int count, final int position) {
+        return position >= 0 && position < count ? digits[position] : ZERO;
+    }
+
+    /**
+     * Parsed specifier
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    private static final class Specifier {
+
+        private final int kind;
+        private final int argument;
+        private final int flags;
+        private final int width;
+        private final int precision;
+        private final char conversion;
+
+        /**
+         * The specifier without index, used by the formatter if not supported
+         * or if the value type doesn't match
+         */
+        private final String generic;
+
+        private Specifier(final int kind, final int argument, final int flags, final int width, final int precision,
+                final char conversion, final String generic) {
+            this.kind = kind;
+            this.argument = argument;
+            this.flags = flags;
+            this.width = width;
+            this.precision = precision;
+            this.conversion = conversion;
+            this.generic = generic;
+        }
+    }
+
+    /**
+     * Locale symbols, retrieved like {@link Formatter}
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    private static final class Symbols {
+
+        /**
+         * If the zero digit is the ASCII one
+         */
+        private final boolean digits;
+        private final char decimalSeparator;
+
+        /**
+         * The grouping separator or 0, if not supported
+         */
+        private final char groupingSeparator;
+        private final int groupingSize;
+
+        private Symbols(final Locale locale) {
+            final DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+            this.digits = symbols.getZeroDigit() == ZERO;
+
+            if (Locale.US.equals(locale)) {
+                this.decimalSeparator = DOT;
+                this.groupingSeparator = ',';
+                this.groupingSize = 3;
+            } else {
+                this.decimalSeparator = symbols.getDecimalSeparator();
+
+                final NumberFormat format = NumberFormat.getNumberInstance(locale);
+                if (format instanceof DecimalFormat && ((DecimalFormat) format).isGroupingUsed()
+                        && ((DecimalFormat) format).getGroupingSize() > 0) {
+                    this.groupingSeparator = symbols.getGroupingSeparator();
+                    this.groupingSize = ((DecimalFormat) format).getGroupingSize();
+                } else {
+                    this.groupingSeparator = 0;
+                    this.groupingSize = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Per-thread buffers (reused, except on reentrant calls)
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    private static final class Buffer {
+
+        /**
+         * Buffers bigger than this size are not kept
+         */
+        private static final int MAX_CAPACITY = 8_192;
+        private static final int INITIAL_CAPACITY = 256;
+        private static final int MAX_DOUBLE_DIGITS = 32;
+
+        private StringBuilder output = new StringBuilder(INITIAL_CAPACITY);
+        private final char[] digits = new char[MAX_DOUBLE_DIGITS];
+        private StringBuilder generic;
+        private Formatter formatter;
+        private boolean busy;
+
+        private static Buffer acquire() {
+            Buffer buffer = BUFFER.get();
+            if (buffer.busy) {
+                // reentrant call (from a toString method)
+                buffer = new Buffer();
+            }
+            buffer.busy = true;
+            buffer.output.setLength(0);
+            return buffer;
+        }
+
+        private void release() {
+            this.busy = false;
+            if (this.output.capacity() > MAX_CAPACITY) {
+                this.output = new StringBuilder(INITIAL_CAPACITY);
+            }
+            if (this.generic != null && this.generic.capacity() > MAX_CAPACITY) {
+                this.generic = null;
+                this.formatter = null;
+            }
+        }
+
+        private void format(final StringBuilder output, final Locale locale, final String specifier,
+                final Object value) {
+            if (this.formatter == null || !locale.equals(this.formatter.locale())) {
+                this.generic = new StringBuilder();
+                this.formatter = new Formatter(this.generic, locale);
+            }
+            try {
+                this.formatter.format(locale, specifier, value);
+                output.append(this.generic);
+            } finally {
+                this.generic.setLength(0);
+            }
+        }
+    }
+}
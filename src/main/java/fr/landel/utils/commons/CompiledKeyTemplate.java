@@ -0,0 +1,902 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Pre-parsed form of a template used by
+ * {@link StringUtils#injectKeys(Pair, Pair, CharSequence, Map.Entry...)}. The
+ * pattern is tokenized only once for a given include/exclude delimiters pair,
+ * then rendered in a single pass against entries, a {@link Map}, a
+ * {@link Properties} or a resolver function.
+ * 
+ * <p>
+ * Rules (same as
+ * {@link StringUtils#injectKeys(Pair, Pair, CharSequence, Map.Entry...)}):
+ * </p>
+ * <ul>
+ * <li>{@code {key}} is replaced by the value of the key, the keys of the
+ * entries and maps are compared by their string representation
+ * ({@link String#valueOf(Object)}, so {@code {1}} matches the key
+ * {@code Integer.valueOf(1)} and {@code {null}} the {@code null} key),</li>
+ * <li>{@code {{key}}} is replaced by {@code {key}} (the include form),</li>
+ * <li>unknown keys are kept as is (for both forms).</li>
+ * </ul>
+ * 
+ * <p>
+ * Keys cannot contain the include delimiters. Injected values are never
+ * re-parsed. Compiled templates are immutable and thread-safe, the result of
+ * {@link #compile(Pair, Pair, CharSequence)} is cached.
+ * </p>
+ * 
+ * <pre>
+ * CompiledKeyTemplate template = CompiledKeyTemplate.compile("I'll go to the {where} this {when} {{when}}");
+ * template.render(MapUtils2.newHashMap(Pair.of("where", "beach"), Pair.of("when", "afternoon")));
+ * // =&gt; "I'll go to the beach this afternoon {when}"
+ * template.render(key -&gt; key.toUpperCase());
+ * // =&gt; "I'll go to the WHERE this WHEN {when}"
+ * template.renderTo(writer, properties);
+ * // writes the result directly into the writer
+ * </pre>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public final class CompiledKeyTemplate {
+
+    /**
+     * Default size of the buffer used to stream templates
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 8_192;
+
+    private static final int CACHE_SIZE = 1_024;
+
+    /**
+     * Patterns longer than this size are compiled but not cached
+     */
+    private static final int CACHE_MAX_PATTERN_LENGTH = 4_096;
+
+    private static final BoundedCache<CacheKey, CompiledKeyTemplate> CACHE = new BoundedCache<>(CACHE_SIZE);
+
+    private static final int ESTIMATED_VALUE_LENGTH = 16;
+
+    private static final byte TYPE_LITERAL = 0;
+    private static final byte TYPE_KEY = 1;
+    private static final byte TYPE_EXCLUDED_KEY = 2;
+
+    /**
+     * Marker for unknown keys
+     */
+    private static final Object MISSING = new Object();
+
+    private static final int MODE_ENTRIES = 0;
+    private static final int MODE_MAP = 1;
+    private static final int MODE_FUNCTION = 2;
+
+    private static final int KEY_INVALID = -1;
+    private static final int KEY_INCOMPLETE = -2;
+
+    private final String pattern;
+    private final char[] text;
+
+    /**
+     * For each segment, the start position in {@link #text}
+     */
+    private final int[] starts;
+
+    /**
+     * For each segment, the end position in {@link #text} (exclusive)
+     */
+    private final int[] ends;
+
+    /**
+     * For each segment, the type
+     */
+    private final byte[] types;
+
+    /**
+     * For each segment, the key (or {@code null} for literals)
+     */
+    private final String[] keys;
+
+    /**
+     * For each excluded key segment, the include form of the key
+     */
+    private final String[] includes;
+
+    private final int capacity;
+
+    private CompiledKeyTemplate(final String pattern, final int[] starts, final int[] ends, final byte[] types,
+            final String[] keys, final String[] includes, final int nbKeys) {
+        this.pattern = pattern;
+        this.text = pattern.toCharArray();
+        this.starts = starts;
+        this.ends = ends;
+        this.types = types;
+        this.keys = keys;
+        this.includes = includes;
+        this.capacity = pattern.length() + nbKeys * ESTIMATED_VALUE_LENGTH;
+    }
+
+    /**
+     * Compile the pattern with the curly braces delimiters (the result is
+     * cached).
+     * 
+     * @param pattern
+     *            the template pattern (required, not null)
+     * @return the compiled template
+     * @throws IllegalArgumentException
+     *             if {@code pattern} is {@code null}
+     */
+    public static CompiledKeyTemplate compile(final CharSequence pattern) {
+        return compile(StringUtils.INCLUDE_CURLY_BRACES, StringUtils.EXCLUDE_CURLY_BRACES, pattern);
+    }
+
+    /**
+     * Compile the pattern (the result is cached).
+     * 
+     * @param include
+     *            the characters that surround the property key to replace
+     * @param exclude
+     *            the characters that surround the property key to exclude of
+     *            replacement
+     * @param pattern
+     *            the template pattern (required, not null)
+     * @return the compiled template
+     * @throws IllegalArgumentException
+     *             if {@code pattern} is {@code null} or if delimiters are
+     *             invalid (see
+     *             {@link StringUtils#injectKeys(Pair, Pair, CharSequence, Map.Entry...)})
+     */
+    public static CompiledKeyTemplate compile(final Pair<String, String> include, final Pair<String, String> exclude,
+            final CharSequence pattern) {
+        if (pattern == null) {
+            throw new IllegalArgumentException("The input char sequence cannot be null");
+        }
+        checkDelimiters(include, exclude);
+
+        final CacheKey key = new CacheKey(include.getLeft(), include.getRight(), exclude.getLeft(), exclude.getRight(),
+                pattern.toString());
+        if (key.pattern.length() > CACHE_MAX_PATTERN_LENGTH) {
+            return parse(key);
+        }
+        return CACHE.get(key, CompiledKeyTemplate::parse);
+    }
+
+    /**
+     * Check the delimiters
+     * 
+     * @param include
+     *            the include delimiters
+     * @param exclude
+     *            the exclude delimiters
+     * @throws IllegalArgumentException
+     *             if delimiters are invalid
+     */
+    static void checkDelimiters(final Pair<String, String> include, final Pair<String, String> exclude) {
+        if (ObjectUtils.anyNull(include, exclude)) {
+            throw new IllegalArgumentException("The include and exclude parameters cannot be null");
+        } else if (ObjectUtils.anyNull(include.getLeft(), include.getRight(), exclude.getLeft(), exclude.getRight())) {
+            throw new IllegalArgumentException("The include and exclude values cannot be null");
+        } else if (exclude.getLeft().equals(include.getLeft()) || exclude.getRight().equals(include.getRight())) {
+            throw new IllegalArgumentException("The exclude values cannot be equal to include operators");
+        } else if (!exclude.getLeft().contains(include.getLeft()) || !exclude.getRight().contains(include.getRight())) {
+            throw new IllegalArgumentException("The exclude values must contain include operators");
+        }
+    }
+
+    private static CompiledKeyTemplate parse(final CacheKey cacheKey) {
+        final Builder builder = new Builder(cacheKey.includeLeft, cacheKey.includeRight);
+        try {
+            scan(cacheKey.pattern, 0, cacheKey.pattern.length(), true, Integer.MAX_VALUE, cacheKey.includeLeft,
+                    cacheKey.includeRight, cacheKey.excludeLeft, cacheKey.excludeRight, builder);
+        } catch (IOException e) {
+            // cannot happen, the builder doesn't write
+            throw new UncheckedIOException(e);
+        }
+        return builder.build(cacheKey.pattern);
+    }
+
+    /**
+     * Injects the map values into the template read from the reader and
+     * writes the result into the output. The template is never fully loaded,
+     * it's processed by chunks (keys longer than the chunk size minus twice
+     * the longest delimiter length are not replaced).
+     * 
+     * @param include
+     *            the characters that surround the property key to replace
+     * @param exclude
+     *            the characters that surround the property key to exclude of
+     *            replacement
+     * @param reader
+     *            the template reader (required, not null, not closed)
+     * @param output
+     *            the output (required, not null, not flushed or closed)
+     * @param chunkSize
+     *            the size of the read buffer (greater than twice the longest
+     *            delimiter length)
+     * @param arguments
+     *            the map of values to inject (may be null or empty)
+     * @param <A>
+     *            the output type
+     * @return the output
+     * @throws IOException
+     *             on read or write failure
+     */
+    public static <A extends Appendable> A stream(final Pair<String, String> include, final Pair<String, String> exclude,
+            final Reader reader, final A output, final int chunkSize, final Map<?, ?> arguments) throws IOException {
+        return stream(include, exclude, reader, output, chunkSize, MODE_MAP, arguments);
+    }
+
+    /**
+     * Injects the values provided by the resolver into the template read from
+     * the reader and writes the result into the output. The template is never
+     * fully loaded, it's processed by chunks (keys longer than the chunk size
+     * minus twice the longest delimiter length are not replaced). If the resolver
+     * returns {@code null}, the key is considered as unknown.
+     * 
+     * @param include
+     *            the characters that surround the property key to replace
+     * @param exclude
+     *            the characters that surround the property key to exclude of
+     *            replacement
+     * @param reader
+     *            the template reader (required, not null, not closed)
+     * @param output
+     *            the output (required, not null, not flushed or closed)
+     * @param chunkSize
+     *            the size of the read buffer (greater than twice the longest
+     *            delimiter length)
+     * @param resolver
+     *            the function to get the value of a key (required, not null)
+     * @param <A>
+     *            the output type
+     * @return the output
+     * @throws IOException
+     *             on read or write failure
+     */
+    public static <A extends Appendable> A stream(final Pair<String, String> include, final Pair<String, String> exclude,
+            final Reader reader, final A output, final int chunkSize, final Function<String, ?> resolver)
+            throws IOException {
+        Objects.requireNonNull(resolver, "resolver");
+        return stream(include, exclude, reader, output, chunkSize, MODE_FUNCTION, resolver);
+    }
+
+    private static <A extends Appendable> A stream(final Pair<String, String> include,
+            final Pair<String, String> exclude, final Reader reader, final A output, final int chunkSize, final int mode,
+            final Object source) throws IOException {
+        checkDelimiters(include, exclude);
+        Objects.requireNonNull(reader, "reader");
+        Objects.requireNonNull(output, "output");
+
+        final String open = include.getLeft();
+        final String close = include.getRight();
+        final String excludeOpen = exclude.getLeft();
+        final String excludeClose = exclude.getRight();
+        final int maxDelimiter = Math.max(Math.max(open.length(), close.length()),
+                Math.max(excludeOpen.length(), excludeClose.length()));
+        if (chunkSize <= maxDelimiter << 1) {
+            throw new IllegalArgumentException("The chunk size must be greater than twice the delimiters length");
+        }
+
+        // an incomplete key never fills the whole buffer (its opening
+        // delimiter and the key exceed this length), so each scan progresses
+        final int maxKeyLength = chunkSize - (maxDelimiter << 1);
+
+        final DirectWriter handler = new DirectWriter(output, mode, MapSource.wrap(mode, source), open, close);
+
+        final char[] buffer = new char[chunkSize];
+        final CharBuffer sequence = CharBuffer.wrap(buffer);
+        int length = 0;
+        int read;
+
+        while ((read = reader.read(buffer, length, buffer.length - length)) > -1) {
+            length += read;
+            if (length == buffer.length) {
+                // keep the possible incomplete key or delimiter
+                final int processed = scan(sequence, 0, length, false, maxKeyLength, open, close,
+                        excludeOpen, excludeClose, handler);
+                length -= processed;
+                System.arraycopy(buffer, processed, buffer, 0, length);
+            }
+        }
+        scan(sequence, 0, length, true, maxKeyLength, open, close, excludeOpen, excludeClose, handler);
+
+        return output;
+    }
+
+    /**
+     * Scan the text
+     * 
+     * @param text
+     *            the text
+     * @param from
+     *            the start position
+     * @param to
+     *            the end position
+     * @param eof
+     *            if the end of text is reached (otherwise, the scan stops
+     *            before any incomplete key or delimiter)
+     * @param maxKeyLength
+     *            the maximum key length
+     * @param open
+     *            the include opening delimiter
+     * @param close
+     *            the include closing delimiter
+     * @param excludeOpen
+     *            the exclude opening delimiter
+     * @param excludeClose
+     *            the exclude closing delimiter
+     * @param handler
+     *            the handler called for each part
+     * @return the position of the first character not processed
+     * @throws IOException
+     *             if handler fails
+     */
+    private static int scan(final CharSequence text, final int from, final int to, final boolean eof,
+            final int maxKeyLength, final String open, final String close, final String excludeOpen,
+            final String excludeClose, final Handler handler) throws IOException {
+
+        int literalStart = from;
+        int stop = to;
+        int start = nextStart(text, from, to, open, excludeOpen);
+        while (start > -1) {
+            int end = KEY_INVALID;
+            int keyStart = -1;
+            boolean excluded = false;
+
+            // search first the excluded form, then the included one
+            if (startsWith(text, start, to, excludeOpen)) {
+                keyStart = start + excludeOpen.length();
+                end = findKeyEnd(text, keyStart, to, eof, maxKeyLength, excludeClose, open, close);
+                excluded = end > -1;
+            }
+            if (end == KEY_INVALID && startsWith(text, start, to, open)) {
+                keyStart = start + open.length();
+                end = findKeyEnd(text, keyStart, to, eof, maxKeyLength, close, open, close);
+            }
+
+            if (end == KEY_INCOMPLETE) {
+                stop = start;
+                break;
+            } else if (end > -1) {
+                handler.literal(text, literalStart, start);
+
+                final String key = text.subSequence(keyStart, end).toString();
+                if (excluded) {
+                    literalStart = end + excludeClose.length();
+                    handler.excludedKey(key, text, start, literalStart);
+                } else {
+                    literalStart = end + close.length();
+                    handler.key(key, text, start, literalStart);
+                }
+                start = nextStart(text, literalStart, to, open, excludeOpen);
+            } else {
+                start = nextStart(text, start + 1, to, open, excludeOpen);
+            }
+        }
+
+        if (!eof) {
+            // keep the end, it may contain the start of a delimiter
+            final int maxDelimiter = Math.max(open.length(), excludeOpen.length());
+            stop = Math.max(literalStart, Math.min(stop, to - maxDelimiter + 1));
+        }
+        handler.literal(text, literalStart, stop);
+        return stop;
+    }
+
+    private static int nextStart(final CharSequence text, final int from, final int to, final String open,
+            final String excludeOpen) {
+        final int index = indexOf(text, from, to, open);
+        final int excludeIndex = indexOf(text, from, to, excludeOpen);
+        if (excludeIndex > -1 && (index < 0 || excludeIndex < index)) {
+            return excludeIndex;
+        }
+        return index;
+    }
+
+    /**
+     * Find the end of the key, the key ends at the first closing delimiter and
+     * cannot contain any include delimiter.
+     * 
+     * @param text
+     *            the text
+     * @param from
+     *            the start of the key
+     * @param to
+     *            the end position
+     * @param eof
+     *            if the end of text is reached
+     * @param maxKeyLength
+     *            the maximum key length
+     * @param suffix
+     *            the closing delimiter
+     * @param open
+     *            the include opening delimiter
+     * @param close
+     *            the include closing delimiter
+     * @return the end of the key (exclusive), {@link #KEY_INVALID} or
+     *         {@link #KEY_INCOMPLETE}
+     */
+    private static int findKeyEnd(final CharSequence text, final int from, final int to, final boolean eof,
+            final int maxKeyLength, final String suffix, final String open, final String close) {
+        final int end = indexOf(text, from, to, suffix);
+        final int limit = end > -1 ? end : Math.max(from, to - suffix.length() + 1);
+        final int openIndex = indexOf(text, from, limit, open);
+        final int closeIndex = indexOf(text, from, limit, close);
+        if ((openIndex > -1 && openIndex + open.length() <= limit)
+                || (closeIndex > -1 && closeIndex + close.length() <= limit)) {
+            return KEY_INVALID;
+        } else if (end > -1) {
+            return end - from <= maxKeyLength ? end : KEY_INVALID;
+        } else if (eof || to - from - suffix.length() + 1 > maxKeyLength) {
+            // the last chars may be the start of the closing delimiter
+            return KEY_INVALID;
+        }
+        return KEY_INCOMPLETE;
+    }
+
+    private static boolean startsWith(final CharSequence text, final int pos, final int to, final String prefix) {
+        final int length = prefix.length();
+        if (pos + length > to) {
+            return false;
+        }
+        for (int i = 0; i < length; ++i) {
+            if (text.charAt(pos + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(final CharSequence text, final int from, final int to, final String search) {
+        if (text instanceof String) {
+            final int index = ((String) text).indexOf(search, from);
+            return index > -1 && index + search.length() <= to ? index : -1;
+        }
+        final int last = to - search.length();
+        for (int i = from; i <= last; ++i) {
+            if (startsWith(text, i, to, search)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the original pattern
+     */
+    public String getPattern() {
+        return this.pattern;
+    }
+
+    /**
+     * Injects the entries into the template. If a key is specified multiple
+     * times, the first entry is used.
+     * 
+     * @param arguments
+     *            the entries to inject (may be null or empty, null entries are
+     *            ignored)
+     * @param <T>
+     *            the type arguments
+     * @return the result with replacements
+     */
+    @SafeVarargs
+    public final <T extends Map.Entry<String, Object>> String render(final T... arguments) {
+        return this.renderEntries(arguments);
+    }
+
+    /**
+     * Injects the entries into the template (typed array variant, used to
+     * pass generic varargs on without heap pollution).
+     * 
+     * @param arguments
+     *            the entries to inject (may be null or empty)
+     * @return the result with replacements
+     */
+    String renderEntries(final Map.Entry<?, ?>... arguments) {
+        return this.render(MODE_ENTRIES, arguments);
+    }
+
+    /**
+     * Injects the map values into the template (works also with
+     * {@link Properties}, only the properties and not the defaults are
+     * injected).
+     * 
+     * @param arguments
+     *            the map of values to inject (may be null or empty)
+     * @return the result with replacements
+     */
+    public String render(final Map<?, ?> arguments) {
+        return this.render(MODE_MAP, arguments);
+    }
+
+    /**
+     * Injects the values provided by the resolver into the template. If the
+     * resolver returns {@code null}, the key is considered as unknown.
+     * 
+     * @param resolver
+     *            the function to get the value of a key (required, not null)
+     * @return the result with replacements
+     * @throws NullPointerException
+     *             if {@code resolver} is {@code null}
+     */
+    public String render(final Function<String, ?> resolver) {
+        Objects.requireNonNull(resolver, "resolver");
+        return this.render(MODE_FUNCTION, resolver);
+    }
+
+    private String render(final int mode, final Object arguments) {
+        final Object source = MapSource.wrap(mode, arguments);
+        final StringBuilder output = new StringBuilder(this.capacity);
+        for (int s = 0; s < this.types.length; ++s) {
+            final byte type = this.types[s];
+            Object value;
+            if (type != TYPE_LITERAL && (value = resolve(mode, source, this.keys[s])) != MISSING) {
+                if (type == TYPE_KEY) {
+                    output.append(value);
+                } else {
+                    output.append(this.includes[s]);
+                }
+            } else {
+                output.append(this.text, this.starts[s], this.ends[s] - this.starts[s]);
+            }
+        }
+        return output.toString();
+    }
+
+    /**
+     * Injects the entries into the template and writes the result into the
+     * output. If a key is specified multiple times, the first entry is used.
+     * 
+     * @param output
+     *            the output (required, not null, not flushed)
+     * @param arguments
+     *            the entries to inject (may be null or empty, null entries are
+     *            ignored)
+     * @param <A>
+     *            the output type
+     * @param <T>
+     *            the type arguments
+     * @return the output
+     * @throws IOException
+     *             on write failure
+     */
+    @SafeVarargs
+    public final <A extends Appendable, T extends Map.Entry<String, Object>> A renderTo(final A output,
+            final T... arguments) throws IOException {
+        return this.renderEntriesTo(output, arguments);
+    }
+
+    private <A extends Appendable> A renderEntriesTo(final A output, final Map.Entry<?, ?>... arguments) throws IOException {
+        return this.renderTo(output, MODE_ENTRIES, arguments);
+    }
+
+    /**
+     * Injects the map values into the template and writes the result into the
+     * output (works also with {@link Properties}, only the properties and not
+     * the defaults are injected).
+     * 
+     * @param output
+     *            the output (required, not null, not flushed)
+     * @param arguments
+     *            the map of values to inject (may be null or empty)
+     * @param <A>
+     *            the output type
+     * @return the output
+     * @throws IOException
+     *             on write failure
+     */
+    public <A extends Appendable> A renderTo(final A output, final Map<?, ?> arguments) throws IOException {
+        return this.renderTo(output, MODE_MAP, arguments);
+    }
+
+    /**
+     * Injects the values provided by the resolver into the template and writes
+     * the result into the output. If the resolver returns {@code null}, the
+     * key is considered as unknown.
+     * 
+     * @param output
+     *            the output (required, not null, not flushed)
+     * @param resolver
+     *            the function to get the value of a key (required, not null)
+     * @param <A>
+     *            the output type
+     * @return the output
+     * @throws IOException
+     *             on write failure
+     */
+    public <A extends Appendable> A renderTo(final A output, final Function<String, ?> resolver) throws IOException {
+        Objects.requireNonNull(resolver, "resolver");
+        return this.renderTo(output, MODE_FUNCTION, resolver);
+    }
+
+    private <A extends Appendable> A renderTo(final A output, final int mode, final Object arguments) throws IOException {
+        Objects.requireNonNull(output, "output");
+
+        final Object source = MapSource.wrap(mode, arguments);
+
+        for (int s = 0; s < this.types.length; ++s) {
+            final byte type = this.types[s];
+            Object value;
+            if (type != TYPE_LITERAL && (value = resolve(mode, source, this.keys[s])) != MISSING) {
+                if (type == TYPE_KEY) {
+                    Appendables.append(output, value);
+                } else {
+                    output.append(this.includes[s]);
+                }
+            } else {
+                Appendables.append(output, this.text, this.starts[s], this.ends[s]);
+            }
+        }
+        return output;
+    }
+
+    private static Object resolve(final int mode, final Object source, final String key) {
+        if (source == null) {
+            return MISSING;
+        } else if (mode == MODE_MAP) {
+            return ((MapSource) source).resolve(key);
+        } else if (mode == MODE_FUNCTION) {
+            final Object value = CastUtils.<Function<String, ?>>cast(source).apply(key);
+            if (value != null) {
+                return value;
+            }
+        } else {
+            for (Map.Entry<?, ?> entry : (Map.Entry<?, ?>[]) source) {
+                if (entry != null && key.equals(String.valueOf(entry.getKey()))) {
+                    return entry.getValue();
+                }
+            }
+        }
+        return MISSING;
+    }
+
+    @Override
+    public String toString() {
+        return this.pattern;
+    }
+
+    /**
+     * Map of a rendering. The keys are first looked up directly, on the first
+     * miss the entries are indexed by the string form of their keys (like the
+     * entries, the first one wins), so the non string keys (and the null key)
+     * are found without scanning the map for each missing key.
+     */
+    private static final class MapSource {
+
+        private final Map<?, ?> map;
+        private Map<String, Object> index;
+
+        private MapSource(final Map<?, ?> map) {
+            this.map = map;
+        }
+
+        private static Object wrap(final int mode, final Object source) {
+            return mode == MODE_MAP && source != null ? new MapSource((Map<?, ?>) source) : source;
+        }
+
+        private Object resolve(final String key) {
+            try {
+                final Object value = this.map.get(key);
+                if (value != null || this.map.containsKey(key)) {
+                    return value;
+                }
+            } catch (ClassCastException e) {
+                // sorted maps with keys not comparable to a string
+            }
+            if (this.index == null) {
+                this.index = new HashMap<>();
+                for (Map.Entry<?, ?> entry : this.map.entrySet()) {
+                    final String string = String.valueOf(entry.getKey());
+                    if (!this.index.containsKey(string)) {
+                        this.index.put(string, entry.getValue());
+                    }
+                }
+            }
+            final Object value = this.index.get(key);
+            if (value != null || this.index.containsKey(key)) {
+                return value;
+            }
+            return MISSING;
+        }
+    }
+
+    /**
+     * Receive the scanned parts
+     */
+    private interface Handler {
+
+        void literal(CharSequence text, int start, int end) throws IOException;
+
+        void key(String key, CharSequence text, int start, int end) throws IOException;
+
+        void excludedKey(String key, CharSequence text, int start, int end) throws IOException;
+    }
+
+    /**
+     * Direct writer, the parts are written as soon as they are scanned
+     */
+    private static final class DirectWriter implements Handler {
+
+        private final Appendable output;
+        private final int mode;
+        private final Object source;
+        private final String open;
+        private final String close;
+
+        private DirectWriter(final Appendable output, final int mode, final Object source, final String open,
+                final String close) {
+            this.output = output;
+            this.mode = mode;
+            this.source = source;
+            this.open = open;
+            this.close = close;
+        }
+
+        @Override
+        public void literal(final CharSequence text, final int start, final int end) throws IOException {
+            Appendables.append(this.output, text, start, end);
+        }
+
+        @Override
+        public void key(final String key, final CharSequence text, final int start, final int end) throws IOException {
+            final Object value = resolve(this.mode, this.source, key);
+            if (value != MISSING) {
+                Appendables.append(this.output, value);
+            } else {
+                Appendables.append(this.output, text, start, end);
+            }
+        }
+
+        @Override
+        public void excludedKey(final String key, final CharSequence text, final int start, final int end)
+                throws IOException {
+            if (resolve(this.mode, this.source, key) != MISSING) {
+                this.output.append(this.open).append(key).append(this.close);
+            } else {
+                Appendables.append(this.output, text, start, end);
+            }
+        }
+    }
+
+    /**
+     * Accumulate segments
+     */
+    private static final class Builder implements Handler {
+
+        private final String open;
+        private final String close;
+
+        private int[] starts = new int[8];
+        private int[] ends = new int[8];
+        private byte[] types = new byte[8];
+        private String[] keys = new String[8];
+        private String[] includes = new String[8];
+        private int size;
+        private int nbKeys;
+
+        private Builder(final String open, final String close) {
+            this.open = open;
+            this.close = close;
+        }
+
+        @Override
+        public void literal(final CharSequence text, final int start, final int end) {
+            if (start < end) {
+                this.push(start, end, TYPE_LITERAL, null, null);
+            }
+        }
+
+        @Override
+        public void key(final String key, final CharSequence text, final int start, final int end) {
+            this.push(start, end, TYPE_KEY, key, null);
+            this.nbKeys++;
+        }
+
+        @Override
+        public void excludedKey(final String key, final CharSequence text, final int start, final int end) {
+            this.push(start, end, TYPE_EXCLUDED_KEY, key,
+                    new StringBuilder(this.open).append(key).append(this.close).toString());
+            this.nbKeys++;
+        }
+
+        private void push(final int start, final int end, final byte type, final String key, final String include) {
+            if (this.size == this.types.length) {
+                final int capacity = this.size << 1;
+                this.starts = Arrays.copyOf(this.starts, capacity);
+                this.ends = Arrays.copyOf(this.ends, capacity);
+                this.types = Arrays.copyOf(this.types, capacity);
+                this.keys = Arrays.copyOf(this.keys, capacity);
+                this.includes = Arrays.copyOf(this.includes, capacity);
+            }
+            this.starts[this.size] = start;
+            this.ends[this.size] = end;
+            this.types[this.size] = type;
+            this.keys[this.size] = key;
+            this.includes[this.size] = include;
+            this.size++;
+        }
+
+        private CompiledKeyTemplate build(final String pattern) {
+            return new CompiledKeyTemplate(pattern, Arrays.copyOf(this.starts, this.size),
+                    Arrays.copyOf(this.ends, this.size), Arrays.copyOf(this.types, this.size),
+                    Arrays.copyOf(this.keys, this.size), Arrays.copyOf(this.includes, this.size), this.nbKeys);
+        }
+    }
+
+    /**
+     * Key of the cache (avoid building a concatenated string)
+     */
+    private static final class CacheKey {
+
+        private final String includeLeft;
+        private final String includeRight;
+        private final String excludeLeft;
+        private final String excludeRight;
+        private final String pattern;
+        private final int hash;
+
+        private CacheKey(final String includeLeft, final String includeRight, final String excludeLeft,
+                final String excludeRight, final String pattern) {
+            this.includeLeft = includeLeft;
+            this.includeRight = includeRight;
+            this.excludeLeft = excludeLeft;
+            this.excludeRight = excludeRight;
+            this.pattern = pattern;
+            int h = includeLeft.hashCode();
+            h = 31 * h + includeRight.hashCode();
+            h = 31 * h + excludeLeft.hashCode();
+            h = 31 * h + excludeRight.hashCode();
+            this.hash = 31 * h + pattern.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            } else if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            final CacheKey other = (CacheKey) obj;
+            return this.hash == other.hash && this.pattern.equals(other.pattern)
+                    && this.includeLeft.equals(other.includeLeft) && this.includeRight.equals(other.includeRight)
+                    && this.excludeLeft.equals(other.excludeLeft) && this.excludeRight.equals(other.excludeRight);
+        }
+    }
+}
@@ -0,0 +1,347 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Multi-literal replacement engine. The dictionary (literal to replacement) is
+ * compiled once into an Aho-Corasick automaton of the reversed literals. Any
+ * char sequence is scanned once backward, to find the longest literal starting
+ * at each position, then rewritten forward into a new buffer: the time is
+ * linear in the input length, whatever the literals (no char is read twice,
+ * even with long shared prefixes), and the input is never shifted.
+ *
+ * <p>
+ * Rules:
+ * </p>
+ * <ul>
+ * <li>the leftmost match wins, for the same start the longest literal
+ * wins,</li>
+ * <li>matches don't overlap, the search continues after the replaced
+ * literal,</li>
+ * <li>replacements are never re-scanned.</li>
+ * </ul>
+ *
+ * <p>
+ * Compiled replacers are immutable and thread-safe.
+ * </p>
+ *
+ * <pre>
+ * CompiledReplacer replacer = CompiledReplacer.compile(MapUtils2.newHashMap(Pair.of("password", "***"), Pair.of("pass", "*")));
+ * replacer.replace("pass=1, password=2"); // =&gt; "*=1, ***=2"
+ * replacer.replaceTo(writer, payload); // writes the result directly into the writer
+ * </pre>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public final class CompiledReplacer {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+    private static final int ASCII_SIZE = 128;
+
+    /**
+     * Initial size of the array of the found literals (pairs of start and
+     * literal index)
+     */
+    private static final int FOUND_CAPACITY = 16;
+
+    /**
+     * Under this number of children, the children are searched linearly
+     */
+    private static final int LINEAR_SEARCH_MAX = 8;
+
+    private final String[] literals;
+    private final String[] replacements;
+
+    /**
+     * For each node, the offset of its children in {@link #childChars} and
+     * {@link #childNodes} (the children of the node n are between offsets n
+     * and n + 1), sorted by char
+     */
+    private final int[] childOffsets;
+    private final char[] childChars;
+    private final int[] childNodes;
+
+    /**
+     * Children of the root for ASCII chars ({@link #NONE} if no child)
+     */
+    private final int[] rootAscii;
+
+    /**
+     * For each node, the failure link (longest proper suffix which is also a
+     * prefix of a reversed literal)
+     */
+    private final int[] failures;
+
+    /**
+     * For each node, the index of the longest reversed literal ending at this
+     * node (directly or through the failure links), so the longest literal
+     * starting at the current position of the backward scan, {@link #NONE} if
+     * none
+     */
+    private final int[] outputs;
+
+    private CompiledReplacer(final String[] literals, final String[] replacements) {
+        this.literals = literals;
+        this.replacements = replacements;
+
+        // trie of the reversed literals
+        final List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        final List<Integer> terminals = new ArrayList<>();
+        children.add(new TreeMap<>());
+        terminals.add(NONE);
+        for (int i = 0; i < literals.length; ++i) {
+            int node = ROOT;
+            for (int j = literals[i].length() - 1; j >= 0; --j) {
+                final char c = literals[i].charAt(j);
+                Integer next = children.get(node).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.add(new TreeMap<>());
+                    terminals.add(NONE);
+                    children.get(node).put(c, next);
+                }
+                node = next;
+            }
+            terminals.set(node, i);
+        }
+
+        final int size = children.size();
+        this.childOffsets = new int[size + 1];
+        this.childChars = new char[size - 1];
+        this.childNodes = new int[size - 1];
+        int offset = 0;
+        for (int node = 0; node < size; ++node) {
+            this.childOffsets[node] = offset;
+            for (Map.Entry<Character, Integer> child : children.get(node).entrySet()) {
+                this.childChars[offset] = child.getKey();
+                this.childNodes[offset++] = child.getValue();
+            }
+        }
+        this.childOffsets[size] = offset;
+
+        this.rootAscii = new int[ASCII_SIZE];
+        for (char c = 0; c < ASCII_SIZE; ++c) {
+            this.rootAscii[c] = this.search(ROOT, c);
+        }
+
+        // failure links and outputs, breadth first
+        this.failures = new int[size];
+        this.outputs = new int[size];
+        this.outputs[ROOT] = NONE;
+        final Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(ROOT);
+        while (!queue.isEmpty()) {
+            final int node = queue.poll();
+            for (int i = this.childOffsets[node]; i < this.childOffsets[node + 1]; ++i) {
+                final int child = this.childNodes[i];
+                this.failures[child] = node == ROOT ? ROOT : this.step(this.failures[node], this.childChars[i]);
+                final int terminal = terminals.get(child);
+                this.outputs[child] = terminal != NONE ? terminal : this.outputs[this.failures[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Compile the dictionary
+     *
+     * @param dictionary
+     *            the literals and their replacements
+     * @return the compiled replacer
+     * @throws NullPointerException
+     *             if the dictionary, a literal or a replacement is
+     *             {@code null}
+     * @throws IllegalArgumentException
+     *             if a literal is empty
+     */
+    public static CompiledReplacer compile(final Map<String, ? extends CharSequence> dictionary) {
+        Objects.requireNonNull(dictionary, "dictionary");
+
+        final String[] literals = new String[dictionary.size()];
+        final String[] replacements = new String[literals.length];
+        int i = 0;
+        for (Map.Entry<String, ? extends CharSequence> entry : dictionary.entrySet()) {
+            literals[i] = Objects.requireNonNull(entry.getKey(), "literal");
+            replacements[i] = Objects.requireNonNull(entry.getValue(), "replacement").toString();
+            if (literals[i].isEmpty()) {
+                throw new IllegalArgumentException("The literals cannot be empty");
+            }
+            ++i;
+        }
+        return new CompiledReplacer(literals, replacements);
+    }
+
+    /**
+     * Replace the literals
+     *
+     * @param input
+     *            the input sequence
+     * @return the result (the input as string if no literal found), or
+     *         {@code null} if input is {@code null}
+     */
+    public String replace(final CharSequence input) {
+        if (input == null) {
+            return null;
+        }
+        try {
+            final StringBuilder output = this.replace(input, null);
+            return output != null ? output.toString() : input.toString();
+        } catch (IOException e) {
+            // never thrown by a string builder
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Replace the literals and write the result into the output (without
+     * building an intermediate string)
+     *
+     * @param output
+     *            the output (required, not null, not flushed)
+     * @param input
+     *            the input sequence
+     * @param <A>
+     *            the output type
+     * @return the output
+     * @throws NullPointerException
+     *             if output or input is {@code null}
+     * @throws IOException
+     *             on write failure
+     */
+    public <A extends Appendable> A replaceTo(final A output, final CharSequence input) throws IOException {
+        Objects.requireNonNull(output, "output");
+        Objects.requireNonNull(input, "input");
+
+        this.replace(input, output);
+        return output;
+    }
+
+    /**
+     * @return the number of literals
+     */
+    public int size() {
+        return this.literals.length;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.join(this.literals, ", ");
+    }
+
+    /**
+     * Scan the input backward to find the longest literal starting at each
+     * position, then append the unchanged parts and the replacements of the
+     * leftmost non-overlapping literals into the output, created on the first
+     * match if {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    private <A extends Appendable> A replace(final CharSequence input, final A output) throws IOException {
+        final int length = input.length();
+
+        // pairs of start and literal index, by decreasing start
+        int[] found = null;
+        int count = 0;
+        int state = ROOT;
+        for (int i = length - 1; i >= 0; --i) {
+            state = this.step(state, input.charAt(i));
+            final int literal = this.outputs[state];
+            if (literal != NONE) {
+                if (found == null) {
+                    found = new int[FOUND_CAPACITY];
+                } else if (count == found.length) {
+                    found = Arrays.copyOf(found, count << 1);
+                }
+                found[count++] = i;
+                found[count++] = literal;
+            }
+        }
+
+        A result = output;
+        int copied = 0;
+        for (int k = count - 2; k >= 0; k -= 2) {
+            // the literals starting in the previous replaced literal are skipped
+            final int start = found[k];
+            if (start >= copied) {
+                if (result == null) {
+                    result = (A) new StringBuilder(length + ASCII_SIZE);
+                }
+                final int literal = found[k + 1];
+                result.append(input, copied, start).append(this.replacements[literal]);
+                copied = start + this.literals[literal].length();
+            }
+        }
+        if (result != null && copied < length) {
+            result.append(input, copied, length);
+        }
+        return result;
+    }
+
+    private int step(final int state, final char c) {
+        int node = state;
+        while (true) {
+            final int next = node == ROOT && c < ASCII_SIZE ? this.rootAscii[c] : this.search(node, c);
+            if (next != NONE) {
+                return next;
+            } else if (node == ROOT) {
+                return ROOT;
+            }
+            node = this.failures[node];
+        }
+    }
+
+    private int search(final int node, final char c) {
+        int low = this.childOffsets[node];
+        int high = this.childOffsets[node + 1] - 1;
+        if (high - low < LINEAR_SEARCH_MAX) {
+            for (int i = low; i <= high; ++i) {
+                if (this.childChars[i] == c) {
+                    return this.childNodes[i];
+                }
+            }
+            return NONE;
+        }
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final char midChar = this.childChars[mid];
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return this.childNodes[mid];
+            }
+        }
+        return NONE;
+    }
+}
@@ -0,0 +1,595 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Pre-parsed form of a template used by
+ * {@link StringUtils#inject(CharSequence, Object...)}. The pattern is parsed
+ * only once into literal, anonymous ({@code {}}) and positional
+ * ({@code {0}}) segments, then rendered in a single forward pass into a
+ * buffer presized to the exact output length (or directly into any
+ * {@link Appendable}).
+ * 
+ * <p>
+ * Rules (same as {@link StringUtils#inject(CharSequence, Object...)}):
+ * </p>
+ * <ul>
+ * <li>{@code {}} is replaced by the next argument (internal index starting at
+ * 0),</li>
+ * <li>{@code {N}} is replaced by the argument at index N,</li>
+ * <li>{@code {{} and {@code }}} are the escaped forms of the braces,</li>
+ * <li>placeholders without matching argument are kept as is,</li>
+ * <li>adjacent placeholders are all replaced ({@code {0}{0}} gives the first
+ * argument twice, {@code {}{}} the first two arguments), whereas up to 1.0.20
+ * the implementation of {@link StringUtils#inject(CharSequence, Object...)} skipped
+ * the second one when the injected value was shorter than the placeholder.</li>
+ * </ul>
+ * 
+ * <p>
+ * Injected values are never re-parsed. Compiled templates are immutable and
+ * thread-safe, the result of {@link #compile(CharSequence)} is cached.
+ * </p>
+ * 
+ * <pre>
+ * CompiledTemplate template = CompiledTemplate.compile("I'll go to the {1} this {}");
+ * template.render("afternoon", "beach"); // =&gt; "I'll go to the beach this afternoon"
+ * template.render("morning", "forest"); // =&gt; "I'll go to the forest this morning"
+ * template.renderTo(writer, "morning", "forest"); // writes "I'll go to the forest this morning"
+ * </pre>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public final class CompiledTemplate {
+
+    /**
+     * Default size of the buffer used to stream templates
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 8_192;
+
+    private static final char BRACE_OPEN = '{';
+    private static final char BRACE_CLOSE = '}';
+
+    /**
+     * Maximum number of digits in a positional index (avoid overflow)
+     */
+    private static final int MAX_INDEX_DIGITS = 9;
+
+    private static final int SHIFT_LEFT = 10;
+
+    private static final int CACHE_SIZE = 1_024;
+
+    /**
+     * Patterns longer than this size are compiled but not cached
+     */
+    private static final int CACHE_MAX_PATTERN_LENGTH = 4_096;
+
+    private static final BoundedCache<String, CompiledTemplate> CACHE = new BoundedCache<>(CACHE_SIZE);
+
+    private final String pattern;
+
+    /**
+     * All literal characters (escape sequences resolved) followed by the
+     * original text of each placeholder (used when no argument matches)
+     */
+    private final char[] text;
+
+    /**
+     * For each segment, the start position in {@link #text}
+     */
+    private final int[] starts;
+
+    /**
+     * For each segment, the end position in {@link #text} (exclusive)
+     */
+    private final int[] ends;
+
+    /**
+     * For each segment, the argument index or -1 for literals
+     */
+    private final int[] indexes;
+
+    /**
+     * The sum of literal segments length
+     */
+    private final int literalLength;
+
+    /**
+     * The highest argument index (-1 if no placeholder)
+     */
+    private final int maxIndex;
+
+    private CompiledTemplate(final String pattern, final char[] text, final int[] starts, final int[] ends,
+            final int[] indexes, final int literalLength, final int maxIndex) {
+        this.pattern = pattern;
+        this.text = text;
+        this.starts = starts;
+        this.ends = ends;
+        this.indexes = indexes;
+        this.literalLength = literalLength;
+        this.maxIndex = maxIndex;
+    }
+
+    /**
+     * Compile the pattern (the result is cached).
+     * 
+     * @param pattern
+     *            the template pattern (required, not null)
+     * @return the compiled template
+     * @throws NullPointerException
+     *             if {@code pattern} is {@code null}
+     */
+    public static CompiledTemplate compile(final CharSequence pattern) {
+        Objects.requireNonNull(pattern, "pattern");
+
+        final String key = pattern.toString();
+        if (key.length() > CACHE_MAX_PATTERN_LENGTH) {
+            return parse(key);
+        }
+        return CACHE.get(key, CompiledTemplate::parse);
+    }
+
+    private static CompiledTemplate parse(final String pattern) {
+        final Builder builder = new Builder(pattern.length());
+        try {
+            scan(pattern, 0, pattern.length(), 0, builder);
+        } catch (IOException e) {
+            // cannot happen, the builder doesn't write
+            throw new UncheckedIOException(e);
+        }
+        return builder.build(pattern);
+    }
+
+    /**
+     * Injects the arguments into the template read from the reader and writes
+     * the result into the output. The template is never fully loaded, it's
+     * processed by chunks (the buffer only grows on sequences exclusively made
+     * of braces and digits longer than the chunk).
+     * 
+     * @param reader
+     *            the template reader (required, not null, not closed)
+     * @param output
+     *            the output (required, not null, not flushed or closed)
+     * @param chunkSize
+     *            the size of the read buffer (strictly positive)
+     * @param arguments
+     *            the arguments to inject (may be null or empty)
+     * @param <A>
+     *            the output type
+     * @return the output
+     * @throws IOException
+     *             on read or write failure
+     */
+    public static <A extends Appendable> A stream(final Reader reader, final A output, final int chunkSize,
+            final Object... arguments) throws IOException {
+        Objects.requireNonNull(reader, "reader");
+        Objects.requireNonNull(output, "output");
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size must be greater than 0");
+        }
+
+        final DirectWriter handler = new DirectWriter(output, arguments);
+
+        char[] buffer = new char[chunkSize];
+        CharBuffer sequence = CharBuffer.wrap(buffer);
+        int length = 0;
+        int anonymous = 0;
+        int read;
+
+        while (true) {
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length << 1);
+                sequence = CharBuffer.wrap(buffer);
+            }
+            if ((read = reader.read(buffer, length, buffer.length - length)) < 0) {
+                break;
+            }
+            length += read;
+
+            // cut after the last character which cannot be part of a
+            // placeholder or of an escaped brace
+            int cut = length;
+            while (cut > 0 && isPlaceholderChar(buffer[cut - 1])) {
+                cut--;
+            }
+            if (cut > 0) {
+                anonymous = scan(sequence, 0, cut, anonymous, handler);
+                length -= cut;
+                System.arraycopy(buffer, cut, buffer, 0, length);
+            }
+        }
+        scan(sequence, 0, length, anonymous, handler);
+
+        return output;
+    }
+
+    private static boolean isPlaceholderChar(final char c) {
+        return c == BRACE_OPEN || c == BRACE_CLOSE || CharClass.DIGITS.contains(c);
+    }
+
+    /**
+     * Scan the text
+     * 
+     * @param text
+     *            the text
+     * @param from
+     *            the start position
+     * @param to
+     *            the end position (a brace run, or a placeholder cannot be
+     *            split at this position)
+     * @param anonymousStart
+     *            the index of the next anonymous placeholder
+     * @param handler
+     *            the handler called for each part
+     * @return the index of the next anonymous placeholder
+     * @throws IOException
+     *             if handler fails
+     */
+    private static int scan(final CharSequence text, final int from, final int to, final int anonymousStart,
+            final Handler handler) throws IOException {
+        int anonymous = anonymousStart;
+        int literalStart = from;
+        int i = from;
+        while (i < to) {
+            final char c = text.charAt(i);
+            if (c == BRACE_OPEN || c == BRACE_CLOSE) {
+                handler.literal(text, literalStart, i);
+
+                int run = 1;
+                while (i + run < to && text.charAt(i + run) == c) {
+                    run++;
+                }
+
+                // each doubled brace is an escaped brace
+                handler.brace(c, run >> 1);
+
+                final int last = i + run - 1;
+                i += run;
+
+                if ((run & 1) == 1) {
+                    int end;
+                    if (c == BRACE_OPEN && (end = findPlaceholderEnd(text, last + 1, to)) > -1) {
+                        int index = 0;
+                        if (end == last + 1) {
+                            index = anonymous++;
+                        } else {
+                            for (int d = last + 1; d < end; ++d) {
+                                index = index * SHIFT_LEFT + text.charAt(d) - AsciiUtils.NUM_FIRST;
+                            }
+                        }
+                        handler.placeholder(index, text, last, end + 1);
+                        i = end + 1;
+                    } else {
+                        handler.brace(c, 1);
+                    }
+                }
+                literalStart = i;
+            } else {
+                i++;
+            }
+        }
+        handler.literal(text, literalStart, to);
+        return anonymous;
+    }
+
+    /**
+     * Find the end of a placeholder: an optional positional index (no leading
+     * zero) followed by a single closing brace (not doubled).
+     * 
+     * @param text
+     *            the text
+     * @param from
+     *            the position just after the opening brace
+     * @param to
+     *            the end position
+     * @return the position of the closing brace or -1
+     */
+    private static int findPlaceholderEnd(final CharSequence text, final int from, final int to) {
+        int pos = from;
+        while (pos < to && pos - from <= MAX_INDEX_DIGITS && CharClass.DIGITS.contains(text.charAt(pos))) {
+            pos++;
+        }
+        final int digits = pos - from;
+        if (pos >= to || digits > MAX_INDEX_DIGITS || text.charAt(pos) != BRACE_CLOSE) {
+            return -1;
+        } else if (digits > 1 && text.charAt(from) == AsciiUtils.NUM_FIRST) {
+            return -1;
+        } else if (pos + 1 < to && text.charAt(pos + 1) == BRACE_CLOSE) {
+            return -1;
+        }
+        return pos;
+    }
+
+    /**
+     * @return the original pattern
+     */
+    public String getPattern() {
+        return this.pattern;
+    }
+
+    /**
+     * @return the number of arguments required to replace all placeholders
+     */
+    public int getArgumentsCount() {
+        return this.maxIndex + 1;
+    }
+
+    /**
+     * Injects the arguments into the template.
+     * 
+     * @param arguments
+     *            the arguments to inject (may be null or empty)
+     * @return the result with replacements
+     */
+    public String render(final Object... arguments) {
+        final int nbArguments = arguments == null ? 0 : arguments.length;
+        if (this.maxIndex < 0 || nbArguments == 0) {
+            return this.renderTo(new StringBuilder(this.text.length), arguments).toString();
+        }
+
+        // each argument is converted once, even if used several times
+        final String[] values = new String[Math.min(nbArguments, this.maxIndex + 1)];
+        int length = this.literalLength;
+        for (int s = 0; s < this.indexes.length; ++s) {
+            final int index = this.indexes[s];
+            if (index > -1) {
+                if (index < nbArguments) {
+                    if (values[index] == null) {
+                        values[index] = String.valueOf(arguments[index]);
+                    }
+                    length += values[index].length();
+                } else {
+                    length += this.ends[s] - this.starts[s];
+                }
+            }
+        }
+
+        final StringBuilder output = new StringBuilder(length);
+        for (int s = 0; s < this.indexes.length; ++s) {
+            final int index = this.indexes[s];
+            if (index > -1 && index < nbArguments) {
+                output.append(values[index]);
+            } else {
+                output.append(this.text, this.starts[s], this.ends[s] - this.starts[s]);
+            }
+        }
+        return output.toString();
+    }
+
+    /**
+     * Injects the arguments into the template and appends the result into the
+     * output.
+     * 
+     * @param output
+     *            the output (required, not null)
+     * @param arguments
+     *            the arguments to inject (may be null or empty)
+     * @return the output
+     */
+    public StringBuilder renderTo(final StringBuilder output, final Object... arguments) {
+        Objects.requireNonNull(output, "output");
+
+        final int nbArguments = arguments == null ? 0 : arguments.length;
+        for (int s = 0; s < this.indexes.length; ++s) {
+            final int index = this.indexes[s];
+            if (index > -1 && index < nbArguments) {
+                output.append(arguments[index]);
+            } else {
+                output.append(this.text, this.starts[s], this.ends[s] - this.starts[s]);
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Injects the arguments into the template and writes the result into the
+     * output (like a {@link java.io.Writer}, a {@link java.io.PrintStream} or
+     * a writer on a channel created by
+     * {@link java.nio.channels.Channels#newWriter}).
+     * 
+     * @param output
+     *            the output (required, not null, not flushed)
+     * @param arguments
+     *            the arguments to inject (may be null or empty)
+     * @param <A>
+     *            the output type
+     * @return the output
+     * @throws IOException
+     *             on write failure
+     */
+    public <A extends Appendable> A renderTo(final A output, final Object... arguments) throws IOException {
+        Objects.requireNonNull(output, "output");
+
+        final int nbArguments = arguments == null ? 0 : arguments.length;
+        for (int s = 0; s < this.indexes.length; ++s) {
+            final int index = this.indexes[s];
+            if (index > -1 && index < nbArguments) {
+                Appendables.append(output, arguments[index]);
+            } else {
+                Appendables.append(output, this.text, this.starts[s], this.ends[s]);
+            }
+        }
+        return output;
+    }
+
+    @Override
+    public String toString() {
+        return this.pattern;
+    }
+
+    /**
+     * Receive the scanned parts
+     */
+    private interface Handler {
+
+        void literal(CharSequence text, int start, int end) throws IOException;
+
+        void brace(char brace, int count) throws IOException;
+
+        void placeholder(int index, CharSequence text, int start, int end) throws IOException;
+    }
+
+    /**
+     * Direct writer, the parts are written as soon as they are scanned
+     */
+    private static final class DirectWriter implements Handler {
+
+        private final Appendable output;
+        private final Object[] arguments;
+        private final int nbArguments;
+
+        private DirectWriter(final Appendable output, final Object[] arguments) {
+            this.output = output;
+            this.arguments = arguments;
+            this.nbArguments = arguments == null ? 0 : arguments.length;
+        }
+
+        @Override
+        public void literal(final CharSequence text, final int start, final int end) throws IOException {
+            Appendables.append(this.output, text, start, end);
+        }
+
+        @Override
+        public void brace(final char brace, final int count) throws IOException {
+            for (int i = 0; i < count; ++i) {
+                this.output.append(brace);
+            }
+        }
+
+        @Override
+        public void placeholder(final int index, final CharSequence text, final int start, final int end)
+                throws IOException {
+            if (index < this.nbArguments) {
+                Appendables.append(this.output, this.arguments[index]);
+            } else {
+                Appendables.append(this.output, text, start, end);
+            }
+        }
+    }
+
+    /**
+     * Accumulate segments (adjacent literal segments are merged)
+     */
+    private static final class Builder implements Handler {
+
+        private final char[] literals;
+        private final char[] sources;
+        private int literalPos;
+        private int sourcePos;
+
+        private int[] starts;
+        private int[] ends;
+        private int[] indexes;
+        private int size;
+        private int literalEnd;
+        private int maxIndex = -1;
+
+        private Builder(final int length) {
+            // literal characters are written from the start of the first
+            // buffer, placeholder sources are written from the end of the
+            // second one (both cannot exceed the pattern length)
+            this.literals = new char[length];
+            this.sources = new char[length];
+            this.sourcePos = length;
+
+            final int initial = Math.max(1, Math.min(length, 16));
+            this.starts = new int[initial];
+            this.ends = new int[initial];
+            this.indexes = new int[initial];
+        }
+
+        @Override
+        public void literal(final CharSequence text, final int start, final int end) {
+            for (int i = start; i < end; ++i) {
+                this.literals[this.literalPos++] = text.charAt(i);
+            }
+        }
+
+        @Override
+        public void brace(final char brace, final int count) {
+            for (int i = 0; i < count; ++i) {
+                this.literals[this.literalPos++] = brace;
+            }
+        }
+
+        @Override
+        public void placeholder(final int index, final CharSequence text, final int start, final int end) {
+            this.flushLiterals();
+
+            final int sourceLength = end - start;
+            this.sourcePos -= sourceLength;
+            for (int i = 0; i < sourceLength; ++i) {
+                this.sources[this.sourcePos + i] = text.charAt(start + i);
+            }
+            this.push(this.sourcePos, this.sourcePos + sourceLength, index);
+            this.maxIndex = Math.max(this.maxIndex, index);
+        }
+
+        private void flushLiterals() {
+            if (this.literalPos > this.literalEnd) {
+                this.push(this.literalEnd, this.literalPos, -1);
+                this.literalEnd = this.literalPos;
+            }
+        }
+
+        private void push(final int start, final int end, final int index) {
+            if (this.size == this.indexes.length) {
+                final int capacity = this.size << 1;
+                this.starts = Arrays.copyOf(this.starts, capacity);
+                this.ends = Arrays.copyOf(this.ends, capacity);
+                this.indexes = Arrays.copyOf(this.indexes, capacity);
+            }
+            this.starts[this.size] = start;
+            this.ends[this.size] = end;
+            this.indexes[this.size] = index;
+            this.size++;
+        }
+
+        private CompiledTemplate build(final String pattern) {
+            this.flushLiterals();
+
+            final int sourceLength = this.sources.length - this.sourcePos;
+
+            // literals then placeholder sources in one array
+            final char[] text = Arrays.copyOf(this.literals, this.literalPos + sourceLength);
+            System.arraycopy(this.sources, this.sourcePos, text, this.literalPos, sourceLength);
+
+            final int shift = this.literalPos - this.sourcePos;
+            for (int s = 0; s < this.size; ++s) {
+                if (this.indexes[s] > -1) {
+                    this.starts[s] += shift;
+                    this.ends[s] += shift;
+                }
+            }
+
+            return new CompiledTemplate(pattern, text, Arrays.copyOf(this.starts, this.size),
+                    Arrays.copyOf(this.ends, this.size), Arrays.copyOf(this.indexes, this.size), this.literalPos,
+                    this.maxIndex);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.math.BigInteger;
+
+/**
+ * Correctly rounded conversion of a decimal number (mantissa and power of
+ * ten) into a double or a float, through the Eisel-Lemire algorithm: the
+ * mantissa is multiplied by a 128 bits truncated power of five, the
+ * approximation is kept only if the rounding can be decided from it (nearly
+ * always), otherwise {@link Double#NaN} is returned and the caller falls back
+ * on the JDK parser.
+ * 
+ * <p>
+ * The results are bit for bit identical to {@link Double#parseDouble(String)}
+ * and {@link Float#parseFloat(String)}.
+ * </p>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+final class DecimalToBinary {
+
+    private static final int SMALLEST_POWER_OF_FIVE = -342;
+    private static final int LARGEST_POWER_OF_FIVE = 308;
+
+    /**
+     * For each power of five (from {@link #SMALLEST_POWER_OF_FIVE}), the 128
+     * bits normalized approximation (high, then low 64 bits)
+     */
+    private static final long[] POWERS_OF_FIVE = new long[2 * (LARGEST_POWER_OF_FIVE - SMALLEST_POWER_OF_FIVE + 1)];
+
+    private static final int DOUBLE_MANTISSA_BITS = 52;
+    private static final int DOUBLE_MINIMUM_EXPONENT = -1023;
+    private static final int DOUBLE_INFINITE_POWER = 0x7FF;
+    private static final int DOUBLE_SMALLEST_POWER = -342;
+    private static final int DOUBLE_LARGEST_POWER = 308;
+    private static final int DOUBLE_MIN_ROUND_TO_EVEN = -4;
+    private static final int DOUBLE_MAX_ROUND_TO_EVEN = 23;
+
+    private static final int FLOAT_MANTISSA_BITS = 23;
+    private static final int FLOAT_MINIMUM_EXPONENT = -127;
+    private static final int FLOAT_INFINITE_POWER = 0xFF;
+    private static final int FLOAT_SMALLEST_POWER = -65;
+    private static final int FLOAT_LARGEST_POWER = 38;
+    private static final int FLOAT_MIN_ROUND_TO_EVEN = -17;
+    private static final int FLOAT_MAX_ROUND_TO_EVEN = 10;
+
+    /**
+     * Exponents where the 128 bits approximation is always exact enough
+     */
+    private static final int MIN_SAFE_EXPONENT = -27;
+    private static final int MAX_SAFE_EXPONENT = 55;
+
+    private static final long MASK_32 = 0xFFFF_FFFFL;
+    private static final long UNDECIDED = -1;
+
+    static {
+        final BigInteger two128 = BigInteger.ONE.shiftLeft(128);
+        final BigInteger five = BigInteger.valueOf(5);
+        int index = 0;
+        for (int q = SMALLEST_POWER_OF_FIVE; q <= LARGEST_POWER_OF_FIVE; ++q) {
+            BigInteger power;
+            if (q < 0) {
+                // rounded up reciprocal
+                final BigInteger power5 = five.pow(-q);
+                final int z = power5.subtract(BigInteger.ONE).bitLength();
+                final int b = q >= MIN_SAFE_EXPONENT ? z + 127 : 2 * z + 128;
+                power = BigInteger.ONE.shiftLeft(b).divide(power5).add(BigInteger.ONE);
+                while (power.compareTo(two128) >= 0) {
+                    power = power.shiftRight(1);
+                }
+            } else {
+                // truncated, the most significant bit at the position 127
+                power = five.pow(q);
+                power = power.bitLength() < 128 ? power.shiftLeft(128 - power.bitLength()) : power.shiftRight(power.bitLength() - 128);
+            }
+            POWERS_OF_FIVE[index++] = power.shiftRight(64).longValue();
+            POWERS_OF_FIVE[index++] = power.longValue();
+        }
+    }
+
+    private DecimalToBinary() {
+    }
+
+    /**
+     * Convert the decimal number into a double
+     * 
+     * @param negative
+     *            if negative
+     * @param mantissa
+     *            the decimal mantissa (unsigned, up to 19 digits)
+     * @param exponent
+     *            the power of ten
+     * @return the double or {@link Double#NaN} if the conversion cannot be
+     *         decided
+     */
+    static double toDouble(final boolean negative, final long mantissa, final int exponent) {
+        final long bits = compute(mantissa, exponent, DOUBLE_MANTISSA_BITS, DOUBLE_MINIMUM_EXPONENT, DOUBLE_INFINITE_POWER,
+                DOUBLE_SMALLEST_POWER, DOUBLE_LARGEST_POWER, DOUBLE_MIN_ROUND_TO_EVEN, DOUBLE_MAX_ROUND_TO_EVEN);
+        if (bits == UNDECIDED) {
+            return Double.NaN;
+        }
+        return Double.longBitsToDouble(negative ? bits | Long.MIN_VALUE : bits);
+    }
+
+    /**
+     * Convert the decimal number into a float
+     * 
+     * @param negative
+     *            if negative
+     * @param mantissa
+     *            the decimal mantissa (unsigned, up to 19 digits)
+     * @param exponent
+     *            the power of ten
+     * @return the float or {@link Float#NaN} if the conversion cannot be
+     *         decided
+     */
+    static float toFloat(final boolean negative, final long mantissa, final int exponent) {
+        final long bits = compute(mantissa, exponent, FLOAT_MANTISSA_BITS, FLOAT_MINIMUM_EXPONENT, FLOAT_INFINITE_POWER,
+                FLOAT_SMALLEST_POWER, FLOAT_LARGEST_POWER, FLOAT_MIN_ROUND_TO_EVEN, FLOAT_MAX_ROUND_TO_EVEN);
+        if (bits == UNDECIDED) {
+            return Float.NaN;
+        }
+        return Float.intBitsToFloat(negative ? (int) bits | Integer.MIN_VALUE : (int) bits);
+    }
+
+    /**
+     * Compute the bits of the binary number (without the sign)
+     * 
+     * @return the bits or {@link #UNDECIDED}
+     */
+    private static long compute(final long mantissa, final int exponent, final int mantissaBits, final int minimumExponent,
+            final int infinitePower, final int smallestPower, final int largestPower, final int minRoundToEven,
+            final int maxRoundToEven) {
+        if (mantissa == 0 || exponent < smallestPower) {
+            return 0;
+        } else if (exponent > largestPower) {
+            return (long) infinitePower << mantissaBits;
+        }
+
+        final int leadingZeros = Long.numberOfLeadingZeros(mantissa);
+        final long w = mantissa << leadingZeros;
+
+        // product of the normalized mantissa by the power of five, only the
+        // bits required for the rounding are computed exactly
+        final int index = 2 * (exponent - SMALLEST_POWER_OF_FIVE);
+        long high = multiplyHigh(w, POWERS_OF_FIVE[index]);
+        long low = w * POWERS_OF_FIVE[index];
+        final long precisionMask = -1L >>> (mantissaBits + 3);
+        if ((high & precisionMask) == precisionMask) {
+            final long secondHigh = multiplyHigh(w, POWERS_OF_FIVE[index + 1]);
+            low += secondHigh;
+            if (Long.compareUnsigned(secondHigh, low) > 0) {
+                ++high;
+            }
+        }
+        if (low == -1L && (exponent < MIN_SAFE_EXPONENT || exponent > MAX_SAFE_EXPONENT)) {
+            return UNDECIDED;
+        }
+
+        final int upperBit = (int) (high >>> 63);
+        final int shift = upperBit + 64 - mantissaBits - 3;
+        long bits = high >>> shift;
+        int power2 = (((152_170 + 65_536) * exponent) >> 16) + 63 + upperBit - leadingZeros - minimumExponent;
+
+        if (power2 <= 0) {
+            // subnormal
+            if (-power2 + 1 >= 64) {
+                return 0;
+            }
+            bits >>>= -power2 + 1;
+            bits += bits & 1;
+            // if rounded up to the smallest normal number, the carry sets the
+            // exponent bit
+            return bits >>> 1;
+        }
+
+        // exactly halfway, round to even (only if the power of five is exact)
+        if ((low == 0 || low == 1) && exponent >= minRoundToEven && exponent <= maxRoundToEven && (bits & 3) == 1
+                && bits << shift == high) {
+            bits &= ~1L;
+        }
+        bits += bits & 1;
+        bits >>>= 1;
+        if (bits >= 2L << mantissaBits) {
+            bits = 1L << mantissaBits;
+            ++power2;
+        }
+        bits &= ~(1L << mantissaBits);
+        if (power2 >= infinitePower) {
+            return (long) infinitePower << mantissaBits;
+        }
+        return bits | (long) power2 << mantissaBits;
+    }
+
+    /**
+     * @return the high 64 bits of the unsigned 128 bits product
+     */
+    private static long multiplyHigh(final long x, final long y) {
+        final long x0 = x & MASK_32;
+        final long x1 = x >>> 32;
+        final long y0 = y & MASK_32;
+        final long y1 = y >>> 32;
+        final long p01 = x0 * y1;
+        final long middle = x1 * y0 + ((x0 * y0) >>> 32) + (p01 & MASK_32);
+        return x1 * y1 + (middle >>> 32) + (p01 >>> 32);
+    }
+}
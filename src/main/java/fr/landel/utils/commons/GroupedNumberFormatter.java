@@ -0,0 +1,484 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Immutable and thread-safe grouped decimal formatter, same output as
+ * {@link DecimalFormat#format(Object)} with the pattern
+ * {@code "###,###,###,###,###,###.###"} (groups of 3 digits, at most N
+ * fraction digits without trailing zeros, rounded half even), without lock.
+ * The digits are written directly into the output builder, only the rare
+ * doubles close to a rounding tie (or with a precision close to the last
+ * digit) are formatted by a per-thread {@link DecimalFormat}.
+ *
+ * <pre>
+ * GroupedNumberFormatter formatter = GroupedNumberFormatter.of(Locale.US, 3);
+ * formatter.format(126123.1246); // =&gt; "126,123.125"
+ * formatter.format(-1234567L); // =&gt; "-1,234,567"
+ * formatter.format(new BigDecimal("0.5")); // =&gt; "0.5"
+ * formatter.format(1234.5, builder); // appends "1,234.5" to the builder
+ * </pre>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public final class GroupedNumberFormatter {
+
+    /**
+     * The maximum number of fraction digits
+     */
+    public static final int MAX_FRACTION_DIGITS = 9;
+
+    private static final String PATTERN = "###,###,###,###,###,###.###";
+    private static final int GROUPING_SIZE = 3;
+
+    /**
+     * The maximum length of a formatted long or double: 19 digits, 6
+     * grouping separators, the decimal separator and the fraction digits
+     */
+    private static final int BUFFER_SIZE = 36;
+
+    private static final int TEN = 10;
+    private static final int HALF = 5;
+
+    /**
+     * Over this scaled ulp, the rounding interval can contain several
+     * decimals with one more digit (the value is formatted from its
+     * shortest representation)
+     */
+    private static final double MAX_SCALED_ULP = 0.25;
+
+    /**
+     * Maximum error of the scaled fraction, added to the scaled ulp (the
+     * product by the scale is rounded, so up to half an ulp of the scaled
+     * fraction, far under 2<sup>-53</sup> x 10<sup>10</sup>)
+     */
+    private static final double SCALED_ERROR = 1e-5;
+
+    /**
+     * Number of values of a group of digits
+     */
+    private static final int GROUP = 1_000;
+
+    /**
+     * The ASCII digits of each group value (from "000" to "999")
+     */
+    private static final char[] GROUPS = new char[GROUP * GROUPING_SIZE];
+
+    static {
+        for (int i = 0; i < GROUP; ++i) {
+            GROUPS[i * GROUPING_SIZE] = (char) ('0' + i / (TEN * TEN));
+            GROUPS[i * GROUPING_SIZE + 1] = (char) ('0' + i / TEN % TEN);
+            GROUPS[i * GROUPING_SIZE + 2] = (char) ('0' + i % TEN);
+        }
+    }
+
+    private final int maximumFractionDigits;
+    private final long scale;
+    private final char zeroDigit;
+
+    /**
+     * Offset from the ASCII digits to the locale digits
+     */
+    private final int zeroOffset;
+
+    private final char groupingSeparator;
+    private final char decimalSeparator;
+    private final String negativePrefix;
+    private final String nan;
+    private final String infinity;
+
+    /**
+     * Per-thread decimal format, only used for the rare doubles not
+     * formatted directly
+     */
+    private final ThreadLocal<DecimalFormat> fallback;
+
+    private GroupedNumberFormatter(final DecimalFormatSymbols symbols, final int maximumFractionDigits) {
+        this.maximumFractionDigits = maximumFractionDigits;
+        long power = 1;
+        for (int i = 0; i < maximumFractionDigits; ++i) {
+            power *= TEN;
+        }
+        this.scale = power;
+        this.zeroDigit = symbols.getZeroDigit();
+        this.zeroOffset = this.zeroDigit - '0';
+        this.groupingSeparator = symbols.getGroupingSeparator();
+        this.decimalSeparator = symbols.getDecimalSeparator();
+        this.negativePrefix = new DecimalFormat(PATTERN, symbols).getNegativePrefix();
+        this.nan = symbols.getNaN();
+        this.infinity = symbols.getInfinity();
+        this.fallback = ThreadLocal.withInitial(() -> {
+            final DecimalFormat format = new DecimalFormat(PATTERN, symbols);
+            format.setMaximumFractionDigits(maximumFractionDigits);
+            return format;
+        });
+    }
+
+    /**
+     * Create a formatter with the symbols of the default format locale
+     *
+     * @param maximumFractionDigits
+     *            the maximum number of fraction digits (between 0 and
+     *            {@link #MAX_FRACTION_DIGITS})
+     * @return the formatter
+     * @throws IllegalArgumentException
+     *             if the number of fraction digits is out of range
+     */
+    public static GroupedNumberFormatter of(final int maximumFractionDigits) {
+        return of(Locale.getDefault(Locale.Category.FORMAT), maximumFractionDigits);
+    }
+
+    /**
+     * Create a formatter with the symbols of the locale
+     *
+     * @param locale
+     *            the locale
+     * @param maximumFractionDigits
+     *            the maximum number of fraction digits (between 0 and
+     *            {@link #MAX_FRACTION_DIGITS})
+     * @return the formatter
+     * @throws NullPointerException
+     *             if locale is {@code null}
+     * @throws IllegalArgumentException
+     *             if the number of fraction digits is out of range
+     */
+    public static GroupedNumberFormatter of(final Locale locale, final int maximumFractionDigits) {
+        Objects.requireNonNull(locale, "locale");
+        if (maximumFractionDigits < 0 || maximumFractionDigits > MAX_FRACTION_DIGITS) {
+            throw new IllegalArgumentException("The maximum number of fraction digits must be between 0 and " + MAX_FRACTION_DIGITS);
+        }
+        return new GroupedNumberFormatter(DecimalFormatSymbols.getInstance(locale), maximumFractionDigits);
+    }
+
+    /**
+     * Format the number (the integral types, {@link BigInteger} and
+     * {@link BigDecimal} are formatted exactly, the other numbers as double)
+     *
+     * @param number
+     *            the number
+     * @return the formatted number
+     * @throws IllegalArgumentException
+     *             if number is {@code null}
+     */
+    public String format(final Number number) {
+        return this.format(number, new StringBuilder()).toString();
+    }
+
+    /**
+     * Format the number into the output
+     *
+     * @param number
+     *            the number
+     * @param output
+     *            the output builder
+     * @return the output
+     * @throws IllegalArgumentException
+     *             if number is {@code null}
+     * @throws NullPointerException
+     *             if output is {@code null}
+     */
+    public StringBuilder format(final Number number, final StringBuilder output) {
+        Objects.requireNonNull(output, "output");
+
+        if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte
+                || number instanceof AtomicLong || number instanceof AtomicInteger) {
+            return this.format(number.longValue(), output);
+        } else if (number instanceof BigDecimal) {
+            return this.format((BigDecimal) number, output);
+        } else if (number instanceof BigInteger) {
+            return this.format((BigInteger) number, output);
+        } else if (number == null) {
+            throw new IllegalArgumentException("Cannot format a null number");
+        }
+        return this.format(number.doubleValue(), output);
+    }
+
+    /**
+     * Format the number into the appendable
+     *
+     * @param output
+     *            the output
+     * @param number
+     *            the number
+     * @param <A>
+     *            the output type
+     * @return the output
+     * @throws IllegalArgumentException
+     *             if number is {@code null}
+     * @throws NullPointerException
+     *             if output is {@code null}
+     * @throws IOException
+     *             on write failure
+     */
+    public <A extends Appendable> A formatTo(final A output, final Number number) throws IOException {
+        Objects.requireNonNull(output, "output");
+
+        if (output instanceof StringBuilder) {
+            this.format(number, (StringBuilder) output);
+        } else {
+            output.append(this.format(number, new StringBuilder()));
+        }
+        return output;
+    }
+
+    /**
+     * Format the number into the output
+     *
+     * @param number
+     *            the number
+     * @param output
+     *            the output builder
+     * @return the output
+     * @throws NullPointerException
+     *             if output is {@code null}
+     */
+    public StringBuilder format(final long number, final StringBuilder output) {
+        if (number < 0) {
+            output.append(this.negativePrefix);
+            this.append(output, number, 0);
+        } else {
+            this.append(output, -number, 0);
+        }
+        return output;
+    }
+
+    /**
+     * Format the number into the output
+     *
+     * @param number
+     *            the number
+     * @param output
+     *            the output builder
+     * @return the output
+     * @throws NullPointerException
+     *             if output is {@code null}
+     */
+    public StringBuilder format(final double number, final StringBuilder output) {
+        Objects.requireNonNull(output, "output");
+
+        if (Double.isNaN(number)) {
+            return output.append(this.nan);
+        }
+        // like DecimalFormat, the sign of negative zeros is kept
+        if (Double.doubleToRawLongBits(number) < 0) {
+            output.append(this.negativePrefix);
+        }
+        final double absolute = Math.abs(number);
+        if (Double.isInfinite(number)) {
+            return output.append(this.infinity);
+        }
+
+        // the rounding interval of the value (half an ulp around) and the
+        // fraction are scaled, the unit is a tenth of the last digit
+        final double ulp = Math.ulp(absolute) * this.scale * TEN;
+        if (ulp > MAX_SCALED_ULP) {
+            return this.appendDecimal(output, absolute);
+        }
+        long integral = (long) absolute;
+        final double scaled = (absolute - integral) * this.scale * TEN;
+        final double nearest = Math.rint(scaled);
+        final long units;
+        if (Math.abs(scaled - nearest) > ulp + SCALED_ERROR) {
+            // no decimal with one more digit is in the interval, the exact
+            // value and the shortest representation are rounded alike
+            units = (long) scaled;
+        } else if ((long) nearest % TEN == HALF) {
+            // the shortest representation is a tie
+            return this.appendDecimal(output, absolute);
+        } else {
+            units = (long) nearest;
+        }
+        long fraction = units / TEN;
+        if (units % TEN >= HALF) {
+            ++fraction;
+        }
+        // the nearest scaled fraction can also be the next integer
+        if (fraction == this.scale) {
+            ++integral;
+            fraction = 0;
+        }
+        this.append(output, -integral, fraction);
+        return output;
+    }
+
+    /**
+     * Format the number into the output
+     *
+     * @param number
+     *            the number
+     * @param output
+     *            the output builder
+     * @return the output
+     * @throws NullPointerException
+     *             if number or output is {@code null}
+     */
+    public StringBuilder format(final BigDecimal number, final StringBuilder output) {
+        Objects.requireNonNull(output, "output");
+
+        if (number.signum() < 0) {
+            output.append(this.negativePrefix);
+        }
+        return this.appendDecimal(output, number.abs());
+    }
+
+    /**
+     * Format the number into the output
+     *
+     * @param number
+     *            the number
+     * @param output
+     *            the output builder
+     * @return the output
+     * @throws NullPointerException
+     *             if number or output is {@code null}
+     */
+    public StringBuilder format(final BigInteger number, final StringBuilder output) {
+        Objects.requireNonNull(output, "output");
+
+        if (number.bitLength() < Long.SIZE) {
+            return this.format(number.longValue(), output);
+        } else if (number.signum() < 0) {
+            output.append(this.negativePrefix);
+        }
+        final String digits = number.abs().toString();
+        this.appendDigits(output, digits, digits.length());
+        return output;
+    }
+
+    /**
+     * Append the integral part, from its negative form (to support
+     * {@link Long#MIN_VALUE}), and the fraction digits without the trailing
+     * zeros (nothing if the fraction is zero). The chars are written from
+     * right to left in a local buffer, then appended at once.
+     */
+    private void append(final StringBuilder output, final long negated, final long fraction) {
+        final char[] buffer = new char[BUFFER_SIZE];
+        int position = BUFFER_SIZE;
+
+        if (fraction != 0) {
+            long n = fraction;
+            int length = this.maximumFractionDigits;
+            while (n % TEN == 0) {
+                n /= TEN;
+                --length;
+            }
+            for (int i = 0; i < length; ++i) {
+                buffer[--position] = (char) ('0' + this.zeroOffset + n % TEN);
+                n /= TEN;
+            }
+            buffer[--position] = this.decimalSeparator;
+        }
+
+        // one division per group of digits
+        long n = negated;
+        while (n <= -GROUP) {
+            final int digits = (int) -(n % GROUP) * GROUPING_SIZE;
+            n /= GROUP;
+            position -= GROUPING_SIZE;
+            buffer[position] = (char) (GROUPS[digits] + this.zeroOffset);
+            buffer[position + 1] = (char) (GROUPS[digits + 1] + this.zeroOffset);
+            buffer[position + 2] = (char) (GROUPS[digits + 2] + this.zeroOffset);
+            buffer[--position] = this.groupingSeparator;
+        }
+        final int first = (int) -n;
+        final int digits = first * GROUPING_SIZE;
+        buffer[--position] = (char) (GROUPS[digits + 2] + this.zeroOffset);
+        if (first >= TEN) {
+            buffer[--position] = (char) (GROUPS[digits + 1] + this.zeroOffset);
+            if (first >= TEN * TEN) {
+                buffer[--position] = (char) (GROUPS[digits] + this.zeroOffset);
+            }
+        }
+        output.append(buffer, position, BUFFER_SIZE - position);
+    }
+
+    /**
+     * Append the positive double with the thread's decimal format (the
+     * rounding of the ties depends on the binary to decimal conversion of
+     * the JDK). The number is formatted as an object, through the general
+     * digit list, like the shared format previously used by the
+     * {@code ToStringBuilder} (the fast path of
+     * {@link DecimalFormat#format(double)} rounds some ties differently, like
+     * 0.0005 to "0.001" instead of "0")
+     */
+    private StringBuilder appendDecimal(final StringBuilder output, final double absolute) {
+        return output.append(this.fallback.get().format((Object) absolute));
+    }
+
+    /**
+     * Append the positive decimal, rounded half even
+     */
+    private StringBuilder appendDecimal(final StringBuilder output, final BigDecimal number) {
+        final BigDecimal rounded = number.setScale(this.maximumFractionDigits, RoundingMode.HALF_EVEN);
+        final String digits = rounded.unscaledValue().toString();
+        final int integers = digits.length() - this.maximumFractionDigits;
+        if (integers > 0) {
+            this.appendDigits(output, digits, integers);
+        } else {
+            output.append(this.zeroDigit);
+        }
+
+        int end = digits.length();
+        while (end > 0 && end > integers && digits.charAt(end - 1) == '0') {
+            --end;
+        }
+        if (end > Math.max(integers, 0)) {
+            output.append(this.decimalSeparator);
+            for (int i = integers; i < end; ++i) {
+                output.append(i < 0 ? this.zeroDigit : this.toDigit(digits.charAt(i)));
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Append the ASCII digits with the grouping separators
+     */
+    private void appendDigits(final StringBuilder output, final String digits, final int length) {
+        for (int i = 0; i < length; ++i) {
+            output.append(this.toDigit(digits.charAt(i)));
+            if (i != length - 1 && (length - i) % GROUPING_SIZE == 1) {
+                output.append(this.groupingSeparator);
+            }
+        }
+    }
+
+    private char toDigit(final char digit) {
+        return (char) (this.zeroDigit + digit - '0');
+    }
+
+    @Override
+    public String toString() {
+        return "grouped decimal (max fraction digits: " + this.maximumFractionDigits + ")";
+    }
+}
@@ -0,0 +1,710 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.apache.commons.lang3.builder.Builder;
+
+/**
+ * Hexdump formatter. Each line contains the offset (hexadecimal, at least 8
+ * digits), the bytes (hexadecimal, optionally grouped) and the ASCII column
+ * (the non printable chars, see {@link CharClass#PRINTABLE}, are replaced
+ * by '.'). A line identical to the previous one is replaced by a single
+ * {@code *} line (until a different line) and the offset after the last byte
+ * ends the dump. The default layout is the canonical one of
+ * {@code hexdump -C}.
+ *
+ * <pre>
+ * HexDump.CANONICAL.format("Hello, hexdump!\n".getBytes(StandardCharsets.US_ASCII));
+ * // =&gt; "00000000  48 65 6c 6c 6f 2c 20 68  65 78 64 75 6d 70 21 0a  |Hello, hexdump!.|\n"
+ * // + "00000010\n"
+ *
+ * HexDump.CANONICAL.format(new byte[40]);
+ * // =&gt; "00000000  00 00 00 00 00 00 00 00  00 00 00 00 00 00 00 00  |................|\n"
+ * // + "*\n"
+ * // + "00000020  00 00 00 00 00 00 00 00                           |........|\n"
+ * // + "00000028\n"
+ *
+ * HexDump.builder().bytesPerLine(8).groupSize(0).ascii(false).build().formatTo(writer, path);
+ * </pre>
+ *
+ * <p>
+ * The input is formatted by chunks (the lines are built into a local buffer,
+ * then appended to the output), the files are memory-mapped. Immutable and
+ * thread-safe.
+ * </p>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public final class HexDump {
+
+    /**
+     * The canonical layout: offset, 16 bytes per line by groups of 8, ASCII
+     * column, lower case
+     */
+    public static final HexDump CANONICAL = builder().build();
+
+    private static final int DEFAULT_BYTES_PER_LINE = 16;
+    private static final int DEFAULT_GROUP_SIZE = 8;
+    private static final int OFFSET_DIGITS = 8;
+    private static final int MAX_OFFSET_DIGITS = 16;
+    private static final int NIBBLE_SIZE = 4;
+    private static final int NIBBLE_MASK = 0xF;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int BYTE_COLUMNS = 3;
+    private static final char SEPARATOR = '|';
+    private static final char NON_PRINTABLE = '.';
+    private static final char SQUEEZED = '*';
+    private static final char NEW_LINE = '\n';
+
+    /**
+     * Number of lines per chunk (formatted before being appended)
+     */
+    private static final int CHUNK_LINES = 256;
+
+    /**
+     * Size of the mapped windows of files
+     */
+    private static final long MAPPING_SIZE = 1L << 26;
+
+    /**
+     * For each byte value (unsigned), the char of the ASCII column
+     */
+    private static final char[] ASCII = new char[BYTE_MASK + 1];
+
+    static {
+        for (int i = 0; i <= BYTE_MASK; ++i) {
+            ASCII[i] = CharClass.PRINTABLE.test(i) ? (char) i : NON_PRINTABLE;
+        }
+    }
+
+    private final int bytesPerLine;
+    private final int groupSize;
+    private final boolean offset;
+    private final long startOffset;
+    private final boolean ascii;
+    private final boolean upperCase;
+    private final boolean squeeze;
+    private final boolean endOffset;
+
+    /**
+     * The position of each byte in a line (after the offset)
+     */
+    private final int[] columns;
+
+    /**
+     * The position of the ASCII column first separator
+     */
+    private final int asciiColumn;
+
+    /**
+     * A full line (after the offset), with spaces instead of the bytes
+     */
+    private final char[] template;
+
+    private HexDump(final HexDumpBuilder builder) {
+        this.bytesPerLine = builder.bytesPerLine;
+        this.groupSize = builder.groupSize;
+        this.offset = builder.offset;
+        this.startOffset = builder.startOffset;
+        this.ascii = builder.ascii;
+        this.upperCase = builder.upperCase;
+        this.squeeze = builder.squeeze;
+        this.endOffset = builder.endOffset;
+
+        final int start = this.offset ? 2 : 0;
+        this.columns = new int[this.bytesPerLine];
+        for (int i = 0; i < this.bytesPerLine; ++i) {
+            this.columns[i] = start + i * BYTE_COLUMNS + (this.groupSize > 0 ? i / this.groupSize : 0);
+        }
+        final int groups = this.groupSize > 0 ? (this.bytesPerLine + this.groupSize - 1) / this.groupSize : 1;
+        this.asciiColumn = start + this.bytesPerLine * BYTE_COLUMNS + groups;
+
+        this.template = new char[this.lineLength(this.bytesPerLine)];
+        Arrays.fill(this.template, ' ');
+        if (this.ascii) {
+            this.template[this.asciiColumn] = SEPARATOR;
+            this.template[this.asciiColumn + this.bytesPerLine + 1] = SEPARATOR;
+        }
+        this.template[this.template.length - 1] = NEW_LINE;
+    }
+
+    /**
+     * Create a builder (with the canonical layout)
+     *
+     * @return the builder
+     */
+    public static HexDumpBuilder builder() {
+        return new HexDumpBuilder();
+    }
+
+    /**
+     * Format the bytes
+     *
+     * @param bytes
+     *            the bytes
+     * @return the dump (empty if no byte)
+     * @throws NullPointerException
+     *             if bytes is {@code null}
+     */
+    public String format(final byte[] bytes) {
+        return this.format(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Format the range of bytes (the first offset is the start offset of the
+     * layout, not the range offset)
+     *
+     * @param bytes
+     *            the bytes
+     * @param offset
+     *            the range offset
+     * @param length
+     *            the range length
+     * @return the dump (empty if no byte)
+     * @throws NullPointerException
+     *             if bytes is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the array
+     */
+    public String format(final byte[] bytes, final int offset, final int length) {
+        try {
+            return this.formatTo(new StringBuilder(), bytes, offset, length).toString();
+        } catch (IOException e) {
+            // never thrown by a string builder
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Format the remaining bytes of the buffer (heap, direct or mapped), the
+     * buffer position is moved to its limit
+     *
+     * @param buffer
+     *            the buffer
+     * @return the dump (empty if no byte)
+     * @throws NullPointerException
+     *             if buffer is {@code null}
+     */
+    public String format(final ByteBuffer buffer) {
+        try {
+            return this.formatTo(new StringBuilder(), buffer).toString();
+        } catch (IOException e) {
+            // never thrown by a string builder
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Format the range of bytes into the output
+     *
+     * @param output
+     *            the output
+     * @param bytes
+     *            the bytes
+     * @param offset
+     *            the range offset
+     * @param length
+     *            the range length
+     * @param <A>
+     *            the output type
+     * @return the output
+     * @throws NullPointerException
+     *             if output or bytes is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the array
+     * @throws IOException
+     *             on write failure
+     */
+    public <A extends Appendable> A formatTo(final A output, final byte[] bytes, final int offset, final int length)
+            throws IOException {
+        Objects.requireNonNull(output, "output");
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", size: " + bytes.length);
+        }
+
+        final Lines lines = new Lines(output);
+        lines.write(bytes, offset, length);
+        lines.end();
+        return output;
+    }
+
+    /**
+     * Format the remaining bytes of the buffer (heap, direct or mapped) into
+     * the output, the buffer position is moved to its limit
+     *
+     * @param output
+     *            the output
+     * @param buffer
+     *            the buffer
+     * @param <A>
+     *            the output type
+     * @return the output
+     * @throws NullPointerException
+     *             if output or buffer is {@code null}
+     * @throws IOException
+     *             on write failure
+     */
+    public <A extends Appendable> A formatTo(final A output, final ByteBuffer buffer) throws IOException {
+        Objects.requireNonNull(output, "output");
+
+        final Lines lines = new Lines(output);
+        lines.write(buffer);
+        lines.end();
+        return output;
+    }
+
+    /**
+     * Format the bytes of the input stream (read until its end, not closed)
+     * into the output
+     *
+     * @param output
+     *            the output
+     * @param input
+     *            the input stream
+     * @param <A>
+     *            the output type
+     * @return the output
+     * @throws NullPointerException
+     *             if output or input is {@code null}
+     * @throws IOException
+     *             on read or write failure
+     */
+    public <A extends Appendable> A formatTo(final A output, final InputStream input) throws IOException {
+        Objects.requireNonNull(output, "output");
+        Objects.requireNonNull(input, "input");
+
+        final Lines lines = new Lines(output);
+        final byte[] chunk = lines.chunk();
+        int length;
+        do {
+            length = 0;
+            int read = 0;
+            while (read > -1 && length < chunk.length) {
+                read = input.read(chunk, length, chunk.length - length);
+                length += Math.max(read, 0);
+            }
+            lines.write(chunk, 0, length);
+        } while (length == chunk.length);
+        lines.end();
+        return output;
+    }
+
+    /**
+     * Format the bytes of the channel (read until its end, not closed) into
+     * the output, the channel has to be blocking
+     *
+     * @param output
+     *            the output
+     * @param channel
+     *            the channel
+     * @param <A>
+     *            the output type
+     * @return the output
+     * @throws NullPointerException
+     *             if output or channel is {@code null}
+     * @throws IOException
+     *             on read or write failure
+     */
+    public <A extends Appendable> A formatTo(final A output, final ReadableByteChannel channel) throws IOException {
+        Objects.requireNonNull(output, "output");
+        Objects.requireNonNull(channel, "channel");
+
+        final Lines lines = new Lines(output);
+        final byte[] chunk = lines.chunk();
+        final ByteBuffer buffer = ByteBuffer.wrap(chunk);
+        int read;
+        do {
+            buffer.clear();
+            read = 0;
+            while (read > -1 && buffer.hasRemaining()) {
+                read = channel.read(buffer);
+            }
+            lines.write(chunk, 0, buffer.position());
+        } while (read > -1);
+        lines.end();
+        return output;
+    }
+
+    /**
+     * Format the content of the file (memory-mapped) into the output
+     *
+     * @param output
+     *            the output
+     * @param path
+     *            the file path
+     * @param <A>
+     *            the output type
+     * @return the output
+     * @throws NullPointerException
+     *             if output or path is {@code null}
+     * @throws IOException
+     *             on read or write failure
+     */
+    public <A extends Appendable> A formatTo(final A output, final Path path) throws IOException {
+        Objects.requireNonNull(output, "output");
+        Objects.requireNonNull(path, "path");
+
+        final Lines lines = new Lines(output);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            // the windows are aligned on the lines
+            final long window = MAPPING_SIZE - MAPPING_SIZE % this.bytesPerLine;
+            for (long position = 0; position < size; position += window) {
+                final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(window, size - position));
+                lines.write(buffer);
+            }
+        }
+        lines.end();
+        return output;
+    }
+
+    @Override
+    public String toString() {
+        return "HexDump[bytesPerLine=" + this.bytesPerLine + ", groupSize=" + this.groupSize + ", offset=" + this.offset
+                + ", startOffset=" + this.startOffset + ", ascii=" + this.ascii + ", upperCase=" + this.upperCase + ", squeeze="
+                + this.squeeze + ", endOffset=" + this.endOffset + "]";
+    }
+
+    /**
+     * @param count
+     *            the number of bytes in the line
+     * @return the line length (after the offset, including the new line)
+     */
+    private int lineLength(final int count) {
+        if (this.ascii) {
+            return this.asciiColumn + count + 3;
+        }
+        return this.columns[count - 1] + 3;
+    }
+
+    /**
+     * Lines being formatted into an output
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    private final class Lines {
+
+        private final Appendable output;
+        private final char[] pairs = HexUtils.digitPairs(HexDump.this.upperCase);
+        private final char[] digits;
+        private final char[] buffer;
+        private int position;
+        private long offset = HexDump.this.startOffset;
+
+        /**
+         * The previous full line (to squeeze the repeated lines)
+         */
+        private final byte[] previous;
+        private boolean hasPrevious;
+        private boolean squeezed;
+
+        private Lines(final Appendable output) {
+            this.output = output;
+            this.digits = new char[NIBBLE_MASK + 1];
+            for (int i = 0; i < this.digits.length; ++i) {
+                this.digits[i] = this.pairs[i * 2 + 1];
+            }
+            this.buffer = new char[CHUNK_LINES * (MAX_OFFSET_DIGITS + HexDump.this.template.length)];
+            this.previous = HexDump.this.squeeze ? new byte[HexDump.this.bytesPerLine] : null;
+        }
+
+        /**
+         * @return an input chunk, a multiple of the line size
+         */
+        private byte[] chunk() {
+            return new byte[CHUNK_LINES * HexDump.this.bytesPerLine];
+        }
+
+        private void write(final ByteBuffer bytes) throws IOException {
+            if (bytes.hasArray()) {
+                this.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+                bytes.position(bytes.limit());
+            } else {
+                final byte[] chunk = this.chunk();
+                while (bytes.hasRemaining()) {
+                    final int length = Math.min(chunk.length, bytes.remaining());
+                    bytes.get(chunk, 0, length);
+                    this.write(chunk, 0, length);
+                }
+            }
+        }
+
+        /**
+         * Format the bytes, all the lines are full, except the last one of the
+         * input
+         */
+        private void write(final byte[] bytes, final int from, final int length) throws IOException {
+            final int perLine = HexDump.this.bytesPerLine;
+            for (int i = from; i < from + length; i += perLine) {
+                if (this.position + MAX_OFFSET_DIGITS + HexDump.this.template.length > this.buffer.length) {
+                    this.flush();
+                }
+                final int count = Math.min(perLine, from + length - i);
+                if (!this.isRepeated(bytes, i, count)) {
+                    this.line(bytes, i, count);
+                } else if (!this.squeezed) {
+                    this.buffer[this.position++] = SQUEEZED;
+                    this.buffer[this.position++] = NEW_LINE;
+                    this.squeezed = true;
+                }
+                this.offset += count;
+            }
+        }
+
+        /**
+         * Check if the line is a full line identical to the previous one
+         * (always {@code false} without squeezing), otherwise, the line
+         * becomes the previous one
+         */
+        private boolean isRepeated(final byte[] bytes, final int from, final int count) {
+            if (this.previous == null) {
+                return false;
+            } else if (count == this.previous.length && this.hasPrevious) {
+                boolean repeated = true;
+                for (int i = 0; i < count && repeated; ++i) {
+                    repeated = bytes[from + i] == this.previous[i];
+                }
+                if (repeated) {
+                    return true;
+                }
+            }
+            System.arraycopy(bytes, from, this.previous, 0, count);
+            this.hasPrevious = count == this.previous.length;
+            this.squeezed = false;
+            return false;
+        }
+
+        private void line(final byte[] bytes, final int from, final int count) {
+            final char[] out = this.buffer;
+            if (HexDump.this.offset) {
+                this.writeOffset();
+            }
+            final int start = this.position;
+            final int length = HexDump.this.lineLength(count);
+            System.arraycopy(HexDump.this.template, 0, out, start, length);
+
+            final int[] columns = HexDump.this.columns;
+            final int asciiStart = start + HexDump.this.asciiColumn + 1;
+            for (int i = 0; i < count; ++i) {
+                final int value = bytes[from + i] & BYTE_MASK;
+                final int column = start + columns[i];
+                out[column] = this.pairs[value * 2];
+                out[column + 1] = this.pairs[value * 2 + 1];
+                if (HexDump.this.ascii) {
+                    out[asciiStart + i] = ASCII[value];
+                }
+            }
+            if (count < HexDump.this.bytesPerLine) {
+                if (HexDump.this.ascii) {
+                    out[asciiStart + count] = SEPARATOR;
+                }
+                out[start + length - 1] = NEW_LINE;
+            }
+            this.position = start + length;
+        }
+
+        private void writeOffset() {
+            final int significant = (Long.SIZE - Long.numberOfLeadingZeros(this.offset) + NIBBLE_SIZE - 1) / NIBBLE_SIZE;
+            final int width = Math.max(OFFSET_DIGITS, significant);
+            long value = this.offset;
+            for (int i = this.position + width - 1; i >= this.position; --i) {
+                this.buffer[i] = this.digits[(int) (value & NIBBLE_MASK)];
+                value >>>= NIBBLE_SIZE;
+            }
+            this.position += width;
+        }
+
+        private void flush() throws IOException {
+            if (this.position > 0) {
+                Appendables.append(this.output, this.buffer, 0, this.position);
+                this.position = 0;
+            }
+        }
+
+        /**
+         * Append the end offset line (if at least one byte was formatted) and
+         * flush
+         */
+        private void end() throws IOException {
+            if (HexDump.this.offset && HexDump.this.endOffset && this.offset > HexDump.this.startOffset) {
+                this.writeOffset();
+                this.buffer[this.position++] = NEW_LINE;
+            }
+            this.flush();
+        }
+    }
+
+    /**
+     * Builder of {@link HexDump}
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    public static final class HexDumpBuilder implements Builder<HexDump> {
+
+        private int bytesPerLine = DEFAULT_BYTES_PER_LINE;
+        private int groupSize = DEFAULT_GROUP_SIZE;
+        private boolean offset = true;
+        private long startOffset;
+        private boolean ascii = true;
+        private boolean upperCase;
+        private boolean squeeze = true;
+        private boolean endOffset = true;
+
+        private HexDumpBuilder() {
+        }
+
+        /**
+         * Set the number of bytes per line (16 by default)
+         *
+         * @param bytesPerLine
+         *            the number of bytes per line
+         * @return the current builder
+         * @throws IllegalArgumentException
+         *             if the number is lower than 1
+         */
+        public HexDumpBuilder bytesPerLine(final int bytesPerLine) {
+            if (bytesPerLine < 1) {
+                throw new IllegalArgumentException("The number of bytes per line must be positive");
+            }
+            this.bytesPerLine = bytesPerLine;
+            return this;
+        }
+
+        /**
+         * Set the number of bytes per group, an additional space is inserted
+         * after each group (8 by default)
+         *
+         * @param groupSize
+         *            the number of bytes per group (0 for no group)
+         * @return the current builder
+         * @throws IllegalArgumentException
+         *             if the number is negative
+         */
+        public HexDumpBuilder groupSize(final int groupSize) {
+            if (groupSize < 0) {
+                throw new IllegalArgumentException("The group size cannot be negative");
+            }
+            this.groupSize = groupSize;
+            return this;
+        }
+
+        /**
+         * Set if the offset column is displayed (true by default)
+         *
+         * @param offset
+         *            if displayed
+         * @return the current builder
+         */
+        public HexDumpBuilder offset(final boolean offset) {
+            this.offset = offset;
+            return this;
+        }
+
+        /**
+         * Set the offset of the first byte (0 by default)
+         *
+         * @param startOffset
+         *            the start offset
+         * @return the current builder
+         * @throws IllegalArgumentException
+         *             if the offset is negative
+         */
+        public HexDumpBuilder startOffset(final long startOffset) {
+            if (startOffset < 0) {
+                throw new IllegalArgumentException("The start offset cannot be negative");
+            }
+            this.startOffset = startOffset;
+            return this;
+        }
+
+        /**
+         * Set if the ASCII column is displayed (true by default)
+         *
+         * @param ascii
+         *            if displayed
+         * @return the current builder
+         */
+        public HexDumpBuilder ascii(final boolean ascii) {
+            this.ascii = ascii;
+            return this;
+        }
+
+        /**
+         * Set if the hexadecimal digits are in upper case (false by default)
+         *
+         * @param upperCase
+         *            if upper case
+         * @return the current builder
+         */
+        public HexDumpBuilder upperCase(final boolean upperCase) {
+            this.upperCase = upperCase;
+            return this;
+        }
+
+        /**
+         * Set if the lines identical to the previous one are replaced by a
+         * single {@code *} line (true by default)
+         *
+         * @param squeeze
+         *            if squeezed
+         * @return the current builder
+         */
+        public HexDumpBuilder squeeze(final boolean squeeze) {
+            this.squeeze = squeeze;
+            return this;
+        }
+
+        /**
+         * Set if the dump ends with the offset after the last byte, only if
+         * the offset column is displayed (true by default)
+         *
+         * @param endOffset
+         *            if displayed
+         * @return the current builder
+         */
+        public HexDumpBuilder endOffset(final boolean endOffset) {
+            this.endOffset = endOffset;
+            return this;
+        }
+
+        @Override
+        public HexDump build() {
+            return new HexDump(this);
+        }
+    }
+}
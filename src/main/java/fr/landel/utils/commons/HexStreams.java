@@ -0,0 +1,400 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+
+/**
+ * Streaming implementations used by {@link HexUtils#encodingStream},
+ * {@link HexUtils#decodingStream}, {@link HexUtils#encodingChannel} and
+ * {@link HexUtils#decodingChannel}. The data is transformed incrementally,
+ * through fixed-size buffers, whatever the stream length.
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+final class HexStreams {
+
+    /**
+     * Size of the input buffers
+     */
+    static final int BUFFER_SIZE = 8_192;
+
+    private static final int BYTE_MASK = 0xFF;
+    private static final int NIBBLE_SIZE = 4;
+    private static final int INVALID = -1;
+
+    private HexStreams() {
+    }
+
+    private static void checkRange(final byte[] bytes, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", size: " + bytes.length);
+        }
+    }
+
+    /**
+     * Incremental transformation
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    abstract static class Codec {
+
+        /**
+         * @param length
+         *            the input length
+         * @return the maximum output length
+         */
+        abstract int maxOutput(int length);
+
+        /**
+         * Transform the input bytes
+         * 
+         * @param source
+         *            the input
+         * @param offset
+         *            the input offset
+         * @param length
+         *            the input length
+         * @param target
+         *            the output (at least {@link #maxOutput(int)} bytes)
+         * @param targetOffset
+         *            the output offset
+         * @return the output length
+         * @throws IOException
+         *             on invalid input
+         */
+        abstract int process(byte[] source, int offset, int length, byte[] target, int targetOffset) throws IOException;
+
+        /**
+         * Check the state at the end of the input
+         * 
+         * @throws IOException
+         *             on incomplete input
+         */
+        abstract void finish() throws IOException;
+    }
+
+    /**
+     * Bytes to ASCII hexadecimal digits
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    static final class Encoder extends Codec {
+
+        private final boolean upperCase;
+
+        Encoder(final boolean upperCase) {
+            this.upperCase = upperCase;
+        }
+
+        @Override
+        int maxOutput(final int length) {
+            return length * 2;
+        }
+
+        @Override
+        int process(final byte[] source, final int offset, final int length, final byte[] target, final int targetOffset) {
+            return HexUtils.encode(source, offset, length, target, targetOffset, this.upperCase);
+        }
+
+        @Override
+        void finish() {
+            // stateless
+        }
+    }
+
+    /**
+     * ASCII hexadecimal digits to bytes, the high digit of an incomplete pair
+     * is kept until the next input
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    static final class Decoder extends Codec {
+
+        private final boolean lenient;
+        private int high = INVALID;
+        private long index;
+
+        Decoder(final boolean lenient) {
+            this.lenient = lenient;
+        }
+
+        @Override
+        int maxOutput(final int length) {
+            return length / 2 + 1;
+        }
+
+        @Override
+        int process(final byte[] source, final int offset, final int length, final byte[] target, final int targetOffset)
+                throws IOException {
+            int j = targetOffset;
+            int pending = this.high;
+            for (int i = offset; i < offset + length; ++i) {
+                final int value = HexUtils.value(source[i] & BYTE_MASK);
+                if (value == INVALID) {
+                    if (!this.lenient) {
+                        throw new IOException("Invalid hexadecimal character at index " + (this.index + i - offset));
+                    }
+                } else if (pending == INVALID) {
+                    pending = value;
+                } else {
+                    target[j++] = (byte) (pending << NIBBLE_SIZE | value);
+                    pending = INVALID;
+                }
+            }
+            this.high = pending;
+            this.index += length;
+            return j - targetOffset;
+        }
+
+        @Override
+        void finish() throws IOException {
+            if (this.high != INVALID) {
+                throw new IOException("The number of hexadecimal digits must be even");
+            }
+        }
+    }
+
+    /**
+     * Transformed input, from a stream or a channel (read until the end). A
+     * non-blocking channel without available data gives 0 bytes through the
+     * channel method, the stream methods only support the blocking channels,
+     * like {@link java.nio.channels.Channels#newInputStream}: an
+     * {@link IllegalBlockingModeException} is thrown otherwise (no busy wait)
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    static final class CodecInputStream extends InputStream implements ReadableByteChannel {
+
+        private final InputStream input;
+        private final ReadableByteChannel channel;
+        private final Codec codec;
+        private final byte[] raw = new byte[BUFFER_SIZE];
+        private final ByteBuffer rawBuffer = ByteBuffer.wrap(this.raw);
+        private final byte[] buffer;
+        private int position;
+        private int limit;
+        private boolean ended;
+        private boolean closed;
+
+        CodecInputStream(final InputStream input, final ReadableByteChannel channel, final Codec codec) {
+            this.input = input;
+            this.channel = channel;
+            this.codec = codec;
+            this.buffer = new byte[codec.maxOutput(BUFFER_SIZE)];
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (this.position == this.limit && this.fill(true) < 0) {
+                return -1;
+            }
+            return this.buffer[this.position++] & BYTE_MASK;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+            checkRange(bytes, offset, length);
+            if (length == 0) {
+                return 0;
+            } else if (this.position == this.limit && this.fill(true) < 0) {
+                return -1;
+            }
+            final int count = Math.min(length, this.limit - this.position);
+            System.arraycopy(this.buffer, this.position, bytes, offset, count);
+            this.position += count;
+            return count;
+        }
+
+        @Override
+        public int read(final ByteBuffer target) throws IOException {
+            if (this.closed) {
+                throw new ClosedChannelException();
+            } else if (!target.hasRemaining()) {
+                return 0;
+            } else if (this.position == this.limit) {
+                final int filled = this.fill(false);
+                if (filled <= 0) {
+                    return filled;
+                }
+            }
+            final int count = Math.min(target.remaining(), this.limit - this.position);
+            target.put(this.buffer, this.position, count);
+            this.position += count;
+            return count;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return this.limit - this.position;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !this.closed;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!this.closed) {
+                this.closed = true;
+                if (this.input != null) {
+                    this.input.close();
+                } else {
+                    this.channel.close();
+                }
+            }
+        }
+
+        /**
+         * Read and transform the next input bytes (until at least one byte is
+         * produced)
+         * 
+         * @param blocking
+         *            if the read is done through the stream methods (the
+         *            channel has to be blocking), otherwise 0 is returned
+         *            when the channel returns no byte
+         * @return the number of available bytes, 0 if the channel returned no
+         *         byte (not blocking), or -1 at the end
+         * @throws IOException
+         *             on read failure or invalid input
+         * @throws IllegalBlockingModeException
+         *             if blocking and the channel is in non-blocking mode (or
+         *             returns no byte)
+         */
+        private int fill(final boolean blocking) throws IOException {
+            if (this.closed) {
+                throw new IOException("Stream closed");
+            } else if (blocking && this.channel instanceof SelectableChannel && !((SelectableChannel) this.channel).isBlocking()) {
+                throw new IllegalBlockingModeException();
+            }
+            this.position = 0;
+            this.limit = 0;
+            while (this.limit == 0 && !this.ended) {
+                final int read;
+                if (this.input != null) {
+                    read = this.input.read(this.raw, 0, this.raw.length);
+                } else {
+                    this.rawBuffer.clear();
+                    read = this.channel.read(this.rawBuffer);
+                    if (read == 0) {
+                        if (blocking) {
+                            throw new IllegalBlockingModeException();
+                        }
+                        return 0;
+                    }
+                }
+                if (read < 0) {
+                    this.ended = true;
+                    this.codec.finish();
+                } else {
+                    this.limit = this.codec.process(this.raw, 0, read, this.buffer, 0);
+                }
+            }
+            return this.limit > 0 ? this.limit : -1;
+        }
+    }
+
+    /**
+     * Transformed output, buffered
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    static final class CodecOutputStream extends FilterOutputStream {
+
+        private final Codec codec;
+        private final byte[] single = new byte[1];
+        private final byte[] buffer;
+        private int count;
+        private boolean closed;
+
+        CodecOutputStream(final OutputStream output, final Codec codec) {
+            super(output);
+            this.codec = codec;
+            this.buffer = new byte[codec.maxOutput(BUFFER_SIZE)];
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            this.single[0] = (byte) b;
+            this.write(this.single, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            checkRange(bytes, offset, length);
+            if (this.closed) {
+                throw new IOException("Stream closed");
+            }
+            for (int i = offset; i < offset + length; i += BUFFER_SIZE) {
+                final int chunk = Math.min(BUFFER_SIZE, offset + length - i);
+                if (this.count + this.codec.maxOutput(chunk) > this.buffer.length) {
+                    this.flushBuffer();
+                }
+                this.count += this.codec.process(bytes, i, chunk, this.buffer, this.count);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            this.flushBuffer();
+            this.out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!this.closed) {
+                this.closed = true;
+                try (OutputStream output = this.out) {
+                    this.flushBuffer();
+                    this.codec.finish();
+                    output.flush();
+                }
+            }
+        }
+
+        private void flushBuffer() throws IOException {
+            if (this.count > 0) {
+                this.out.write(this.buffer, 0, this.count);
+                this.count = 0;
+            }
+        }
+    }
+}
@@ -19,14 +19,32 @@
  */
 package fr.landel.utils.commons;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 /**
- * Hex utility class.
+ * Hex utility class. The codec is table-driven (primitive lookup tables, no
+ * allocation per byte), the encoders write lower or upper case digits, the
+ * decoders accept both cases and are strict (only pairs of hexadecimal
+ * digits) or lenient (the other characters, like separators and spaces, are
+ * skipped).
+ *
+ * <pre>
+ * HexUtils.encode(digest); // =&gt; "9f86d081884c7d65..."
+ * HexUtils.encode(digest, 0, 4, true); // =&gt; "9F86D081"
+ * HexUtils.decode("9f86d081"); // =&gt; {0x9f, 0x86, 0xd0, 0x81}
+ * HexUtils.decode("9F:86:D0:81", true); // =&gt; {0x9f, 0x86, 0xd0, 0x81}
+ * </pre>
  *
  * @since Nov 27, 2015
  * @author Gilles Landel
@@ -52,6 +70,39 @@ public final class HexUtils {
     private static final int INTEGER_SIZE = 4;
     private static final int PERCENT_MAX = 100;
 
+    private static final int ASCII_SIZE = 128;
+    private static final int INVALID = -1;
+
+    private static final String INVALID_CHARACTER = "Invalid hexadecimal character at index ";
+
+    /**
+     * Size of the local buffers (for the outputs without array)
+     */
+    private static final int BUFFER_SIZE = 512;
+
+    /**
+     * For each byte value (unsigned), the two lower case digits
+     */
+    private static final char[] PAIRS_LOWER = pairs("0123456789abcdef");
+
+    /**
+     * For each byte value (unsigned), the two upper case digits
+     */
+    private static final char[] PAIRS_UPPER = pairs("0123456789ABCDEF");
+
+    /**
+     * For each ASCII char, the digit value or {@link #INVALID}
+     */
+    private static final byte[] VALUES = new byte[ASCII_SIZE];
+
+    static {
+        Arrays.fill(VALUES, (byte) INVALID);
+        for (int i = 0; i <= HEX_0F; ++i) {
+            VALUES[PAIRS_LOWER[i * CHAR_SIZE + 1]] = (byte) i;
+            VALUES[PAIRS_UPPER[i * CHAR_SIZE + 1]] = (byte) i;
+        }
+    }
+
     /**
      * Hidden constructor.
      */
@@ -75,14 +126,17 @@ public final class HexUtils {
     }
 
     /**
-     * Convert an integer into a byte array.
+     * Convert an integer into a byte array (little endian, see
+     * {@link ByteUtils#putInt(byte[], int, int, ByteOrder)}).
      * 
      * @param integer
      *            integer
      * @return the byte array
      */
     public static byte[] intToBytes(final int integer) {
-        return ByteBuffer.allocate(INTEGER_SIZE).order(ByteOrder.LITTLE_ENDIAN).putInt(integer).array();
+        final byte[] bytes = new byte[INTEGER_SIZE];
+        ByteUtils.putInt(bytes, 0, integer, ByteOrder.LITTLE_ENDIAN);
+        return bytes;
     }
 
     /**
@@ -93,17 +147,686 @@ public final class HexUtils {
      * @return the hex string
      */
     public static String byteArrayToHexString(final byte[] bytes) {
+        return encode(bytes);
+    }
+
+    /**
+     * Encode the bytes into lower case hexadecimal digits
+     * 
+     * @param bytes
+     *            the bytes
+     * @return the hex string
+     * @throws NullPointerException
+     *             if bytes is {@code null}
+     */
+    public static String encode(final byte[] bytes) {
+        return encode(bytes, 0, bytes.length, false);
+    }
+
+    /**
+     * Encode the bytes into hexadecimal digits
+     * 
+     * @param bytes
+     *            the bytes
+     * @param upperCase
+     *            if the digits are in upper case
+     * @return the hex string
+     * @throws NullPointerException
+     *             if bytes is {@code null}
+     */
+    public static String encode(final byte[] bytes, final boolean upperCase) {
+        return encode(bytes, 0, bytes.length, upperCase);
+    }
+
+    /**
+     * Encode the range of bytes into hexadecimal digits
+     * 
+     * @param bytes
+     *            the bytes
+     * @param offset
+     *            the range offset
+     * @param length
+     *            the range length
+     * @param upperCase
+     *            if the digits are in upper case
+     * @return the hex string
+     * @throws NullPointerException
+     *             if bytes is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the array
+     */
+    public static String encode(final byte[] bytes, final int offset, final int length, final boolean upperCase) {
+        checkRange(bytes.length, offset, length);
+
+        final char[] chars = new char[length * CHAR_SIZE];
+        encode(bytes, offset, length, chars, 0, upperCase);
+        return new String(chars);
+    }
+
+    /**
+     * Encode the range of bytes into the char array
+     * 
+     * @param bytes
+     *            the bytes
+     * @param offset
+     *            the range offset
+     * @param length
+     *            the range length
+     * @param target
+     *            the target array (two chars per byte)
+     * @param targetOffset
+     *            the offset in the target array
+     * @param upperCase
+     *            if the digits are in upper case
+     * @return the number of chars written
+     * @throws NullPointerException
+     *             if bytes or target is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if a range is out of its array
+     */
+    public static int encode(final byte[] bytes, final int offset, final int length, final char[] target, final int targetOffset,
+            final boolean upperCase) {
+        checkRange(bytes.length, offset, length);
+        checkRange(target.length, targetOffset, length * CHAR_SIZE);
 
-        char[] hexChars = new char[bytes.length * CHAR_SIZE];
-        int v;
-        for (int j = 0; j < bytes.length; j++) {
-            v = bytes[j] & HEX_FF;
-            hexChars[j * CHAR_SIZE] = HEX_ARRAY[v >>> INTEGER_SIZE];
-            hexChars[j * CHAR_SIZE + 1] = HEX_ARRAY[v & HEX_0F];
+        final char[] pairs = upperCase ? PAIRS_UPPER : PAIRS_LOWER;
+        int j = targetOffset;
+        for (int i = offset; i < offset + length; ++i) {
+            final int pair = (bytes[i] & HEX_FF) * CHAR_SIZE;
+            target[j++] = pairs[pair];
+            target[j++] = pairs[pair + 1];
         }
+        return length * CHAR_SIZE;
+    }
+
+    /**
+     * Encode the range of bytes into ASCII hexadecimal digits in the byte
+     * array
+     * 
+     * @param bytes
+     *            the bytes
+     * @param offset
+     *            the range offset
+     * @param length
+     *            the range length
+     * @param target
+     *            the target array (two bytes per byte)
+     * @param targetOffset
+     *            the offset in the target array
+     * @param upperCase
+     *            if the digits are in upper case
+     * @return the number of bytes written
+     * @throws NullPointerException
+     *             if bytes or target is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if a range is out of its array
+     */
+    public static int encode(final byte[] bytes, final int offset, final int length, final byte[] target, final int targetOffset,
+            final boolean upperCase) {
+        checkRange(bytes.length, offset, length);
+        checkRange(target.length, targetOffset, length * CHAR_SIZE);
+
+        final char[] pairs = upperCase ? PAIRS_UPPER : PAIRS_LOWER;
+        int j = targetOffset;
+        for (int i = offset; i < offset + length; ++i) {
+            final int pair = (bytes[i] & HEX_FF) * CHAR_SIZE;
+            target[j++] = (byte) pairs[pair];
+            target[j++] = (byte) pairs[pair + 1];
+        }
+        return length * CHAR_SIZE;
+    }
+
+    /**
+     * Encode the remaining bytes of the buffer (heap or direct) into
+     * hexadecimal digits, the buffer position is moved to its limit
+     * 
+     * @param buffer
+     *            the buffer
+     * @param upperCase
+     *            if the digits are in upper case
+     * @return the hex string
+     * @throws NullPointerException
+     *             if buffer is {@code null}
+     */
+    public static String encode(final ByteBuffer buffer, final boolean upperCase) {
+        final char[] chars = new char[buffer.remaining() * CHAR_SIZE];
+        encode(buffer, chars, buffer.remaining(), upperCase);
+        return new String(chars);
+    }
+
+    /**
+     * Encode the remaining bytes of the buffer (heap or direct) into ASCII
+     * hexadecimal digits in the target buffer, the positions of both buffers
+     * are moved
+     * 
+     * @param buffer
+     *            the buffer
+     * @param target
+     *            the target buffer (two bytes per byte)
+     * @param upperCase
+     *            if the digits are in upper case
+     * @return the number of bytes written
+     * @throws NullPointerException
+     *             if buffer or target is {@code null}
+     * @throws BufferOverflowException
+     *             if the target has not enough remaining space (nothing is
+     *             written)
+     */
+    public static int encode(final ByteBuffer buffer, final ByteBuffer target, final boolean upperCase) {
+        final int length = buffer.remaining() * CHAR_SIZE;
+        if (target.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+
+        if (buffer.hasArray() && target.hasArray()) {
+            encode(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), target.array(),
+                    target.arrayOffset() + target.position(), upperCase);
+            buffer.position(buffer.limit());
+            target.position(target.position() + length);
+        } else {
+            final char[] pairs = upperCase ? PAIRS_UPPER : PAIRS_LOWER;
+            while (buffer.hasRemaining()) {
+                final int pair = (buffer.get() & HEX_FF) * CHAR_SIZE;
+                target.put((byte) pairs[pair]).put((byte) pairs[pair + 1]);
+            }
+        }
+        return length;
+    }
 
-        StringBuilder returnStr = new StringBuilder(new String(hexChars));
+    /**
+     * Encode the range of bytes into the output (through a local buffer, if
+     * the output is not a {@link StringBuilder} nor a {@link java.io.Writer})
+     * 
+     * @param output
+     *            the output
+     * @param bytes
+     *            the bytes
+     * @param offset
+     *            the range offset
+     * @param length
+     *            the range length
+     * @param upperCase
+     *            if the digits are in upper case
+     * @param <A>
+     *            the output type
+     * @return the output
+     * @throws NullPointerException
+     *             if output or bytes is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the array
+     * @throws IOException
+     *             on write failure
+     */
+    public static <A extends Appendable> A encodeTo(final A output, final byte[] bytes, final int offset, final int length,
+            final boolean upperCase) throws IOException {
+        Objects.requireNonNull(output, "output");
+        checkRange(bytes.length, offset, length);
+
+        final char[] chars = new char[Math.min(length, BUFFER_SIZE) * CHAR_SIZE];
+        for (int i = offset; i < offset + length; i += BUFFER_SIZE) {
+            final int count = encode(bytes, i, Math.min(BUFFER_SIZE, offset + length - i), chars, 0, upperCase);
+            Appendables.append(output, chars, 0, count);
+        }
+        return output;
+    }
+
+    /**
+     * Encode the remaining bytes of the buffer (heap or direct) into the
+     * output, the buffer position is moved to its limit
+     * 
+     * @param output
+     *            the output
+     * @param buffer
+     *            the buffer
+     * @param upperCase
+     *            if the digits are in upper case
+     * @param <A>
+     *            the output type
+     * @return the output
+     * @throws NullPointerException
+     *             if output or buffer is {@code null}
+     * @throws IOException
+     *             on write failure
+     */
+    public static <A extends Appendable> A encodeTo(final A output, final ByteBuffer buffer, final boolean upperCase)
+            throws IOException {
+        Objects.requireNonNull(output, "output");
+
+        final char[] chars = new char[Math.min(buffer.remaining(), BUFFER_SIZE) * CHAR_SIZE];
+        while (buffer.hasRemaining()) {
+            final int count = encode(buffer, chars, Math.min(BUFFER_SIZE, buffer.remaining()), upperCase);
+            Appendables.append(output, chars, 0, count);
+        }
+        return output;
+    }
+
+    /**
+     * Decode the hexadecimal digits (strict, see
+     * {@link #decode(CharSequence, int, int, byte[], int, boolean)})
+     * 
+     * @param hex
+     *            the hexadecimal digits
+     * @return the bytes
+     * @throws NullPointerException
+     *             if hex is {@code null}
+     * @throws IllegalArgumentException
+     *             if a char is not an hexadecimal digit or if the number of
+     *             digits is odd
+     */
+    public static byte[] decode(final CharSequence hex) {
+        return decode(hex, false);
+    }
+
+    /**
+     * Decode the hexadecimal digits (see
+     * {@link #decode(CharSequence, int, int, byte[], int, boolean)})
+     * 
+     * @param hex
+     *            the hexadecimal digits
+     * @param lenient
+     *            if the chars which are not hexadecimal digits are skipped
+     * @return the bytes
+     * @throws NullPointerException
+     *             if hex is {@code null}
+     * @throws IllegalArgumentException
+     *             if a char is not an hexadecimal digit (strict mode) or if
+     *             the number of digits is odd
+     */
+    public static byte[] decode(final CharSequence hex, final boolean lenient) {
+        final int digits = countDigits(hex, 0, hex.length(), lenient);
 
-        return returnStr.toString();
+        final byte[] bytes = new byte[digits / CHAR_SIZE];
+        decodeDigits(hex, 0, hex.length(), bytes, 0);
+        return bytes;
+    }
+
+    /**
+     * Decode the range of hexadecimal digits (lower or upper case) into the
+     * array. In strict mode, all the chars must be hexadecimal digits, in
+     * lenient mode, the other chars are skipped (for example, the separators
+     * in "9f:86:d0" or "9f 86 d0"). In both modes, the number of digits must be
+     * even. The range is checked before decoding, so nothing is written into
+     * the target if an exception is thrown.
+     * 
+     * @param hex
+     *            the hexadecimal digits
+     * @param start
+     *            the start position in hex (inclusive)
+     * @param end
+     *            the end position in hex (exclusive)
+     * @param target
+     *            the target array
+     * @param targetOffset
+     *            the offset in the target array
+     * @param lenient
+     *            if the chars which are not hexadecimal digits are skipped
+     * @return the number of bytes written
+     * @throws NullPointerException
+     *             if hex or target is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the sequence or if the target array
+     *             is too small
+     * @throws IllegalArgumentException
+     *             if a char is not an hexadecimal digit (strict mode) or if
+     *             the number of digits is odd
+     */
+    public static int decode(final CharSequence hex, final int start, final int end, final byte[] target, final int targetOffset,
+            final boolean lenient) {
+        checkRange(hex.length(), start, end - start);
+        checkRange(target.length, targetOffset, countDigits(hex, start, end, lenient) / CHAR_SIZE);
+
+        return decodeDigits(hex, start, end, target, targetOffset);
+    }
+
+    /**
+     * Decode the hexadecimal digits into the target buffer (heap or direct),
+     * the target position is moved (see
+     * {@link #decode(CharSequence, int, int, byte[], int, boolean)}). The
+     * digits are checked before decoding, so nothing is written into the target
+     * if an exception is thrown.
+     * 
+     * @param hex
+     *            the hexadecimal digits
+     * @param target
+     *            the target buffer
+     * @param lenient
+     *            if the chars which are not hexadecimal digits are skipped
+     * @return the number of bytes written
+     * @throws NullPointerException
+     *             if hex or target is {@code null}
+     * @throws BufferOverflowException
+     *             if the target has not enough remaining space
+     * @throws ReadOnlyBufferException
+     *             if the target is read only
+     * @throws IllegalArgumentException
+     *             if a char is not an hexadecimal digit (strict mode) or if
+     *             the number of digits is odd
+     */
+    public static int decode(final CharSequence hex, final ByteBuffer target, final boolean lenient) {
+        final int length = hex.length();
+        final int digits = countDigits(hex, 0, length, lenient);
+        checkTarget(target, digits / CHAR_SIZE);
+
+        if (target.hasArray()) {
+            final int count = decodeDigits(hex, 0, length, target.array(), target.arrayOffset() + target.position());
+            target.position(target.position() + count);
+            return count;
+        }
+
+        // direct buffer, decoded by chunks (an even number of digits)
+        final byte[] bytes = new byte[Math.max(Math.min(digits / CHAR_SIZE, BUFFER_SIZE), 1)];
+        int count = 0;
+        int start = 0;
+        while (start < length) {
+            int end = start;
+            for (int chunk = 0; end < length && chunk < bytes.length * CHAR_SIZE; ++end) {
+                if (isDigit(hex.charAt(end))) {
+                    ++chunk;
+                }
+            }
+            final int decoded = decodeDigits(hex, start, end, bytes, 0);
+            target.put(bytes, 0, decoded);
+            count += decoded;
+            start = end;
+        }
+        return count;
+    }
+
+    /**
+     * Decode the remaining ASCII hexadecimal digits of the buffer (heap or
+     * direct) into the target buffer, the positions of both buffers are moved
+     * (see {@link #decode(CharSequence, int, int, byte[], int, boolean)}). The
+     * digits are checked before decoding, so if an exception is thrown, nothing
+     * is written and the positions are not moved.
+     * 
+     * @param hex
+     *            the hexadecimal digits (ASCII)
+     * @param target
+     *            the target buffer
+     * @param lenient
+     *            if the bytes which are not hexadecimal digits are skipped
+     * @return the number of bytes written
+     * @throws NullPointerException
+     *             if hex or target is {@code null}
+     * @throws BufferOverflowException
+     *             if the target has not enough remaining space
+     * @throws ReadOnlyBufferException
+     *             if the target is read only
+     * @throws IllegalArgumentException
+     *             if a byte is not an hexadecimal digit (strict mode) or if
+     *             the number of digits is odd
+     */
+    public static int decode(final ByteBuffer hex, final ByteBuffer target, final boolean lenient) {
+        int digits = 0;
+        for (int i = hex.position(); i < hex.limit(); ++i) {
+            if (value(hex.get(i) & HEX_FF) != INVALID) {
+                ++digits;
+            } else if (!lenient) {
+                throw new IllegalArgumentException(INVALID_CHARACTER + i);
+            }
+        }
+        checkEven(digits);
+        checkTarget(target, digits / CHAR_SIZE);
+
+        int high = INVALID;
+        while (hex.hasRemaining()) {
+            final int value = value(hex.get() & HEX_FF);
+            if (value == INVALID) {
+                // skipped (lenient mode, the digits are already checked)
+                continue;
+            } else if (high == INVALID) {
+                high = value;
+            } else {
+                target.put((byte) (high << INTEGER_SIZE | value));
+                high = INVALID;
+            }
+        }
+        return digits / CHAR_SIZE;
+    }
+
+    /**
+     * Wrap the output stream, the bytes written into the returned stream are
+     * encoded into ASCII hexadecimal digits (buffered, see
+     * {@link OutputStream#flush()}), closing the returned stream closes the
+     * output stream
+     * 
+     * @param output
+     *            the output stream
+     * @param upperCase
+     *            if the digits are in upper case
+     * @return the encoding stream
+     * @throws NullPointerException
+     *             if output is {@code null}
+     */
+    public static OutputStream encodingStream(final OutputStream output, final boolean upperCase) {
+        return new HexStreams.CodecOutputStream(Objects.requireNonNull(output, "output"), new HexStreams.Encoder(upperCase));
+    }
+
+    /**
+     * Wrap the input stream, the bytes read from the returned stream are the
+     * ASCII hexadecimal digits of the input bytes, closing the returned stream
+     * closes the input stream
+     * 
+     * @param input
+     *            the input stream
+     * @param upperCase
+     *            if the digits are in upper case
+     * @return the encoding stream
+     * @throws NullPointerException
+     *             if input is {@code null}
+     */
+    public static InputStream encodingStream(final InputStream input, final boolean upperCase) {
+        return new HexStreams.CodecInputStream(Objects.requireNonNull(input, "input"), null, new HexStreams.Encoder(upperCase));
+    }
+
+    /**
+     * Wrap the channel, the bytes read from the returned channel are the ASCII
+     * hexadecimal digits of the channel bytes, closing the returned channel
+     * closes the channel (the returned channel is also an {@link InputStream},
+     * only supported over a blocking channel, see
+     * {@link java.nio.channels.IllegalBlockingModeException})
+     * 
+     * @param channel
+     *            the channel
+     * @param upperCase
+     *            if the digits are in upper case
+     * @return the encoding channel
+     * @throws NullPointerException
+     *             if channel is {@code null}
+     */
+    public static ReadableByteChannel encodingChannel(final ReadableByteChannel channel, final boolean upperCase) {
+        return new HexStreams.CodecInputStream(null, Objects.requireNonNull(channel, "channel"), new HexStreams.Encoder(upperCase));
+    }
+
+    /**
+     * Wrap the output stream, the ASCII hexadecimal digits written into the
+     * returned stream are decoded (buffered, see {@link OutputStream#flush()}),
+     * closing the returned stream checks that the number of digits is even and
+     * closes the output stream
+     * 
+     * @param output
+     *            the output stream
+     * @param lenient
+     *            if the bytes which are not hexadecimal digits are skipped
+     *            (otherwise an {@link IOException} is thrown)
+     * @return the decoding stream
+     * @throws NullPointerException
+     *             if output is {@code null}
+     */
+    public static OutputStream decodingStream(final OutputStream output, final boolean lenient) {
+        return new HexStreams.CodecOutputStream(Objects.requireNonNull(output, "output"), new HexStreams.Decoder(lenient));
+    }
+
+    /**
+     * Wrap the input stream, the bytes read from the returned stream are
+     * decoded from the ASCII hexadecimal digits of the input (an
+     * {@link IOException} is thrown at the end of the input if the number of
+     * digits is odd), closing the returned stream closes the input stream
+     * 
+     * @param input
+     *            the input stream
+     * @param lenient
+     *            if the bytes which are not hexadecimal digits are skipped
+     *            (otherwise an {@link IOException} is thrown)
+     * @return the decoding stream
+     * @throws NullPointerException
+     *             if input is {@code null}
+     */
+    public static InputStream decodingStream(final InputStream input, final boolean lenient) {
+        return new HexStreams.CodecInputStream(Objects.requireNonNull(input, "input"), null, new HexStreams.Decoder(lenient));
+    }
+
+    /**
+     * Wrap the channel, the bytes read from the returned channel are decoded
+     * from the ASCII hexadecimal digits of the channel (an {@link IOException}
+     * is thrown at the end of the channel if the number of digits is odd),
+     * closing the returned channel closes the channel (the returned channel is
+     * also an {@link InputStream}, only supported over a blocking channel, see
+     * {@link java.nio.channels.IllegalBlockingModeException})
+     * 
+     * @param channel
+     *            the channel
+     * @param lenient
+     *            if the bytes which are not hexadecimal digits are skipped
+     *            (otherwise an {@link IOException} is thrown)
+     * @return the decoding channel
+     * @throws NullPointerException
+     *             if channel is {@code null}
+     */
+    public static ReadableByteChannel decodingChannel(final ReadableByteChannel channel, final boolean lenient) {
+        return new HexStreams.CodecInputStream(null, Objects.requireNonNull(channel, "channel"), new HexStreams.Decoder(lenient));
+    }
+
+    /**
+     * Check if the char is an hexadecimal digit (lower or upper case)
+     * 
+     * @param c
+     *            the char
+     * @return true, if hexadecimal digit
+     */
+    public static boolean isDigit(final char c) {
+        return value(c) != INVALID;
+    }
+
+    /**
+     * Count the digits of the range, checked before any write
+     * 
+     * @param hex
+     *            the hexadecimal digits
+     * @param start
+     *            the start position in hex (inclusive)
+     * @param end
+     *            the end position in hex (exclusive)
+     * @param lenient
+     *            if the chars which are not hexadecimal digits are skipped
+     * @return the number of digits (even)
+     * @throws IllegalArgumentException
+     *             if a char is not an hexadecimal digit (strict mode) or if
+     *             the number of digits is odd
+     */
+    private static int countDigits(final CharSequence hex, final int start, final int end, final boolean lenient) {
+        int digits = 0;
+        for (int i = start; i < end; ++i) {
+            if (isDigit(hex.charAt(i))) {
+                ++digits;
+            } else if (!lenient) {
+                throw new IllegalArgumentException(INVALID_CHARACTER + i);
+            }
+        }
+        checkEven(digits);
+        return digits;
+    }
+
+    private static int decodeDigits(final CharSequence hex, final int start, final int end, final byte[] target,
+            final int targetOffset) {
+        int j = targetOffset;
+        int high = INVALID;
+        for (int i = start; i < end; ++i) {
+            final int value = value(hex.charAt(i));
+            if (value == INVALID) {
+                // skipped (lenient mode, the range is already checked)
+                continue;
+            } else if (high == INVALID) {
+                high = value;
+            } else {
+                target[j++] = (byte) (high << INTEGER_SIZE | value);
+                high = INVALID;
+            }
+        }
+        return j - targetOffset;
+    }
+
+    private static void checkTarget(final ByteBuffer target, final int length) {
+        if (target.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        } else if (target.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+    }
+
+    /**
+     * Get the digit value
+     * 
+     * @param c
+     *            the char (or unsigned ASCII byte)
+     * @return the value or -1 if not an hexadecimal digit
+     */
+    static int value(final int c) {
+        return c < ASCII_SIZE ? VALUES[c] : INVALID;
+    }
+
+    /**
+     * Get the table of the two digits of each byte value (unsigned), shared,
+     * not to be modified
+     * 
+     * @param upperCase
+     *            if the digits are in upper case
+     * @return the table
+     */
+    static char[] digitPairs(final boolean upperCase) {
+        return upperCase ? PAIRS_UPPER : PAIRS_LOWER;
+    }
+
+    private static int encode(final ByteBuffer buffer, final char[] target, final int length, final boolean upperCase) {
+        final char[] pairs = upperCase ? PAIRS_UPPER : PAIRS_LOWER;
+        int j = 0;
+        if (buffer.hasArray()) {
+            final byte[] bytes = buffer.array();
+            final int start = buffer.arrayOffset() + buffer.position();
+            for (int i = start; i < start + length; ++i) {
+                final int pair = (bytes[i] & HEX_FF) * CHAR_SIZE;
+                target[j++] = pairs[pair];
+                target[j++] = pairs[pair + 1];
+            }
+            buffer.position(buffer.position() + length);
+        } else {
+            for (int i = 0; i < length; ++i) {
+                final int pair = (buffer.get() & HEX_FF) * CHAR_SIZE;
+                target[j++] = pairs[pair];
+                target[j++] = pairs[pair + 1];
+            }
+        }
+        return j;
+    }
+
+    private static void checkRange(final int size, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset > size - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", size: " + size);
+        }
+    }
+
+    private static void checkEven(final int digits) {
+        if (digits % CHAR_SIZE != 0) {
+            throw new IllegalArgumentException("The number of hexadecimal digits must be even");
+        }
+    }
+
+    private static char[] pairs(final String digits) {
+        final char[] pairs = new char[(HEX_FF + 1) * CHAR_SIZE];
+        for (int i = 0; i <= HEX_FF; ++i) {
+            pairs[i * CHAR_SIZE] = digits.charAt(i >>> INTEGER_SIZE);
+            pairs[i * CHAR_SIZE + 1] = digits.charAt(i & HEX_0F);
+        }
+        return pairs;
     }
 }
@@ -0,0 +1,305 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Mutable and reusable classification of a number, filled by
+ * {@link NumberUtils#classify(CharSequence, NumberClassification)} in a single
+ * pass: kind (integer or decimal), sign, exponent, type suffix and the
+ * smallest type able to hold the number. The scanned digits are kept, so the
+ * value can be got without parsing the sequence again. Not thread-safe.
+ *
+ * <pre>
+ * final NumberClassification classification = new NumberClassification();
+ * for (String cell : column) {
+ *     if (NumberUtils.classify(cell, classification)) {
+ *         columnType = max(columnType, classification.getType());
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>
+ * The value getters read the classified sequence again only for the big
+ * numbers, so the sequence must not be modified before.
+ * </p>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public final class NumberClassification {
+
+    /**
+     * Number types, ordered by size (integral types first)
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    public enum Type {
+        /**
+         * {@link Byte}
+         */
+        BYTE(Byte.class),
+
+        /**
+         * {@link Short}
+         */
+        SHORT(Short.class),
+
+        /**
+         * {@link Integer}
+         */
+        INTEGER(Integer.class),
+
+        /**
+         * {@link Long}
+         */
+        LONG(Long.class),
+
+        /**
+         * {@link BigInteger}
+         */
+        BIG_INTEGER(BigInteger.class),
+
+        /**
+         * {@link Float} (up to 6 significant digits, or suffixed by 'f')
+         */
+        FLOAT(Float.class),
+
+        /**
+         * {@link Double} (up to 15 significant digits, or suffixed by 'd')
+         */
+        DOUBLE(Double.class),
+
+        /**
+         * {@link BigDecimal}
+         */
+        BIG_DECIMAL(BigDecimal.class);
+
+        private final Class<? extends Number> numberClass;
+
+        Type(final Class<? extends Number> numberClass) {
+            this.numberClass = numberClass;
+        }
+
+        /**
+         * @return the number class
+         */
+        public Class<? extends Number> getNumberClass() {
+            return this.numberClass;
+        }
+
+        /**
+         * @return {@code true}, if integral type
+         */
+        public boolean isIntegral() {
+            return this.ordinal() <= BIG_INTEGER.ordinal();
+        }
+    }
+
+    private int flags;
+    private Type type;
+    private int exponent;
+
+    private long mantissa;
+    private int exponent10;
+    private boolean truncated;
+
+    private CharSequence sequence;
+    private int start;
+    private int end;
+
+    /**
+     * @return {@code true}, if the last classified sequence is a number
+     */
+    public boolean isNumber() {
+        return this.flags != 0;
+    }
+
+    /**
+     * @return {@code true}, if an integer number (no dot, no exponent, no
+     *         decimal type suffix)
+     */
+    public boolean isInteger() {
+        return this.isNumber() && this.type.isIntegral();
+    }
+
+    /**
+     * @return {@code true}, if a decimal number
+     */
+    public boolean isDecimal() {
+        return this.isNumber() && !this.type.isIntegral();
+    }
+
+    /**
+     * @return {@code true}, if negative
+     */
+    public boolean isNegative() {
+        return (this.flags & NumberScanner.NEGATIVE) != 0;
+    }
+
+    /**
+     * @return {@code true}, if the number has an exponent (like "1.5e3")
+     */
+    public boolean hasExponent() {
+        return (this.flags & NumberScanner.EXPONENT) != 0;
+    }
+
+    /**
+     * @return {@code true}, if "Infinity"
+     */
+    public boolean isInfinite() {
+        return (this.flags & NumberScanner.INFINITE) != 0;
+    }
+
+    /**
+     * @return the exponent value (0 if none)
+     */
+    public int getExponent() {
+        return this.exponent;
+    }
+
+    /**
+     * @return the type suffix [lLfFdD], or {@code 0} if none
+     */
+    public char getSuffix() {
+        if (this.isNumber() && (this.flags & NumberScanner.SUFFIXES) != 0) {
+            return this.sequence.charAt(this.end);
+        }
+        return 0;
+    }
+
+    /**
+     * @return the smallest type able to hold the number, or {@code null} if
+     *         not a number
+     */
+    public Type getType() {
+        return this.type;
+    }
+
+    /**
+     * @return the value as long
+     * @throws IllegalStateException
+     *             if not a number or if the type is not an integral type up to
+     *             {@link Type#LONG}
+     */
+    public long getLong() {
+        if (!this.isNumber() || this.type.compareTo(Type.LONG) > 0) {
+            throw new IllegalStateException("No long value available, type: " + this.type);
+        }
+        return this.mantissa;
+    }
+
+    /**
+     * @return the value as double (correctly rounded)
+     * @throws IllegalStateException
+     *             if not a number
+     */
+    public double getDouble() {
+        this.checkNumber();
+        if (this.isInfinite()) {
+            return this.isNegative() ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        } else if (this.type.compareTo(Type.LONG) <= 0) {
+            return this.mantissa;
+        }
+        return NumberScanner.toDouble(this.isNegative(), this.mantissa, this.exponent10, this.truncated, this.sequence, this.start,
+                this.end);
+    }
+
+    /**
+     * @return the value as float (correctly rounded)
+     * @throws IllegalStateException
+     *             if not a number
+     */
+    public float getFloat() {
+        this.checkNumber();
+        if (this.isInfinite()) {
+            return this.isNegative() ? Float.NEGATIVE_INFINITY : Float.POSITIVE_INFINITY;
+        } else if (this.type.compareTo(Type.LONG) <= 0) {
+            return this.mantissa;
+        }
+        return NumberScanner.toFloat(this.isNegative(), this.mantissa, this.exponent10, this.truncated, this.sequence, this.start,
+                this.end);
+    }
+
+    /**
+     * @return the value as an instance of the type class
+     * @throws IllegalStateException
+     *             if not a number
+     */
+    public Number getValue() {
+        this.checkNumber();
+        switch (this.type) {
+        case BYTE:
+            return (byte) this.mantissa;
+        case SHORT:
+            return (short) this.mantissa;
+        case INTEGER:
+            return (int) this.mantissa;
+        case LONG:
+            return this.mantissa;
+        case BIG_INTEGER:
+            return new BigInteger(this.sequence.subSequence(this.start, this.end).toString());
+        case FLOAT:
+            return this.getFloat();
+        case DOUBLE:
+            return this.getDouble();
+        default:
+            return new BigDecimal(this.sequence.subSequence(this.start, this.end).toString());
+        }
+    }
+
+    void set(final int flags, final Type type, final int exponent) {
+        this.flags = flags;
+        this.type = type;
+        this.exponent = exponent;
+    }
+
+    void setDigits(final long mantissa, final int exponent10, final boolean truncated) {
+        this.mantissa = mantissa;
+        this.exponent10 = exponent10;
+        this.truncated = truncated;
+    }
+
+    void setRange(final CharSequence sequence, final int start, final int end) {
+        this.sequence = sequence;
+        this.start = start;
+        this.end = end;
+    }
+
+    private void checkNumber() {
+        if (!this.isNumber()) {
+            throw new IllegalStateException("Not a number");
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (!this.isNumber()) {
+            return "not a number";
+        }
+        return this.type + (this.isNegative() ? "(negative" : "(positive") + (this.hasExponent() ? ", exponent: " + this.exponent : "")
+                + (this.getSuffix() != 0 ? ", suffix: " + this.getSuffix() : "") + ")";
+    }
+}
@@ -0,0 +1,164 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+/**
+ * Mutable and reusable result of the status-returning parsers of
+ * {@link NumberUtils} (like
+ * {@link NumberUtils#parseInt(CharSequence, int, NumberParseResult)}). The
+ * same instance can be reused for each parsed value, so parsing doesn't
+ * allocate. Not thread-safe.
+ *
+ * <pre>
+ * final NumberParseResult result = new NumberParseResult();
+ * for (String cell : cells) {
+ *     if (NumberUtils.parseInt(cell, 10, result) == NumberParseResult.Status.VALID) {
+ *         sum += result.getInt();
+ *     } else if (result.getStatus() == NumberParseResult.Status.OVERFLOW) {
+ *         ...
+ *     }
+ * }
+ * </pre>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public final class NumberParseResult {
+
+    /**
+     * Parsing status
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    public enum Status {
+        /**
+         * The number is valid, the value is available
+         */
+        VALID,
+
+        /**
+         * The input is {@code null} or empty
+         */
+        EMPTY,
+
+        /**
+         * The input is not a number
+         */
+        INVALID,
+
+        /**
+         * The input is an integral number out of the range of the parsed
+         * type (the floating point numbers out of range are parsed as
+         * infinite)
+         */
+        OVERFLOW
+    }
+
+    private Status status = Status.EMPTY;
+    private long longValue;
+    private double doubleValue;
+
+    /**
+     * @return the status of the last parsing
+     */
+    public Status getStatus() {
+        return this.status;
+    }
+
+    /**
+     * @return {@code true}, if the last parsing succeeded
+     */
+    public boolean isValid() {
+        return this.status == Status.VALID;
+    }
+
+    /**
+     * @return the last parsed value (integral types)
+     * @throws IllegalStateException
+     *             if the last parsing failed
+     */
+    public long getLong() {
+        this.checkValid();
+        return this.longValue;
+    }
+
+    /**
+     * @return the last parsed value (integral types), as int
+     * @throws IllegalStateException
+     *             if the last parsing failed
+     */
+    public int getInt() {
+        return (int) this.getLong();
+    }
+
+    /**
+     * @return the last parsed value (floating point types, or integral types
+     *         converted)
+     * @throws IllegalStateException
+     *             if the last parsing failed
+     */
+    public double getDouble() {
+        this.checkValid();
+        return this.doubleValue;
+    }
+
+    /**
+     * @return the last parsed value (floating point types, or integral types
+     *         converted), as float
+     * @throws IllegalStateException
+     *             if the last parsing failed
+     */
+    public float getFloat() {
+        return (float) this.getDouble();
+    }
+
+    Status setLong(final long value) {
+        this.longValue = value;
+        this.doubleValue = value;
+        this.status = Status.VALID;
+        return this.status;
+    }
+
+    Status setDouble(final double value) {
+        this.doubleValue = value;
+        this.longValue = (long) value;
+        this.status = Status.VALID;
+        return this.status;
+    }
+
+    Status setStatus(final Status status) {
+        this.status = status;
+        return status;
+    }
+
+    private void checkValid() {
+        if (this.status != Status.VALID) {
+            throw new IllegalStateException("No value available, status: " + this.status);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.status == Status.VALID ? this.status + "(" + this.longValue + ", " + this.doubleValue + ")" : this.status.name();
+    }
+}
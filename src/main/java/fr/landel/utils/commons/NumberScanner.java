@@ -0,0 +1,760 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Number scanners used by the exception-free parsers of {@link NumberUtils}.
+ * Each scanner validates and converts in a single pass, directly over the
+ * source, which is a {@link CharSequence}, a {@code char[]} or an ASCII
+ * {@code byte[]} (nothing is copied, except for the floating point numbers
+ * which cannot be converted exactly by the fast path).
+ * 
+ * <p>
+ * The failures are reported through the optional {@link NumberParseResult},
+ * otherwise the default value is returned.
+ * </p>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+final class NumberScanner {
+
+    static final String NAN = "NaN";
+    static final String INFINITY = "Infinity";
+
+    /**
+     * Classification flags
+     */
+    static final int NUMBER = 1;
+    static final int NEGATIVE = 1 << 1;
+    static final int DOT = 1 << 2;
+    static final int EXPONENT = 1 << 3;
+    static final int INFINITE = 1 << 4;
+    static final int SUFFIX_LONG = 1 << 5;
+    static final int SUFFIX_FLOAT = 1 << 6;
+    static final int SUFFIX_DOUBLE = 1 << 7;
+    static final int SUFFIXES = SUFFIX_LONG | SUFFIX_FLOAT | SUFFIX_DOUBLE;
+
+    private static final int HEX_RADIX = 16;
+    private static final int ASCII_SIZE = 128;
+
+    /**
+     * Value of each ASCII char as digit (up to the radix 36), -1 if not a digit
+     */
+    private static final byte[] DIGITS = new byte[ASCII_SIZE];
+
+    /**
+     * Maximum number of significant digits accumulated into the mantissa (fits
+     * in an unsigned long)
+     */
+    private static final int MAX_SIGNIFICANT = 19;
+
+    /**
+     * Over this decimal exponent, the value is infinite or zero
+     */
+    private static final int MAX_EXPONENT = 100_000;
+
+    /**
+     * Exact powers of ten as double
+     */
+    private static final double[] POW10 = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15,
+            1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /**
+     * Exact powers of ten as float
+     */
+    private static final float[] POW10_FLOAT = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+    /**
+     * Maximum number of significant digits which are always preserved by a
+     * float (or a double) and the maximum decimal magnitude of a normal float
+     * (or a double), rounded down
+     */
+    private static final int FLOAT_DIGITS = 6;
+    private static final int FLOAT_MAGNITUDE = 37;
+    private static final int DOUBLE_DIGITS = 15;
+    private static final int DOUBLE_MAGNITUDE = 307;
+
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+    private static final long MAX_EXACT_FLOAT = 1L << 24;
+
+    static {
+        for (int c = 0; c < ASCII_SIZE; ++c) {
+            DIGITS[c] = (byte) Character.digit(c, Character.MAX_RADIX);
+        }
+    }
+
+    private NumberScanner() {
+    }
+
+    /**
+     * @param source
+     *            the source (may be {@code null})
+     * @return the length of the source
+     */
+    static int length(final Object source) {
+        if (source == null) {
+            return 0;
+        } else if (source instanceof byte[]) {
+            return ((byte[]) source).length;
+        } else if (source instanceof char[]) {
+            return ((char[]) source).length;
+        }
+        return ((CharSequence) source).length();
+    }
+
+    /**
+     * Check the range and get its end
+     * 
+     * @param source
+     *            the source (may be {@code null})
+     * @param offset
+     *            the range offset
+     * @param length
+     *            the range length
+     * @return the range end (exclusive)
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the source
+     */
+    static int end(final Object source, final int offset, final int length) {
+        final int size = length(source);
+        if (source != null && (offset < 0 || length < 0 || offset > size - length)) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", size: " + size);
+        }
+        return offset + length;
+    }
+
+    /**
+     * Parse the integral number in the range ({@code [+-]?} then the digits of
+     * the radix, like {@link Long#parseLong(String, int)}), the sequence is
+     * validated while scanned
+     * 
+     * @param source
+     *            the source (may be {@code null})
+     * @param from
+     *            the start position (inclusive)
+     * @param to
+     *            the end position (exclusive)
+     * @param radix
+     *            the radix
+     * @param min
+     *            the minimum value of the type
+     * @param max
+     *            the maximum value of the type
+     * @param unicode
+     *            if the non ASCII digits are accepted (see
+     *            {@link Character#digit(char, int)})
+     * @param defaultValue
+     *            the value returned if parsing failed
+     * @param result
+     *            the result where the status and the value are stored (may
+     *            be {@code null})
+     * @return the parsed value or the default value
+     */
+    static long parseIntegral(final Object source, final int from, final int to, final int radix, final long min, final long max,
+            final boolean unicode, final long defaultValue, final NumberParseResult result) {
+        if (source == null || from >= to) {
+            return fail(NumberParseResult.Status.EMPTY, defaultValue, result);
+        } else if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX) {
+            return fail(NumberParseResult.Status.INVALID, defaultValue, result);
+        }
+
+        int i = from;
+        final int first = charAt(source, i);
+        final boolean negative = first == '-';
+        if ((negative || first == '+') && ++i == to) {
+            return fail(NumberParseResult.Status.INVALID, defaultValue, result);
+        }
+
+        // accumulated negatively (like Long#parseLong) to reach the minimum
+        final long limit = negative ? min : -max;
+        final long multiplyMin = limit / radix;
+        long value = 0;
+        boolean overflow = false;
+        for (; i < to; ++i) {
+            final int digit = digit(charAt(source, i), radix, unicode);
+            if (digit < 0) {
+                return fail(NumberParseResult.Status.INVALID, defaultValue, result);
+            } else if (!overflow) {
+                // overflowed sequences are still scanned to detect invalid chars
+                overflow = value < multiplyMin || value * radix < limit + digit;
+                value = value * radix - digit;
+            }
+        }
+
+        if (overflow) {
+            return fail(NumberParseResult.Status.OVERFLOW, defaultValue, result);
+        }
+        final long parsed = negative ? value : -value;
+        if (result != null) {
+            result.setLong(parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * Parse the decimal number in the range, with the rules of
+     * {@link NumberUtils#isNumberDecimal(String, boolean, boolean)} (type
+     * supported and lenient): {@code [+-]?(\d+|\d*\.\d+)([eE][+-]?\d+)?[dfDF]?}
+     * or {@code [+-]?Infinity}. The sequence is validated and the significant
+     * digits are accumulated in the same pass.
+     * 
+     * @param source
+     *            the source (may be {@code null})
+     * @param from
+     *            the start position (inclusive)
+     * @param to
+     *            the end position (exclusive)
+     * @param trailingDot
+     *            if a dot without following digits is accepted (like "1.",
+     *            as {@link Double#parseDouble(String)})
+     * @param toFloat
+     *            if the value is rounded to float
+     * @param defaultValue
+     *            the value returned if parsing failed
+     * @param result
+     *            the result where the status and the value are stored (may
+     *            be {@code null})
+     * @return the parsed value or the default value
+     */
+    static double parseDecimal(final Object source, final int from, final int to, final boolean trailingDot, final boolean toFloat,
+            final double defaultValue, final NumberParseResult result) {
+        if (source == null || from >= to) {
+            return fail(NumberParseResult.Status.EMPTY, defaultValue, result);
+        }
+
+        int i = from;
+        int c = charAt(source, i);
+        final boolean negative = c == '-';
+        if ((negative || c == '+') && ++i < to) {
+            c = charAt(source, i);
+        }
+        if (c == 'I') {
+            if (!regionEquals(source, i, to, INFINITY)) {
+                return fail(NumberParseResult.Status.INVALID, defaultValue, result);
+            }
+            return success(negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY, result);
+        }
+
+        long mantissa = 0;
+        int significant = 0;
+        int exponent = 0;
+        int digits = 0;
+        int digitsBeforeDot = -1;
+        boolean truncated = false;
+        for (; i < to; ++i) {
+            c = charAt(source, i);
+            if (c >= '0' && c <= '9') {
+                final int digit = c - '0';
+                final boolean dot = digitsBeforeDot > -1;
+                ++digits;
+                if (mantissa == 0 && digit == 0) {
+                    // leading zero
+                    exponent -= dot ? 1 : 0;
+                } else if (significant < MAX_SIGNIFICANT) {
+                    mantissa = mantissa * 10 + digit;
+                    ++significant;
+                    exponent -= dot ? 1 : 0;
+                } else {
+                    truncated |= digit != 0;
+                    exponent += dot ? 0 : 1;
+                }
+            } else if (c == '.' && digitsBeforeDot < 0) {
+                digitsBeforeDot = digits;
+            } else {
+                break;
+            }
+        }
+
+        // digits are required (after the dot, if any)
+        if (digits == 0 || (!trailingDot && digitsBeforeDot == digits)) {
+            return fail(NumberParseResult.Status.INVALID, defaultValue, result);
+        }
+        if (i < to && (c == 'e' || c == 'E')) {
+            ++i;
+            final boolean negativeExponent = i < to && charAt(source, i) == '-';
+            if (negativeExponent || (i < to && charAt(source, i) == '+')) {
+                ++i;
+            }
+            final int exponentStart = i;
+            int value = 0;
+            for (; i < to && (c = charAt(source, i)) >= '0' && c <= '9'; ++i) {
+                if (value < MAX_EXPONENT) {
+                    value = value * 10 + c - '0';
+                }
+            }
+            if (i == exponentStart) {
+                return fail(NumberParseResult.Status.INVALID, defaultValue, result);
+            }
+            exponent += negativeExponent ? -value : value;
+        }
+        if (i < to && (i < to - 1 || !isTypeSuffix(charAt(source, i)))) {
+            return fail(NumberParseResult.Status.INVALID, defaultValue, result);
+        }
+
+        final double value;
+        if (mantissa == 0) {
+            value = negative ? -0.0 : 0.0;
+        } else if (toFloat) {
+            value = toFloat(negative, mantissa, exponent, truncated, source, from, to);
+        } else {
+            value = toDouble(negative, mantissa, exponent, truncated, source, from, to);
+        }
+        return success(value, result);
+    }
+
+    /**
+     * Classify the number in the range in a single pass, the accepted numbers
+     * are {@code [+-]?(\d+|\d*\.\d+)([eE][+-]?\d+)?[lLfFdD]?} (the long
+     * suffix only after an integer) or {@code [+-]?Infinity}
+     * 
+     * @param sequence
+     *            the sequence (may be {@code null})
+     * @param from
+     *            the start position (inclusive)
+     * @param to
+     *            the end position (exclusive)
+     * @param classification
+     *            the classification to fill (may be {@code null})
+     * @return the flags ({@link #NUMBER}, {@link #NEGATIVE}, {@link #DOT},
+     *         {@link #EXPONENT}, {@link #INFINITE} and the suffix), or 0 if not
+     *         a number
+     */
+    static int classify(final CharSequence sequence, final int from, final int to, final NumberClassification classification) {
+        if (sequence == null || from >= to) {
+            return notNumber(classification);
+        }
+
+        int flags = NUMBER;
+        int i = from;
+        int c = sequence.charAt(i);
+        if (c == '-' || c == '+') {
+            flags |= c == '-' ? NEGATIVE : 0;
+            if (++i == to) {
+                return notNumber(classification);
+            }
+            c = sequence.charAt(i);
+        }
+        if (c == 'I') {
+            if (!regionEquals(sequence, i, to, INFINITY)) {
+                return notNumber(classification);
+            }
+            flags |= INFINITE;
+            if (classification != null) {
+                classification.set(flags, NumberClassification.Type.FLOAT, 0);
+                classification.setDigits(0, 0, false);
+                classification.setRange(sequence, from, to);
+            }
+            return flags;
+        }
+
+        // the leading zeros are not significant (the mantissa stays at 0)
+        long mantissa = 0;
+        int significant = 0;
+        int exponent10 = 0;
+        boolean truncated = false;
+        final int digitsStart = i;
+        for (; i < to && (c = sequence.charAt(i)) >= '0' && c <= '9'; ++i) {
+            if (significant < MAX_SIGNIFICANT) {
+                mantissa = mantissa * 10 + c - '0';
+                significant += mantissa != 0 ? 1 : 0;
+            } else {
+                truncated |= c != '0';
+                ++exponent10;
+            }
+        }
+        int digits = i - digitsStart;
+        if (i < to && c == '.') {
+            flags |= DOT;
+            final int decimalsStart = ++i;
+            for (; i < to && (c = sequence.charAt(i)) >= '0' && c <= '9'; ++i) {
+                if (significant < MAX_SIGNIFICANT) {
+                    mantissa = mantissa * 10 + c - '0';
+                    significant += mantissa != 0 ? 1 : 0;
+                    --exponent10;
+                } else {
+                    truncated |= c != '0';
+                }
+            }
+            // digits are required after the dot
+            if (i == decimalsStart) {
+                return notNumber(classification);
+            }
+            digits += i - decimalsStart;
+        }
+        if (digits == 0) {
+            return notNumber(classification);
+        }
+
+        int exponent = 0;
+        if (i < to && (c == 'e' || c == 'E')) {
+            flags |= EXPONENT;
+            final boolean negativeExponent = ++i < to && sequence.charAt(i) == '-';
+            if (negativeExponent || (i < to && sequence.charAt(i) == '+')) {
+                ++i;
+            }
+            final int exponentStart = i;
+            for (; i < to && (c = sequence.charAt(i)) >= '0' && c <= '9'; ++i) {
+                if (exponent < MAX_EXPONENT) {
+                    exponent = exponent * 10 + c - '0';
+                }
+            }
+            if (i == exponentStart) {
+                return notNumber(classification);
+            }
+            exponent = negativeExponent ? -exponent : exponent;
+            exponent10 += exponent;
+        }
+        if (i < to) {
+            c = sequence.charAt(i);
+            if (i < to - 1) {
+                return notNumber(classification);
+            } else if (c == 'l' || c == 'L') {
+                if ((flags & (DOT | EXPONENT)) != 0) {
+                    return notNumber(classification);
+                }
+                flags |= SUFFIX_LONG;
+            } else if (c == 'f' || c == 'F') {
+                flags |= SUFFIX_FLOAT;
+            } else if (c == 'd' || c == 'D') {
+                flags |= SUFFIX_DOUBLE;
+            } else {
+                return notNumber(classification);
+            }
+        }
+
+        if (classification != null) {
+            final boolean negative = (flags & NEGATIVE) != 0;
+            final NumberClassification.Type type;
+            if ((flags & (DOT | EXPONENT | SUFFIX_FLOAT | SUFFIX_DOUBLE)) == 0) {
+                // the integer fits in a long if no digit was dropped (the
+                // mantissa is unsigned)
+                if (exponent10 == 0 && (negative ? Long.compareUnsigned(mantissa, Long.MIN_VALUE) <= 0 : mantissa >= 0)) {
+                    mantissa = negative ? -mantissa : mantissa;
+                    type = getIntegralType(mantissa, (flags & SUFFIX_LONG) != 0);
+                } else {
+                    type = NumberClassification.Type.BIG_INTEGER;
+                }
+            } else {
+                type = getDecimalType(flags, mantissa, exponent10 + significant - 1, truncated ? Integer.MAX_VALUE : getPrecision(mantissa));
+            }
+            classification.set(flags, type, exponent);
+            classification.setDigits(mantissa, exponent10, truncated);
+            classification.setRange(sequence, from, (flags & SUFFIXES) != 0 ? to - 1 : to);
+        }
+        return flags;
+    }
+
+    private static int notNumber(final NumberClassification classification) {
+        if (classification != null) {
+            classification.set(0, null, 0);
+            classification.setRange(null, 0, 0);
+        }
+        return 0;
+    }
+
+    /**
+     * @return the number of digits of the mantissa, without the trailing zeros
+     */
+    private static int getPrecision(final long mantissa) {
+        long value = mantissa;
+        while (value != 0 && value % 10 == 0) {
+            value /= 10;
+        }
+        int precision = 0;
+        for (; value != 0; value /= 10) {
+            ++precision;
+        }
+        return precision;
+    }
+
+    private static NumberClassification.Type getIntegralType(final long value, final boolean longSuffix) {
+        if (longSuffix || value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            return NumberClassification.Type.LONG;
+        } else if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+            return NumberClassification.Type.INTEGER;
+        } else if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+            return NumberClassification.Type.SHORT;
+        }
+        return NumberClassification.Type.BYTE;
+    }
+
+    private static NumberClassification.Type getDecimalType(final int flags, final long mantissa, final int magnitude,
+            final int precision) {
+        if ((flags & SUFFIX_FLOAT) != 0) {
+            return NumberClassification.Type.FLOAT;
+        } else if ((flags & SUFFIX_DOUBLE) != 0) {
+            return NumberClassification.Type.DOUBLE;
+        } else if (mantissa == 0 || (precision <= FLOAT_DIGITS && Math.abs(magnitude) <= FLOAT_MAGNITUDE)) {
+            return NumberClassification.Type.FLOAT;
+        } else if (precision <= DOUBLE_DIGITS && Math.abs(magnitude) <= DOUBLE_MAGNITUDE) {
+            return NumberClassification.Type.DOUBLE;
+        }
+        return NumberClassification.Type.BIG_DECIMAL;
+    }
+
+    /**
+     * Parse the floating point number in the range (same rules as
+     * {@link Double#parseDouble(String)}: surrounding whitespaces if trimmed,
+     * optional sign, then "NaN", "Infinity", a decimal number with an optional
+     * exponent or an hexadecimal number with a binary exponent, then an
+     * optional type suffix [fFdD]). Only the hexadecimal numbers are converted
+     * by the JDK.
+     * 
+     * @param source
+     *            the source (may be {@code null})
+     * @param from
+     *            the start position (inclusive)
+     * @param to
+     *            the end position (exclusive)
+     * @param trim
+     *            if the surrounding whitespaces are skipped (like
+     *            {@link Double#parseDouble(String)}), otherwise they are
+     *            invalid (like in the integral numbers)
+     * @param toFloat
+     *            if the value is rounded to float
+     * @param defaultValue
+     *            the value returned if parsing failed
+     * @param result
+     *            the result where the status and the value are stored (may
+     *            be {@code null})
+     * @return the parsed value or the default value
+     */
+    static double parseFloating(final Object source, final int from, final int to, final boolean trim, final boolean toFloat,
+            final double defaultValue, final NumberParseResult result) {
+        if (source == null) {
+            return fail(NumberParseResult.Status.EMPTY, defaultValue, result);
+        }
+        int start = from;
+        int end = to;
+        while (trim && start < end && charAt(source, start) <= ' ') {
+            ++start;
+        }
+        while (trim && end > start && charAt(source, end - 1) <= ' ') {
+            --end;
+        }
+        if (start == end) {
+            return fail(NumberParseResult.Status.EMPTY, defaultValue, result);
+        }
+
+        int i = start;
+        final int first = charAt(source, i);
+        if ((first == '+' || first == '-') && i + 1 < end) {
+            ++i;
+        }
+        final int c = charAt(source, i);
+        if (c == 'N') {
+            if (!regionEquals(source, i, end, NAN)) {
+                return fail(NumberParseResult.Status.INVALID, defaultValue, result);
+            }
+            return success(Double.NaN, result);
+        } else if (c == '0' && i + 1 < end && (charAt(source, i + 1) == 'x' || charAt(source, i + 1) == 'X')) {
+            if (!isHexFloating(source, i + 2, end)) {
+                return fail(NumberParseResult.Status.INVALID, defaultValue, result);
+            }
+            final String hex = toString(source, start, end);
+            return success(toFloat ? Float.parseFloat(hex) : Double.parseDouble(hex), result);
+        }
+        return parseDecimal(source, start, end, true, toFloat, defaultValue, result);
+    }
+
+    /**
+     * Get the range as string
+     * 
+     * @param source
+     *            the source
+     * @param from
+     *            the start position (inclusive)
+     * @param to
+     *            the end position (exclusive)
+     * @return the string
+     */
+    static String toString(final Object source, final int from, final int to) {
+        if (source instanceof byte[]) {
+            return new String((byte[]) source, from, to - from, StandardCharsets.ISO_8859_1);
+        } else if (source instanceof char[]) {
+            return new String((char[]) source, from, to - from);
+        }
+        return ((CharSequence) source).subSequence(from, to).toString();
+    }
+
+    private static int charAt(final Object source, final int index) {
+        if (source instanceof byte[]) {
+            return ((byte[]) source)[index] & 0xFF;
+        } else if (source instanceof char[]) {
+            return ((char[]) source)[index];
+        }
+        return ((CharSequence) source).charAt(index);
+    }
+
+    private static int digit(final int c, final int radix, final boolean unicode) {
+        if (c < ASCII_SIZE) {
+            final int digit = DIGITS[c];
+            return digit < radix ? digit : -1;
+        }
+        return unicode ? Character.digit((char) c, radix) : -1;
+    }
+
+    /**
+     * Convert the decimal number (correctly rounded)
+     * 
+     * @param negative
+     *            if negative
+     * @param mantissa
+     *            the mantissa (unsigned)
+     * @param exponent
+     *            the decimal exponent
+     * @param truncated
+     *            if non zero digits were dropped from the mantissa
+     * @param source
+     *            the source, parsed by the JDK if the conversion cannot be
+     *            decided
+     * @param from
+     *            the start position (inclusive)
+     * @param to
+     *            the end position (exclusive)
+     * @return the value
+     */
+    static double toDouble(final boolean negative, final long mantissa, final int exponent, final boolean truncated,
+            final Object source, final int from, final int to) {
+        if (!truncated && mantissa > 0 && mantissa <= MAX_EXACT_DOUBLE && exponent >= -POW10.length + 1 && exponent < POW10.length) {
+            // exact mantissa and power of ten, so only one rounding
+            final double value = exponent < 0 ? mantissa / POW10[-exponent] : mantissa * POW10[exponent];
+            return negative ? -value : value;
+        }
+        final double value = DecimalToBinary.toDouble(negative, mantissa, exponent);
+        // the dropped digits are between mantissa and mantissa + 1
+        if (!Double.isNaN(value) && (!truncated || value == DecimalToBinary.toDouble(negative, mantissa + 1, exponent))) {
+            return value;
+        }
+        return Double.parseDouble(toString(source, from, to));
+    }
+
+    /**
+     * Convert the decimal number (correctly rounded)
+     * 
+     * @param negative
+     *            if negative
+     * @param mantissa
+     *            the mantissa (unsigned)
+     * @param exponent
+     *            the decimal exponent
+     * @param truncated
+     *            if non zero digits were dropped from the mantissa
+     * @param source
+     *            the source, parsed by the JDK if the conversion cannot be
+     *            decided
+     * @param from
+     *            the start position (inclusive)
+     * @param to
+     *            the end position (exclusive)
+     * @return the value
+     */
+    static float toFloat(final boolean negative, final long mantissa, final int exponent, final boolean truncated,
+            final Object source, final int from, final int to) {
+        if (!truncated && mantissa > 0 && mantissa <= MAX_EXACT_FLOAT && exponent >= -POW10_FLOAT.length + 1
+                && exponent < POW10_FLOAT.length) {
+            final float value = exponent < 0 ? mantissa / POW10_FLOAT[-exponent] : mantissa * POW10_FLOAT[exponent];
+            return negative ? -value : value;
+        }
+        final float value = DecimalToBinary.toFloat(negative, mantissa, exponent);
+        if (!Float.isNaN(value) && (!truncated || value == DecimalToBinary.toFloat(negative, mantissa + 1, exponent))) {
+            return value;
+        }
+        return Float.parseFloat(toString(source, from, to));
+    }
+
+    private static long fail(final NumberParseResult.Status status, final long defaultValue, final NumberParseResult result) {
+        if (result != null) {
+            result.setStatus(status);
+        }
+        return defaultValue;
+    }
+
+    private static double fail(final NumberParseResult.Status status, final double defaultValue, final NumberParseResult result) {
+        if (result != null) {
+            result.setStatus(status);
+        }
+        return defaultValue;
+    }
+
+    private static double success(final double value, final NumberParseResult result) {
+        if (result != null) {
+            result.setDouble(value);
+        }
+        return value;
+    }
+
+    private static boolean isHexFloating(final Object source, final int from, final int end) {
+        int i = from;
+        int digits = 0;
+        boolean dot = false;
+        for (; i < end; ++i) {
+            final int c = charAt(source, i);
+            if (c == '.' && !dot) {
+                dot = true;
+            } else if (digit(c, HEX_RADIX, false) < 0) {
+                break;
+            } else {
+                ++digits;
+            }
+        }
+        // the binary exponent is required
+        if (digits == 0 || i == end || (charAt(source, i) != 'p' && charAt(source, i) != 'P')) {
+            return false;
+        }
+        i = scanExponent(source, i + 1, end);
+        return i > -1 && (i == end || (i == end - 1 && isTypeSuffix(charAt(source, i))));
+    }
+
+    /**
+     * @return the position after the exponent digits, or -1 if no digit
+     */
+    private static int scanExponent(final Object source, final int from, final int end) {
+        int i = from;
+        if (i < end && (charAt(source, i) == '+' || charAt(source, i) == '-')) {
+            ++i;
+        }
+        final int digitsStart = i;
+        while (i < end && charAt(source, i) >= '0' && charAt(source, i) <= '9') {
+            ++i;
+        }
+        return i > digitsStart ? i : -1;
+    }
+
+    private static boolean isTypeSuffix(final int c) {
+        return c == 'f' || c == 'F' || c == 'd' || c == 'D';
+    }
+
+    private static boolean regionEquals(final Object source, final int from, final int end, final String expected) {
+        if (end - from != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); ++i) {
+            if (charAt(source, from + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -21,11 +21,9 @@ package fr.landel.utils.commons;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.Predicate;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -43,15 +41,6 @@ public final class NumberUtils extends NumberUtilsParsers {
     private static final int ENO = -1;
     private static final int TEN = 10;
 
-    private static final byte[] INFINITY = {'I', 'n', 'f', 'i', 'n', 'i', 't', 'y'};
-    private static final byte I = 'I';
-    private static final byte DOT = '.';
-
-    private static final Predicate<Byte> IS_SIGN = b -> '+' == b || '-' == b;
-    private static final Predicate<Byte> IS_EXPONENT = b -> 'e' == b || 'E' == b;
-    private static final Predicate<Byte> IS_LONG = b -> 'l' == b || 'L' == b;
-    private static final Predicate<Byte> IS_DECIMAL = b -> 'f' == b || 'F' == b || 'd' == b || 'D' == b;
-
     /**
      * Hidden constructor.
      */
@@ -305,31 +294,10 @@ public final class NumberUtils extends NumberUtilsParsers {
      * @return true, if integer number
      */
     public static boolean isNumberInteger(final String string, final boolean typeSupported) {
+        final int flags = NumberScanner.classify(string, 0, StringUtils.length(string), null);
 
-        if (StringUtils.isEmpty(string)) {
-            return false;
-        }
-
-        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
-
-        int start = ZERO;
-        if (IS_SIGN.test(bytes[ZERO])) {
-            start = ONE;
-        }
-
-        final int length = bytes.length;
-
-        short nb = ZERO;
-        byte typed = ZERO;
-
-        for (int i = start; i < length; ++i) {
-            if (AsciiUtils.IS_NUMERIC.test(bytes[i])) {
-                ++nb;
-            } else if (typeSupported && i == length - ONE) {
-                typed = IS_LONG.test(bytes[i]) ? ONE : ZERO;
-            }
-        }
-        return start + nb + typed == length;
+        // only the sign and the long suffix (if supported) are accepted
+        return (flags & ~(NumberScanner.NEGATIVE | (typeSupported ? NumberScanner.SUFFIX_LONG : 0))) == NumberScanner.NUMBER;
     }
 
     /**
@@ -511,108 +479,84 @@ public final class NumberUtils extends NumberUtilsParsers {
      * @return true, if decimal number
      */
     public static boolean isNumberDecimal(final String string, final boolean typeSupported, final boolean lenient) {
+        final int flags = NumberScanner.classify(string, 0, StringUtils.length(string), null);
 
-        if (StringUtils.isEmpty(string)) {
+        if (flags == 0 || (flags & NumberScanner.SUFFIX_LONG) != 0 || (!typeSupported && (flags & NumberScanner.SUFFIXES) != 0)) {
             return false;
         }
-
-        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
-
-        byte start = ZERO;
-        if (IS_SIGN.test(bytes[ZERO])) {
-            start = ONE;
-        }
-
-        final int length = bytes.length;
-
-        final Boolean infinity = isInfinity(bytes, length, start);
-        if (infinity != null) {
-            return infinity;
-        }
-
-        byte dot = ZERO;
-        byte exponent = ZERO;
-        int exponentPos = ENO;
-        byte expSign = ZERO;
-        byte typed = ZERO;
-        short nb1 = ZERO;
-        short nb2 = ZERO;
-        short nb3 = ZERO;
-
-        for (int i = start; i < length; ++i) {
-            if (AsciiUtils.IS_NUMERIC.test((int) bytes[i])) {
-                if (exponent == ONE) {
-                    ++nb3;
-                } else if (dot == ONE) {
-                    ++nb2;
-                } else {
-                    ++nb1;
-                }
-            } else if (DOT == bytes[i]) {
-                if (dot == ONE || exponent == ONE) {
-                    // multiple dots or after an exponent marker
-                    return false;
-                } else {
-                    dot = ONE;
-                }
-            } else if (IS_EXPONENT.test(bytes[i])) {
-                if (exponent == ONE) {
-                    return false; // multiple exponents
-                } else {
-                    exponent = ONE;
-                    exponentPos = i;
-                }
-            } else if (IS_SIGN.test(bytes[i])) {
-                if (expSign == ONE || exponentPos != i - ONE) {
-                    // multiple exponent signs, no exponent marker or not just
-                    // after exponent marker
-                    return false;
-                } else {
-                    expSign = ONE;
-                }
-            } else if (typeSupported && i == length - ONE && IS_DECIMAL.test(bytes[i])) {
-                typed = ONE;
-            }
-        }
-        // prepare length by subtracting all common values
-        return compareLength(nb1, dot, nb2, typed, length - (start + getExpLength(exponent, expSign, nb3) + typed), lenient);
+        // without dot, a decimal type suffix is required if not lenient
+        return lenient || (flags & (NumberScanner.DOT | NumberScanner.INFINITE | NumberScanner.SUFFIXES)) != 0;
     }
 
-    private static Boolean isInfinity(final byte[] bytes, final int length, final int start) {
-        if (I == bytes[start]) {
-            if (length > ONE) {
-                final byte[] bytesWithoutSign = new byte[length - start];
-                System.arraycopy(bytes, start, bytesWithoutSign, ZERO, length - start);
-                return Arrays.equals(INFINITY, bytesWithoutSign);
-            } else {
-                return false;
-            }
-        }
-        return null;
+    /**
+     * Classify the char sequence in a single pass, without copy. The accepted
+     * numbers are {@code [+-]?(\d+|\d*\.\d+)([eE][+-]?\d+)?[lLfFdD]?} (the
+     * long suffix only after an integer) or {@code [+-]?Infinity}. The
+     * classification contains the kind, the sign, the exponent, the type
+     * suffix and the smallest type able to hold the number, and gives the
+     * value without parsing the sequence again.
+     * 
+     * <pre>
+     * NumberUtils.classify("25", classification); // -&gt; true, BYTE
+     * NumberUtils.classify("-40000", classification); // -&gt; true, INTEGER
+     * NumberUtils.classify("25L", classification); // -&gt; true, LONG
+     * NumberUtils.classify("12345678901234567890", classification); // -&gt; true, BIG_INTEGER
+     * NumberUtils.classify("2.5", classification); // -&gt; true, FLOAT
+     * NumberUtils.classify("3.14159265358", classification); // -&gt; true, DOUBLE
+     * NumberUtils.classify("1.5e400", classification); // -&gt; true, BIG_DECIMAL
+     * NumberUtils.classify("25.", classification); // -&gt; false
+     * NumberUtils.classify(null, classification); // -&gt; false
+     * </pre>
+     * 
+     * @param sequence
+     *            the input sequence
+     * @param classification
+     *            the classification to fill (reusable)
+     * @return true, if number
+     * @throws NullPointerException
+     *             if classification is {@code null}
+     */
+    public static boolean classify(final CharSequence sequence, final NumberClassification classification) {
+        return classify(sequence, 0, StringUtils.length(sequence), classification);
     }
 
-    private static boolean compareLength(final short nb1, final byte dot, final short nb2, final byte typed, final int length,
-            final boolean lenient) {
+    /**
+     * Classify the range of the char sequence in a single pass, without copy
+     * (see {@link #classify(CharSequence, NumberClassification)}).
+     * 
+     * @param sequence
+     *            the input sequence
+     * @param offset
+     *            the range offset
+     * @param length
+     *            the range length
+     * @param classification
+     *            the classification to fill (reusable)
+     * @return true, if number
+     * @throws NullPointerException
+     *             if classification is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the sequence
+     */
+    public static boolean classify(final CharSequence sequence, final int offset, final int length,
+            final NumberClassification classification) {
+        Objects.requireNonNull(classification, "classification");
 
-        if (nb1 > ZERO) {
-            if (dot == ONE && nb2 > ZERO) {
-                return nb1 + dot + nb2 == length;
-            } else if (lenient || typed == ONE) {
-                return nb1 == length;
-            }
-        } else if (dot == ONE && nb2 > ZERO) {
-            return dot + nb2 == length;
-        }
-        return false;
+        return NumberScanner.classify(sequence, offset, NumberScanner.end(sequence, offset, length), classification) != 0;
     }
 
-    private static int getExpLength(final byte exponent, final byte expSign, final short nb3) {
-
-        if (exponent == ONE && nb3 > ZERO) {
-            return exponent + expSign + nb3;
-        } else {
-            return ZERO;
-        }
+    /**
+     * Classify the char sequence in a single pass (see
+     * {@link #classify(CharSequence, NumberClassification)}).
+     * 
+     * @param sequence
+     *            the input sequence
+     * @return the new classification
+     */
+    public static NumberClassification classify(final CharSequence sequence) {
+        final NumberClassification classification = new NumberClassification();
+        classify(sequence, classification);
+        return classification;
     }
 
     /**
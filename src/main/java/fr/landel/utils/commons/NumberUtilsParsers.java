@@ -19,6 +19,10 @@
  */
 package fr.landel.utils.commons;
 
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
 import org.apache.commons.lang3.StringUtils;
 
 import fr.landel.utils.commons.function.FunctionThrowable;
@@ -34,6 +38,8 @@ class NumberUtilsParsers extends org.apache.commons.lang3.math.NumberUtils {
 
     protected static final int RADIX = 10;
 
+    private static final String ERROR_RESULT = "result";
+
     /**
      * Parse a string into a byte. (Null safe and number safe). Returns null, if
      * the string is null or not a number.
@@ -487,7 +493,7 @@ class NumberUtilsParsers extends org.apache.commons.lang3.math.NumberUtils {
      *             {@code false}
      */
     public static Float parseFloat(final String string, final Float defaultValue, final boolean noThrow) {
-        return parse(string, defaultValue, Float::parseFloat, noThrow);
+        return parse(string, defaultValue, NumberUtilsParsers::parseFastFloat, noThrow);
     }
 
     /**
@@ -550,41 +556,1608 @@ class NumberUtilsParsers extends org.apache.commons.lang3.math.NumberUtils {
      *             {@code false}
      */
     public static Double parseDouble(final String string, final Double defaultValue, final boolean noThrow) {
-        return parse(string, defaultValue, Double::parseDouble, noThrow);
+        return parse(string, defaultValue, NumberUtilsParsers::parseFastDouble, noThrow);
     }
 
     /**
-     * Parse a string into a number through the provided parser, if the string
-     * cannot be parsed or if parse failed the default number is returned
+     * Parse a char sequence into a byte, without exception (same rules as
+     * {@link Byte#parseByte(String)}).
      * 
-     * @param string
-     *            the string to parse
+     * @param sequence
+     *            The input
      * @param defaultValue
-     *            the default value
-     * @param parser
-     *            the parser
-     * @param noThrow
-     *            true, to avoid throwing a {@link NumberFormatException} if
-     *            parse failed
-     * @param <T>
-     *            the output number type
-     * @return the parsed value or the default value
-     * @throws NumberFormatException
-     *             if the number cannot be parsed and {@code noThrow} is
-     *             {@code false}
+     *            If the input is empty, invalid or out of range, value is
+     *            returned
+     * @return The parsed result
      */
-    private static <T extends Number> T parse(final String string, final T defaultValue,
-            final FunctionThrowable<String, T, NumberFormatException> parser, final boolean noThrow) {
+    public static byte parseByteOrDefault(final CharSequence sequence, final byte defaultValue) {
+        return parseByteOrDefault(sequence, defaultValue, RADIX);
+    }
 
-        if (StringUtils.isNotEmpty(string)) {
-            try {
-                return parser.apply(string);
-            } catch (final NumberFormatException e) {
-                if (!noThrow) {
-                    throw e;
-                }
-            }
-        }
-        return defaultValue;
+    /**
+     * Parse a char sequence into a byte, without exception (same rules as
+     * {@link Byte#parseByte(String, int)}).
+     * 
+     * @param sequence
+     *            The input
+     * @param defaultValue
+     *            If the input is empty, invalid or out of range, value is
+     *            returned
+     * @param radix
+     *            The radix to be used while parsing the sequence
+     * @return The parsed result
+     */
+    public static byte parseByteOrDefault(final CharSequence sequence, final byte defaultValue, final int radix) {
+        return (byte) NumberScanner.parseIntegral(sequence, 0, NumberScanner.length(sequence), radix, Byte.MIN_VALUE, Byte.MAX_VALUE,
+                true, defaultValue, null);
+    }
+
+    /**
+     * Parse a char sequence into a byte, without exception (same rules as
+     * {@link Byte#parseByte(String, int)}).
+     * 
+     * @param sequence
+     *            The input
+     * @param radix
+     *            The radix to be used while parsing the sequence
+     * @param result
+     *            The result, where the value and the status are stored
+     * @return The status
+     * @throws NullPointerException
+     *             if result is {@code null}
+     */
+    public static NumberParseResult.Status parseByte(final CharSequence sequence, final int radix, final NumberParseResult result) {
+        return parseIntegral(sequence, radix, Byte.MIN_VALUE, Byte.MAX_VALUE, result);
+    }
+
+    /**
+     * Parse a char sequence into a short, without exception (same rules as
+     * {@link Short#parseShort(String)}).
+     * 
+     * @param sequence
+     *            The input
+     * @param defaultValue
+     *            If the input is empty, invalid or out of range, value is
+     *            returned
+     * @return The parsed result
+     */
+    public static short parseShortOrDefault(final CharSequence sequence, final short defaultValue) {
+        return parseShortOrDefault(sequence, defaultValue, RADIX);
+    }
+
+    /**
+     * Parse a char sequence into a short, without exception (same rules as
+     * {@link Short#parseShort(String, int)}).
+     * 
+     * @param sequence
+     *            The input
+     * @param defaultValue
+     *            If the input is empty, invalid or out of range, value is
+     *            returned
+     * @param radix
+     *            The radix to be used while parsing the sequence
+     * @return The parsed result
+     */
+    public static short parseShortOrDefault(final CharSequence sequence, final short defaultValue, final int radix) {
+        return (short) NumberScanner.parseIntegral(sequence, 0, NumberScanner.length(sequence), radix, Short.MIN_VALUE, Short.MAX_VALUE,
+                true, defaultValue, null);
+    }
+
+    /**
+     * Parse a char sequence into a short, without exception (same rules as
+     * {@link Short#parseShort(String, int)}).
+     * 
+     * @param sequence
+     *            The input
+     * @param radix
+     *            The radix to be used while parsing the sequence
+     * @param result
+     *            The result, where the value and the status are stored
+     * @return The status
+     * @throws NullPointerException
+     *             if result is {@code null}
+     */
+    public static NumberParseResult.Status parseShort(final CharSequence sequence, final int radix, final NumberParseResult result) {
+        return parseIntegral(sequence, radix, Short.MIN_VALUE, Short.MAX_VALUE, result);
+    }
+
+    /**
+     * Parse a char sequence into an integer, without exception (same rules as
+     * {@link Integer#parseInt(String)}). The sequence is validated while
+     * scanned, so invalid inputs cost no exception.
+     * 
+     * <pre>
+     * NumberUtils.parseInt("12", 0); // -&gt; 12
+     * NumberUtils.parseInt("-12", 0); // -&gt; -12
+     * NumberUtils.parseInt(" 12", 0); // -&gt; 0
+     * NumberUtils.parseInt("2147483648", 0); // -&gt; 0
+     * NumberUtils.parseInt(null, 0); // -&gt; 0
+     * </pre>
+     * 
+     * @param sequence
+     *            The input
+     * @param defaultValue
+     *            If the input is empty, invalid or out of range, value is
+     *            returned
+     * @return The parsed result
+     */
+    public static int parseIntOrDefault(final CharSequence sequence, final int defaultValue) {
+        return parseIntOrDefault(sequence, defaultValue, RADIX);
+    }
+
+    /**
+     * Parse a char sequence into an integer, without exception (same rules as
+     * {@link Integer#parseInt(String, int)}).
+     * 
+     * @param sequence
+     *            The input
+     * @param defaultValue
+     *            If the input is empty, invalid or out of range, value is
+     *            returned
+     * @param radix
+     *            The radix to be used while parsing the sequence
+     * @return The parsed result
+     */
+    public static int parseIntOrDefault(final CharSequence sequence, final int defaultValue, final int radix) {
+        return (int) NumberScanner.parseIntegral(sequence, 0, NumberScanner.length(sequence), radix, Integer.MIN_VALUE, Integer.MAX_VALUE,
+                true, defaultValue, null);
+    }
+
+    /**
+     * Parse a char sequence into an integer, without exception (same rules as
+     * {@link Integer#parseInt(String, int)}).
+     * 
+     * @param sequence
+     *            The input
+     * @param radix
+     *            The radix to be used while parsing the sequence
+     * @param result
+     *            The result, where the value and the status are stored
+     * @return The status
+     * @throws NullPointerException
+     *             if result is {@code null}
+     */
+    public static NumberParseResult.Status parseInt(final CharSequence sequence, final int radix, final NumberParseResult result) {
+        return parseIntegral(sequence, radix, Integer.MIN_VALUE, Integer.MAX_VALUE, result);
+    }
+
+    /**
+     * Parse a char sequence into a long, without exception (same rules as
+     * {@link Long#parseLong(String)}).
+     * 
+     * @param sequence
+     *            The input
+     * @param defaultValue
+     *            If the input is empty, invalid or out of range, value is
+     *            returned
+     * @return The parsed result
+     */
+    public static long parseLongOrDefault(final CharSequence sequence, final long defaultValue) {
+        return parseLongOrDefault(sequence, defaultValue, RADIX);
+    }
+
+    /**
+     * Parse a char sequence into a long, without exception (same rules as
+     * {@link Long#parseLong(String, int)}).
+     * 
+     * @param sequence
+     *            The input
+     * @param defaultValue
+     *            If the input is empty, invalid or out of range, value is
+     *            returned
+     * @param radix
+     *            The radix to be used while parsing the sequence
+     * @return The parsed result
+     */
+    public static long parseLongOrDefault(final CharSequence sequence, final long defaultValue, final int radix) {
+        return NumberScanner.parseIntegral(sequence, 0, NumberScanner.length(sequence), radix, Long.MIN_VALUE, Long.MAX_VALUE,
+                true, defaultValue, null);
+    }
+
+    /**
+     * Parse a char sequence into a long, without exception (same rules as
+     * {@link Long#parseLong(String, int)}).
+     * 
+     * @param sequence
+     *            The input
+     * @param radix
+     *            The radix to be used while parsing the sequence
+     * @param result
+     *            The result, where the value and the status are stored
+     * @return The status
+     * @throws NullPointerException
+     *             if result is {@code null}
+     */
+    public static NumberParseResult.Status parseLong(final CharSequence sequence, final int radix, final NumberParseResult result) {
+        return parseIntegral(sequence, radix, Long.MIN_VALUE, Long.MAX_VALUE, result);
+    }
+
+    /**
+     * Parse a char sequence into a float, without exception (same rules as
+     * {@link Float#parseFloat(String)}).
+     * 
+     * @param sequence
+     *            The input
+     * @param defaultValue
+     *            If the input is empty or invalid, value is returned
+     * @return The parsed result
+     */
+    public static float parseFloatOrDefault(final CharSequence sequence, final float defaultValue) {
+        return (float) NumberScanner.parseFloating(sequence, 0, NumberScanner.length(sequence), true, true, defaultValue, null);
     }
+
+    /**
+     * Parse a char sequence into a float, without exception (same rules as
+     * {@link Float#parseFloat(String)}).
+     * 
+     * @param sequence
+     *            The input
+     * @param result
+     *            The result, where the value and the status are stored
+     * @return The status
+     * @throws NullPointerException
+     *             if result is {@code null}
+     */
+    public static NumberParseResult.Status parseFloat(final CharSequence sequence, final NumberParseResult result) {
+        Objects.requireNonNull(result, ERROR_RESULT);
+
+        NumberScanner.parseFloating(sequence, 0, NumberScanner.length(sequence), true, true, 0, result);
+        return result.getStatus();
+    }
+
+    /**
+     * Parse a char sequence into a double, without exception (same rules as
+     * {@link Double#parseDouble(String)}). The sequence is validated before
+     * being parsed, so invalid inputs cost no exception.
+     * 
+     * <pre>
+     * NumberUtils.parseDouble("12.5", 0); // -&gt; 12.5
+     * NumberUtils.parseDouble(" -1e3d ", 0); // -&gt; -1000.0
+     * NumberUtils.parseDouble("1e", 0); // -&gt; 0.0
+     * NumberUtils.parseDouble(null, 0); // -&gt; 0.0
+     * </pre>
+     * 
+     * @param sequence
+     *            The input
+     * @param defaultValue
+     *            If the input is empty or invalid, value is returned
+     * @return The parsed result
+     */
+    public static double parseDoubleOrDefault(final CharSequence sequence, final double defaultValue) {
+        return NumberScanner.parseFloating(sequence, 0, NumberScanner.length(sequence), true, false, defaultValue, null);
+    }
+
+    /**
+     * Parse a char sequence into a double, without exception (same rules as
+     * {@link Double#parseDouble(String)}).
+     * 
+     * @param sequence
+     *            The input
+     * @param result
+     *            The result, where the value and the status are stored
+     * @return The status
+     * @throws NullPointerException
+     *             if result is {@code null}
+     */
+    public static NumberParseResult.Status parseDouble(final CharSequence sequence, final NumberParseResult result) {
+        Objects.requireNonNull(result, ERROR_RESULT);
+
+        NumberScanner.parseFloating(sequence, 0, NumberScanner.length(sequence), true, false, 0, result);
+        return result.getStatus();
+    }
+
+    /**
+     * Parse the range of the char sequence into a byte, without exception and
+     * without copy (same rules as
+     * {@link Byte#parseByte(String, int)}, like the whole sequence parsers).
+     * 
+     * @param sequence
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param radix
+     *            The radix to be used while parsing the range
+     * @param defaultValue
+     *            If the range is empty, invalid or out of range, value is
+     *            returned
+     * @return The parsed result
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static byte parseByteOrDefault(final CharSequence sequence, final int offset, final int length, final int radix,
+            final byte defaultValue) {
+        return (byte) NumberScanner.parseIntegral(sequence, offset, NumberScanner.end(sequence, offset, length), radix, Byte.MIN_VALUE,
+                Byte.MAX_VALUE, true, defaultValue, null);
+    }
+
+    /**
+     * Parse the range of the char sequence into a byte, without exception and
+     * without copy (same rules as
+     * {@link Byte#parseByte(String, int)}, like the whole sequence parsers).
+     * 
+     * @param sequence
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param radix
+     *            The radix to be used while parsing the range
+     * @param result
+     *            The result, where the value and the status are stored
+     * @return The status
+     * @throws NullPointerException
+     *             if result is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static NumberParseResult.Status parseByte(final CharSequence sequence, final int offset, final int length, final int radix,
+            final NumberParseResult result) {
+        Objects.requireNonNull(result, ERROR_RESULT);
+
+        NumberScanner.parseIntegral(sequence, offset, NumberScanner.end(sequence, offset, length), radix,
+                Byte.MIN_VALUE, Byte.MAX_VALUE, true, 0, result);
+        return result.getStatus();
+    }
+
+    /**
+     * Parse the range of the char array into a byte, without exception and
+     * without copy (same rules as
+     * {@link Byte#parseByte(String, int)}, like the whole sequence parsers).
+     * 
+     * @param chars
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param radix
+     *            The radix to be used while parsing the range
+     * @param defaultValue
+     *            If the range is empty, invalid or out of range, value is
+     *            returned
+     * @return The parsed result
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static byte parseByteOrDefault(final char[] chars, final int offset, final int length, final int radix,
+            final byte defaultValue) {
+        return (byte) NumberScanner.parseIntegral(chars, offset, NumberScanner.end(chars, offset, length), radix, Byte.MIN_VALUE,
+                Byte.MAX_VALUE, true, defaultValue, null);
+    }
+
+    /**
+     * Parse the range of the char array into a byte, without exception and
+     * without copy (same rules as
+     * {@link Byte#parseByte(String, int)}, like the whole sequence parsers).
+     * 
+     * @param chars
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param radix
+     *            The radix to be used while parsing the range
+     * @param result
+     *            The result, where the value and the status are stored
+     * @return The status
+     * @throws NullPointerException
+     *             if result is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static NumberParseResult.Status parseByte(final char[] chars, final int offset, final int length, final int radix,
+            final NumberParseResult result) {
+        Objects.requireNonNull(result, ERROR_RESULT);
+
+        NumberScanner.parseIntegral(chars, offset, NumberScanner.end(chars, offset, length), radix,
+                Byte.MIN_VALUE, Byte.MAX_VALUE, true, 0, result);
+        return result.getStatus();
+    }
+
+    /**
+     * Parse the range of the ASCII byte array into a byte, without exception and
+     * without copy (same rules as
+     * {@link Byte#parseByte(String, int)}, like the whole sequence parsers).
+     * 
+     * @param bytes
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param radix
+     *            The radix to be used while parsing the range
+     * @param defaultValue
+     *            If the range is empty, invalid or out of range, value is
+     *            returned
+     * @return The parsed result
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static byte parseByteOrDefault(final byte[] bytes, final int offset, final int length, final int radix,
+            final byte defaultValue) {
+        return (byte) NumberScanner.parseIntegral(bytes, offset, NumberScanner.end(bytes, offset, length), radix, Byte.MIN_VALUE,
+                Byte.MAX_VALUE, true, defaultValue, null);
+    }
+
+    /**
+     * Parse the range of the ASCII byte array into a byte, without exception and
+     * without copy (same rules as
+     * {@link Byte#parseByte(String, int)}, like the whole sequence parsers).
+     * 
+     * @param bytes
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param radix
+     *            The radix to be used while parsing the range
+     * @param result
+     *            The result, where the value and the status are stored
+     * @return The status
+     * @throws NullPointerException
+     *             if result is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static NumberParseResult.Status parseByte(final byte[] bytes, final int offset, final int length, final int radix,
+            final NumberParseResult result) {
+        Objects.requireNonNull(result, ERROR_RESULT);
+
+        NumberScanner.parseIntegral(bytes, offset, NumberScanner.end(bytes, offset, length), radix,
+                Byte.MIN_VALUE, Byte.MAX_VALUE, true, 0, result);
+        return result.getStatus();
+    }
+
+    /**
+     * Parse the range of the char sequence into a short, without exception and
+     * without copy (same rules as
+     * {@link Short#parseShort(String, int)}, like the whole sequence parsers).
+     * 
+     * @param sequence
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param radix
+     *            The radix to be used while parsing the range
+     * @param defaultValue
+     *            If the range is empty, invalid or out of range, value is
+     *            returned
+     * @return The parsed result
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static short parseShortOrDefault(final CharSequence sequence, final int offset, final int length, final int radix,
+            final short defaultValue) {
+        return (short) NumberScanner.parseIntegral(sequence, offset, NumberScanner.end(sequence, offset, length), radix, Short.MIN_VALUE,
+                Short.MAX_VALUE, true, defaultValue, null);
+    }
+
+    /**
+     * Parse the range of the char sequence into a short, without exception and
+     * without copy (same rules as
+     * {@link Short#parseShort(String, int)}, like the whole sequence parsers).
+     * 
+     * @param sequence
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param radix
+     *            The radix to be used while parsing the range
+     * @param result
+     *            The result, where the value and the status are stored
+     * @return The status
+     * @throws NullPointerException
+     *             if result is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static NumberParseResult.Status parseShort(final CharSequence sequence, final int offset, final int length, final int radix,
+            final NumberParseResult result) {
+        Objects.requireNonNull(result, ERROR_RESULT);
+
+        NumberScanner.parseIntegral(sequence, offset, NumberScanner.end(sequence, offset, length), radix,
+                Short.MIN_VALUE, Short.MAX_VALUE, true, 0, result);
+        return result.getStatus();
+    }
+
+    /**
+     * Parse the range of the char array into a short, without exception and
+     * without copy (same rules as
+     * {@link Short#parseShort(String, int)}, like the whole sequence parsers).
+     * 
+     * @param chars
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param radix
+     *            The radix to be used while parsing the range
+     * @param defaultValue
+     *            If the range is empty, invalid or out of range, value is
+     *            returned
+     * @return The parsed result
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static short parseShortOrDefault(final char[] chars, final int offset, final int length, final int radix,
+            final short defaultValue) {
+        return (short) NumberScanner.parseIntegral(chars, offset, NumberScanner.end(chars, offset, length), radix, Short.MIN_VALUE,
+                Short.MAX_VALUE, true, defaultValue, null);
+    }
+
+    /**
+     * Parse the range of the char array into a short, without exception and
+     * without copy (same rules as
+     * {@link Short#parseShort(String, int)}, like the whole sequence parsers).
+     * 
+     * @param chars
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param radix
+     *            The radix to be used while parsing the range
+     * @param result
+     *            The result, where the value and the status are stored
+     * @return The status
+     * @throws NullPointerException
+     *             if result is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static NumberParseResult.Status parseShort(final char[] chars, final int offset, final int length, final int radix,
+            final NumberParseResult result) {
+        Objects.requireNonNull(result, ERROR_RESULT);
+
+        NumberScanner.parseIntegral(chars, offset, NumberScanner.end(chars, offset, length), radix,
+                Short.MIN_VALUE, Short.MAX_VALUE, true, 0, result);
+        return result.getStatus();
+    }
+
+    /**
+     * Parse the range of the ASCII byte array into a short, without exception and
+     * without copy (same rules as
+     * {@link Short#parseShort(String, int)}, like the whole sequence parsers).
+     * 
+     * @param bytes
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param radix
+     *            The radix to be used while parsing the range
+     * @param defaultValue
+     *            If the range is empty, invalid or out of range, value is
+     *            returned
+     * @return The parsed result
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static short parseShortOrDefault(final byte[] bytes, final int offset, final int length, final int radix,
+            final short defaultValue) {
+        return (short) NumberScanner.parseIntegral(bytes, offset, NumberScanner.end(bytes, offset, length), radix, Short.MIN_VALUE,
+                Short.MAX_VALUE, true, defaultValue, null);
+    }
+
+    /**
+     * Parse the range of the ASCII byte array into a short, without exception and
+     * without copy (same rules as
+     * {@link Short#parseShort(String, int)}, like the whole sequence parsers).
+     * 
+     * @param bytes
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param radix
+     *            The radix to be used while parsing the range
+     * @param result
+     *            The result, where the value and the status are stored
+     * @return The status
+     * @throws NullPointerException
+     *             if result is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static NumberParseResult.Status parseShort(final byte[] bytes, final int offset, final int length, final int radix,
+            final NumberParseResult result) {
+        Objects.requireNonNull(result, ERROR_RESULT);
+
+        NumberScanner.parseIntegral(bytes, offset, NumberScanner.end(bytes, offset, length), radix,
+                Short.MIN_VALUE, Short.MAX_VALUE, true, 0, result);
+        return result.getStatus();
+    }
+
+    /**
+     * Parse the range of the char sequence into an integer, without exception and
+     * without copy (same rules as
+     * {@link Integer#parseInt(String, int)}, like the whole sequence parsers).
+     * 
+     * @param sequence
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param radix
+     *            The radix to be used while parsing the range
+     * @param defaultValue
+     *            If the range is empty, invalid or out of range, value is
+     *            returned
+     * @return The parsed result
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static int parseIntOrDefault(final CharSequence sequence, final int offset, final int length, final int radix,
+            final int defaultValue) {
+        return (int) NumberScanner.parseIntegral(sequence, offset, NumberScanner.end(sequence, offset, length), radix, Integer.MIN_VALUE,
+                Integer.MAX_VALUE, true, defaultValue, null);
+    }
+
+    /**
+     * Parse the range of the char sequence into an integer, without exception and
+     * without copy (same rules as
+     * {@link Integer#parseInt(String, int)}, like the whole sequence parsers).
+     * 
+     * @param sequence
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param radix
+     *            The radix to be used while parsing the range
+     * @param result
+     *            The result, where the value and the status are stored
+     * @return The status
+     * @throws NullPointerException
+     *             if result is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static NumberParseResult.Status parseInt(final CharSequence sequence, final int offset, final int length, final int radix,
+            final NumberParseResult result) {
+        Objects.requireNonNull(result, ERROR_RESULT);
+
+        NumberScanner.parseIntegral(sequence, offset, NumberScanner.end(sequence, offset, length), radix,
+                Integer.MIN_VALUE, Integer.MAX_VALUE, true, 0, result);
+        return result.getStatus();
+    }
+
+    /**
+     * Parse the range of the char array into an integer, without exception and
+     * without copy (same rules as
+     * {@link Integer#parseInt(String, int)}, like the whole sequence parsers).
+     * 
+     * @param chars
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param radix
+     *            The radix to be used while parsing the range
+     * @param defaultValue
+     *            If the range is empty, invalid or out of range, value is
+     *            returned
+     * @return The parsed result
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static int parseIntOrDefault(final char[] chars, final int offset, final int length, final int radix, final int defaultValue) {
+        return (int) NumberScanner.parseIntegral(chars, offset, NumberScanner.end(chars, offset, length), radix, Integer.MIN_VALUE,
+                Integer.MAX_VALUE, true, defaultValue, null);
+    }
+
+    /**
+     * Parse the range of the char array into an integer, without exception and
+     * without copy (same rules as
+     * {@link Integer#parseInt(String, int)}, like the whole sequence parsers).
+     * 
+     * @param chars
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param radix
+     *            The radix to be used while parsing the range
+     * @param result
+     *            The result, where the value and the status are stored
+     * @return The status
+     * @throws NullPointerException
+     *             if result is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static NumberParseResult.Status parseInt(final char[] chars, final int offset, final int length, final int radix,
+            final NumberParseResult result) {
+        Objects.requireNonNull(result, ERROR_RESULT);
+
+        NumberScanner.parseIntegral(chars, offset, NumberScanner.end(chars, offset, length), radix,
+                Integer.MIN_VALUE, Integer.MAX_VALUE, true, 0, result);
+        return result.getStatus();
+    }
+
+    /**
+     * Parse the range of the ASCII byte array into an integer, without exception and
+     * without copy (same rules as
+     * {@link Integer#parseInt(String, int)}, like the whole sequence parsers).
+     * 
+     * @param bytes
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param radix
+     *            The radix to be used while parsing the range
+     * @param defaultValue
+     *            If the range is empty, invalid or out of range, value is
+     *            returned
+     * @return The parsed result
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static int parseIntOrDefault(final byte[] bytes, final int offset, final int length, final int radix, final int defaultValue) {
+        return (int) NumberScanner.parseIntegral(bytes, offset, NumberScanner.end(bytes, offset, length), radix, Integer.MIN_VALUE,
+                Integer.MAX_VALUE, true, defaultValue, null);
+    }
+
+    /**
+     * Parse the range of the ASCII byte array into an integer, without exception and
+     * without copy (same rules as
+     * {@link Integer#parseInt(String, int)}, like the whole sequence parsers).
+     * 
+     * @param bytes
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param radix
+     *            The radix to be used while parsing the range
+     * @param result
+     *            The result, where the value and the status are stored
+     * @return The status
+     * @throws NullPointerException
+     *             if result is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static NumberParseResult.Status parseInt(final byte[] bytes, final int offset, final int length, final int radix,
+            final NumberParseResult result) {
+        Objects.requireNonNull(result, ERROR_RESULT);
+
+        NumberScanner.parseIntegral(bytes, offset, NumberScanner.end(bytes, offset, length), radix,
+                Integer.MIN_VALUE, Integer.MAX_VALUE, true, 0, result);
+        return result.getStatus();
+    }
+
+    /**
+     * Parse the range of the char sequence into a long, without exception and
+     * without copy (same rules as
+     * {@link Long#parseLong(String, int)}, like the whole sequence parsers).
+     * 
+     * @param sequence
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param radix
+     *            The radix to be used while parsing the range
+     * @param defaultValue
+     *            If the range is empty, invalid or out of range, value is
+     *            returned
+     * @return The parsed result
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static long parseLongOrDefault(final CharSequence sequence, final int offset, final int length, final int radix,
+            final long defaultValue) {
+        return NumberScanner.parseIntegral(sequence, offset, NumberScanner.end(sequence, offset, length), radix, Long.MIN_VALUE,
+                Long.MAX_VALUE, true, defaultValue, null);
+    }
+
+    /**
+     * Parse the range of the char sequence into a long, without exception and
+     * without copy (same rules as
+     * {@link Long#parseLong(String, int)}, like the whole sequence parsers).
+     * 
+     * @param sequence
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param radix
+     *            The radix to be used while parsing the range
+     * @param result
+     *            The result, where the value and the status are stored
+     * @return The status
+     * @throws NullPointerException
+     *             if result is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static NumberParseResult.Status parseLong(final CharSequence sequence, final int offset, final int length, final int radix,
+            final NumberParseResult result) {
+        Objects.requireNonNull(result, ERROR_RESULT);
+
+        NumberScanner.parseIntegral(sequence, offset, NumberScanner.end(sequence, offset, length), radix,
+                Long.MIN_VALUE, Long.MAX_VALUE, true, 0, result);
+        return result.getStatus();
+    }
+
+    /**
+     * Parse the range of the char array into a long, without exception and
+     * without copy (same rules as
+     * {@link Long#parseLong(String, int)}, like the whole sequence parsers).
+     * 
+     * @param chars
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param radix
+     *            The radix to be used while parsing the range
+     * @param defaultValue
+     *            If the range is empty, invalid or out of range, value is
+     *            returned
+     * @return The parsed result
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static long parseLongOrDefault(final char[] chars, final int offset, final int length, final int radix,
+            final long defaultValue) {
+        return NumberScanner.parseIntegral(chars, offset, NumberScanner.end(chars, offset, length), radix, Long.MIN_VALUE,
+                Long.MAX_VALUE, true, defaultValue, null);
+    }
+
+    /**
+     * Parse the range of the char array into a long, without exception and
+     * without copy (same rules as
+     * {@link Long#parseLong(String, int)}, like the whole sequence parsers).
+     * 
+     * @param chars
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param radix
+     *            The radix to be used while parsing the range
+     * @param result
+     *            The result, where the value and the status are stored
+     * @return The status
+     * @throws NullPointerException
+     *             if result is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static NumberParseResult.Status parseLong(final char[] chars, final int offset, final int length, final int radix,
+            final NumberParseResult result) {
+        Objects.requireNonNull(result, ERROR_RESULT);
+
+        NumberScanner.parseIntegral(chars, offset, NumberScanner.end(chars, offset, length), radix,
+                Long.MIN_VALUE, Long.MAX_VALUE, true, 0, result);
+        return result.getStatus();
+    }
+
+    /**
+     * Parse the range of the ASCII byte array into a long, without exception and
+     * without copy (same rules as
+     * {@link Long#parseLong(String, int)}, like the whole sequence parsers).
+     * 
+     * @param bytes
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param radix
+     *            The radix to be used while parsing the range
+     * @param defaultValue
+     *            If the range is empty, invalid or out of range, value is
+     *            returned
+     * @return The parsed result
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static long parseLongOrDefault(final byte[] bytes, final int offset, final int length, final int radix,
+            final long defaultValue) {
+        return NumberScanner.parseIntegral(bytes, offset, NumberScanner.end(bytes, offset, length), radix, Long.MIN_VALUE,
+                Long.MAX_VALUE, true, defaultValue, null);
+    }
+
+    /**
+     * Parse the range of the ASCII byte array into a long, without exception and
+     * without copy (same rules as
+     * {@link Long#parseLong(String, int)}, like the whole sequence parsers).
+     * 
+     * @param bytes
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param radix
+     *            The radix to be used while parsing the range
+     * @param result
+     *            The result, where the value and the status are stored
+     * @return The status
+     * @throws NullPointerException
+     *             if result is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static NumberParseResult.Status parseLong(final byte[] bytes, final int offset, final int length, final int radix,
+            final NumberParseResult result) {
+        Objects.requireNonNull(result, ERROR_RESULT);
+
+        NumberScanner.parseIntegral(bytes, offset, NumberScanner.end(bytes, offset, length), radix,
+                Long.MIN_VALUE, Long.MAX_VALUE, true, 0, result);
+        return result.getStatus();
+    }
+
+    /**
+     * Parse the range of the char sequence into a float, without exception and
+     * without copy (same rules as
+     * {@link Float#parseFloat(String)}, like the whole sequence parsers,
+     * but the surrounding whitespaces are invalid, like in the integral ranges).
+     * 
+     * @param sequence
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param defaultValue
+     *            If the range is empty or invalid, value is returned
+     * @return The parsed result
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static float parseFloatOrDefault(final CharSequence sequence, final int offset, final int length, final float defaultValue) {
+        return (float) NumberScanner.parseFloating(sequence, offset, NumberScanner.end(sequence, offset, length), false, true,
+                defaultValue, null);
+    }
+
+    /**
+     * Parse the range of the char sequence into a float, without exception and
+     * without copy (same rules as
+     * {@link Float#parseFloat(String)}, like the whole sequence parsers,
+     * but the surrounding whitespaces are invalid, like in the integral ranges).
+     * 
+     * @param sequence
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param result
+     *            The result, where the value and the status are stored
+     * @return The status
+     * @throws NullPointerException
+     *             if result is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static NumberParseResult.Status parseFloat(final CharSequence sequence, final int offset, final int length,
+            final NumberParseResult result) {
+        Objects.requireNonNull(result, ERROR_RESULT);
+
+        NumberScanner.parseFloating(sequence, offset, NumberScanner.end(sequence, offset, length), false, true, 0, result);
+        return result.getStatus();
+    }
+
+    /**
+     * Parse the range of the char array into a float, without exception and
+     * without copy (same rules as
+     * {@link Float#parseFloat(String)}, like the whole sequence parsers,
+     * but the surrounding whitespaces are invalid, like in the integral ranges).
+     * 
+     * @param chars
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param defaultValue
+     *            If the range is empty or invalid, value is returned
+     * @return The parsed result
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static float parseFloatOrDefault(final char[] chars, final int offset, final int length, final float defaultValue) {
+        return (float) NumberScanner.parseFloating(chars, offset, NumberScanner.end(chars, offset, length), false, true,
+                defaultValue, null);
+    }
+
+    /**
+     * Parse the range of the char array into a float, without exception and
+     * without copy (same rules as
+     * {@link Float#parseFloat(String)}, like the whole sequence parsers,
+     * but the surrounding whitespaces are invalid, like in the integral ranges).
+     * 
+     * @param chars
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param result
+     *            The result, where the value and the status are stored
+     * @return The status
+     * @throws NullPointerException
+     *             if result is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static NumberParseResult.Status parseFloat(final char[] chars, final int offset, final int length,
+            final NumberParseResult result) {
+        Objects.requireNonNull(result, ERROR_RESULT);
+
+        NumberScanner.parseFloating(chars, offset, NumberScanner.end(chars, offset, length), false, true, 0, result);
+        return result.getStatus();
+    }
+
+    /**
+     * Parse the range of the ASCII byte array into a float, without exception and
+     * without copy (same rules as
+     * {@link Float#parseFloat(String)}, like the whole sequence parsers,
+     * but the surrounding whitespaces are invalid, like in the integral ranges).
+     * 
+     * @param bytes
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param defaultValue
+     *            If the range is empty or invalid, value is returned
+     * @return The parsed result
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static float parseFloatOrDefault(final byte[] bytes, final int offset, final int length, final float defaultValue) {
+        return (float) NumberScanner.parseFloating(bytes, offset, NumberScanner.end(bytes, offset, length), false, true,
+                defaultValue, null);
+    }
+
+    /**
+     * Parse the range of the ASCII byte array into a float, without exception and
+     * without copy (same rules as
+     * {@link Float#parseFloat(String)}, like the whole sequence parsers,
+     * but the surrounding whitespaces are invalid, like in the integral ranges).
+     * 
+     * @param bytes
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param result
+     *            The result, where the value and the status are stored
+     * @return The status
+     * @throws NullPointerException
+     *             if result is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static NumberParseResult.Status parseFloat(final byte[] bytes, final int offset, final int length,
+            final NumberParseResult result) {
+        Objects.requireNonNull(result, ERROR_RESULT);
+
+        NumberScanner.parseFloating(bytes, offset, NumberScanner.end(bytes, offset, length), false, true, 0, result);
+        return result.getStatus();
+    }
+
+    /**
+     * Parse the range of the char sequence into a double, without exception and
+     * without copy (same rules as
+     * {@link Double#parseDouble(String)}, like the whole sequence parsers,
+     * but the surrounding whitespaces are invalid, like in the integral ranges).
+     * 
+     * @param sequence
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param defaultValue
+     *            If the range is empty or invalid, value is returned
+     * @return The parsed result
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static double parseDoubleOrDefault(final CharSequence sequence, final int offset, final int length, final double defaultValue) {
+        return NumberScanner.parseFloating(sequence, offset, NumberScanner.end(sequence, offset, length), false, false, defaultValue, null);
+    }
+
+    /**
+     * Parse the range of the char sequence into a double, without exception and
+     * without copy (same rules as
+     * {@link Double#parseDouble(String)}, like the whole sequence parsers,
+     * but the surrounding whitespaces are invalid, like in the integral ranges).
+     * 
+     * @param sequence
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param result
+     *            The result, where the value and the status are stored
+     * @return The status
+     * @throws NullPointerException
+     *             if result is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static NumberParseResult.Status parseDouble(final CharSequence sequence, final int offset, final int length,
+            final NumberParseResult result) {
+        Objects.requireNonNull(result, ERROR_RESULT);
+
+        NumberScanner.parseFloating(sequence, offset, NumberScanner.end(sequence, offset, length), false, false, 0, result);
+        return result.getStatus();
+    }
+
+    /**
+     * Parse the range of the char array into a double, without exception and
+     * without copy (same rules as
+     * {@link Double#parseDouble(String)}, like the whole sequence parsers,
+     * but the surrounding whitespaces are invalid, like in the integral ranges).
+     * 
+     * @param chars
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param defaultValue
+     *            If the range is empty or invalid, value is returned
+     * @return The parsed result
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static double parseDoubleOrDefault(final char[] chars, final int offset, final int length, final double defaultValue) {
+        return NumberScanner.parseFloating(chars, offset, NumberScanner.end(chars, offset, length), false, false, defaultValue, null);
+    }
+
+    /**
+     * Parse the range of the char array into a double, without exception and
+     * without copy (same rules as
+     * {@link Double#parseDouble(String)}, like the whole sequence parsers,
+     * but the surrounding whitespaces are invalid, like in the integral ranges).
+     * 
+     * @param chars
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param result
+     *            The result, where the value and the status are stored
+     * @return The status
+     * @throws NullPointerException
+     *             if result is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static NumberParseResult.Status parseDouble(final char[] chars, final int offset, final int length,
+            final NumberParseResult result) {
+        Objects.requireNonNull(result, ERROR_RESULT);
+
+        NumberScanner.parseFloating(chars, offset, NumberScanner.end(chars, offset, length), false, false, 0, result);
+        return result.getStatus();
+    }
+
+    /**
+     * Parse the range of the ASCII byte array into a double, without exception and
+     * without copy (same rules as
+     * {@link Double#parseDouble(String)}, like the whole sequence parsers,
+     * but the surrounding whitespaces are invalid, like in the integral ranges).
+     * 
+     * @param bytes
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param defaultValue
+     *            If the range is empty or invalid, value is returned
+     * @return The parsed result
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static double parseDoubleOrDefault(final byte[] bytes, final int offset, final int length, final double defaultValue) {
+        return NumberScanner.parseFloating(bytes, offset, NumberScanner.end(bytes, offset, length), false, false, defaultValue, null);
+    }
+
+    /**
+     * Parse the range of the ASCII byte array into a double, without exception and
+     * without copy (same rules as
+     * {@link Double#parseDouble(String)}, like the whole sequence parsers,
+     * but the surrounding whitespaces are invalid, like in the integral ranges).
+     * 
+     * @param bytes
+     *            The input
+     * @param offset
+     *            The range offset
+     * @param length
+     *            The range length
+     * @param result
+     *            The result, where the value and the status are stored
+     * @return The status
+     * @throws NullPointerException
+     *             if result is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of the input
+     */
+    public static NumberParseResult.Status parseDouble(final byte[] bytes, final int offset, final int length,
+            final NumberParseResult result) {
+        Objects.requireNonNull(result, ERROR_RESULT);
+
+        NumberScanner.parseFloating(bytes, offset, NumberScanner.end(bytes, offset, length), false, false, 0, result);
+        return result.getStatus();
+    }
+
+    private static NumberParseResult.Status parseIntegral(final CharSequence sequence, final int radix, final long min, final long max,
+            final NumberParseResult result) {
+        Objects.requireNonNull(result, ERROR_RESULT);
+
+        NumberScanner.parseIntegral(sequence, 0, NumberScanner.length(sequence), radix, min, max, true, 0, result);
+        return result.getStatus();
+    }
+
+    /**
+     * Parse the string through the fast scanner, the JDK parser is only called
+     * for "NaN" or to get the exception of an invalid string
+     */
+    private static Float parseFastFloat(final String string) {
+        final float value = (float) NumberScanner.parseFloating(string, 0, string.length(), true, true, Float.NaN, null);
+        return Float.isNaN(value) ? Float.parseFloat(string) : value;
+    }
+
+    private static Double parseFastDouble(final String string) {
+        final double value = NumberScanner.parseFloating(string, 0, string.length(), true, false, Double.NaN, null);
+        return Double.isNaN(value) ? Double.parseDouble(string) : value;
+    }
+
+    /**
+     * Parse a string into a number through the provided parser, if the string
+     * cannot be parsed or if parse failed the default number is returned
+     * 
+     * @param string
+     *            the string to parse
+     * @param defaultValue
+     *            the default value
+     * @param parser
+     *            the parser
+     * @param noThrow
+     *            true, to avoid throwing a {@link NumberFormatException} if
+     *            parse failed
+     * @param <T>
+     *            the output number type
+     * @return the parsed value or the default value
+     * @throws NumberFormatException
+     *             if the number cannot be parsed and {@code noThrow} is
+     *             {@code false}
+     */
+    private static <T extends Number> T parse(final String string, final T defaultValue,
+            final FunctionThrowable<String, T, NumberFormatException> parser, final boolean noThrow) {
+
+        if (StringUtils.isNotEmpty(string)) {
+            try {
+                return parser.apply(string);
+            } catch (final NumberFormatException e) {
+                if (!noThrow) {
+                    throw e;
+                }
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Parse a column of char sequences into integers, without exception (each
+     * cell follows the rules of {@link Integer#parseInt(String)}). The values
+     * are stored directly into a primitive array, the empty, invalid or out of
+     * range cells get the default value and their positions are set in the
+     * bitmap.
+     * 
+     * <pre>
+     * final BitSet invalids = new BitSet();
+     * NumberUtils.parseInts(new String[] {"12", null, "x", "2147483648"}, 0, invalids); // -&gt; {12, 0, 0, 0}
+     * invalids; // -&gt; {1, 2, 3}
+     * </pre>
+     * 
+     * @param column
+     *            The input cells
+     * @param defaultValue
+     *            The value of the empty, invalid or out of range cells
+     * @param invalids
+     *            The bitmap where the positions of the empty or invalid cells
+     *            are set, cleared first (may be {@code null})
+     * @return The parsed values
+     * @throws NullPointerException
+     *             if column is {@code null}
+     */
+    public static int[] parseInts(final CharSequence[] column, final int defaultValue, final BitSet invalids) {
+        Objects.requireNonNull(column, "column");
+
+        return ColumnParser.parseInts(i -> column[i], column.length, defaultValue, invalids, false);
+    }
+
+    /**
+     * Parse a column of char sequences into integers, without exception (see
+     * {@link #parseInts(CharSequence[], int, BitSet)}).
+     * 
+     * @param column
+     *            The input cells
+     * @param defaultValue
+     *            The value of the empty, invalid or out of range cells
+     * @param invalids
+     *            The bitmap where the positions of the empty or invalid cells
+     *            are set, cleared first (may be {@code null})
+     * @return The parsed values
+     * @throws NullPointerException
+     *             if column is {@code null}
+     */
+    public static int[] parseInts(final List<? extends CharSequence> column, final int defaultValue, final BitSet invalids) {
+        Objects.requireNonNull(column, "column");
+
+        return ColumnParser.parseInts(ColumnParser.cells(column), column.size(), defaultValue, invalids, false);
+    }
+
+    /**
+     * Parse a column of char sequences into integers, without exception (see
+     * {@link #parseInts(CharSequence[], int, BitSet)}). The large columns are split
+     * into chunks, parsed in the common fork/join pool.
+     * 
+     * @param column
+     *            The input cells
+     * @param defaultValue
+     *            The value of the empty, invalid or out of range cells
+     * @param invalids
+     *            The bitmap where the positions of the empty or invalid cells
+     *            are set, cleared first (may be {@code null})
+     * @return The parsed values
+     * @throws NullPointerException
+     *             if column is {@code null}
+     */
+    public static int[] parseIntsParallel(final CharSequence[] column, final int defaultValue, final BitSet invalids) {
+        Objects.requireNonNull(column, "column");
+
+        return ColumnParser.parseInts(i -> column[i], column.length, defaultValue, invalids, true);
+    }
+
+    /**
+     * Parse a column of char sequences into integers, without exception (see
+     * {@link #parseInts(List, int, BitSet)}). The large columns are split
+     * into chunks, parsed in the common fork/join pool.
+     * 
+     * @param column
+     *            The input cells
+     * @param defaultValue
+     *            The value of the empty, invalid or out of range cells
+     * @param invalids
+     *            The bitmap where the positions of the empty or invalid cells
+     *            are set, cleared first (may be {@code null})
+     * @return The parsed values
+     * @throws NullPointerException
+     *             if column is {@code null}
+     */
+    public static int[] parseIntsParallel(final List<? extends CharSequence> column, final int defaultValue, final BitSet invalids) {
+        Objects.requireNonNull(column, "column");
+
+        return ColumnParser.parseInts(ColumnParser.cells(column), column.size(), defaultValue, invalids, true);
+    }
+
+    /**
+     * Parse a column of char sequences into longs, without exception (each cell
+     * follows the rules of {@link Long#parseLong(String)}). The values are
+     * stored directly into a primitive array, the empty, invalid or out of range
+     * cells get the default value and their positions are set in the bitmap.
+     * 
+     * <pre>
+     * final BitSet invalids = new BitSet();
+     * NumberUtils.parseLongs(new String[] {"12", null, "x", "9223372036854775808"}, 0, invalids); // -&gt; {12, 0, 0, 0}
+     * invalids; // -&gt; {1, 2, 3}
+     * </pre>
+     * 
+     * @param column
+     *            The input cells
+     * @param defaultValue
+     *            The value of the empty, invalid or out of range cells
+     * @param invalids
+     *            The bitmap where the positions of the empty or invalid cells
+     *            are set, cleared first (may be {@code null})
+     * @return The parsed values
+     * @throws NullPointerException
+     *             if column is {@code null}
+     */
+    public static long[] parseLongs(final CharSequence[] column, final long defaultValue, final BitSet invalids) {
+        Objects.requireNonNull(column, "column");
+
+        return ColumnParser.parseLongs(i -> column[i], column.length, defaultValue, invalids, false);
+    }
+
+    /**
+     * Parse a column of char sequences into longs, without exception (see
+     * {@link #parseLongs(CharSequence[], long, BitSet)}).
+     * 
+     * @param column
+     *            The input cells
+     * @param defaultValue
+     *            The value of the empty, invalid or out of range cells
+     * @param invalids
+     *            The bitmap where the positions of the empty or invalid cells
+     *            are set, cleared first (may be {@code null})
+     * @return The parsed values
+     * @throws NullPointerException
+     *             if column is {@code null}
+     */
+    public static long[] parseLongs(final List<? extends CharSequence> column, final long defaultValue, final BitSet invalids) {
+        Objects.requireNonNull(column, "column");
+
+        return ColumnParser.parseLongs(ColumnParser.cells(column), column.size(), defaultValue, invalids, false);
+    }
+
+    /**
+     * Parse a column of char sequences into longs, without exception (see
+     * {@link #parseLongs(CharSequence[], long, BitSet)}). The large columns are split
+     * into chunks, parsed in the common fork/join pool.
+     * 
+     * @param column
+     *            The input cells
+     * @param defaultValue
+     *            The value of the empty, invalid or out of range cells
+     * @param invalids
+     *            The bitmap where the positions of the empty or invalid cells
+     *            are set, cleared first (may be {@code null})
+     * @return The parsed values
+     * @throws NullPointerException
+     *             if column is {@code null}
+     */
+    public static long[] parseLongsParallel(final CharSequence[] column, final long defaultValue, final BitSet invalids) {
+        Objects.requireNonNull(column, "column");
+
+        return ColumnParser.parseLongs(i -> column[i], column.length, defaultValue, invalids, true);
+    }
+
+    /**
+     * Parse a column of char sequences into longs, without exception (see
+     * {@link #parseLongs(List, long, BitSet)}). The large columns are split
+     * into chunks, parsed in the common fork/join pool.
+     * 
+     * @param column
+     *            The input cells
+     * @param defaultValue
+     *            The value of the empty, invalid or out of range cells
+     * @param invalids
+     *            The bitmap where the positions of the empty or invalid cells
+     *            are set, cleared first (may be {@code null})
+     * @return The parsed values
+     * @throws NullPointerException
+     *             if column is {@code null}
+     */
+    public static long[] parseLongsParallel(final List<? extends CharSequence> column, final long defaultValue, final BitSet invalids) {
+        Objects.requireNonNull(column, "column");
+
+        return ColumnParser.parseLongs(ColumnParser.cells(column), column.size(), defaultValue, invalids, true);
+    }
+
+    /**
+     * Parse a column of char sequences into doubles, without exception (each
+     * cell follows the rules of {@link Double#parseDouble(String)}). The values
+     * are stored directly into a primitive array, the empty, invalid cells get
+     * the default value and their positions are set in the bitmap.
+     * 
+     * <pre>
+     * final BitSet invalids = new BitSet();
+     * NumberUtils.parseDoubles(new String[] {"1.5", null, "x", "1e400"}, 0, invalids); // -&gt; {1.5, 0, 0, Infinity}
+     * invalids; // -&gt; {1, 2}
+     * </pre>
+     * 
+     * @param column
+     *            The input cells
+     * @param defaultValue
+     *            The value of the empty, invalid cells
+     * @param invalids
+     *            The bitmap where the positions of the empty or invalid cells
+     *            are set, cleared first (may be {@code null})
+     * @return The parsed values
+     * @throws NullPointerException
+     *             if column is {@code null}
+     */
+    public static double[] parseDoubles(final CharSequence[] column, final double defaultValue, final BitSet invalids) {
+        Objects.requireNonNull(column, "column");
+
+        return ColumnParser.parseDoubles(i -> column[i], column.length, defaultValue, invalids, false);
+    }
+
+    /**
+     * Parse a column of char sequences into doubles, without exception (see
+     * {@link #parseDoubles(CharSequence[], double, BitSet)}).
+     * 
+     * @param column
+     *            The input cells
+     * @param defaultValue
+     *            The value of the empty, invalid cells
+     * @param invalids
+     *            The bitmap where the positions of the empty or invalid cells
+     *            are set, cleared first (may be {@code null})
+     * @return The parsed values
+     * @throws NullPointerException
+     *             if column is {@code null}
+     */
+    public static double[] parseDoubles(final List<? extends CharSequence> column, final double defaultValue, final BitSet invalids) {
+        Objects.requireNonNull(column, "column");
+
+        return ColumnParser.parseDoubles(ColumnParser.cells(column), column.size(), defaultValue, invalids, false);
+    }
+
+    /**
+     * Parse a column of char sequences into doubles, without exception (see
+     * {@link #parseDoubles(CharSequence[], double, BitSet)}). The large columns are split
+     * into chunks, parsed in the common fork/join pool.
+     * 
+     * @param column
+     *            The input cells
+     * @param defaultValue
+     *            The value of the empty, invalid cells
+     * @param invalids
+     *            The bitmap where the positions of the empty or invalid cells
+     *            are set, cleared first (may be {@code null})
+     * @return The parsed values
+     * @throws NullPointerException
+     *             if column is {@code null}
+     */
+    public static double[] parseDoublesParallel(final CharSequence[] column, final double defaultValue, final BitSet invalids) {
+        Objects.requireNonNull(column, "column");
+
+        return ColumnParser.parseDoubles(i -> column[i], column.length, defaultValue, invalids, true);
+    }
+
+    /**
+     * Parse a column of char sequences into doubles, without exception (see
+     * {@link #parseDoubles(List, double, BitSet)}). The large columns are split
+     * into chunks, parsed in the common fork/join pool.
+     * 
+     * @param column
+     *            The input cells
+     * @param defaultValue
+     *            The value of the empty, invalid cells
+     * @param invalids
+     *            The bitmap where the positions of the empty or invalid cells
+     *            are set, cleared first (may be {@code null})
+     * @return The parsed values
+     * @throws NullPointerException
+     *             if column is {@code null}
+     */
+    public static double[] parseDoublesParallel(final List<? extends CharSequence> column, final double defaultValue,
+            final BitSet invalids) {
+        Objects.requireNonNull(column, "column");
+
+        return ColumnParser.parseDoubles(ColumnParser.cells(column), column.size(), defaultValue, invalids, true);
+    }
+
 }
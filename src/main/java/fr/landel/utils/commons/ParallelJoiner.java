@@ -0,0 +1,200 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * Join implementation used by
+ * {@link StringUtils#joinParallel(Spliterator, String, Function)} and
+ * {@link StringUtils#joining(String, Function)}. The elements are formatted by
+ * chunks (in parallel through fork/join), each chunk is joined into its own
+ * buffer, then the chunks are concatenated with one copy into an exactly sized
+ * buffer.
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+final class ParallelJoiner {
+
+    /**
+     * Under this number of elements, a chunk is formatted in the current
+     * thread
+     */
+    static final int CHUNK_SIZE = 4_096;
+
+    private ParallelJoiner() {
+    }
+
+    /**
+     * Format and join the elements in the common fork/join pool (in the
+     * current thread if the elements are few or if the pool has only one
+     * thread)
+     *
+     * @param spliterator
+     *            the elements
+     * @param separator
+     *            the separator
+     * @param formatter
+     *            the formatter
+     * @param <T>
+     *            the elements type
+     * @return the joined string
+     */
+    static <T> String join(final Spliterator<T> spliterator, final String separator, final Function<? super T, String> formatter) {
+        final Chunks chunks;
+        if (spliterator.estimateSize() <= CHUNK_SIZE || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            chunks = format(spliterator, separator, formatter);
+        } else {
+            chunks = ForkJoinPool.commonPool().invoke(new JoinTask<>(spliterator, separator, formatter));
+        }
+        return chunks.join();
+    }
+
+    /**
+     * Create the collector (the elements are formatted by the accumulator, so
+     * in parallel for parallel streams)
+     *
+     * @param separator
+     *            the separator
+     * @param formatter
+     *            the formatter
+     * @param <T>
+     *            the elements type
+     * @return the collector
+     */
+    static <T> Collector<T, Chunks, String> collector(final String separator, final Function<? super T, String> formatter) {
+        return Collector.of(() -> new Chunks(separator), (chunks, element) -> chunks.add(formatter.apply(element)), Chunks::merge,
+                Chunks::join);
+    }
+
+    private static <T> Chunks format(final Spliterator<T> spliterator, final String separator,
+            final Function<? super T, String> formatter) {
+        final Chunks chunks = new Chunks(separator);
+        spliterator.forEachRemaining(element -> chunks.add(formatter.apply(element)));
+        return chunks;
+    }
+
+    /**
+     * Formatted elements, in order, by chunks (each chunk is already joined),
+     * with their total length
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    static final class Chunks {
+
+        private final String separator;
+        private final List<StringBuilder> parts = new ArrayList<>();
+        private StringBuilder current;
+
+        private Chunks(final String separator) {
+            this.separator = separator;
+        }
+
+        private void add(final String value) {
+            if (this.current == null) {
+                this.current = new StringBuilder();
+                this.parts.add(this.current);
+            } else {
+                this.current.append(this.separator);
+            }
+            this.current.append(value);
+        }
+
+        private Chunks merge(final Chunks other) {
+            this.parts.addAll(other.parts);
+            this.current = null;
+            return this;
+        }
+
+        private String join() {
+            if (this.parts.isEmpty()) {
+                return StringUtils.EMPTY;
+            } else if (this.parts.size() == 1) {
+                return this.parts.get(0).toString();
+            }
+
+            long length = (long) this.separator.length() * (this.parts.size() - 1);
+            for (StringBuilder part : this.parts) {
+                length += part.length();
+            }
+            if (length > Integer.MAX_VALUE) {
+                throw new OutOfMemoryError("Joined length exceeds the maximum array size");
+            }
+
+            final StringBuilder builder = new StringBuilder((int) length);
+            builder.append(this.parts.get(0));
+            for (int i = 1; i < this.parts.size(); ++i) {
+                builder.append(this.separator).append(this.parts.get(i));
+            }
+            return builder.toString();
+        }
+    }
+
+    /**
+     * Split the elements until the chunks are small enough, then format them
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     * @param <T>
+     *            the elements type
+     */
+    private static final class JoinTask<T> extends RecursiveTask<Chunks> {
+
+        /**
+         * serialVersionUID
+         */
+        private static final long serialVersionUID = -1794716839460946129L;
+
+        private final transient Spliterator<T> spliterator;
+        private final String separator;
+        private final transient Function<? super T, String> formatter;
+
+        private JoinTask(final Spliterator<T> spliterator, final String separator, final Function<? super T, String> formatter) {
+            this.spliterator = spliterator;
+            this.separator = separator;
+            this.formatter = formatter;
+        }
+
+        @Override
+        protected Chunks compute() {
+            final Spliterator<T> prefix;
+            if (this.spliterator.estimateSize() <= CHUNK_SIZE || (prefix = this.spliterator.trySplit()) == null) {
+                return format(this.spliterator, this.separator, this.formatter);
+            }
+
+            // the prefix is computed asynchronously, the suffix in the current thread
+            final JoinTask<T> left = new JoinTask<>(prefix, this.separator, this.formatter);
+            left.fork();
+            final Chunks right = new JoinTask<>(this.spliterator, this.separator, this.formatter).compute();
+            return left.join().merge(right);
+        }
+    }
+}
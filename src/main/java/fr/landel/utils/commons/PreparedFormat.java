@@ -0,0 +1,551 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Pre-parsed form of a format used by
+ * {@link StringFormatUtils#format(Locale, CharSequence, Object[], Object...)}.
+ * The format is parsed only once to find the parameters (suffixed by
+ * {@code '*'}) and arguments specifiers, to reindex them against the combined
+ * array of parameters and arguments and to remove the specifiers without
+ * matching value. The result can be applied repeatedly.
+ *
+ * <p>
+ * The common conversions ({@code %s}, {@code %d}, {@code %x}, {@code %f} with
+ * width, precision and flags, {@code %n} and {@code %%}) are rendered
+ * directly into a reusable buffer, the other ones (dates...) are delegated to
+ * {@link java.util.Formatter}. The result is the same as
+ * {@link String#format(Locale, String, Object...)}.
+ * </p>
+ *
+ * <p>
+ * Prepared formats are immutable and thread-safe, the result of
+ * {@link #prepare(CharSequence, int, int)} is cached per format and count of
+ * parameters and arguments.
+ * </p>
+ *
+ * <pre>
+ * PreparedFormat format = PreparedFormat.prepare("%s '%s*' '%s*' '%1$.2f' '%1$s*' '%s' '%s'", 2, 3);
+ * format.getFormat(); // =&gt; "%3$s '%1$s' '%2$s' '%3$.2f' '%1$s' '%4$s' '%5$s'"
+ * format.format(Locale.US, new Object[] {"param1", "param2"}, 1.025, "arg2", "arg3");
+ * // =&gt; "1.025 'param1' 'param2' '1.03' 'param1' 'arg2' 'arg3'"
+ * </pre>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public final class PreparedFormat {
+
+    // The regular expression from String#format
+    // (just for info, the original regular expression, it's replaced here cause
+    // of performance issues)
+    // "%(\\d+\\$)?([-#+ 0,(\\<]*)?(\\d+)?(\\.\\d+)?([tT])?([a-zA-Z%])"
+
+    /**
+     * the parameter suffix used to detect, if the expression is a standard or a
+     * parameter type
+     */
+    private static final char PARAM_SUFFIX = '*';
+
+    /**
+     * Flags in regular expression
+     */
+    private static final CharClass FLAGS = CharClass.of(" #(+,-0<\\");
+
+    private static final char PERCENT = '%';
+    private static final char PREFIX = PERCENT;
+    private static final char DOT = '.';
+    private static final char INDEX_SUFFIX = '$';
+    private static final char TIME_LOWERCASE = 't';
+    private static final char TIME_UPPERCASE = 'T';
+
+    private static final int STATE_NOTHING = 0;
+    private static final int STATE_NUMBER = 1;
+    private static final int STATE_INDEX = 2;
+    private static final int STATE_FLAGS = 4;
+    private static final int STATE_INTEGER = 8;
+    private static final int STATE_DOT = 16;
+    private static final int STATE_DECIMAL = 32;
+    private static final int STATE_TIME = 64;
+    private static final int STATE_TYPE = 128;
+    private static final int STATE_SUFFIX = 256;
+
+    private static final int SHIFT_LEFT = 10;
+
+    private static final int CACHE_SIZE = 1_024;
+
+    /**
+     * Formats longer than this size are prepared but not cached
+     */
+    private static final int CACHE_MAX_PATTERN_LENGTH = 4_096;
+
+    private static final BoundedCache<CacheKey, PreparedFormat> CACHE = new BoundedCache<>(CACHE_SIZE);
+
+    private final String pattern;
+    private final String format;
+    private final int nbParameters;
+    private final int nbArguments;
+
+    /**
+     * If parameters and arguments start at the first position (the prepared
+     * format can be applied directly on the combined array)
+     */
+    private final boolean standard;
+
+    /**
+     * The rendering engine (null, if not standard or if the format has to be
+     * handled by {@link String#format(Locale, String, Object...)})
+     */
+    private final CompiledFormat compiled;
+
+    private PreparedFormat(final CacheKey key, final String format) {
+        this.pattern = key.pattern;
+        this.format = format;
+        this.nbParameters = key.nbParameters;
+        this.nbArguments = key.nbArguments;
+        this.standard = key.startParameters == 1 && key.startArguments == 1;
+        this.compiled = this.standard ? CompiledFormat.compile(format, this.nbParameters + this.nbArguments) : null;
+    }
+
+    /**
+     * Prepare the format (the result is cached).
+     *
+     * @param format
+     *            a <a href="../util/Formatter.html#syntax">format string</a>
+     *            (required, not null)
+     * @param nbParameters
+     *            the number of parameters
+     * @param nbArguments
+     *            the number of arguments
+     * @return the prepared format
+     * @throws NullPointerException
+     *             if {@code format} is {@code null}
+     */
+    public static PreparedFormat prepare(final CharSequence format, final int nbParameters, final int nbArguments) {
+        return prepare(format, nbParameters, 1, nbArguments, 1);
+    }
+
+    /**
+     * Prepare the format (the result is cached).
+     *
+     * @param format
+     *            a <a href="../util/Formatter.html#syntax">format string</a>
+     *            (required, not null)
+     * @param nbParameters
+     *            the number of parameters
+     * @param startParameters
+     *            the position of the parameter found
+     * @param nbArguments
+     *            the number of arguments
+     * @param startArguments
+     *            the position of the first arguments (after parameters)
+     * @return the prepared format
+     * @throws NullPointerException
+     *             if {@code format} is {@code null}
+     */
+    public static PreparedFormat prepare(final CharSequence format, final int nbParameters, final int startParameters,
+            final int nbArguments, final int startArguments) {
+        Objects.requireNonNull(format, "format");
+
+        final CacheKey key = new CacheKey(format.toString(), nbParameters, startParameters, nbArguments,
+                startArguments);
+        if (key.pattern.length() > CACHE_MAX_PATTERN_LENGTH) {
+            return parse(key);
+        }
+        return CACHE.get(key, PreparedFormat::parse);
+    }
+
+    /**
+     * @return the original format
+     */
+    public String getPattern() {
+        return this.pattern;
+    }
+
+    /**
+     * @return the reindexed format, to apply on the combined array of
+     *         parameters and arguments
+     */
+    public String getFormat() {
+        return this.format;
+    }
+
+    /**
+     * @return the number of parameters
+     */
+    public int getParametersCount() {
+        return this.nbParameters;
+    }
+
+    /**
+     * @return the number of arguments
+     */
+    public int getArgumentsCount() {
+        return this.nbArguments;
+    }
+
+    /**
+     * Returns a formatted string using the default locale, the parameters and
+     * the arguments.
+     *
+     * @param parameters
+     *            the parameters (required, not null)
+     * @param arguments
+     *            the arguments (required, not null)
+     * @return a formatted string
+     * @see #format(Locale, Object[], Object...)
+     */
+    public String format(final Object[] parameters, final Object... arguments) {
+        return format(null, parameters, arguments);
+    }
+
+    /**
+     * Returns a formatted string using the locale, the parameters and the
+     * arguments. If the number of parameters or arguments doesn't match the
+     * prepared ones, the format is prepared again for these counts.
+     *
+     * @param locale
+     *            the {@linkplain java.util.Locale locale} to apply during
+     *            formatting. If {@code locale} is {@code null} then the
+     *            default format locale is applied.
+     * @param parameters
+     *            the parameters (required, not null)
+     * @param arguments
+     *            the arguments (required, not null)
+     * @throws java.util.IllegalFormatException
+     *             If a format string contains an illegal syntax, a format
+     *             specifier that is incompatible with the given arguments or
+     *             other illegal conditions.
+     * @return a formatted string
+     */
+    public String format(final Locale locale, final Object[] parameters, final Object... arguments) {
+        final PreparedFormat prepared = this.prepared(parameters, arguments);
+        final Locale l = ObjectUtils.defaultIfNull(locale, Locale.getDefault(Locale.Category.FORMAT));
+
+        if (prepared.compiled != null) {
+            return prepared.compiled.render(l, prepared.nbParameters, parameters, arguments);
+        }
+        return String.format(l, prepared.format, ArrayUtils.addAll(parameters, arguments));
+    }
+
+    /**
+     * Appends the formatted string into the output using the locale, the
+     * parameters and the arguments. If the number of parameters or arguments
+     * doesn't match the prepared ones, the format is prepared again for these
+     * counts.
+     *
+     * @param output
+     *            the output (required, not null)
+     * @param locale
+     *            the {@linkplain java.util.Locale locale} to apply during
+     *            formatting. If {@code locale} is {@code null} then the
+     *            default format locale is applied.
+     * @param parameters
+     *            the parameters (required, not null)
+     * @param arguments
+     *            the arguments (required, not null)
+     * @throws java.util.IllegalFormatException
+     *             If a format string contains an illegal syntax, a format
+     *             specifier that is incompatible with the given arguments or
+     *             other illegal conditions (the output may be partially
+     *             filled).
+     * @return the output
+     */
+    public StringBuilder formatTo(final StringBuilder output, final Locale locale, final Object[] parameters,
+            final Object... arguments) {
+        Objects.requireNonNull(output, "output");
+        final PreparedFormat prepared = this.prepared(parameters, arguments);
+        final Locale l = ObjectUtils.defaultIfNull(locale, Locale.getDefault(Locale.Category.FORMAT));
+
+        if (prepared.compiled != null) {
+            prepared.compiled.renderTo(output, l, prepared.nbParameters, parameters, arguments);
+        } else {
+            output.append(String.format(l, prepared.format, ArrayUtils.addAll(parameters, arguments)));
+        }
+        return output;
+    }
+
+    private PreparedFormat prepared(final Object[] parameters, final Object[] arguments) {
+        if (this.standard && this.nbParameters == parameters.length && this.nbArguments == arguments.length) {
+            return this;
+        }
+        return prepare(this.pattern, parameters.length, arguments.length);
+    }
+
+    @Override
+    public String toString() {
+        return this.format;
+    }
+
+    private static PreparedFormat parse(final CacheKey key) {
+        final List<Group> groups = findGroups(key.pattern);
+
+        reindex(groups, key.nbParameters, key.startParameters, key.nbArguments, key.startArguments);
+
+        final String text = key.pattern;
+        final StringBuilder sb = new StringBuilder(text.length() + (groups.size() << 1));
+        int last = 0;
+        for (Group group : groups) {
+            sb.append(text, last, group.start);
+            if (!group.remove) {
+                group.appendTo(sb);
+            }
+            last = group.end;
+        }
+        sb.append(text, last, text.length());
+
+        return new PreparedFormat(key, sb.toString());
+    }
+
+    /**
+     * Find all expressions, the groups are naturally ordered by position
+     *
+     * @param text
+     *            the text to parse
+     * @return the list of groups
+     */
+    private static List<Group> findGroups(final String text) {
+        final List<Group> groups = new ArrayList<>();
+        final int length = text.length();
+
+        int state = STATE_NOTHING;
+        int i;
+        char c;
+        Group group = null;
+
+        for (i = 0; i < length; i++) {
+            c = text.charAt(i);
+            if (group == null && c == PREFIX) {
+                group = new Group(i);
+            } else if (group != null) {
+                if (state < STATE_INDEX && CharClass.DIGITS.contains(c)) {
+                    // (\\d+\\$)? ; the number
+                    if (state == STATE_NOTHING) {
+                        state = STATE_NUMBER;
+                        group.index = 0;
+                    }
+                    // shift left from 1 number and add the number (convert char
+                    // into number)
+                    group.index = group.index * SHIFT_LEFT + c - AsciiUtils.NUM_FIRST;
+                } else if (state < STATE_INDEX && c == INDEX_SUFFIX) {
+                    // (\\d+\\$)? ; the dollar
+                    state |= STATE_INDEX;
+                } else if (state < STATE_INTEGER && FLAGS.contains(c)) {
+                    // ([-#+ 0,(\\<]*)?
+                    state |= STATE_FLAGS;
+                    group.flags.append(c);
+                } else if (state < STATE_DOT && c == DOT) {
+                    // (\\d+)?(\\.\\d+)? ; the dot
+                    state |= STATE_DOT;
+                    group.number.append(c);
+                } else if (state < STATE_TIME && CharClass.DIGITS.contains(c)) {
+                    // (\\d+)?(\\.\\d+)? ; 8 (integer) for numbers before dot
+                    // and 32 (decimal) for numbers after
+                    if ((state & STATE_DOT) == STATE_DOT) {
+                        state |= STATE_DECIMAL;
+                    } else {
+                        state |= STATE_INTEGER;
+                    }
+                    group.number.append(c);
+                } else if (state < STATE_TIME && c == TIME_UPPERCASE || c == TIME_LOWERCASE) {
+                    // [tT]
+                    state |= STATE_TIME;
+                    group.time = c;
+                } else if (state < STATE_TYPE && (CharClass.ALPHA.contains(c) || c == PERCENT)) {
+                    // [a-zA-Z%]
+                    state |= STATE_TYPE;
+                    group.type.append(c);
+                } else if (state < STATE_SUFFIX && c == PARAM_SUFFIX) {
+                    // to detect internal parameter form
+                    state |= STATE_SUFFIX;
+                    group.asterisk = true;
+                } else {
+                    if ((state & STATE_INDEX) != STATE_INDEX && group.index > -1) {
+                        // no index, so first number detected is the format, not
+                        // a number
+                        group.number.insert(0, String.valueOf(group.index));
+                        group.index = -1;
+                    }
+                    if ((state & STATE_TYPE) == STATE_TYPE) {
+                        // complete
+                        group.end = i;
+                        groups.add(group);
+                    }
+                    state = STATE_NOTHING;
+                    if (c == PREFIX) {
+                        // prepare the next expression
+                        group = new Group(i);
+                    } else {
+                        group = null;
+                    }
+                }
+            }
+        }
+
+        if (group != null) {
+            if ((state & STATE_INDEX) != STATE_INDEX && group.index > -1) {
+                // no index, so first number detected is the format, not a
+                // number
+                group.number.insert(0, String.valueOf(group.index));
+                group.index = -1;
+            }
+
+            group.end = i;
+            groups.add(group);
+        }
+
+        return groups;
+    }
+
+    private static void reindex(final List<Group> groups, final int nbParameters, final int startParameters,
+            final int nbArguments, final int startArguments) {
+
+        int posArg = startParameters - 1 + nbParameters + startArguments;
+        int posParam = startParameters;
+
+        for (Group group : groups) {
+            if (group.index == -1) {
+                if (group.asterisk) {
+                    if (nbParameters < posParam) {
+                        group.remove = true;
+                    } else {
+                        group.index = posParam;
+                        posParam++;
+                    }
+                } else if (nbArguments < posArg - nbParameters) {
+                    group.remove = true;
+                } else {
+                    group.index = posArg;
+                    posArg++;
+                }
+            } else if (!group.asterisk) {
+                if (nbArguments < group.index) {
+                    group.remove = true;
+                } else {
+                    group.index += nbParameters;
+                }
+            } else if (nbParameters < group.index) {
+                group.remove = true;
+            }
+        }
+    }
+
+    /**
+     * Class to manage groups (only used during the parse)
+     *
+     * @since Aug 9, 2016
+     * @author Gilles
+     *
+     */
+    private static class Group {
+
+        private final int start;
+        private int end;
+        private int index = -1;
+        private final StringBuilder flags = new StringBuilder();
+        private final StringBuilder number = new StringBuilder();
+        private char time;
+        private final StringBuilder type = new StringBuilder();
+        private boolean asterisk;
+
+        private boolean remove;
+
+        /**
+         * Constructor
+         *
+         * @param start
+         *            the start index
+         */
+        Group(final int start) {
+            this.start = start;
+        }
+
+        /**
+         * Append the reindexed expression
+         *
+         * @param sb
+         *            the output
+         */
+        void appendTo(final StringBuilder sb) {
+            sb.append(PERCENT).append(this.index).append(INDEX_SUFFIX);
+            sb.append(this.flags);
+            sb.append(this.number);
+            if (this.time > 0) {
+                sb.append(this.time);
+            }
+            sb.append(this.type);
+        }
+    }
+
+    /**
+     * Cache key
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    private static final class CacheKey {
+
+        private final String pattern;
+        private final int nbParameters;
+        private final int startParameters;
+        private final int nbArguments;
+        private final int startArguments;
+        private final int hash;
+
+        private CacheKey(final String pattern, final int nbParameters, final int startParameters,
+                final int nbArguments, final int startArguments) {
+            this.pattern = pattern;
+            this.nbParameters = nbParameters;
+            this.startParameters = startParameters;
+            this.nbArguments = nbArguments;
+            this.startArguments = startArguments;
+            int h = pattern.hashCode();
+            h = 31 * h + nbParameters;
+            h = 31 * h + startParameters;
+            h = 31 * h + nbArguments;
+            this.hash = 31 * h + startArguments;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            } else if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            final CacheKey other = (CacheKey) obj;
+            return this.hash == other.hash && this.nbParameters == other.nbParameters
+                    && this.startParameters == other.startParameters && this.nbArguments == other.nbArguments
+                    && this.startArguments == other.startArguments && this.pattern.equals(other.pattern);
+        }
+    }
+}
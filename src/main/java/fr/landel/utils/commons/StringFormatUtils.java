@@ -19,13 +19,8 @@
  */
 package fr.landel.utils.commons;
 
-import java.util.Arrays;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.Set;
-import java.util.TreeSet;
-
-import fr.landel.utils.commons.Comparators.BiComparator;
 
 /**
  * This class is an helper to inject parameters into a {@link String} formatter
@@ -42,43 +37,6 @@ public abstract class StringFormatUtils extends org.apache.commons.lang3.StringU
      */
     public static final String EMPTY = "";
 
-    // The regular expression from String#format
-    // (just for info, the original regular expression, it's replaced here cause
-    // of performance issues)
-    // "%(\\d+\\$)?([-#+ 0,(\\<]*)?(\\d+)?(\\.\\d+)?([tT])?([a-zA-Z%])"
-
-    /**
-     * the parameter suffix used to detect, if the expression is a standard or a
-     * parameter type
-     */
-    private static final char PARAM_SUFFIX = '*';
-
-    /**
-     * Flags in regular expression (sorted for binarySearch)
-     */
-    private static final char[] FLAGS = StringUtils.toChars(" #(+,-0<\\");
-
-    private static final char PERCENT = '%';
-    private static final char PREFIX = PERCENT;
-    private static final String PREFIX_PERCENT = "%";
-    private static final char DOT = '.';
-    private static final char INDEX_SUFFIX = '$';
-    private static final char TIME_LOWERCASE = 't';
-    private static final char TIME_UPPERCASE = 'T';
-
-    private static final int STATE_NOTHING = 0;
-    private static final int STATE_NUMBER = 1;
-    private static final int STATE_INDEX = 2;
-    private static final int STATE_FLAGS = 4;
-    private static final int STATE_INTEGER = 8;
-    private static final int STATE_DOT = 16;
-    private static final int STATE_DECIMAL = 32;
-    private static final int STATE_TIME = 64;
-    private static final int STATE_TYPE = 128;
-    private static final int STATE_SUFFIX = 256;
-
-    private static final int SHIFT_LEFT = 10;
-
     /**
      * Returns a formatted string using the specified format string, parameters
      * and arguments.
@@ -194,14 +152,14 @@ public abstract class StringFormatUtils extends org.apache.commons.lang3.StringU
     public static String format(final Locale locale, final CharSequence format, final Object[] parameters, final Object... arguments) {
         Objects.requireNonNull(format, "format");
 
-        return String.format(ObjectUtils.defaultIfNull(locale, Locale.getDefault(Locale.Category.FORMAT)),
-                prepareFormat(format, parameters.length, arguments.length).toString(), ArrayUtils.addAll(parameters, arguments));
+        return PreparedFormat.prepare(format, parameters.length, arguments.length).format(locale, parameters, arguments);
     }
 
     /**
      * Parse the string to find parameters and arguments expressions, changes
      * the index to match the combining of the two arrays and removes expression
-     * with unavailable parameters or arguments.
+     * with unavailable parameters or arguments. The result is cached (see
+     * {@link PreparedFormat}).
      * 
      * <p>
      * Examples:
@@ -235,13 +193,14 @@ public abstract class StringFormatUtils extends org.apache.commons.lang3.StringU
      * @return the new char sequence
      */
     public static CharSequence prepareFormat(final CharSequence text, final int nbParameters, final int nbArguments) {
-        return prepareFormat(text, nbParameters, 1, nbArguments, 1);
+        return PreparedFormat.prepare(text, nbParameters, nbArguments).getFormat();
     }
 
     /**
      * Parse the string to find parameters and arguments expressions, changes
      * the index to match the combining of the two arrays and removes expression
-     * with unavailable parameters or arguments.
+     * with unavailable parameters or arguments. The result is cached (see
+     * {@link PreparedFormat}).
      * 
      * <p>
      * Examples:
@@ -274,201 +233,6 @@ public abstract class StringFormatUtils extends org.apache.commons.lang3.StringU
     public static CharSequence prepareFormat(final CharSequence text, final int nbParameters, final int startParameters,
             final int nbArguments, final int startArguments) {
 
-        final char[] chars = StringUtils.toChars(text);
-
-        int start = -1;
-        int state = STATE_NOTHING;
-
-        final Set<Group> groups = new TreeSet<>();
-
-        int i;
-        Group group = null;
-
-        for (i = 0; i < chars.length; i++) {
-            if (group == null && chars[i] == PREFIX) {
-                start = i;
-                group = new Group(start);
-            } else if (group != null) {
-                if (state < STATE_INDEX && AsciiUtils.IS_NUMERIC.test(chars[i])) {
-                    // (\\d+\\$)? ; the number
-                    if (state == STATE_NOTHING) {
-                        state = STATE_NUMBER;
-                        group.index = 0;
-                    }
-                    // shift left from 1 number and add the number (convert char
-                    // into number)
-                    group.index = group.index * SHIFT_LEFT + chars[i] - AsciiUtils.NUM_FIRST;
-                } else if (state < STATE_INDEX && chars[i] == INDEX_SUFFIX) {
-                    // (\\d+\\$)? ; the dollar
-                    state |= STATE_INDEX;
-                } else if (state < STATE_INTEGER && Arrays.binarySearch(FLAGS, chars[i]) > -1) {
-                    // ([-#+ 0,(\\<]*)?
-                    state |= STATE_FLAGS;
-                    group.flags.append((char) chars[i]);
-                } else if (state < STATE_DOT && chars[i] == DOT) {
-                    // (\\d+)?(\\.\\d+)? ; the dot
-                    state |= STATE_DOT;
-                    group.number.append((char) chars[i]);
-                } else if (state < STATE_TIME && AsciiUtils.IS_NUMERIC.test(chars[i])) {
-                    // (\\d+)?(\\.\\d+)? ; 8 (integer) for numbers before dot
-                    // and 32 (decimal) for numbers after
-                    if ((state & STATE_DOT) == STATE_DOT) {
-                        state |= STATE_DECIMAL;
-                    } else {
-                        state |= STATE_INTEGER;
-                    }
-                    group.number.append((char) chars[i]);
-                } else if (state < STATE_TIME && chars[i] == TIME_UPPERCASE || chars[i] == TIME_LOWERCASE) {
-                    // [tT]
-                    state |= STATE_TIME;
-                    group.time = (char) chars[i];
-                } else if (state < STATE_TYPE && (AsciiUtils.IS_ALPHA.test(chars[i]) || chars[i] == PERCENT)) {
-                    // [a-zA-Z%]
-                    state |= STATE_TYPE;
-                    group.type.append((char) chars[i]);
-                } else if (state < STATE_SUFFIX && chars[i] == PARAM_SUFFIX) {
-                    // to detect internal parameter form
-                    state |= STATE_SUFFIX;
-                    group.asterisk = true;
-                } else {
-                    if ((state & STATE_INDEX) != STATE_INDEX && group.index > -1) {
-                        // no index, so first number detected is the format, not
-                        // a number
-                        group.number.insert(0, String.valueOf(group.index));
-                        group.index = -1;
-                    }
-                    if ((state & STATE_TYPE) == STATE_TYPE) {
-                        // complete
-                        group.end = i;
-                        groups.add(group);
-                    }
-                    if (chars[i] == PREFIX) {
-                        // prepare the next expression
-                        start = i;
-                        state = STATE_NOTHING;
-                        group = new Group(start);
-                    } else {
-                        group = null;
-                        state = STATE_NOTHING;
-                    }
-                }
-            }
-        }
-
-        if (group != null) {
-            if ((state & 2) != 2 && group.index > -1) {
-                // no index, so first number detected is the format, not a
-                // number
-                group.number.insert(0, String.valueOf(group.index));
-                group.index = -1;
-            }
-
-            group.end = i;
-            groups.add(group);
-        }
-
-        return replaceAndClear(groups, reindex(groups, text, nbParameters, startParameters, nbArguments, startArguments));
-    }
-
-    private static StringBuilder reindex(final Set<Group> groups, final CharSequence text, final int nbParameters,
-            final int startParameters, final int nbArguments, final int startArguments) {
-
-        int posArg = startParameters - 1 + nbParameters + startArguments;
-        int posParam = startParameters;
-        final StringBuilder sb = new StringBuilder(text);
-
-        for (Group group : groups) {
-            if (group.index == -1) {
-                if (group.asterisk) {
-                    if (nbParameters < posParam) {
-                        group.remove = true;
-                    } else {
-                        group.index = posParam;
-                        posParam++;
-                    }
-                } else if (nbArguments < posArg - nbParameters) {
-                    group.remove = true;
-                } else {
-                    group.index = posArg;
-                    posArg++;
-                }
-            } else if (!group.asterisk) {
-                if (nbArguments < group.index) {
-                    group.remove = true;
-                } else {
-                    group.index += nbParameters;
-                }
-            } else if (nbParameters < group.index) {
-                group.remove = true;
-            }
-        }
-        return sb;
-    }
-
-    private static StringBuilder replaceAndClear(final Set<Group> groups, final StringBuilder sb) {
-        groups.stream().sorted(Group.COMPARATOR.desc()).forEachOrdered((g) -> {
-            if (g.remove) {
-                sb.replace(g.start, g.end, EMPTY);
-            } else {
-                g.asterisk = false;
-                sb.replace(g.start, g.end, g.toString());
-            }
-        });
-
-        return sb;
-    }
-
-    /**
-     * Class to manage groups and ordering
-     *
-     * @since Aug 9, 2016
-     * @author Gilles
-     *
-     */
-    private static class Group implements Comparable<Group> {
-
-        private static final BiComparator<Group> COMPARATOR = Comparators.createComparator();
-
-        private final int start;
-        private int end;
-        private int index = -1;
-        private StringBuilder flags;
-        private StringBuilder number;
-        private char time;
-        private StringBuilder type;
-        private boolean asterisk;
-
-        private boolean remove;
-
-        /**
-         * Constructor
-         *
-         * @param start
-         *            the start index
-         */
-        public Group(final int start) {
-            this.start = start;
-            this.flags = new StringBuilder();
-            this.number = new StringBuilder();
-            this.type = new StringBuilder();
-        }
-
-        @Override
-        public String toString() {
-            final StringBuilder sb = new StringBuilder(PREFIX_PERCENT);
-            sb.append(this.index).append(INDEX_SUFFIX);
-            sb.append(this.flags);
-            sb.append(this.number);
-            if (this.time > 0) {
-                sb.append(this.time);
-            }
-            sb.append(this.type);
-            return sb.toString();
-        }
-
-        @Override
-        public int compareTo(final Group o) {
-            return this.start - o.start;
-        }
+        return PreparedFormat.prepare(text, nbParameters, startParameters, nbArguments, startArguments).getFormat();
     }
 }
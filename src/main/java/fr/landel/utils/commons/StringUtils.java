@@ -19,14 +19,22 @@
  */
 package fr.landel.utils.commons;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Spliterator;
 import java.util.function.Function;
+import java.util.stream.Collector;
 
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -61,11 +69,6 @@ public final class StringUtils extends StringFormatUtils {
 	private static final String BRACE_OPEN_EXCLUDE = "{{";
 	private static final String BRACE_CLOSE_EXCLUDE = "}}";
 	private static final String DOLLAR_BRACE_OPEN_EXCLUDE = "${{";
-	private static final String BRACES = "{}";
-
-	private static final String BRACE_OPEN_TMP = "[#STR_UT_TMP#[";
-	private static final String BRACE_CLOSE_TMP = "]#STR_UT_TMP#]";
-	private static final String TEMP_REPLACEMENT = "___ST_REPLACEMENT___";
 
 	public static final Pair<String, String> INCLUDE_CURLY_BRACES = Pair.of(BRACE_OPEN, BRACE_CLOSE);
 	public static final Pair<String, String> EXCLUDE_CURLY_BRACES = Pair.of(BRACE_OPEN_EXCLUDE, BRACE_CLOSE_EXCLUDE);
@@ -76,15 +79,17 @@ public final class StringUtils extends StringFormatUtils {
 
 	private static final int ENSURE_CAPACITY = 16;
 
-	private static final int BUFFER_CAPACITY = 64;
-	private static final char[] NULL_CHARS = { 'n', 'u', 'l', 'l' };
+	private static final String NULL = "null";
+	private static final char LATIN1_MAX = 0xFF;
 
 	private static final Function<String, String> PARAM_NULL = p -> "Parameter '".concat(p).concat("' cannot be null");
 
 	private static final String ERROR_SEQUENCE = PARAM_NULL.apply("sequence");
 	private static final String ERROR_OBJECTS = PARAM_NULL.apply("objects");
+	private static final String ERROR_BUFFER = PARAM_NULL.apply("buffer");
 	private static final String ERROR_PREFIX = PARAM_NULL.apply("prefix");
 	private static final String ERROR_SUFFIX = PARAM_NULL.apply("suffix");
+	private static final String ERROR_OUTPUT = PARAM_NULL.apply("output");
 
 	/**
 	 * Hidden constructor.
@@ -211,69 +216,72 @@ public final class StringUtils extends StringFormatUtils {
 			if (from == to) {
 				throw new IllegalArgumentException("The 'from' index is equal to 'to' index");
 			}
+			TokenCursor.checkSeparator(separator);
 
-			final List<String> strs = splitAsList(str, separator);
-			final int size = strs.size();
-
-			if (from >= size || (from < 0 && Math.abs(from) - 1 >= size)) {
-				return "";
-			} else {
-				final StringBuilder stringBuilder = new StringBuilder();
-
-				int end;
-				int start;
-
-				if (from > -1) {
-					start = from;
-					if (to > -1) {
-						end = to;
-					} else if (size + to > start) {
-						end = size + to;
-					} else {
-						throw new IllegalArgumentException("The 'to' index is invalid");
-					}
+			// the separators are searched lazily, only the result is allocated
+			if (from > -1) {
+				final int first = TokenCursor.indexOfToken(str, separator, from);
+				if (first < 0) {
+					return "";
 				} else if (to > -1) {
-					start = size + from + 1;
-					end = to;
-				} else if (to < from) {
-					if (size + to + 1 < 0) {
-						start = 0;
-					} else {
-						start = size + to + 1;
+					if (from > to) {
+						throw new IllegalArgumentException("The 'from' and 'to' indexes are invalid");
 					}
-					end = size + from + 1;
-				} else {
-					throw new IllegalArgumentException("The 'to' index is invalid");
+					return str.substring(first, TokenCursor.endOfToken(str, separator, first, to - from - 1));
 				}
 
-				if (start >= end) {
-					throw new IllegalArgumentException("The 'from' and 'to' indexes are invalid");
+				// the last token is at 'to - 1' from the right, it cannot be before the first one
+				final int last = TokenCursor.lastIndexOfToken(str, separator, to - 1);
+				if (last < first) {
+					throw new IllegalArgumentException("The 'to' index is invalid");
 				}
+				return str.substring(first, TokenCursor.endOfToken(str, separator, last, 0));
+			}
 
-				for (int i = start; i < end && i < size; i++) {
-					stringBuilder.append(strs.get(i));
-					if (i < end - 1 && i < size - 1) {
-						stringBuilder.append(separator);
-					}
+			final int last = TokenCursor.lastIndexOfToken(str, separator, from);
+			if (last < 0) {
+				return "";
+			} else if (to > -1) {
+				// starts after the 'from' token
+				final int size = TokenCursor.countTokens(str, separator);
+				final int start = size + from + 1;
+				if (start >= to) {
+					throw new IllegalArgumentException("The 'from' and 'to' indexes are invalid");
+				} else if (start >= size) {
+					return "";
 				}
-
-				return stringBuilder.toString();
+				final int first = TokenCursor.endOfToken(str, separator, last, 0) + separator.length();
+				return str.substring(first, TokenCursor.endOfToken(str, separator, first, to - start - 1));
+			} else if (to < from) {
+				final int first = Math.max(0, TokenCursor.lastIndexOfToken(str, separator, to + 1));
+				return str.substring(first, TokenCursor.endOfToken(str, separator, last, 0));
+			} else {
+				throw new IllegalArgumentException("The 'to' index is invalid");
 			}
 		}
 		return str;
 	}
 
-	private static List<String> splitAsList(final String str, final String separator) {
-		int pos = 0;
-		int pPos = 0;
-		final int separatorLength = separator.length();
-		final List<String> strs = new ArrayList<>();
-		while ((pos = str.indexOf(separator, pPos)) > -1) {
-			strs.add(str.substring(pPos, pos));
-			pPos = pos + separatorLength;
-		}
-		strs.add(str.substring(pPos, str.length()));
-		return strs;
+	/**
+	 * Replace all the literals of the dictionary in a single pass (the leftmost
+	 * match wins, for the same start the longest literal wins, the replacements
+	 * are not re-scanned). To apply the same dictionary several times, compile it
+	 * once with {@link CompiledReplacer#compile(Map)}.
+	 * 
+	 * <pre>
+	 * StringUtils.replaceEach("pass=1, password=2", MapUtils2.newHashMap(Pair.of("password", "***"), Pair.of("pass", "*")));
+	 * // =&gt; "*=1, ***=2"
+	 * </pre>
+	 * 
+	 * @param text         the input text
+	 * @param replacements the literals and their replacements
+	 * @return the result, or {@code null} if text is {@code null}
+	 * @throws NullPointerException     if the replacements map, a literal or a
+	 *                                  replacement is {@code null}
+	 * @throws IllegalArgumentException if a literal is empty
+	 */
+	public static String replaceEach(final CharSequence text, final Map<String, ? extends CharSequence> replacements) {
+		return CompiledReplacer.compile(replacements).replace(text);
 	}
 
 	/**
@@ -596,6 +604,89 @@ public final class StringUtils extends StringFormatUtils {
 		return buf.toString();
 	}
 
+	/**
+	 * <p>
+	 * Joins the elements of the provided spliterator into a single String, the
+	 * elements are formatted by chunks in parallel (in the common fork/join pool),
+	 * then concatenated into an exactly sized buffer. Designed for huge
+	 * collections, the order of the elements is kept.
+	 * </p>
+	 *
+	 * <p>
+	 * No delimiter is added before or after the list. A {@code null} separator is
+	 * the same as an empty String (""). The separator is added between all the
+	 * elements (even empty ones). The formatter if provided should support
+	 * {@code null} value and has to be thread-safe. By default the formatter used
+	 * the function {@link String#valueOf}, a {@code null} formatted value is
+	 * represented by "null".
+	 * </p>
+	 *
+	 * <pre>
+	 * StringUtils.joinParallel(ids.spliterator(), ",", null); // =&gt; "1,2,3,..."
+	 * StringUtils.joinParallel(Arrays.spliterator(values), ", ", v -&gt; v.getName());
+	 * </pre>
+	 *
+	 * @param spliterator the {@link Spliterator} providing the values to join
+	 *                    together, may be null
+	 * @param separator   the separator character to use, null treated as ""
+	 * @param formatter   the formatter to stringify each element, null treated as
+	 *                    {@link String#valueOf}
+	 * @param <T>         the type of spliterator element
+	 * @return the joined String, {@code null} if null spliterator input.
+	 */
+	public static <T> String joinParallel(final Spliterator<T> spliterator, final String separator,
+			final Function<? super T, String> formatter) {
+		if (spliterator == null) {
+			return null;
+		}
+
+		final Function<? super T, String> frmt = ObjectUtils.defaultIfNull(formatter, String::valueOf);
+		return ParallelJoiner.join(spliterator, ObjectUtils.defaultIfNull(separator, EMPTY), frmt);
+	}
+
+	/**
+	 * <p>
+	 * Joins the elements of the provided collection, see
+	 * {@link #joinParallel(Spliterator, String, Function)}.
+	 * </p>
+	 *
+	 * @param collection the {@link Collection} providing the values to join
+	 *                   together, may be null
+	 * @param separator  the separator character to use, null treated as ""
+	 * @param formatter  the formatter to stringify each element, null treated as
+	 *                   {@link String#valueOf}
+	 * @param <T>        the type of collection element
+	 * @return the joined String, {@code null} if null collection input.
+	 */
+	public static <T> String joinParallel(final Collection<T> collection, final String separator,
+			final Function<? super T, String> formatter) {
+		return joinParallel(collection == null ? null : collection.spliterator(), separator, formatter);
+	}
+
+	/**
+	 * <p>
+	 * Returns a {@link Collector} joining the elements, the formatting is done
+	 * while accumulating (so in parallel for parallel streams), the result is
+	 * concatenated into an exactly sized buffer. The separator is added between
+	 * all the elements (even empty ones).
+	 * </p>
+	 *
+	 * <pre>
+	 * ids.parallelStream().filter(id -&gt; id &gt; 0).collect(StringUtils.joining(",", null)); // =&gt; "1,2,3,..."
+	 * </pre>
+	 *
+	 * @param separator the separator character to use, null treated as ""
+	 * @param formatter the formatter to stringify each element, null treated as
+	 *                  {@link String#valueOf}
+	 * @param <T>       the type of the elements
+	 * @return the collector
+	 */
+	public static <T> Collector<T, ?, String> joining(final String separator,
+			final Function<? super T, String> formatter) {
+		final Function<? super T, String> frmt = ObjectUtils.defaultIfNull(formatter, String::valueOf);
+		return ParallelJoiner.collector(ObjectUtils.defaultIfNull(separator, EMPTY), frmt);
+	}
+
 	/**
 	 * <p>
 	 * Joins the elements of the provided array into a single String containing the
@@ -706,6 +797,10 @@ public final class StringUtils extends StringFormatUtils {
 	 * 
 	 * StringUtils.inject("I'll go to {{}}{3} {} {2}{{0}} {4} {text}", "the", "this", "afternoon", "beach");
 	 * // =&gt; "I'll go to {}beach the afternoon{0} {4} {text}"
+	 * 
+	 * StringUtils.inject("{0}{0} {}{}", "a", "b");
+	 * // =&gt; "aa ab" (adjacent placeholders are all replaced, up to 1.0.20 the
+	 * // second one was kept if the value was shorter than the placeholder)
 	 * </pre>
 	 * 
 	 * @param charSequence the input char sequence
@@ -721,43 +816,14 @@ public final class StringUtils extends StringFormatUtils {
 			return charSequence.toString();
 		}
 
-		final StringBuilder output = new StringBuilder(charSequence);
+		final String pattern = charSequence.toString();
 
 		// if no brace, just returns the string
-		if (output.indexOf(BRACE_OPEN) < 0) {
-			return output.toString();
+		if (pattern.indexOf(BRACE_OPEN) < 0) {
+			return pattern;
 		}
 
-		// replace the excluded braces by a temporary string
-		replaceBrace(output, BRACE_OPEN_EXCLUDE, BRACE_OPEN_TMP);
-		replaceBrace(output, BRACE_CLOSE_EXCLUDE, BRACE_CLOSE_TMP);
-
-		// replace the braces without index by the arguments
-		int i = 0;
-		int index = 0;
-		while ((index = output.indexOf(BRACES, index)) > -1 && i < arguments.length) {
-			output.replace(index, index + BRACES.length(), String.valueOf(arguments[i++]));
-			index += BRACES.length();
-		}
-
-		// replace braces with index by the arguments
-		int len;
-		String param;
-		for (i = 0; i < arguments.length; ++i) {
-			index = 0;
-			param = new StringBuilder(BRACE_OPEN).append(i).append(BRACE_CLOSE).toString();
-			len = param.length();
-			while ((index = output.indexOf(param, index)) > -1) {
-				output.replace(index, index + len, String.valueOf(arguments[i]));
-				index += len;
-			}
-		}
-
-		// replace the temporary brace by the simple brace
-		replaceBrace(output, BRACE_OPEN_TMP, BRACE_OPEN);
-		replaceBrace(output, BRACE_CLOSE_TMP, BRACE_CLOSE);
-
-		return output.toString();
+		return CompiledTemplate.compile(pattern).render(arguments);
 	}
 
 	/**
@@ -794,6 +860,11 @@ public final class StringUtils extends StringFormatUtils {
 	@SafeVarargs
 	public static <T extends Map.Entry<String, Object>> String injectKeys(final Pair<String, String> include,
 			final Pair<String, String> exclude, final CharSequence charSequence, final T... arguments) {
+		return injectEntries(include, exclude, charSequence, arguments);
+	}
+
+	private static String injectEntries(final Pair<String, String> include, final Pair<String, String> exclude,
+			final CharSequence charSequence, final Map.Entry<?, ?>... arguments) {
 
 		checkParamsInjectKeys(include, exclude, charSequence);
 
@@ -801,57 +872,186 @@ public final class StringUtils extends StringFormatUtils {
 			return charSequence.toString();
 		}
 
-		final StringBuilder output = new StringBuilder(charSequence);
+		final String pattern = charSequence.toString();
 
 		// if no brace, just returns the string
-		if (output.indexOf(include.getLeft()) < 0) {
-			return output.toString();
+		if (pattern.indexOf(include.getLeft()) < 0) {
+			return pattern;
 		}
 
-		for (T argument : arguments) {
-			if (argument != null) {
-				int index = 0;
+		return CompiledKeyTemplate.compile(include, exclude, pattern).renderEntries(arguments);
+	}
 
-				final String key = new StringBuilder(include.getLeft()).append(argument.getKey())
-						.append(include.getRight()).toString();
-				final String keyExclude = new StringBuilder(exclude.getLeft()).append(argument.getKey())
-						.append(exclude.getRight()).toString();
+	/**
+	 * Injects all arguments in the specified char sequence and appends the result
+	 * into the output (without building an intermediate string). See
+	 * {@link #inject(CharSequence, Object...)} for the rules.
+	 * 
+	 * <pre>
+	 * StringUtils.injectTo(writer, "I'll go to the {1} this {}", "afternoon", "beach");
+	 * // writes "I'll go to the beach this afternoon"
+	 * </pre>
+	 * 
+	 * @param output       the output (required, not null, not flushed)
+	 * @param charSequence the input char sequence
+	 * @param arguments    the arguments to inject
+	 * @param <A>          the output type
+	 * @param <T>          the arguments type
+	 * @return the output
+	 * @throws IOException on write failure
+	 */
+	@SafeVarargs
+	public static <A extends Appendable, T> A injectTo(final A output, final CharSequence charSequence,
+			final T... arguments) throws IOException {
+		Objects.requireNonNull(output, ERROR_OUTPUT);
+		if (charSequence == null) {
+			throw new IllegalArgumentException("The input char sequence cannot be null");
+		} else if (isEmpty(charSequence) || arguments == null || arguments.length == 0
+				|| indexOf(charSequence, BRACE_OPEN) < 0) {
+			output.append(charSequence);
+			return output;
+		}
 
-				// replace the excluded braces by a temporary string
-				while ((index = output.indexOf(keyExclude, index)) > -1) {
-					output.replace(index, index + keyExclude.length(), TEMP_REPLACEMENT);
-				}
+		return CompiledTemplate.compile(charSequence).renderTo(output, arguments);
+	}
 
-				// replace the key by the argument
-				index = 0;
-				while ((index = output.indexOf(key, index)) > -1) {
-					output.replace(index, index + key.length(), String.valueOf(argument.getValue()));
-				}
+	/**
+	 * Injects all arguments in the template read from the reader and writes the
+	 * result into the output. The template is processed by chunks and is never
+	 * fully loaded in memory. See {@link #inject(CharSequence, Object...)} for the
+	 * rules.
+	 * 
+	 * <pre>
+	 * try (Reader reader = Files.newBufferedReader(template);
+	 * 		Writer writer = Channels.newWriter(channel, "UTF-8")) {
+	 * 	StringUtils.injectTo(writer, reader, "afternoon", "beach");
+	 * }
+	 * </pre>
+	 * 
+	 * @param output    the output (required, not null, not flushed or closed)
+	 * @param reader    the template reader (required, not null, not closed)
+	 * @param arguments the arguments to inject
+	 * @param <A>       the output type
+	 * @param <T>       the arguments type
+	 * @return the output
+	 * @throws IOException on read or write failure
+	 */
+	@SafeVarargs
+	public static <A extends Appendable, T> A injectTo(final A output, final Reader reader, final T... arguments)
+			throws IOException {
+		return CompiledTemplate.stream(reader, output, CompiledTemplate.DEFAULT_CHUNK_SIZE, arguments);
+	}
 
-				// replace the temporary string by the excluded braces
-				index = 0;
-				while ((index = output.indexOf(TEMP_REPLACEMENT, index)) > -1) {
-					output.replace(index, index + TEMP_REPLACEMENT.length(), key);
-				}
-			}
+	/**
+	 * Injects all arguments in the specified char sequence and appends the result
+	 * into the output (without building an intermediate string). See
+	 * {@link #injectKeys(Pair, Pair, CharSequence, Map)} for the rules.
+	 * 
+	 * @param output       the output (required, not null, not flushed)
+	 * @param include      the characters that surround the property key to replace
+	 * @param exclude      the characters that surround the property key to exclude
+	 *                     of replacement
+	 * @param charSequence the input char sequence
+	 * @param arguments    the map of pairs to inject (also {@link Properties})
+	 * @param <A>          the output type
+	 * @return the output
+	 * @throws IOException on write failure
+	 */
+	public static <A extends Appendable> A injectKeysTo(final A output, final Pair<String, String> include,
+			final Pair<String, String> exclude, final CharSequence charSequence, final Map<?, ?> arguments)
+			throws IOException {
+		Objects.requireNonNull(output, ERROR_OUTPUT);
+		checkParamsInjectKeys(include, exclude, charSequence);
+		if (isEmpty(charSequence) || MapUtils.isEmpty(arguments)) {
+			output.append(charSequence);
+			return output;
 		}
 
-		return output.toString();
+		return CompiledKeyTemplate.compile(include, exclude, charSequence).renderTo(output, arguments);
+	}
+
+	/**
+	 * Injects all arguments in the specified char sequence and appends the result
+	 * into the output (without building an intermediate string). See
+	 * {@link #injectKeys(CharSequence, Map)} for the rules.
+	 * 
+	 * <pre>
+	 * StringUtils.injectKeysTo(writer, "I'll go to the {where} this {when}", properties);
+	 * </pre>
+	 * 
+	 * @param output       the output (required, not null, not flushed)
+	 * @param charSequence the input char sequence
+	 * @param arguments    the map of pairs to inject (also {@link Properties})
+	 * @param <A>          the output type
+	 * @return the output
+	 * @throws IOException on write failure
+	 */
+	public static <A extends Appendable> A injectKeysTo(final A output, final CharSequence charSequence,
+			final Map<?, ?> arguments) throws IOException {
+		return injectKeysTo(output, INCLUDE_CURLY_BRACES, EXCLUDE_CURLY_BRACES, charSequence, arguments);
+	}
+
+	/**
+	 * Injects all arguments in the template read from the reader and writes the
+	 * result into the output. The template is processed by chunks and is never
+	 * fully loaded in memory (keys are limited to a few thousand characters). See
+	 * {@link #injectKeys(Pair, Pair, CharSequence, Map)} for the rules.
+	 * 
+	 * @param output    the output (required, not null, not flushed or closed)
+	 * @param include   the characters that surround the property key to replace
+	 * @param exclude   the characters that surround the property key to exclude of
+	 *                  replacement
+	 * @param reader    the template reader (required, not null, not closed)
+	 * @param arguments the map of pairs to inject (also {@link Properties})
+	 * @param <A>       the output type
+	 * @return the output
+	 * @throws IOException on read or write failure
+	 */
+	public static <A extends Appendable> A injectKeysTo(final A output, final Pair<String, String> include,
+			final Pair<String, String> exclude, final Reader reader, final Map<?, ?> arguments) throws IOException {
+		return CompiledKeyTemplate.stream(include, exclude, reader, output, CompiledKeyTemplate.DEFAULT_CHUNK_SIZE,
+				arguments);
+	}
+
+	/**
+	 * Injects all arguments in the template read from the reader and writes the
+	 * result into the output. The template is processed by chunks and is never
+	 * fully loaded in memory (keys are limited to a few thousand characters). See
+	 * {@link #injectKeys(CharSequence, Map)} for the rules.
+	 * 
+	 * @param output    the output (required, not null, not flushed or closed)
+	 * @param reader    the template reader (required, not null, not closed)
+	 * @param arguments the map of pairs to inject (also {@link Properties})
+	 * @param <A>       the output type
+	 * @return the output
+	 * @throws IOException on read or write failure
+	 */
+	public static <A extends Appendable> A injectKeysTo(final A output, final Reader reader,
+			final Map<?, ?> arguments) throws IOException {
+		return injectKeysTo(output, INCLUDE_CURLY_BRACES, EXCLUDE_CURLY_BRACES, reader, arguments);
+	}
+
+	private static String injectKeysMap(final Pair<String, String> include, final Pair<String, String> exclude,
+			final CharSequence charSequence, final Map<?, ?> arguments) {
+
+		checkParamsInjectKeys(include, exclude, charSequence);
+
+		final String pattern = charSequence.toString();
+
+		// if no brace, just returns the string
+		if (pattern.indexOf(include.getLeft()) < 0) {
+			return pattern;
+		}
+
+		return CompiledKeyTemplate.compile(include, exclude, pattern).render(arguments);
 	}
 
 	private static <T extends Map.Entry<String, Object>> void checkParamsInjectKeys(final Pair<String, String> include,
 			final Pair<String, String> exclude, final CharSequence charSequence) {
 		if (charSequence == null) {
 			throw new IllegalArgumentException("The input char sequence cannot be null");
-		} else if (ObjectUtils.anyNull(include, exclude)) {
-			throw new IllegalArgumentException("The include and exclude parameters cannot be null");
-		} else if (ObjectUtils.anyNull(include.getLeft(), include.getRight(), exclude.getLeft(), exclude.getRight())) {
-			throw new IllegalArgumentException("The include and exclude values cannot be null");
-		} else if (exclude.getLeft().equals(include.getLeft()) || exclude.getRight().equals(include.getRight())) {
-			throw new IllegalArgumentException("The exclude values cannot be equal to include operators");
-		} else if (!exclude.getLeft().contains(include.getLeft()) || !exclude.getRight().contains(include.getRight())) {
-			throw new IllegalArgumentException("The exclude values must contain include operators");
 		}
+		CompiledKeyTemplate.checkDelimiters(include, exclude);
 	}
 
 	/**
@@ -883,7 +1083,7 @@ public final class StringUtils extends StringFormatUtils {
 	@SafeVarargs
 	public static <T extends Map.Entry<String, Object>> String injectKeys(final CharSequence charSequence,
 			final T... arguments) {
-		return injectKeys(INCLUDE_CURLY_BRACES, EXCLUDE_CURLY_BRACES, charSequence, arguments);
+		return injectEntries(INCLUDE_CURLY_BRACES, EXCLUDE_CURLY_BRACES, charSequence, arguments);
 	}
 
 	/**
@@ -924,8 +1124,7 @@ public final class StringUtils extends StringFormatUtils {
 			return charSequence.toString();
 		}
 
-		return injectKeys(include, exclude, charSequence, arguments.entrySet()
-				.toArray(CastUtils.<Map.Entry<String, Object>[]>cast(new Map.Entry[arguments.size()])));
+		return injectKeysMap(include, exclude, charSequence, arguments);
 	}
 
 	/**
@@ -1000,8 +1199,7 @@ public final class StringUtils extends StringFormatUtils {
 			return charSequence.toString();
 		}
 
-		return injectKeys(include, exclude, charSequence, properties.entrySet()
-				.toArray(CastUtils.<Map.Entry<String, Object>[]>cast(new Map.Entry[properties.size()])));
+		return injectKeysMap(include, exclude, charSequence, properties);
 	}
 
 	/**
@@ -1037,17 +1235,16 @@ public final class StringUtils extends StringFormatUtils {
 		return injectKeys(INCLUDE_CURLY_BRACES, EXCLUDE_CURLY_BRACES, charSequence, properties);
 	}
 
-	private static void replaceBrace(final StringBuilder output, final String text, final String replacement) {
-		int index = 0;
-		while ((index = output.indexOf(text, index)) > -1) {
-			output.replace(index, index + text.length(), replacement);
-			index += replacement.length();
-		}
-	}
-
 	/**
 	 * Concatenate objects. If one object is {@code null}, it's replaced by the word
-	 * 'null', otherwise calls toString method for each object.
+	 * 'null', otherwise calls toString method for each object (except for char
+	 * sequences which are copied as is).
+	 * 
+	 * <p>
+	 * The total length is computed first, so the characters are copied only once
+	 * into an exactly sized buffer (which keeps the compact Latin-1 storage on
+	 * Java 9+ runtimes).
+	 * </p>
 	 * 
 	 * @param objects the objects to concatenate
 	 * @return the concatenated String (may be empty if objects array is empty)
@@ -1056,29 +1253,174 @@ public final class StringUtils extends StringFormatUtils {
 	public static String concat(final Object... objects) {
 		Objects.requireNonNull(objects, ERROR_OBJECTS);
 
-		if (objects.length > 0) {
-			char[] buf = new char[BUFFER_CAPACITY];
-			int pos = 0;
-			for (Object object : objects) {
-				char[] chars;
-				if (object != null) {
-					chars = object.toString().toCharArray();
-				} else {
-					chars = NULL_CHARS;
+		if (objects.length == 0) {
+			return StringUtils.EMPTY;
+		} else if (objects.length == 1) {
+			return toSequence(objects[0]).toString();
+		}
+
+		final CharSequence[] sequences = toSequences(objects);
+		final StringBuilder builder = new StringBuilder(length(sequences));
+		for (CharSequence sequence : sequences) {
+			builder.append(sequence);
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Concatenate objects into Latin-1 (ISO-8859-1) bytes, see
+	 * {@link #concat(Object...)} for the rules. The characters outside of the
+	 * Latin-1 range are replaced by '?', a surrogate pair by a single '?' (like
+	 * {@link String#getBytes(java.nio.charset.Charset)}).
+	 * 
+	 * @param objects the objects to concatenate
+	 * @return the concatenated bytes (may be empty if objects array is empty)
+	 * @throws NullPointerException if {@code objects} array is {@code null}
+	 */
+	public static byte[] concatLatin1(final Object... objects) {
+		Objects.requireNonNull(objects, ERROR_OBJECTS);
+
+		final CharSequence[] sequences = toSequences(objects);
+		final byte[] bytes = new byte[length(sequences)];
+		final int length = toLatin1(sequences, bytes, 0);
+		// surrogate pairs are encoded as one byte
+		return length < bytes.length ? Arrays.copyOf(bytes, length) : bytes;
+	}
+
+	/**
+	 * Concatenate objects into the output, see {@link #concat(Object...)} for the
+	 * rules. No intermediate string is built.
+	 * 
+	 * @param output  the output (required, not null, not flushed)
+	 * @param objects the objects to concatenate
+	 * @param <A>     the output type
+	 * @return the output
+	 * @throws NullPointerException if {@code output} or {@code objects} are
+	 *                              {@code null}
+	 * @throws IOException          on write failure
+	 */
+	public static <A extends Appendable> A concatTo(final A output, final Object... objects) throws IOException {
+		Objects.requireNonNull(output, ERROR_OUTPUT);
+		Objects.requireNonNull(objects, ERROR_OBJECTS);
+
+		for (Object object : objects) {
+			output.append(toSequence(object));
+		}
+		return output;
+	}
+
+	/**
+	 * Concatenate objects into the buffer as Latin-1 (ISO-8859-1) bytes, see
+	 * {@link #concatLatin1(Object...)} for the rules. The buffer position is moved
+	 * after the written bytes.
+	 * 
+	 * @param buffer  the output buffer (required, not null)
+	 * @param objects the objects to concatenate
+	 * @return the buffer
+	 * @throws NullPointerException     if {@code buffer} or {@code objects} are
+	 *                                  {@code null}
+	 * @throws BufferOverflowException  if the remaining space is too small (nothing
+	 *                                  is written)
+	 * @throws ReadOnlyBufferException if the buffer is read only
+	 */
+	public static ByteBuffer concatTo(final ByteBuffer buffer, final Object... objects) {
+		Objects.requireNonNull(buffer, ERROR_BUFFER);
+		Objects.requireNonNull(objects, ERROR_OBJECTS);
+
+		final CharSequence[] sequences = toSequences(objects);
+		final int length = latin1Length(sequences);
+		if (buffer.isReadOnly()) {
+			throw new ReadOnlyBufferException();
+		} else if (buffer.remaining() < length) {
+			throw new BufferOverflowException();
+		}
+
+		if (buffer.hasArray()) {
+			final int start = buffer.arrayOffset() + buffer.position();
+			buffer.position(buffer.position() + toLatin1(sequences, buffer.array(), start) - start);
+		} else {
+			char previous = 0;
+			for (CharSequence sequence : sequences) {
+				for (int i = 0, l = sequence.length(); i < l; ++i) {
+					final char c = sequence.charAt(i);
+					if (!isLowSurrogateOf(previous, c)) {
+						buffer.put(toLatin1(c));
+					}
+					previous = c;
+				}
+			}
+		}
+		return buffer;
+	}
+
+	private static CharSequence toSequence(final Object object) {
+		if (object instanceof CharSequence) {
+			return (CharSequence) object;
+		} else if (object != null) {
+			return String.valueOf(object.toString());
+		}
+		return NULL;
+	}
+
+	private static CharSequence[] toSequences(final Object[] objects) {
+		final CharSequence[] sequences = new CharSequence[objects.length];
+		for (int i = 0; i < objects.length; ++i) {
+			sequences[i] = toSequence(objects[i]);
+		}
+		return sequences;
+	}
+
+	private static int length(final CharSequence[] sequences) {
+		long length = 0;
+		for (CharSequence sequence : sequences) {
+			length += sequence.length();
+		}
+		if (length > Integer.MAX_VALUE) {
+			throw new OutOfMemoryError("Concatenated length exceeds the maximum array size");
+		}
+		return (int) length;
+	}
+
+	private static int latin1Length(final CharSequence[] sequences) {
+		int length = length(sequences);
+		char previous = 0;
+		for (CharSequence sequence : sequences) {
+			for (int i = 0, l = sequence.length(); i < l; ++i) {
+				final char c = sequence.charAt(i);
+				if (isLowSurrogateOf(previous, c)) {
+					--length;
 				}
+				previous = c;
+			}
+		}
+		return length;
+	}
 
-				if (pos + chars.length > buf.length) {
-					char[] newBuf = new char[buf.length + chars.length + ENSURE_CAPACITY];
-					System.arraycopy(buf, 0, newBuf, 0, buf.length);
-					buf = newBuf;
+	private static int toLatin1(final CharSequence[] sequences, final byte[] bytes, final int start) {
+		int pos = start;
+		char previous = 0;
+		for (CharSequence sequence : sequences) {
+			for (int i = 0, l = sequence.length(); i < l; ++i) {
+				final char c = sequence.charAt(i);
+				if (!isLowSurrogateOf(previous, c)) {
+					bytes[pos++] = toLatin1(c);
 				}
-				System.arraycopy(chars, 0, buf, pos, chars.length);
-				pos += chars.length;
+				previous = c;
 			}
-			return new String(buf, 0, pos);
-		} else {
-			return StringUtils.EMPTY;
 		}
+		return pos;
+	}
+
+	/**
+	 * The high surrogate is already replaced, so the low surrogate of a pair (a
+	 * single code point) doesn't produce another byte
+	 */
+	private static boolean isLowSurrogateOf(final char previous, final char c) {
+		return Character.isLowSurrogate(c) && Character.isHighSurrogate(previous);
+	}
+
+	private static byte toLatin1(final char c) {
+		return (byte) (c <= LATIN1_MAX ? c : '?');
 	}
 
 	/**
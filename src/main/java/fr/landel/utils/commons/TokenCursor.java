@@ -0,0 +1,387 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.nio.CharBuffer;
+import java.util.Objects;
+
+/**
+ * Cursor over the tokens of a char sequence split by a separator. The
+ * separator positions are searched lazily, only to reach the requested
+ * tokens, forward from the start or backward from the end, and the tokens are
+ * returned as views of the original sequence (nothing is copied until
+ * {@link #substring()} is called).
+ *
+ * <p>
+ * The tokens are the ones of a split from the left (each separator found is
+ * consumed, so "a:::b" split by "::" gives "a" and ":b"), whatever the
+ * direction.
+ * </p>
+ *
+ * <pre>
+ * TokenCursor cursor = TokenCursor.of("test1::test2:test3::test4", "::");
+ * cursor.moveTo(1); // =&gt; true
+ * cursor.token(); // =&gt; "test2:test3"
+ * cursor.moveTo(-1); // =&gt; true
+ * cursor.substring(); // =&gt; "test4"
+ * cursor.previous(); // =&gt; true
+ * cursor.substring(); // =&gt; "test2:test3"
+ * </pre>
+ *
+ * <p>
+ * Not thread-safe.
+ * </p>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public final class TokenCursor {
+
+    private final CharSequence sequence;
+    private final String separator;
+    private final int separatorLength;
+    private final boolean overlapping;
+
+    private int start = -1;
+    private int end = -1;
+
+    private TokenCursor(final CharSequence sequence, final String separator) {
+        this.sequence = sequence;
+        this.separator = separator;
+        this.separatorLength = separator.length();
+        this.overlapping = isOverlapping(separator);
+    }
+
+    /**
+     * Create a cursor, positioned before the first token
+     *
+     * @param sequence
+     *            the input sequence
+     * @param separator
+     *            the separator
+     * @return the cursor
+     * @throws NullPointerException
+     *             if sequence or separator is {@code null}
+     * @throws IllegalArgumentException
+     *             if the separator is empty
+     */
+    public static TokenCursor of(final CharSequence sequence, final String separator) {
+        Objects.requireNonNull(sequence, "sequence");
+        return new TokenCursor(sequence, checkSeparator(separator));
+    }
+
+    /**
+     * Move to the next token (from a reset cursor, moves to the first token)
+     *
+     * @return {@code true}, if moved ({@code false} if the cursor is on the
+     *         last token, the cursor is then unchanged)
+     */
+    public boolean next() {
+        if (this.start < 0) {
+            this.start = 0;
+        } else if (this.end < this.sequence.length()) {
+            this.start = this.end + this.separatorLength;
+        } else {
+            return false;
+        }
+        this.end = endOf(this.sequence, this.separator, this.start);
+        return true;
+    }
+
+    /**
+     * Move to the previous token (from a reset cursor, moves to the last
+     * token)
+     *
+     * @return {@code true}, if moved ({@code false} if the cursor is on the
+     *         first token, the cursor is then unchanged)
+     */
+    public boolean previous() {
+        if (this.start < 0) {
+            this.end = this.sequence.length();
+        } else if (this.start > 0) {
+            this.end = this.start - this.separatorLength;
+        } else {
+            return false;
+        }
+        this.start = startOf(this.sequence, this.separator, this.end, this.overlapping);
+        return true;
+    }
+
+    /**
+     * Move to the token at the index, the index starts from the left at 0, or
+     * at -1 from the right (scanned from the end)
+     *
+     * @param index
+     *            the token index
+     * @return {@code true}, if the token exists (otherwise the cursor is
+     *         reset)
+     */
+    public boolean moveTo(final int index) {
+        this.reset();
+        final boolean forward = index > -1;
+        for (int i = forward ? index : -index - 1; i >= 0; --i) {
+            if (!(forward ? this.next() : this.previous())) {
+                this.reset();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reset the cursor (before the first token and after the last one)
+     *
+     * @return the current cursor
+     */
+    public TokenCursor reset() {
+        this.start = -1;
+        this.end = -1;
+        return this;
+    }
+
+    /**
+     * @return {@code true}, if the cursor is on a token
+     */
+    public boolean isPositioned() {
+        return this.start > -1;
+    }
+
+    /**
+     * @return the start position of the current token in the sequence
+     *         (inclusive)
+     * @throws IllegalStateException
+     *             if the cursor is not on a token
+     */
+    public int start() {
+        this.checkPositioned();
+        return this.start;
+    }
+
+    /**
+     * @return the end position of the current token in the sequence
+     *         (exclusive)
+     * @throws IllegalStateException
+     *             if the cursor is not on a token
+     */
+    public int end() {
+        this.checkPositioned();
+        return this.end;
+    }
+
+    /**
+     * @return a read-only view of the current token (without copy)
+     * @throws IllegalStateException
+     *             if the cursor is not on a token
+     */
+    public CharSequence token() {
+        this.checkPositioned();
+        return CharBuffer.wrap(this.sequence, this.start, this.end);
+    }
+
+    /**
+     * @return the current token as a string
+     * @throws IllegalStateException
+     *             if the cursor is not on a token
+     */
+    public String substring() {
+        this.checkPositioned();
+        return this.sequence.subSequence(this.start, this.end).toString();
+    }
+
+    private void checkPositioned() {
+        if (this.start < 0) {
+            throw new IllegalStateException("The cursor is not positioned on a token");
+        }
+    }
+
+    static String checkSeparator(final String separator) {
+        if (Objects.requireNonNull(separator, "separator").isEmpty()) {
+            throw new IllegalArgumentException("The separator cannot be empty");
+        }
+        return separator;
+    }
+
+    /**
+     * Check if the separator can overlap itself (a prefix is also a suffix),
+     * if not, a backward search finds the same separators as a forward one
+     *
+     * @param separator
+     *            the separator
+     * @return {@code true}, if overlapping
+     */
+    static boolean isOverlapping(final String separator) {
+        final int length = separator.length();
+        for (int k = 1; k < length; ++k) {
+            if (separator.regionMatches(0, separator, length - k, k)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the start position of the token at the index (from the left)
+     *
+     * @param sequence
+     *            the sequence
+     * @param separator
+     *            the separator
+     * @param index
+     *            the token index (from 0)
+     * @return the start position or -1 if not found
+     */
+    static int indexOfToken(final CharSequence sequence, final String separator, final int index) {
+        int pos = 0;
+        for (int i = 0; i < index; ++i) {
+            final int found = indexOf(sequence, separator, pos);
+            if (found < 0) {
+                return -1;
+            }
+            pos = found + separator.length();
+        }
+        return pos;
+    }
+
+    /**
+     * Get the start position of the token at the index (from the right)
+     *
+     * @param sequence
+     *            the sequence
+     * @param separator
+     *            the separator
+     * @param index
+     *            the token index (from -1)
+     * @return the start position or -1 if not found
+     */
+    static int lastIndexOfToken(final CharSequence sequence, final String separator, final int index) {
+        if (isOverlapping(separator)) {
+            final int forward = countTokens(sequence, separator) + index;
+            return forward < 0 ? -1 : indexOfToken(sequence, separator, forward);
+        }
+        int end = sequence.length();
+        for (int i = -1;; --i) {
+            final int found = lastIndexOf(sequence, separator, end - separator.length());
+            if (i == index) {
+                return found < 0 ? 0 : found + separator.length();
+            } else if (found < 0) {
+                return -1;
+            }
+            end = found;
+        }
+    }
+
+    /**
+     * Get the end position of the token, after skipping the next tokens
+     *
+     * @param sequence
+     *            the sequence
+     * @param separator
+     *            the separator
+     * @param start
+     *            the token start position
+     * @param skip
+     *            the number of next tokens to include
+     * @return the end position (at most, the sequence length)
+     */
+    static int endOfToken(final CharSequence sequence, final String separator, final int start, final int skip) {
+        int pos = start;
+        for (int i = 0; i < skip; ++i) {
+            final int found = indexOf(sequence, separator, pos);
+            if (found < 0) {
+                return sequence.length();
+            }
+            pos = found + separator.length();
+        }
+        return endOf(sequence, separator, pos);
+    }
+
+    /**
+     * Count the tokens (the separators + 1)
+     *
+     * @param sequence
+     *            the sequence
+     * @param separator
+     *            the separator
+     * @return the number of tokens
+     */
+    static int countTokens(final CharSequence sequence, final String separator) {
+        int count = 1;
+        for (int pos = indexOf(sequence, separator, 0); pos > -1; pos = indexOf(sequence, separator, pos + separator.length())) {
+            ++count;
+        }
+        return count;
+    }
+
+    private static int endOf(final CharSequence sequence, final String separator, final int start) {
+        final int found = indexOf(sequence, separator, start);
+        return found < 0 ? sequence.length() : found;
+    }
+
+    private static int startOf(final CharSequence sequence, final String separator, final int end, final boolean overlapping) {
+        if (overlapping) {
+            // the end is a separator found by the left split, rescan from the
+            // start to get the same previous separator
+            int pos = 0;
+            for (int found = indexOf(sequence, separator, 0); found > -1 && found < end; found = indexOf(sequence, separator, pos)) {
+                pos = found + separator.length();
+            }
+            return pos;
+        }
+        final int found = lastIndexOf(sequence, separator, end - separator.length());
+        return found < 0 ? 0 : found + separator.length();
+    }
+
+    private static int indexOf(final CharSequence sequence, final String separator, final int from) {
+        if (sequence instanceof String) {
+            return ((String) sequence).indexOf(separator, from);
+        }
+        final char first = separator.charAt(0);
+        final int max = sequence.length() - separator.length();
+        for (int i = Math.max(from, 0); i <= max; ++i) {
+            if (sequence.charAt(i) == first && regionMatches(sequence, i, separator)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastIndexOf(final CharSequence sequence, final String separator, final int from) {
+        if (sequence instanceof String) {
+            return ((String) sequence).lastIndexOf(separator, from);
+        }
+        final char first = separator.charAt(0);
+        for (int i = Math.min(from, sequence.length() - separator.length()); i >= 0; --i) {
+            if (sequence.charAt(i) == first && regionMatches(sequence, i, separator)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean regionMatches(final CharSequence sequence, final int offset, final String separator) {
+        for (int j = 1; j < separator.length(); ++j) {
+            if (sequence.charAt(offset + j) != separator.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,582 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Variable length integer utility class: unsigned LEB128 (7 bits per byte,
+ * least significant group first, the high bit is set on all the bytes except
+ * the last one) and ZigZag encoding of signed values (small absolute values
+ * give small varints). The int values are encoded as unsigned 32 bits (at
+ * most 5 bytes), the long values as unsigned 64 bits (at most 10 bytes).
+ *
+ * <pre>
+ * final byte[] bytes = new byte[VarintUtils.MAX_LONG_SIZE];
+ * VarintUtils.putInt(bytes, 0, 300); // =&gt; 2, bytes: {0xac, 0x02}
+ * VarintUtils.getInt(bytes, 0); // =&gt; 300
+ * VarintUtils.next(bytes, 0); // =&gt; 2
+ * VarintUtils.putSignedInt(bytes, 0, -2); // =&gt; 1, bytes: {0x03}
+ * </pre>
+ *
+ * <p>
+ * The array methods read and write at an offset and return the next offset,
+ * the buffer methods are relative (the position is moved). Nothing is
+ * allocated.
+ * </p>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public final class VarintUtils {
+
+    /**
+     * Maximum number of bytes of an int varint
+     */
+    public static final int MAX_INT_SIZE = 5;
+
+    /**
+     * Maximum number of bytes of a long varint
+     */
+    public static final int MAX_LONG_SIZE = 10;
+
+    private static final int GROUP = 7;
+    private static final int GROUP_MASK = 0x7F;
+    private static final int CONTINUATION = 0x80;
+
+    /**
+     * Maximum value of the last byte of an int varint (32 - 4 * 7 bits)
+     */
+    private static final int LAST_INT_MAX = 0x0F;
+
+    /**
+     * Maximum value of the last byte of a long varint (64 - 9 * 7 bits)
+     */
+    private static final int LAST_LONG_MAX = 0x01;
+
+    /**
+     * Hidden constructor
+     */
+    private VarintUtils() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Encode the signed value with ZigZag (0 =&gt; 0, -1 =&gt; 1, 1 =&gt; 2, -2
+     * =&gt; 3...)
+     * 
+     * @param value
+     *            the signed value
+     * @return the unsigned value
+     */
+    public static int encodeZigZag(final int value) {
+        return value << 1 ^ value >> (Integer.SIZE - 1);
+    }
+
+    /**
+     * Encode the signed value with ZigZag (0 =&gt; 0, -1 =&gt; 1, 1 =&gt; 2, -2
+     * =&gt; 3...)
+     * 
+     * @param value
+     *            the signed value
+     * @return the unsigned value
+     */
+    public static long encodeZigZag(final long value) {
+        return value << 1 ^ value >> (Long.SIZE - 1);
+    }
+
+    /**
+     * Decode the ZigZag value
+     * 
+     * @param value
+     *            the unsigned value
+     * @return the signed value
+     */
+    public static int decodeZigZag(final int value) {
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    /**
+     * Decode the ZigZag value
+     * 
+     * @param value
+     *            the unsigned value
+     * @return the signed value
+     */
+    public static long decodeZigZag(final long value) {
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    /**
+     * Get the number of bytes of the varint
+     * 
+     * @param value
+     *            the value (unsigned)
+     * @return the number of bytes (1 to 5)
+     */
+    public static int sizeOf(final int value) {
+        final int bits = Integer.SIZE - Integer.numberOfLeadingZeros(value);
+        return bits == 0 ? 1 : (bits + GROUP - 1) / GROUP;
+    }
+
+    /**
+     * Get the number of bytes of the varint
+     * 
+     * @param value
+     *            the value (unsigned)
+     * @return the number of bytes (1 to 10)
+     */
+    public static int sizeOf(final long value) {
+        final int bits = Long.SIZE - Long.numberOfLeadingZeros(value);
+        return bits == 0 ? 1 : (bits + GROUP - 1) / GROUP;
+    }
+
+    /**
+     * Write the value (unsigned) into the array
+     * 
+     * @param bytes
+     *            the target array
+     * @param offset
+     *            the offset of the first byte
+     * @param value
+     *            the value
+     * @return the offset after the varint
+     * @throws NullPointerException
+     *             if bytes is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the varint is out of the array (nothing is written)
+     */
+    public static int putInt(final byte[] bytes, final int offset, final int value) {
+        checkRange(bytes, offset, sizeOf(value));
+
+        int i = offset;
+        int remaining = value;
+        while ((remaining & ~GROUP_MASK) != 0) {
+            bytes[i++] = (byte) (remaining | CONTINUATION);
+            remaining >>>= GROUP;
+        }
+        bytes[i++] = (byte) remaining;
+        return i;
+    }
+
+    /**
+     * Write the value (unsigned) into the array
+     * 
+     * @param bytes
+     *            the target array
+     * @param offset
+     *            the offset of the first byte
+     * @param value
+     *            the value
+     * @return the offset after the varint
+     * @throws NullPointerException
+     *             if bytes is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the varint is out of the array (nothing is written)
+     */
+    public static int putLong(final byte[] bytes, final int offset, final long value) {
+        checkRange(bytes, offset, sizeOf(value));
+
+        int i = offset;
+        long remaining = value;
+        while ((remaining & ~GROUP_MASK) != 0) {
+            bytes[i++] = (byte) (remaining | CONTINUATION);
+            remaining >>>= GROUP;
+        }
+        bytes[i++] = (byte) remaining;
+        return i;
+    }
+
+    /**
+     * Write the signed value (ZigZag) into the array
+     * 
+     * @param bytes
+     *            the target array
+     * @param offset
+     *            the offset of the first byte
+     * @param value
+     *            the value
+     * @return the offset after the varint
+     * @throws NullPointerException
+     *             if bytes is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the varint is out of the array (nothing is written)
+     */
+    public static int putSignedInt(final byte[] bytes, final int offset, final int value) {
+        return putInt(bytes, offset, encodeZigZag(value));
+    }
+
+    /**
+     * Write the signed value (ZigZag) into the array
+     * 
+     * @param bytes
+     *            the target array
+     * @param offset
+     *            the offset of the first byte
+     * @param value
+     *            the value
+     * @return the offset after the varint
+     * @throws NullPointerException
+     *             if bytes is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the varint is out of the array (nothing is written)
+     */
+    public static int putSignedLong(final byte[] bytes, final int offset, final long value) {
+        return putLong(bytes, offset, encodeZigZag(value));
+    }
+
+    /**
+     * Read the value (unsigned) from the array
+     * 
+     * @param bytes
+     *            the source array
+     * @param offset
+     *            the offset of the first byte
+     * @return the value
+     * @throws NullPointerException
+     *             if bytes is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the varint is truncated
+     * @throws IllegalArgumentException
+     *             if the varint is longer than 5 bytes or exceeds 32 bits
+     */
+    public static int getInt(final byte[] bytes, final int offset) {
+        checkRange(bytes, offset, 1);
+        int b = bytes[offset];
+        if (b >= 0) {
+            return b;
+        }
+        int value = b & GROUP_MASK;
+        for (int i = 1; i < MAX_INT_SIZE; ++i) {
+            checkRange(bytes, offset + i, 1);
+            b = bytes[offset + i];
+            value |= (b & GROUP_MASK) << (GROUP * i);
+            if (b >= 0) {
+                if (i == MAX_INT_SIZE - 1 && b > LAST_INT_MAX) {
+                    throw malformed(offset);
+                }
+                return value;
+            }
+        }
+        throw malformed(offset);
+    }
+
+    /**
+     * Read the value (unsigned) from the array
+     * 
+     * @param bytes
+     *            the source array
+     * @param offset
+     *            the offset of the first byte
+     * @return the value
+     * @throws NullPointerException
+     *             if bytes is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the varint is truncated
+     * @throws IllegalArgumentException
+     *             if the varint is longer than 10 bytes or exceeds 64 bits
+     */
+    public static long getLong(final byte[] bytes, final int offset) {
+        checkRange(bytes, offset, 1);
+        long value = 0;
+        for (int i = 0; i < MAX_LONG_SIZE; ++i) {
+            checkRange(bytes, offset + i, 1);
+            final int b = bytes[offset + i];
+            value |= (long) (b & GROUP_MASK) << (GROUP * i);
+            if (b >= 0) {
+                if (i == MAX_LONG_SIZE - 1 && b > LAST_LONG_MAX) {
+                    throw malformed(offset);
+                }
+                return value;
+            }
+        }
+        throw malformed(offset);
+    }
+
+    /**
+     * Read the signed value (ZigZag) from the array
+     * 
+     * @param bytes
+     *            the source array
+     * @param offset
+     *            the offset of the first byte
+     * @return the value
+     * @throws NullPointerException
+     *             if bytes is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the varint is truncated
+     * @throws IllegalArgumentException
+     *             if the varint is longer than 5 bytes or exceeds 32 bits
+     */
+    public static int getSignedInt(final byte[] bytes, final int offset) {
+        return decodeZigZag(getInt(bytes, offset));
+    }
+
+    /**
+     * Read the signed value (ZigZag) from the array
+     * 
+     * @param bytes
+     *            the source array
+     * @param offset
+     *            the offset of the first byte
+     * @return the value
+     * @throws NullPointerException
+     *             if bytes is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the varint is truncated
+     * @throws IllegalArgumentException
+     *             if the varint is longer than 10 bytes or exceeds 64 bits
+     */
+    public static long getSignedLong(final byte[] bytes, final int offset) {
+        return decodeZigZag(getLong(bytes, offset));
+    }
+
+    /**
+     * Get the offset after the varint (int or long)
+     * 
+     * @param bytes
+     *            the source array
+     * @param offset
+     *            the offset of the first byte
+     * @return the next offset
+     * @throws NullPointerException
+     *             if bytes is {@code null}
+     * @throws IndexOutOfBoundsException
+     *             if the varint is truncated
+     * @throws IllegalArgumentException
+     *             if the varint is longer than 10 bytes
+     */
+    public static int next(final byte[] bytes, final int offset) {
+        for (int i = 0; i < MAX_LONG_SIZE; ++i) {
+            checkRange(bytes, offset + i, 1);
+            if (bytes[offset + i] >= 0) {
+                return offset + i + 1;
+            }
+        }
+        throw malformed(offset);
+    }
+
+    /**
+     * Write the value (unsigned) into the buffer (heap or direct), at its
+     * position
+     * 
+     * @param buffer
+     *            the target buffer
+     * @param value
+     *            the value
+     * @return the number of bytes written
+     * @throws NullPointerException
+     *             if buffer is {@code null}
+     * @throws BufferOverflowException
+     *             if the buffer has not enough remaining space (nothing is
+     *             written)
+     */
+    public static int putInt(final ByteBuffer buffer, final int value) {
+        final int size = sizeOf(value);
+        if (buffer.remaining() < size) {
+            throw new BufferOverflowException();
+        }
+
+        int remaining = value;
+        while ((remaining & ~GROUP_MASK) != 0) {
+            buffer.put((byte) (remaining | CONTINUATION));
+            remaining >>>= GROUP;
+        }
+        buffer.put((byte) remaining);
+        return size;
+    }
+
+    /**
+     * Write the value (unsigned) into the buffer (heap or direct), at its
+     * position
+     * 
+     * @param buffer
+     *            the target buffer
+     * @param value
+     *            the value
+     * @return the number of bytes written
+     * @throws NullPointerException
+     *             if buffer is {@code null}
+     * @throws BufferOverflowException
+     *             if the buffer has not enough remaining space (nothing is
+     *             written)
+     */
+    public static int putLong(final ByteBuffer buffer, final long value) {
+        final int size = sizeOf(value);
+        if (buffer.remaining() < size) {
+            throw new BufferOverflowException();
+        }
+
+        long remaining = value;
+        while ((remaining & ~GROUP_MASK) != 0) {
+            buffer.put((byte) (remaining | CONTINUATION));
+            remaining >>>= GROUP;
+        }
+        buffer.put((byte) remaining);
+        return size;
+    }
+
+    /**
+     * Write the signed value (ZigZag) into the buffer (heap or direct), at
+     * its position
+     * 
+     * @param buffer
+     *            the target buffer
+     * @param value
+     *            the value
+     * @return the number of bytes written
+     * @throws NullPointerException
+     *             if buffer is {@code null}
+     * @throws BufferOverflowException
+     *             if the buffer has not enough remaining space (nothing is
+     *             written)
+     */
+    public static int putSignedInt(final ByteBuffer buffer, final int value) {
+        return putInt(buffer, encodeZigZag(value));
+    }
+
+    /**
+     * Write the signed value (ZigZag) into the buffer (heap or direct), at
+     * its position
+     * 
+     * @param buffer
+     *            the target buffer
+     * @param value
+     *            the value
+     * @return the number of bytes written
+     * @throws NullPointerException
+     *             if buffer is {@code null}
+     * @throws BufferOverflowException
+     *             if the buffer has not enough remaining space (nothing is
+     *             written)
+     */
+    public static int putSignedLong(final ByteBuffer buffer, final long value) {
+        return putLong(buffer, encodeZigZag(value));
+    }
+
+    /**
+     * Read the value (unsigned) from the buffer (heap or direct), at its
+     * position
+     * 
+     * @param buffer
+     *            the source buffer
+     * @return the value
+     * @throws NullPointerException
+     *             if buffer is {@code null}
+     * @throws BufferUnderflowException
+     *             if the varint is truncated
+     * @throws IllegalArgumentException
+     *             if the varint is longer than 5 bytes or exceeds 32 bits
+     */
+    public static int getInt(final ByteBuffer buffer) {
+        final int start = buffer.position();
+        int value = 0;
+        for (int i = 0; i < MAX_INT_SIZE; ++i) {
+            final int b = buffer.get();
+            value |= (b & GROUP_MASK) << (GROUP * i);
+            if (b >= 0) {
+                if (i == MAX_INT_SIZE - 1 && b > LAST_INT_MAX) {
+                    throw malformed(start);
+                }
+                return value;
+            }
+        }
+        throw malformed(start);
+    }
+
+    /**
+     * Read the value (unsigned) from the buffer (heap or direct), at its
+     * position
+     * 
+     * @param buffer
+     *            the source buffer
+     * @return the value
+     * @throws NullPointerException
+     *             if buffer is {@code null}
+     * @throws BufferUnderflowException
+     *             if the varint is truncated
+     * @throws IllegalArgumentException
+     *             if the varint is longer than 10 bytes or exceeds 64 bits
+     */
+    public static long getLong(final ByteBuffer buffer) {
+        final int start = buffer.position();
+        long value = 0;
+        for (int i = 0; i < MAX_LONG_SIZE; ++i) {
+            final int b = buffer.get();
+            value |= (long) (b & GROUP_MASK) << (GROUP * i);
+            if (b >= 0) {
+                if (i == MAX_LONG_SIZE - 1 && b > LAST_LONG_MAX) {
+                    throw malformed(start);
+                }
+                return value;
+            }
+        }
+        throw malformed(start);
+    }
+
+    /**
+     * Read the signed value (ZigZag) from the buffer (heap or direct), at its
+     * position
+     * 
+     * @param buffer
+     *            the source buffer
+     * @return the value
+     * @throws NullPointerException
+     *             if buffer is {@code null}
+     * @throws BufferUnderflowException
+     *             if the varint is truncated
+     * @throws IllegalArgumentException
+     *             if the varint is longer than 5 bytes or exceeds 32 bits
+     */
+    public static int getSignedInt(final ByteBuffer buffer) {
+        return decodeZigZag(getInt(buffer));
+    }
+
+    /**
+     * Read the signed value (ZigZag) from the buffer (heap or direct), at its
+     * position
+     * 
+     * @param buffer
+     *            the source buffer
+     * @return the value
+     * @throws NullPointerException
+     *             if buffer is {@code null}
+     * @throws BufferUnderflowException
+     *             if the varint is truncated
+     * @throws IllegalArgumentException
+     *             if the varint is longer than 10 bytes or exceeds 64 bits
+     */
+    public static long getSignedLong(final ByteBuffer buffer) {
+        return decodeZigZag(getLong(buffer));
+    }
+
+    private static IllegalArgumentException malformed(final int offset) {
+        return new IllegalArgumentException("Malformed varint at offset " + offset);
+    }
+
+    private static void checkRange(final byte[] bytes, final int offset, final int length) {
+        if (offset < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", size: " + bytes.length);
+        }
+    }
+}
@@ -20,7 +20,6 @@
 package fr.landel.utils.commons.builder;
 
 import java.util.ArrayList;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
@@ -32,7 +31,13 @@ import fr.landel.utils.commons.Result;
 import fr.landel.utils.commons.StringUtils;
 
 /**
- * ToString base style
+ * ToString base style. The tags and the formatters are read once per instance
+ * and compiled into an immutable rendering plan (shared by all the instances
+ * of a built-in style class), so the getters have to return the same values
+ * during the rendering. The properties are directly rendered into a single
+ * output buffer (the inherited list is no longer filled and is only kept for
+ * compatibility), the containers are rendered within the
+ * {@link ToStringLimits}.
  *
  * @since Mar 5, 2017
  * @author Gilles
@@ -69,8 +74,20 @@ public abstract class AbstractToStringStyle extends ArrayList<CharSequence> impl
      */
     private static final long serialVersionUID = 8130375854086601461L;
 
+    private static final int BUFFER_CAPACITY = 64;
+
     private String title;
 
+    private transient ToStringPlan plan;
+    private final StringBuilder buffer = new StringBuilder(BUFFER_CAPACITY);
+    private int headerLength = -1;
+    private boolean titled;
+    private boolean hasProperty;
+
+    private ToStringLimits limits = ToStringLimits.UNLIMITED;
+    private transient ToStringPlan.Context context;
+    private boolean truncated;
+
     @Override
     public ToStringStyle setObject(final Object object) {
         Objects.requireNonNull(object);
@@ -82,9 +99,29 @@ public abstract class AbstractToStringStyle extends ArrayList<CharSequence> impl
         } else {
             this.title = object.getClass().getCanonicalName();
         }
+        if (this.headerLength > -1) {
+            final StringBuilder header = new StringBuilder();
+            this.appendHeader(this.getPlan(), header);
+            this.buffer.replace(0, this.headerLength, header.toString());
+            this.headerLength = header.length();
+        }
         return this;
     }
 
+    @Override
+    public ToStringStyle setLimits(final ToStringLimits limits) {
+        this.limits = Objects.requireNonNull(limits, "The limits cannot be null");
+        this.context = null;
+        return this;
+    }
+
+    /**
+     * @return the rendering limits
+     */
+    protected ToStringLimits getLimits() {
+        return this.limits;
+    }
+
     @Override
     public void append(final Object object) {
         this.append(object, null, null);
@@ -117,78 +154,66 @@ public abstract class AbstractToStringStyle extends ArrayList<CharSequence> impl
 
     @Override
     public <T> void append(final T object, final Predicate<T> predicate, final Function<T, CharSequence> formatter) {
-        if (predicate == null || predicate.test(object)) {
-            final StringBuilder builder = new StringBuilder();
-            this.applyValueFormatter(builder, object, formatter);
-            this.add(builder);
+        if (!this.truncated && (predicate == null || predicate.test(object))) {
+            this.endProperty(this.startProperty().appendValue(this.buffer, object, formatter, this.getContext()));
         }
     }
 
     @Override
     public <T> void append(final CharSequence key, final T value, final Predicate<T> predicate, final Function<T, CharSequence> formatter) {
-        if (predicate == null || predicate.test(value)) {
-            final StringBuilder builder = new StringBuilder(this.getKeyStart()).append(this.getKeyFormatter().apply(key))
-                    .append(this.getKeyEnd()).append(this.getPropertySeparator());
-            this.applyValueFormatter(builder, value, formatter);
-            this.add(builder);
+        if (!this.truncated && (predicate == null || predicate.test(value))) {
+            final ToStringPlan plan = this.startProperty();
+            final ToStringPlan.Context context = this.getContext();
+            this.endProperty(plan.appendKey(this.buffer, key, context)
+                    && plan.appendValue(this.buffer, value, formatter, context));
         }
     }
 
-    private <T> void applyValueFormatter(final StringBuilder builder, final T value, final Function<T, CharSequence> formatter) {
-
-        final boolean isContainer = value != null && (value instanceof Iterable || value instanceof Map || value.getClass().isArray());
-
-        if (isContainer) {
-            builder.append(this.getContainerStart());
-            if (value instanceof Map) {
-                final Function<CharSequence, CharSequence> keyFormatter = this.getKeyFormatter();
-                final String keyStart = this.getKeyStart();
-                final String keyEnd = this.getKeyEnd();
-                final String propertySeparator = this.getPropertySeparator();
-                builder.append(StringUtils.join((Map<?, ?>) value, this.getPropertiesSeparator(), entry -> {
-                    final StringBuilder localBuilder = new StringBuilder(keyStart)
-                            .append(keyFormatter.apply(String.valueOf(entry.getKey()))).append(keyEnd).append(propertySeparator);
-                    applyValueFormatter(localBuilder, entry.getValue(), null);
-                    return localBuilder.toString();
-                }));
-            } else if (value instanceof Iterable) {
-                builder.append(StringUtils.join((Iterable<?>) value, this.getPropertiesSeparator(), t -> {
-                    final StringBuilder localBuilder = new StringBuilder();
-                    applyValueFormatter(localBuilder, t, null);
-                    return localBuilder.toString();
-                }));
-            } else {
-                builder.append(StringUtils.join((Object[]) value, this.getPropertiesSeparator(), t -> {
-                    final StringBuilder localBuilder = new StringBuilder();
-                    applyValueFormatter(localBuilder, t, null);
-                    return localBuilder.toString();
-                }));
-            }
-            builder.append(this.getContainerEnd());
-        } else {
-            CharSequence formattedValue;
-            boolean surround = true;
+    private ToStringPlan getPlan() {
+        if (this.plan == null) {
+            this.plan = ToStringPlan.of(this);
+        }
+        return this.plan;
+    }
 
-            if (formatter != null) {
-                formattedValue = formatter.apply(value);
-            } else {
-                formattedValue = String.valueOf(value).trim();
-                surround = this.applyValueFormatter().test(formattedValue);
-                if (surround) {
-                    formattedValue = this.getValueFormatter().apply(formattedValue);
-                }
-            }
+    private ToStringPlan.Context getContext() {
+        if (this.context == null) {
+            this.context = new ToStringPlan.Context(this.limits);
+        }
+        return this.context;
+    }
 
-            if (surround) {
-                builder.append(this.getValueStart());
-            }
+    private void endProperty(final boolean completed) {
+        if (!completed) {
+            this.buffer.setLength(this.limits.getMaxLength());
+            this.buffer.append(ToStringPlan.ELLIPSIS);
+            this.truncated = true;
+        }
+    }
+
+    private void appendHeader(final ToStringPlan plan, final StringBuilder builder) {
+        final String title = this.getTitle();
+        this.titled = StringUtils.isNotEmpty(title);
+        plan.appendHeader(builder, title, this.titled);
+    }
 
-            builder.append(formattedValue);
+    private ToStringPlan writeHeader() {
+        final ToStringPlan plan = this.getPlan();
+        if (this.headerLength < 0) {
+            this.appendHeader(plan, this.buffer);
+            this.headerLength = this.buffer.length();
+        }
+        return plan;
+    }
 
-            if (surround) {
-                builder.append(this.getValueEnd());
-            }
+    private ToStringPlan startProperty() {
+        final ToStringPlan plan = this.writeHeader();
+        if (this.hasProperty) {
+            plan.appendSeparator(this.buffer);
+        } else {
+            this.hasProperty = true;
         }
+        return plan;
     }
 
     @Override
@@ -411,26 +436,12 @@ public abstract class AbstractToStringStyle extends ArrayList<CharSequence> impl
 
     @Override
     public String build() {
-        final StringBuilder builder = new StringBuilder();
-        boolean appendEnd = false;
-        final String title = this.getTitle();
-        if (StringUtils.isNotEmpty(title)) {
-            builder.append(this.getStart());
-            builder.append(this.getTitleStart());
-            builder.append(this.getTitleFormatter().apply(title));
-            builder.append(this.getTitleEnd());
-            builder.append(this.getTitleSeparator());
-            appendEnd = true;
-        }
-        builder.append(this.getPropertiesStart());
-        if (!this.isEmpty()) {
-            builder.append(StringUtils.join(this, this.getPropertiesSeparator()));
-        }
-        builder.append(this.getPropertiesEnd());
-        if (appendEnd) {
-            builder.append(this.getEnd());
-        }
-        return builder.toString();
+        final ToStringPlan plan = this.writeHeader();
+        final int length = this.buffer.length();
+        plan.appendFooter(this.buffer, this.titled);
+        final String result = this.buffer.toString();
+        this.buffer.setLength(length);
+        return result;
     }
 
     /**
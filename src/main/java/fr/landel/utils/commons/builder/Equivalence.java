@@ -0,0 +1,669 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons.builder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.builder.Builder;
+
+import fr.landel.utils.commons.exception.FunctionException;
+
+/**
+ * Compiled equality and hash strategy. The strategy is declared once per class
+ * (as a list of getters with optional predicates), the result is immutable,
+ * thread-safe and reusable, so no builder and no closure are created by the
+ * {@code equals} and {@code hashCode} calls. The primitive properties are
+ * compared and hashed without boxing and the comparison stops at the first
+ * different property.
+ *
+ * <p>
+ * Like {@link EqualsBuilder2}, both objects have to be of the same class
+ * (unless {@link EquivalenceBuilder#acceptSubclasses()} is called). The hash
+ * code is the one of {@link HashCodeBuilder2} with the same getters (17 and
+ * 37, the {@code float} properties of {@link EquivalenceBuilder#appendProperty}
+ * are hashed as floats, the arrays are compared deeply and their elements
+ * hashed one by one), the properties compared with a custom predicate are not
+ * hashed (unless a hash function is provided).
+ * </p>
+ *
+ * <pre>
+ * private static final Equivalence&lt;Person&gt; EQUIVALENCE = Equivalence.builder(Person.class).appendLong(Person::getId)
+ *         .append(Person::getName).appendProperty("active").build();
+ *
+ * &#64;Override
+ * public boolean equals(Object obj) {
+ *     return EQUIVALENCE.equals(this, obj);
+ * }
+ *
+ * &#64;Override
+ * public int hashCode() {
+ *     return EQUIVALENCE.hashCode(this);
+ * }
+ * </pre>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ * @param <T>
+ *            the compared type
+ */
+public final class Equivalence<T> {
+
+    private static final int INITIAL = 17;
+    private static final int MULTIPLIER = 37;
+
+    private final Class<T> type;
+    private final boolean subclasses;
+    private final Component<? super T>[] components;
+
+    private Equivalence(final EquivalenceBuilder<T> builder) {
+        this.type = builder.type;
+        this.subclasses = builder.subclasses;
+        this.components = builder.components.toArray(newComponents(builder.components.size()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Component<? super T>[] newComponents(final int size) {
+        return (Component<? super T>[]) new Component<?>[size];
+    }
+
+    /**
+     * Create the builder of the strategy
+     *
+     * @param type
+     *            the compared class
+     * @param <T>
+     *            the compared type
+     * @return the builder
+     * @throws NullPointerException
+     *             if type is {@code null}
+     */
+    public static <T> EquivalenceBuilder<T> builder(final Class<T> type) {
+        return new EquivalenceBuilder<>(type);
+    }
+
+    /**
+     * @return the compared class
+     */
+    public Class<T> getType() {
+        return this.type;
+    }
+
+    /**
+     * Check if both objects are equal (same instance, or same class with equal
+     * properties)
+     *
+     * @param current
+     *            the reference object (may be {@code null})
+     * @param other
+     *            the compared object (may be {@code null})
+     * @return {@code true}, if equal
+     */
+    @SuppressWarnings("unchecked")
+    public boolean equals(final T current, final Object other) {
+        if (current == other) {
+            return true;
+        } else if (current == null || other == null) {
+            return false;
+        } else if (this.subclasses ? !this.type.isInstance(other) : !current.getClass().equals(other.getClass())) {
+            return false;
+        }
+
+        final T casted = (T) other;
+        for (Component<? super T> component : this.components) {
+            if (!component.isEqual(current, casted)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compute the hash code of the object
+     *
+     * @param object
+     *            the object (may be {@code null})
+     * @return the hash code (17 if {@code null})
+     */
+    public int hashCode(final T object) {
+        int hash = INITIAL;
+        if (object != null) {
+            for (Component<? super T> component : this.components) {
+                if (component.hashed) {
+                    hash = component.append(hash, object);
+                }
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).append("type", this.type.getName()).append("properties", this.components.length)
+                .append("subclasses", this.subclasses).build();
+    }
+
+    /**
+     * Append the value to the hash like
+     * {@link org.apache.commons.lang3.builder.HashCodeBuilder#append(Object)}
+     * (each array element is appended, recursively)
+     */
+    private static int appendObject(final int hash, final Object value) {
+        if (value == null) {
+            return hash * MULTIPLIER;
+        } else if (!value.getClass().isArray()) {
+            return hash * MULTIPLIER + value.hashCode();
+        }
+
+        int result = hash;
+        if (value instanceof Object[]) {
+            for (Object element : (Object[]) value) {
+                result = appendObject(result, element);
+            }
+        } else if (value instanceof boolean[]) {
+            for (boolean element : (boolean[]) value) {
+                result = result * MULTIPLIER + (element ? 0 : 1);
+            }
+        } else if (value instanceof long[]) {
+            for (long element : (long[]) value) {
+                result = result * MULTIPLIER + Long.hashCode(element);
+            }
+        } else if (value instanceof double[]) {
+            for (double element : (double[]) value) {
+                result = result * MULTIPLIER + Double.hashCode(element);
+            }
+        } else if (value instanceof float[]) {
+            for (float element : (float[]) value) {
+                result = result * MULTIPLIER + Float.floatToIntBits(element);
+            }
+        } else {
+            // int, short, char and byte arrays
+            final int length = Array.getLength(value);
+            for (int i = 0; i < length; ++i) {
+                result = result * MULTIPLIER + Array.getInt(value, i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Builder of {@link Equivalence}
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     * @param <T>
+     *            the compared type
+     */
+    public static final class EquivalenceBuilder<T> implements Builder<Equivalence<T>> {
+
+        private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+        private static final String GETTER_PREFIX = "get";
+        private static final String BOOLEAN_GETTER_PREFIX = "is";
+
+        private final Class<T> type;
+        private final List<Component<? super T>> components = new ArrayList<>();
+        private boolean subclasses;
+
+        private EquivalenceBuilder(final Class<T> type) {
+            this.type = Objects.requireNonNull(type, "The class cannot be null");
+        }
+
+        /**
+         * Accept the instances of sub classes (by default, both objects have to
+         * be of the same class)
+         *
+         * @return the current builder
+         */
+        public EquivalenceBuilder<T> acceptSubclasses() {
+            this.subclasses = true;
+            return this;
+        }
+
+        /**
+         * Append the properties of the super class strategy
+         *
+         * @param equivalence
+         *            the super class strategy
+         * @return the current builder
+         * @throws NullPointerException
+         *             if equivalence is {@code null}
+         */
+        public EquivalenceBuilder<T> appendSuper(final Equivalence<? super T> equivalence) {
+            Collections.addAll(this.components, Objects.requireNonNull(equivalence, "equivalence").components);
+            return this;
+        }
+
+        /**
+         * Append a property compared with its {@code equals} method (deeply for
+         * arrays)
+         *
+         * @param getter
+         *            the getter
+         * @param <V>
+         *            the property type
+         * @return the current builder
+         * @throws NullPointerException
+         *             if getter is {@code null}
+         */
+        public <V> EquivalenceBuilder<T> append(final Function<T, V> getter) {
+            return this.add(new ObjectComponent<>(Objects.requireNonNull(getter, "getter"), null, null));
+        }
+
+        /**
+         * Append a property compared with the predicate (only applied if both
+         * values are not {@code null}). The property is not hashed.
+         *
+         * @param getter
+         *            the getter
+         * @param predicate
+         *            the predicate
+         * @param <V>
+         *            the property type
+         * @return the current builder
+         * @throws NullPointerException
+         *             if getter or predicate is {@code null}
+         */
+        public <V> EquivalenceBuilder<T> append(final Function<T, V> getter, final BiPredicate<V, V> predicate) {
+            return this.append(getter, predicate, null);
+        }
+
+        /**
+         * Append a property compared with the predicate (only applied if both
+         * values are not {@code null}) and hashed with the hash function (only
+         * applied if the value is not {@code null}, has to be consistent with
+         * the predicate).
+         *
+         * @param getter
+         *            the getter
+         * @param predicate
+         *            the predicate
+         * @param hash
+         *            the hash function (if {@code null}, the property is not
+         *            hashed)
+         * @param <V>
+         *            the property type
+         * @return the current builder
+         * @throws NullPointerException
+         *             if getter or predicate is {@code null}
+         */
+        public <V> EquivalenceBuilder<T> append(final Function<T, V> getter, final BiPredicate<V, V> predicate,
+                final ToIntFunction<V> hash) {
+            Objects.requireNonNull(getter, "getter");
+            Objects.requireNonNull(predicate, "predicate");
+            return this.add(new ObjectComponent<>(getter, predicate, hash));
+        }
+
+        /**
+         * Append an {@code int} property (also for {@code short}, {@code byte}
+         * and {@code char})
+         *
+         * @param getter
+         *            the getter
+         * @return the current builder
+         * @throws NullPointerException
+         *             if getter is {@code null}
+         */
+        public EquivalenceBuilder<T> appendInt(final ToIntFunction<T> getter) {
+            return this.add(new IntComponent<>(Objects.requireNonNull(getter, "getter")));
+        }
+
+        /**
+         * Append a {@code long} property
+         *
+         * @param getter
+         *            the getter
+         * @return the current builder
+         * @throws NullPointerException
+         *             if getter is {@code null}
+         */
+        public EquivalenceBuilder<T> appendLong(final ToLongFunction<T> getter) {
+            return this.add(new LongComponent<>(Objects.requireNonNull(getter, "getter")));
+        }
+
+        /**
+         * Append a {@code double} property (also for {@code float}), compared
+         * like {@link Double#equals(Object)}
+         *
+         * @param getter
+         *            the getter
+         * @return the current builder
+         * @throws NullPointerException
+         *             if getter is {@code null}
+         */
+        public EquivalenceBuilder<T> appendDouble(final ToDoubleFunction<T> getter) {
+            return this.add(new DoubleComponent<>(Objects.requireNonNull(getter, "getter")));
+        }
+
+        /**
+         * Append a {@code boolean} property
+         *
+         * @param getter
+         *            the getter
+         * @return the current builder
+         * @throws NullPointerException
+         *             if getter is {@code null}
+         */
+        public EquivalenceBuilder<T> appendBoolean(final Predicate<T> getter) {
+            return this.add(new BooleanComponent<>(Objects.requireNonNull(getter, "getter")));
+        }
+
+        /**
+         * Append a property by its name, read through a {@link MethodHandle}
+         * (the field of the class or of a super class, otherwise the public
+         * getter). The primitive properties are read without boxing.
+         *
+         * @param name
+         *            the property name
+         * @return the current builder
+         * @throws NullPointerException
+         *             if name is {@code null}
+         * @throws IllegalArgumentException
+         *             if no accessible field or getter matches
+         */
+        public EquivalenceBuilder<T> appendProperty(final String name) {
+            Objects.requireNonNull(name, "name");
+
+            final MethodHandle handle = this.findAccessor(name);
+            final Class<?> propertyType = handle.type().returnType();
+            if (Long.TYPE.equals(propertyType)) {
+                final MethodHandle accessor = handle.asType(MethodType.methodType(long.class, Object.class));
+                return this.appendLong(o -> invokeLong(accessor, o));
+            } else if (Float.TYPE.equals(propertyType)) {
+                // compared and hashed like the boxed floats
+                final MethodHandle accessor = handle.asType(MethodType.methodType(float.class, Object.class));
+                return this.appendInt(o -> Float.floatToIntBits(invokeFloat(accessor, o)));
+            } else if (Double.TYPE.equals(propertyType)) {
+                final MethodHandle accessor = handle.asType(MethodType.methodType(double.class, Object.class));
+                return this.appendDouble(o -> invokeDouble(accessor, o));
+            } else if (Boolean.TYPE.equals(propertyType)) {
+                final MethodHandle accessor = handle.asType(MethodType.methodType(boolean.class, Object.class));
+                return this.appendBoolean(o -> invokeBoolean(accessor, o));
+            } else if (propertyType.isPrimitive()) {
+                final MethodHandle accessor = handle.asType(MethodType.methodType(int.class, Object.class));
+                return this.appendInt(o -> invokeInt(accessor, o));
+            }
+            final MethodHandle accessor = handle.asType(MethodType.methodType(Object.class, Object.class));
+            return this.append(o -> invokeObject(accessor, o));
+        }
+
+        /**
+         * Compile the strategy
+         *
+         * @return the immutable strategy
+         */
+        @Override
+        public Equivalence<T> build() {
+            return new Equivalence<>(this);
+        }
+
+        private EquivalenceBuilder<T> add(final Component<? super T> component) {
+            this.components.add(component);
+            return this;
+        }
+
+        private MethodHandle findAccessor(final String name) {
+            for (Class<?> clazz = this.type; clazz != null; clazz = clazz.getSuperclass()) {
+                for (Field field : clazz.getDeclaredFields()) {
+                    if (name.equals(field.getName()) && !Modifier.isStatic(field.getModifiers())) {
+                        try {
+                            return LOOKUP.unreflectGetter(accessible(field));
+                        } catch (IllegalAccessException e) {
+                            break;
+                        }
+                    }
+                }
+            }
+            final String capitalized = StringUtils.capitalize(name);
+            for (String prefix : new String[] {GETTER_PREFIX, BOOLEAN_GETTER_PREFIX}) {
+                try {
+                    final Method method = this.type.getMethod(prefix + capitalized);
+                    if (!Modifier.isStatic(method.getModifiers()) && !Void.TYPE.equals(method.getReturnType())) {
+                        return LOOKUP.unreflect(accessible(method));
+                    }
+                } catch (NoSuchMethodException | IllegalAccessException e) {
+                    // try the next prefix
+                }
+            }
+            throw new IllegalArgumentException("No accessible field or getter found for property: " + name);
+        }
+
+        private static <A extends AccessibleObject> A accessible(final A member) {
+            try {
+                member.setAccessible(true);
+            } catch (RuntimeException e) {
+                // not opened (module system), only usable if already public
+            }
+            return member;
+        }
+    }
+
+    private static RuntimeException rethrow(final Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        } else if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new FunctionException(e);
+    }
+
+    private static int invokeInt(final MethodHandle accessor, final Object object) {
+        try {
+            return (int) accessor.invokeExact(object);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static long invokeLong(final MethodHandle accessor, final Object object) {
+        try {
+            return (long) accessor.invokeExact(object);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static float invokeFloat(final MethodHandle accessor, final Object object) {
+        try {
+            return (float) accessor.invokeExact(object);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static double invokeDouble(final MethodHandle accessor, final Object object) {
+        try {
+            return (double) accessor.invokeExact(object);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static boolean invokeBoolean(final MethodHandle accessor, final Object object) {
+        try {
+            return (boolean) accessor.invokeExact(object);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static Object invokeObject(final MethodHandle accessor, final Object object) {
+        try {
+            return (Object) accessor.invokeExact(object);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * A compared property
+     *
+     * @param <T>
+     *            the compared type
+     */
+    private abstract static class Component<T> {
+
+        private final boolean hashed;
+
+        private Component(final boolean hashed) {
+            this.hashed = hashed;
+        }
+
+        abstract boolean isEqual(T current, T other);
+
+        abstract int append(int hash, T object);
+    }
+
+    private static final class ObjectComponent<T, V> extends Component<T> {
+
+        private final Function<T, V> getter;
+        private final BiPredicate<V, V> predicate;
+        private final ToIntFunction<V> hash;
+
+        private ObjectComponent(final Function<T, V> getter, final BiPredicate<V, V> predicate, final ToIntFunction<V> hash) {
+            super(predicate == null || hash != null);
+            this.getter = getter;
+            this.predicate = predicate;
+            this.hash = hash;
+        }
+
+        @Override
+        boolean isEqual(final T current, final T other) {
+            final V v1 = this.getter.apply(current);
+            final V v2 = this.getter.apply(other);
+            if (v1 == v2) {
+                return true;
+            } else if (v1 == null || v2 == null) {
+                return false;
+            } else if (this.predicate != null) {
+                return this.predicate.test(v1, v2);
+            }
+            return Objects.deepEquals(v1, v2);
+        }
+
+        @Override
+        int append(final int hash, final T object) {
+            final V value = this.getter.apply(object);
+            if (this.hash != null) {
+                return hash * MULTIPLIER + (value != null ? this.hash.applyAsInt(value) : 0);
+            }
+            return appendObject(hash, value);
+        }
+    }
+
+    private static final class IntComponent<T> extends Component<T> {
+
+        private final ToIntFunction<T> getter;
+
+        private IntComponent(final ToIntFunction<T> getter) {
+            super(true);
+            this.getter = getter;
+        }
+
+        @Override
+        boolean isEqual(final T current, final T other) {
+            return this.getter.applyAsInt(current) == this.getter.applyAsInt(other);
+        }
+
+        @Override
+        int append(final int hash, final T object) {
+            return hash * MULTIPLIER + this.getter.applyAsInt(object);
+        }
+    }
+
+    private static final class LongComponent<T> extends Component<T> {
+
+        private final ToLongFunction<T> getter;
+
+        private LongComponent(final ToLongFunction<T> getter) {
+            super(true);
+            this.getter = getter;
+        }
+
+        @Override
+        boolean isEqual(final T current, final T other) {
+            return this.getter.applyAsLong(current) == this.getter.applyAsLong(other);
+        }
+
+        @Override
+        int append(final int hash, final T object) {
+            return hash * MULTIPLIER + Long.hashCode(this.getter.applyAsLong(object));
+        }
+    }
+
+    private static final class DoubleComponent<T> extends Component<T> {
+
+        private final ToDoubleFunction<T> getter;
+
+        private DoubleComponent(final ToDoubleFunction<T> getter) {
+            super(true);
+            this.getter = getter;
+        }
+
+        @Override
+        boolean isEqual(final T current, final T other) {
+            return Double.doubleToLongBits(this.getter.applyAsDouble(current)) == Double
+                    .doubleToLongBits(this.getter.applyAsDouble(other));
+        }
+
+        @Override
+        int append(final int hash, final T object) {
+            return hash * MULTIPLIER + Double.hashCode(this.getter.applyAsDouble(object));
+        }
+    }
+
+    private static final class BooleanComponent<T> extends Component<T> {
+
+        private final Predicate<T> getter;
+
+        private BooleanComponent(final Predicate<T> getter) {
+            super(true);
+            this.getter = getter;
+        }
+
+        @Override
+        boolean isEqual(final T current, final T other) {
+            return this.getter.test(current) == this.getter.test(other);
+        }
+
+        @Override
+        int append(final int hash, final T object) {
+            return hash * MULTIPLIER + Boolean.hashCode(this.getter.test(object));
+        }
+    }
+}
@@ -19,7 +19,6 @@
  */
 package fr.landel.utils.commons.builder;
 
-import java.text.DecimalFormat;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
@@ -29,6 +28,7 @@ import java.util.function.Supplier;
 import org.apache.commons.lang3.builder.Builder;
 
 import fr.landel.utils.commons.Default;
+import fr.landel.utils.commons.GroupedNumberFormatter;
 import fr.landel.utils.commons.ObjectUtils;
 import fr.landel.utils.commons.Result;
 
@@ -41,10 +41,11 @@ import fr.landel.utils.commons.Result;
  */
 public class ToStringBuilder implements Builder<String> {
 
-    private static final DecimalFormat FORMATTER = new DecimalFormat("###,###,###,###,###,###.###");
+    private static final GroupedNumberFormatter FORMATTER = GroupedNumberFormatter.of(3);
 
     /**
-     * A formatter for numbers (ex: 126123.1246 =&gt; "126 123.125")
+     * A formatter for numbers (ex: 126123.1246 =&gt; "126 123.125"), grouped
+     * with the symbols of the default locale, thread-safe
      */
     public static final Function<? super Number, CharSequence> NUMBER_FORMATTER = FORMATTER::format;
 
@@ -119,6 +120,22 @@ public class ToStringBuilder implements Builder<String> {
         this.style = Objects.requireNonNull(supplier, "ToStringStyle supplier cannot be null").get().setObject(object);
     }
 
+    /**
+     * Define the limits applied while rendering the containers (maps, iterables
+     * and arrays). By default, only the cycles are detected, see
+     * {@link ToStringLimits}.
+     * 
+     * @param limits
+     *            the limits
+     * @return the {@link ToStringBuilder} instance
+     * @throws NullPointerException
+     *             if limits is {@code null}
+     */
+    public ToStringBuilder setLimits(final ToStringLimits limits) {
+        this.style.setLimits(limits);
+        return this;
+    }
+
     /**
      * Append the value to the builder
      * 
@@ -851,6 +868,40 @@ public class ToStringBuilder implements Builder<String> {
         return this;
     }
 
+    /**
+     * Get the descriptor of the class, the instance fields (or only the
+     * members annotated with {@link ToStringProperty}) are rendered. The class
+     * is only introspected once.
+     * 
+     * @param type
+     *            the class to describe
+     * @param <T>
+     *            the described type
+     * @return the cached descriptor
+     * @throws NullPointerException
+     *             if type is {@code null}
+     */
+    public static <T> ToStringDescriptor<T> of(final Class<T> type) {
+        return ToStringDescriptor.of(type, false);
+    }
+
+    /**
+     * Get the descriptor of the class, the public getters (or only the members
+     * annotated with {@link ToStringProperty}) are rendered. The class is only
+     * introspected once.
+     * 
+     * @param type
+     *            the class to describe
+     * @param <T>
+     *            the described type
+     * @return the cached descriptor
+     * @throws NullPointerException
+     *             if type is {@code null}
+     */
+    public static <T> ToStringDescriptor<T> ofGetters(final Class<T> type) {
+        return ToStringDescriptor.of(type, true);
+    }
+
     /**
      * Build the toString content
      * 
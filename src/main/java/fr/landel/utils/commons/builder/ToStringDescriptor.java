@@ -0,0 +1,343 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons.builder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+
+import fr.landel.utils.commons.exception.FunctionException;
+
+/**
+ * Describes how to render the instances of a class with a
+ * {@link ToStringBuilder}. The class is introspected once (the descriptors are
+ * cached per class), the properties are read through {@link MethodHandle}
+ * accessors, so no reflection and no lambda are involved when rendering.
+ *
+ * <p>
+ * If the class (or one of its super classes) declares members annotated with
+ * {@link ToStringProperty}, only these members are rendered. Otherwise, all the
+ * instance fields (static, transient and synthetic ones excepted) or all the
+ * public getters are rendered. Inaccessible members are ignored.
+ * </p>
+ *
+ * <pre>
+ * private static final ToStringDescriptor&lt;Person&gt; DESCRIPTOR = ToStringBuilder.of(Person.class);
+ *
+ * &#64;Override
+ * public String toString() {
+ *     return DESCRIPTOR.build(this, ToStringStyles.JSON);
+ * }
+ * </pre>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ * @param <T>
+ *            the described type
+ */
+public final class ToStringDescriptor<T> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final String GETTER_PREFIX = "get";
+    private static final String BOOLEAN_GETTER_PREFIX = "is";
+    private static final String GET_CLASS = "getClass";
+
+    private static final ClassValue<ToStringDescriptor<?>> FIELDS = new ClassValue<ToStringDescriptor<?>>() {
+        @Override
+        protected ToStringDescriptor<?> computeValue(final Class<?> type) {
+            return new ToStringDescriptor<>(type, false);
+        }
+    };
+
+    private static final ClassValue<ToStringDescriptor<?>> GETTERS = new ClassValue<ToStringDescriptor<?>>() {
+        @Override
+        protected ToStringDescriptor<?> computeValue(final Class<?> type) {
+            return new ToStringDescriptor<>(type, true);
+        }
+    };
+
+    private final Class<?> type;
+    private final Property[] properties;
+    private final List<String> keys;
+
+    /**
+     * Constructor
+     *
+     * @param type
+     *            the class to introspect
+     * @param getters
+     *            if the getters are rendered instead of the fields (when no
+     *            member is annotated)
+     */
+    private ToStringDescriptor(final Class<?> type, final boolean getters) {
+        this.type = type;
+
+        List<Property> list = annotated(type);
+        if (list.isEmpty()) {
+            list = getters ? getters(type) : fields(type);
+        }
+        this.properties = list.toArray(new Property[list.size()]);
+
+        final List<String> names = new ArrayList<>(this.properties.length);
+        for (Property property : this.properties) {
+            names.add(property.key);
+        }
+        this.keys = Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Get the cached descriptor
+     *
+     * @param type
+     *            the class
+     * @param getters
+     *            if getters are used instead of fields
+     * @param <T>
+     *            the described type
+     * @return the descriptor
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ToStringDescriptor<T> of(final Class<T> type, final boolean getters) {
+        Objects.requireNonNull(type, "The class cannot be null");
+
+        return (ToStringDescriptor<T>) (getters ? GETTERS : FIELDS).get(type);
+    }
+
+    /**
+     * @return the described class
+     */
+    public Class<?> getType() {
+        return this.type;
+    }
+
+    /**
+     * @return the rendered keys (unmodifiable, in rendering order)
+     */
+    public List<String> getKeys() {
+        return this.keys;
+    }
+
+    /**
+     * Render the object with the default style
+     *
+     * @param object
+     *            the object to render
+     * @return the string representation
+     * @throws NullPointerException
+     *             if object is {@code null}
+     */
+    public String build(final T object) {
+        return this.build(object, ToStringStyles.DEFAULT);
+    }
+
+    /**
+     * Render the object with the specified style
+     *
+     * @param object
+     *            the object to render
+     * @param style
+     *            the style (default style if {@code null})
+     * @return the string representation
+     * @throws NullPointerException
+     *             if object is {@code null}
+     */
+    public String build(final T object, final ToStringStyles style) {
+        return this.appendTo(new ToStringBuilder(object, style), object).build();
+    }
+
+    /**
+     * Append the properties of the object to an existing builder
+     *
+     * @param builder
+     *            the builder
+     * @param object
+     *            the object to render
+     * @return the builder
+     * @throws NullPointerException
+     *             if builder or object is {@code null}
+     */
+    public ToStringBuilder appendTo(final ToStringBuilder builder, final T object) {
+        Objects.requireNonNull(builder, "The builder cannot be null");
+        Objects.requireNonNull(object, "The object cannot be null");
+
+        for (Property property : this.properties) {
+            final Object value = property.get(object);
+            if (!property.skipNull || value != null) {
+                builder.append(property.key, value);
+            }
+        }
+        return builder;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(this.type.getName()).append(this.keys).toString();
+    }
+
+    private static List<Class<?>> hierarchy(final Class<?> type) {
+        final LinkedList<Class<?>> classes = new LinkedList<>();
+        for (Class<?> clazz = type; clazz != null && !Object.class.equals(clazz); clazz = clazz.getSuperclass()) {
+            classes.addFirst(clazz);
+        }
+        return classes;
+    }
+
+    private static List<Property> annotated(final Class<?> type) {
+        final List<Property> list = new ArrayList<>();
+        for (Class<?> clazz : hierarchy(type)) {
+            for (Field field : clazz.getDeclaredFields()) {
+                final ToStringProperty annotation = field.getAnnotation(ToStringProperty.class);
+                if (annotation != null && !Modifier.isStatic(field.getModifiers())) {
+                    add(list, field, annotation.value().isEmpty() ? field.getName() : annotation.value(), annotation.skipNull());
+                }
+            }
+            final Method[] methods = clazz.getDeclaredMethods();
+            Arrays.sort(methods, Comparator.comparing(Method::getName));
+            for (Method method : methods) {
+                final ToStringProperty annotation = method.getAnnotation(ToStringProperty.class);
+                if (annotation != null && isAccessor(method)) {
+                    String key = annotation.value();
+                    if (key.isEmpty()) {
+                        key = Objects.toString(propertyName(method), method.getName());
+                    }
+                    add(list, method, key, annotation.skipNull());
+                }
+            }
+        }
+        return list;
+    }
+
+    private static List<Property> fields(final Class<?> type) {
+        final List<Property> list = new ArrayList<>();
+        for (Class<?> clazz : hierarchy(type)) {
+            for (Field field : clazz.getDeclaredFields()) {
+                final int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+                    add(list, field, field.getName(), false);
+                }
+            }
+        }
+        return list;
+    }
+
+    private static List<Property> getters(final Class<?> type) {
+        final Method[] methods = type.getMethods();
+        Arrays.sort(methods,
+                Comparator.comparing(ToStringDescriptor::propertyName, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        final List<Property> list = new ArrayList<>();
+        for (Method method : methods) {
+            final String name = propertyName(method);
+            if (name != null && isAccessor(method)) {
+                add(list, method, name, false);
+            }
+        }
+        return list;
+    }
+
+    private static boolean isAccessor(final Method method) {
+        return !Modifier.isStatic(method.getModifiers()) && method.getParameterCount() == 0
+                && !Void.TYPE.equals(method.getReturnType()) && !method.isBridge() && !method.isSynthetic();
+    }
+
+    private static String propertyName(final Method method) {
+        final String name = method.getName();
+        final int prefix;
+        if (name.startsWith(GETTER_PREFIX) && !GET_CLASS.equals(name)) {
+            prefix = GETTER_PREFIX.length();
+        } else if (name.startsWith(BOOLEAN_GETTER_PREFIX) && Boolean.TYPE.equals(method.getReturnType())) {
+            prefix = BOOLEAN_GETTER_PREFIX.length();
+        } else {
+            return null;
+        }
+        if (name.length() == prefix || !Character.isUpperCase(name.charAt(prefix))) {
+            return null;
+        }
+        // same rule as java.beans.Introspector.decapitalize
+        if (name.length() > prefix + 1 && Character.isUpperCase(name.charAt(prefix + 1))) {
+            return name.substring(prefix);
+        }
+        return Character.toLowerCase(name.charAt(prefix)) + name.substring(prefix + 1);
+    }
+
+    private static void add(final List<Property> list, final AccessibleObject member, final String key, final boolean skipNull) {
+        try {
+            member.setAccessible(true);
+        } catch (RuntimeException e) {
+            // not opened (module system), only usable if already public
+        }
+
+        final MethodHandle handle;
+        try {
+            if (member instanceof Field) {
+                handle = LOOKUP.unreflectGetter((Field) member);
+            } else {
+                handle = LOOKUP.unreflect((Method) member);
+            }
+        } catch (IllegalAccessException e) {
+            return;
+        }
+        list.add(new Property(key, handle.asType(ACCESSOR_TYPE), skipNull));
+    }
+
+    /**
+     * A rendered property
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    private static final class Property {
+
+        private final String key;
+        private final MethodHandle accessor;
+        private final boolean skipNull;
+
+        private Property(final String key, final MethodHandle accessor, final boolean skipNull) {
+            this.key = key;
+            this.accessor = accessor;
+            this.skipNull = skipNull;
+        }
+
+        private Object get(final Object object) {
+            try {
+                return (Object) this.accessor.invokeExact(object);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new FunctionException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons.builder;
+
+import java.io.Serializable;
+
+/**
+ * Limits applied while rendering the containers (maps, iterables and arrays)
+ * of a {@link ToStringBuilder}. The limits are checked while rendering, so the
+ * truncated elements are never rendered:
+ * <ul>
+ * <li>max depth: the containers nested deeper are rendered as
+ * {@code […]},</li>
+ * <li>max elements: the other elements of a container are replaced by
+ * {@code …(+N more)} (only {@code …} if the size of the iterable is
+ * unknown),</li>
+ * <li>max length: the output is cut and ended by {@code …}, the next
+ * properties are ignored (the closing tags are still appended).</li>
+ * </ul>
+ *
+ * <p>
+ * Whatever the limits, a container referencing itself (directly or through
+ * its elements) is rendered as {@code (cycle)}.
+ * </p>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public final class ToStringLimits implements Serializable {
+
+    /**
+     * No limit (only the cycles are detected)
+     */
+    public static final ToStringLimits UNLIMITED = new ToStringLimits(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+    /**
+     * serialVersionUID
+     */
+    private static final long serialVersionUID = -2983311764153734384L;
+
+    private final int maxDepth;
+    private final int maxElements;
+    private final int maxLength;
+
+    private ToStringLimits(final int maxDepth, final int maxElements, final int maxLength) {
+        this.maxDepth = maxDepth;
+        this.maxElements = maxElements;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Create the limits
+     *
+     * @param maxDepth
+     *            the maximum depth of the containers (1: containers rendered
+     *            but not their inner containers)
+     * @param maxElements
+     *            the maximum number of rendered elements per container
+     * @param maxLength
+     *            the maximum length of the output
+     * @return the limits
+     * @throws IllegalArgumentException
+     *             if a limit is lower than 1
+     */
+    public static ToStringLimits of(final int maxDepth, final int maxElements, final int maxLength) {
+        if (maxDepth < 1 || maxElements < 1 || maxLength < 1) {
+            throw new IllegalArgumentException("The limits have to be greater than 0");
+        }
+        return new ToStringLimits(maxDepth, maxElements, maxLength);
+    }
+
+    /**
+     * @param maxDepth
+     *            the maximum depth of the containers
+     * @return new limits with the specified maximum depth
+     * @throws IllegalArgumentException
+     *             if the limit is lower than 1
+     */
+    public ToStringLimits withMaxDepth(final int maxDepth) {
+        return of(maxDepth, this.maxElements, this.maxLength);
+    }
+
+    /**
+     * @param maxElements
+     *            the maximum number of rendered elements per container
+     * @return new limits with the specified maximum number of elements
+     * @throws IllegalArgumentException
+     *             if the limit is lower than 1
+     */
+    public ToStringLimits withMaxElements(final int maxElements) {
+        return of(this.maxDepth, maxElements, this.maxLength);
+    }
+
+    /**
+     * @param maxLength
+     *            the maximum length of the output
+     * @return new limits with the specified maximum length
+     * @throws IllegalArgumentException
+     *             if the limit is lower than 1
+     */
+    public ToStringLimits withMaxLength(final int maxLength) {
+        return of(this.maxDepth, this.maxElements, maxLength);
+    }
+
+    /**
+     * @return the maximum depth of the containers
+     */
+    public int getMaxDepth() {
+        return this.maxDepth;
+    }
+
+    /**
+     * @return the maximum number of rendered elements per container
+     */
+    public int getMaxElements() {
+        return this.maxElements;
+    }
+
+    /**
+     * @return the maximum length of the output
+     */
+    public int getMaxLength() {
+        return this.maxLength;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(ToStringStyles.PARENTHESIS).append("maxDepth", this.maxDepth).append("maxElements", this.maxElements)
+                .append("maxLength", this.maxLength).build();
+    }
+}
@@ -0,0 +1,499 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons.builder;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Immutable rendering plan of a {@link AbstractToStringStyle}. The tags and
+ * formatters of a style are read once, the tags are kept as char arrays
+ * and the built-in formatters are applied while appending (without
+ * intermediate strings).
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+final class ToStringPlan {
+
+    /**
+     * The classes of {@link ToStringStyles}, their tags and formatters are
+     * constant, so their plan is shared (the other classes may depend on the
+     * state of the instance)
+     */
+    private static final Set<Class<? extends AbstractToStringStyle>> BUILT_IN = Collections
+            .unmodifiableSet(new HashSet<>(Arrays.asList(ToStringStyleDefault.class, ToStringStyleJSON.class,
+                    ToStringStyleJSONSpaced.class, ToStringStyleJSONQuoted.class, ToStringStyleReadable.class,
+                    ToStringStyleParenthesis.class)));
+
+    private static final ClassValue<AtomicReference<ToStringPlan>> PLANS = new ClassValue<AtomicReference<ToStringPlan>>() {
+        @Override
+        protected AtomicReference<ToStringPlan> computeValue(final Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
+    private static final int FORMAT_CUSTOM = 0;
+    private static final int FORMAT_NOTHING = 1;
+    private static final int FORMAT_ESCAPE_QUOTES = 2;
+    private static final int FORMAT_REMOVE_QUOTES = 3;
+
+    /**
+     * Marker of truncated content
+     */
+    static final String ELLIPSIS = "\u2026";
+
+    /**
+     * Marker of a container already being rendered
+     */
+    static final String CYCLE = "(cycle)";
+
+    /**
+     * Start and end of the count of truncated elements
+     */
+    static final String MORE_START = "(+";
+    static final String MORE_END = " more)";
+
+    private static final char QUOTE = '"';
+    private static final char SINGLE_QUOTE = '\'';
+    private static final char ANTISLASH = '\\';
+
+    private final char[] start;
+    private final char[] titleStart;
+    private final char[] titleEnd;
+    private final char[] titleSeparator;
+    private final char[] propertiesStart;
+    private final char[] keyStart;
+    private final char[] keyEnd;
+    private final char[] propertySeparator;
+    private final char[] valueStart;
+    private final char[] valueEnd;
+    private final char[] propertiesSeparator;
+    private final char[] propertiesEnd;
+    private final char[] end;
+    private final char[] containerStart;
+    private final char[] containerEnd;
+
+    private final Function<CharSequence, CharSequence> titleFormatter;
+    private final Function<CharSequence, CharSequence> keyFormatter;
+    private final Function<CharSequence, CharSequence> valueFormatter;
+    private final Predicate<CharSequence> valueFormatterPredicate;
+
+    private final int titleFormat;
+    private final int keyFormat;
+    private final int valueFormat;
+
+    /**
+     * Constructor
+     *
+     * @param style
+     *            the style to compile
+     */
+    private ToStringPlan(final AbstractToStringStyle style) {
+        this.start = toChars(style.getStart());
+        this.titleStart = toChars(style.getTitleStart());
+        this.titleEnd = toChars(style.getTitleEnd());
+        this.titleSeparator = toChars(style.getTitleSeparator());
+        this.propertiesStart = toChars(style.getPropertiesStart());
+        this.keyStart = toChars(style.getKeyStart());
+        this.keyEnd = toChars(style.getKeyEnd());
+        this.propertySeparator = toChars(style.getPropertySeparator());
+        this.valueStart = toChars(style.getValueStart());
+        this.valueEnd = toChars(style.getValueEnd());
+        this.propertiesSeparator = toChars(style.getPropertiesSeparator());
+        this.propertiesEnd = toChars(style.getPropertiesEnd());
+        this.end = toChars(style.getEnd());
+        this.containerStart = toChars(style.getContainerStart());
+        this.containerEnd = toChars(style.getContainerEnd());
+
+        this.titleFormatter = style.getTitleFormatter();
+        this.keyFormatter = style.getKeyFormatter();
+        this.valueFormatter = style.getValueFormatter();
+        this.valueFormatterPredicate = style.applyValueFormatter();
+
+        this.titleFormat = formatOf(this.titleFormatter);
+        this.keyFormat = formatOf(this.keyFormatter);
+        this.valueFormat = formatOf(this.valueFormatter);
+    }
+
+    /**
+     * Get the plan of the style, shared by the instances of a built-in style
+     * class (compiled from the first instance), compiled for each instance of
+     * the other classes
+     *
+     * @param style
+     *            the style
+     * @return the plan
+     */
+    static ToStringPlan of(final AbstractToStringStyle style) {
+        if (!BUILT_IN.contains(style.getClass())) {
+            return new ToStringPlan(style);
+        }
+        final AtomicReference<ToStringPlan> reference = PLANS.get(style.getClass());
+        final ToStringPlan plan = reference.get();
+        if (plan != null) {
+            return plan;
+        }
+        reference.compareAndSet(null, new ToStringPlan(style));
+        return reference.get();
+    }
+
+    private static char[] toChars(final String tag) {
+        return String.valueOf(tag).toCharArray();
+    }
+
+    private static int formatOf(final Function<CharSequence, CharSequence> formatter) {
+        if (formatter == AbstractToStringStyle.FORMATTER_NOTHING) {
+            return FORMAT_NOTHING;
+        } else if (formatter == AbstractToStringStyle.FORMATTER_ESCAPE_QUOTES) {
+            return FORMAT_ESCAPE_QUOTES;
+        } else if (formatter == AbstractToStringStyle.FORMATTER_REMOVE_QUOTES) {
+            return FORMAT_REMOVE_QUOTES;
+        }
+        return FORMAT_CUSTOM;
+    }
+
+    /**
+     * Append the start tags and the title (if not empty)
+     *
+     * @param builder
+     *            the output buffer
+     * @param title
+     *            the title
+     * @param titled
+     *            if the title has to be rendered
+     */
+    void appendHeader(final StringBuilder builder, final String title, final boolean titled) {
+        if (titled) {
+            builder.append(this.start).append(this.titleStart);
+            format(builder, title, this.titleFormat, this.titleFormatter, Integer.MAX_VALUE);
+            builder.append(this.titleEnd).append(this.titleSeparator);
+        }
+        builder.append(this.propertiesStart);
+    }
+
+    /**
+     * Append the end tags
+     *
+     * @param builder
+     *            the output buffer
+     * @param titled
+     *            if the title was rendered
+     */
+    void appendFooter(final StringBuilder builder, final boolean titled) {
+        builder.append(this.propertiesEnd);
+        if (titled) {
+            builder.append(this.end);
+        }
+    }
+
+    /**
+     * Append the separator between two properties
+     *
+     * @param builder
+     *            the output buffer
+     */
+    void appendSeparator(final StringBuilder builder) {
+        builder.append(this.propertiesSeparator);
+    }
+
+    /**
+     * Append the key and the property separator
+     *
+     * @param builder
+     *            the output buffer
+     * @param key
+     *            the key
+     * @param context
+     *            the rendering context
+     * @return {@code false} if the maximum length is exceeded (the rendering
+     *         is stopped)
+     */
+    boolean appendKey(final StringBuilder builder, final CharSequence key, final Context context) {
+        builder.append(this.keyStart);
+        format(builder, key, this.keyFormat, this.keyFormatter, context.getLimits().getMaxLength());
+        builder.append(this.keyEnd).append(this.propertySeparator);
+        return !context.isExceeded(builder);
+    }
+
+    /**
+     * Append the value, containers (map, iterable and array) are rendered
+     * recursively within the limits of the context (the text of a value is
+     * not copied beyond the maximum length)
+     *
+     * @param builder
+     *            the output buffer
+     * @param value
+     *            the value
+     * @param formatter
+     *            the value formatter (may be null, only applied on the
+     *            non-container values)
+     * @param context
+     *            the rendering context
+     * @param <T>
+     *            the value type
+     * @return {@code false} if the maximum length is exceeded (the rendering
+     *         is stopped)
+     */
+    <T> boolean appendValue(final StringBuilder builder, final T value, final Function<T, CharSequence> formatter,
+            final Context context) {
+        if (value instanceof Map || value instanceof Iterable || value != null && value.getClass().isArray()) {
+            return this.appendContainer(builder, value, context);
+        }
+        final int maxLength = context.getLimits().getMaxLength();
+        if (formatter != null) {
+            builder.append(this.valueStart);
+            append(builder, formatter.apply(value), maxLength);
+            builder.append(this.valueEnd);
+        } else {
+            final String text = String.valueOf(value).trim();
+            if (this.valueFormatterPredicate.test(text)) {
+                builder.append(this.valueStart);
+                format(builder, text, this.valueFormat, this.valueFormatter, maxLength);
+                builder.append(this.valueEnd);
+            } else {
+                append(builder, text, maxLength);
+            }
+        }
+        return !context.isExceeded(builder);
+    }
+
+    private boolean appendContainer(final StringBuilder builder, final Object container, final Context context) {
+        if (context.getDepth() >= context.getLimits().getMaxDepth()) {
+            builder.append(this.containerStart).append(ELLIPSIS).append(this.containerEnd);
+            return !context.isExceeded(builder);
+        } else if (!context.enter(container)) {
+            builder.append(CYCLE);
+            return !context.isExceeded(builder);
+        }
+
+        builder.append(this.containerStart);
+        final boolean completed;
+        if (container instanceof Map) {
+            completed = this.appendEntries(builder, (Map<?, ?>) container, context);
+        } else if (container instanceof Iterable) {
+            completed = this.appendElements(builder, (Iterable<?>) container, context);
+        } else {
+            completed = this.appendArray(builder, container, context);
+        }
+        context.exit(container);
+
+        if (completed) {
+            builder.append(this.containerEnd);
+            return !context.isExceeded(builder);
+        }
+        return false;
+    }
+
+    private boolean appendEntries(final StringBuilder builder, final Map<?, ?> map, final Context context) {
+        final int from = builder.length();
+        final int max = context.getLimits().getMaxElements();
+        int count = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (count == max) {
+                this.appendMore(builder, builder.length() > from, map.size() - count);
+                break;
+            }
+            if (builder.length() > from) {
+                builder.append(this.propertiesSeparator);
+            }
+            if (!this.appendKey(builder, String.valueOf(entry.getKey()), context)
+                    || !this.appendValue(builder, entry.getValue(), null, context)) {
+                return false;
+            }
+            ++count;
+        }
+        return true;
+    }
+
+    private boolean appendElements(final StringBuilder builder, final Iterable<?> iterable, final Context context) {
+        final int from = builder.length();
+        final int max = context.getLimits().getMaxElements();
+        int count = 0;
+        for (Object element : iterable) {
+            if (count == max) {
+                this.appendMore(builder, builder.length() > from,
+                        iterable instanceof Collection ? ((Collection<?>) iterable).size() - count : -1);
+                break;
+            }
+            if (builder.length() > from) {
+                builder.append(this.propertiesSeparator);
+            }
+            if (!this.appendValue(builder, element, null, context)) {
+                return false;
+            }
+            ++count;
+        }
+        return true;
+    }
+
+    private boolean appendArray(final StringBuilder builder, final Object array, final Context context) {
+        final Object[] objects = array instanceof Object[] ? (Object[]) array : null;
+        final int length = objects != null ? objects.length : Array.getLength(array);
+        final int max = Math.min(length, context.getLimits().getMaxElements());
+        for (int i = 0; i < max; ++i) {
+            if (i > 0) {
+                builder.append(this.propertiesSeparator);
+            }
+            final Object element = objects != null ? objects[i] : Array.get(array, i);
+            if (element != null && !this.appendValue(builder, element, null, context)) {
+                return false;
+            }
+        }
+        if (max < length) {
+            this.appendMore(builder, true, length - max);
+        }
+        return true;
+    }
+
+    private void appendMore(final StringBuilder builder, final boolean separator, final int remaining) {
+        if (separator) {
+            builder.append(this.propertiesSeparator);
+        }
+        builder.append(ELLIPSIS);
+        if (remaining > -1) {
+            builder.append(MORE_START).append(remaining).append(MORE_END);
+        }
+    }
+
+    /**
+     * Append the text, stopped one char after the maximum length (enough to
+     * detect the overflow, the output is then cut)
+     */
+    private static void append(final StringBuilder builder, final CharSequence text, final int maxLength) {
+        final CharSequence chars = text == null ? String.valueOf(text) : text;
+        final int available = maxLength - builder.length();
+        if (chars.length() <= available) {
+            builder.append(chars);
+        } else if (available >= 0) {
+            builder.append(chars, 0, available + 1);
+        }
+    }
+
+    private static void format(final StringBuilder builder, final CharSequence text, final int format,
+            final Function<CharSequence, CharSequence> formatter, final int maxLength) {
+        if (format == FORMAT_NOTHING) {
+            append(builder, text, maxLength);
+        } else if (format == FORMAT_CUSTOM) {
+            append(builder, formatter.apply(text), maxLength);
+        } else {
+            final CharSequence chars = text == null ? String.valueOf(text) : text;
+            final int length = chars.length();
+            for (int i = 0; i < length && builder.length() <= maxLength; ++i) {
+                final char c = chars.charAt(i);
+                if (c == QUOTE) {
+                    if (format == FORMAT_ESCAPE_QUOTES) {
+                        builder.append(ANTISLASH).append(QUOTE);
+                    }
+                } else if (c != SINGLE_QUOTE || format == FORMAT_ESCAPE_QUOTES) {
+                    builder.append(c);
+                }
+            }
+        }
+    }
+
+    /**
+     * Rendering context of a style instance (limits, depth and containers
+     * being rendered)
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    static final class Context {
+
+        private final ToStringLimits limits;
+        private Set<Object> path;
+        private int depth;
+
+        /**
+         * Constructor
+         *
+         * @param limits
+         *            the limits
+         */
+        Context(final ToStringLimits limits) {
+            this.limits = limits;
+        }
+
+        /**
+         * @return the limits
+         */
+        ToStringLimits getLimits() {
+            return this.limits;
+        }
+
+        /**
+         * @param builder
+         *            the output buffer
+         * @return {@code true}, if the output is longer than the maximum length
+         */
+        boolean isExceeded(final StringBuilder builder) {
+            return builder.length() > this.limits.getMaxLength();
+        }
+
+        /**
+         * Enter in a container
+         *
+         * @param container
+         *            the container
+         * @return {@code false}, if the container is already being rendered
+         *         (cycle)
+         */
+        boolean enter(final Object container) {
+            if (this.path == null) {
+                this.path = Collections.newSetFromMap(new IdentityHashMap<>());
+            }
+            if (this.path.add(container)) {
+                ++this.depth;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Exit from a container
+         *
+         * @param container
+         *            the container
+         */
+        void exit(final Object container) {
+            this.path.remove(container);
+            --this.depth;
+        }
+
+        /**
+         * @return the current depth
+         */
+        int getDepth() {
+            return this.depth;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons.builder;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a field or a getter (method without parameter) to render with
+ * {@link ToStringBuilder#of(Class)} and {@link ToStringBuilder#ofGetters(Class)}.
+ * As soon as a class (or one of its super classes) declares an annotated
+ * member, only the annotated members are rendered.
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface ToStringProperty {
+
+    /**
+     * @return the key (by default, the field name or the getter property name)
+     */
+    String value() default "";
+
+    /**
+     * @return if the property is skipped when its value is {@code null}
+     */
+    boolean skipNull() default false;
+}
@@ -19,6 +19,7 @@
  */
 package fr.landel.utils.commons.builder;
 
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -46,6 +47,22 @@ public interface ToStringStyle {
      */
     ToStringStyle setObject(Object object);
 
+    /**
+     * Define the limits applied while rendering the containers (by default,
+     * {@link ToStringLimits#UNLIMITED}). The limits are ignored by the styles
+     * which don't support them.
+     * 
+     * @param limits
+     *            the limits
+     * @return the current style
+     * @throws NullPointerException
+     *             if limits is {@code null}
+     */
+    default ToStringStyle setLimits(final ToStringLimits limits) {
+        Objects.requireNonNull(limits, "The limits cannot be null");
+        return this;
+    }
+
     /**
      * Append the value to the builder
      * 
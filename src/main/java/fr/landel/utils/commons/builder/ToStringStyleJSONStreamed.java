@@ -0,0 +1,424 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons.builder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import fr.landel.utils.commons.StringUtils;
+
+/**
+ * ToString JSON style written through a streaming Jackson
+ * {@link JsonGenerator}. The output is valid JSON: the strings are fully
+ * escaped, the numbers, booleans and {@code null} keep their JSON type and the
+ * containers (maps, iterables and arrays, even primitive ones) are written as
+ * JSON objects and arrays, whatever their depth, without intermediate
+ * buffers. Unlike the other JSON styles, which write the values without key
+ * alone, this style writes them with their position as key, a position which
+ * counts all the properties, keyed ones included:
+ * {@code append(x).append("k", v).append(y)} writes
+ * {@code {"0":"x","k":"v","2":"y"}}. This key is not checked against the keys
+ * appended, so
+ * {@code append(a).append("0", b)} writes the member {@code "0"} twice
+ * (allowed by the JSON grammar, but most parsers keep only the last one).
+ * Define the keys to avoid it.
+ * The {@link ToStringLimits} are applied, except the maximum length (the
+ * output is not buffered).
+ *
+ * <p>
+ * The properties are written as soon as they are appended, into a
+ * {@link Writer}, an {@link OutputStream} (UTF-8) or into memory (default
+ * constructor, the JSON is then returned by {@link #build()}). So the title has
+ * to be defined before the first property.
+ * </p>
+ *
+ * <pre>
+ * {"test":{"0":"java.awt.Color[r=0,g=0,b=0]","blue":"java.awt.Color[r=0,g=0,b=255]","value":120156.5689,"list":[1,null,"a\"b"]}}
+ * </pre>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class ToStringStyleJSONStreamed extends ToStringStyleJSONQuoted {
+
+    /**
+     * serialVersionUID
+     */
+    private static final long serialVersionUID = 4632063125327567839L;
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private final transient StringWriter memory;
+    private final transient JsonGenerator generator;
+
+    private boolean started;
+    private boolean titled;
+    private String result;
+    private int index;
+
+    /**
+     * Constructor, the JSON is rendered into memory and returned by
+     * {@link #build()}
+     */
+    public ToStringStyleJSONStreamed() {
+        this.memory = new StringWriter();
+        this.generator = create(() -> FACTORY.createGenerator(this.memory));
+    }
+
+    /**
+     * Constructor, the JSON is written into the writer ({@link #build()}
+     * flushes the generator, the writer is not closed and an empty string is
+     * returned)
+     *
+     * @param writer
+     *            the target writer
+     * @throws NullPointerException
+     *             if writer is {@code null}
+     */
+    public ToStringStyleJSONStreamed(final Writer writer) {
+        Objects.requireNonNull(writer, "The writer cannot be null");
+
+        this.memory = null;
+        this.generator = create(() -> FACTORY.createGenerator(writer));
+    }
+
+    /**
+     * Constructor, the JSON is written into the stream with the UTF-8 encoding
+     * ({@link #build()} flushes the generator, the stream is not closed and an
+     * empty string is returned)
+     *
+     * @param stream
+     *            the target stream
+     * @throws NullPointerException
+     *             if stream is {@code null}
+     */
+    public ToStringStyleJSONStreamed(final OutputStream stream) {
+        Objects.requireNonNull(stream, "The stream cannot be null");
+
+        this.memory = null;
+        this.generator = create(() -> FACTORY.createGenerator(stream, JsonEncoding.UTF8));
+    }
+
+    private static JsonGenerator create(final GeneratorSupplier supplier) {
+        try {
+            return supplier.get().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException
+     *             if a property was already written
+     */
+    @Override
+    public ToStringStyle setObject(final Object object) {
+        Objects.requireNonNull(object);
+
+        if (this.started) {
+            throw new IllegalStateException("The title has to be defined before the first property");
+        }
+        return super.setObject(object);
+    }
+
+    @Override
+    public <T> void append(final T object, final Predicate<T> predicate, final Function<T, CharSequence> formatter) {
+        if (predicate == null || predicate.test(object)) {
+            this.write(null, object, formatter);
+        }
+    }
+
+    @Override
+    public <T> void append(final CharSequence key, final T value, final Predicate<T> predicate,
+            final Function<T, CharSequence> formatter) {
+        if (predicate == null || predicate.test(value)) {
+            this.write(String.valueOf(key), value, formatter);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Closes the JSON objects and flushes the generator, no property can be
+     * appended afterwards.
+     * </p>
+     *
+     * @return the JSON if rendered in memory, an empty string otherwise
+     */
+    @Override
+    public String build() {
+        if (this.result == null) {
+            try {
+                this.start();
+                this.generator.writeEndObject();
+                if (this.titled) {
+                    this.generator.writeEndObject();
+                }
+                this.generator.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.result = this.memory != null ? this.memory.toString() : EMPTY;
+        }
+        return this.result;
+    }
+
+    private void start() throws IOException {
+        if (!this.started) {
+            this.started = true;
+            this.generator.writeStartObject();
+            final String title = this.getTitle();
+            this.titled = StringUtils.isNotEmpty(title);
+            if (this.titled) {
+                this.generator.writeFieldName(title);
+                this.generator.writeStartObject();
+            }
+        }
+    }
+
+    private <T> void write(final String key, final T value, final Function<T, CharSequence> formatter) {
+        if (this.result != null) {
+            throw new IllegalStateException("The JSON is already built");
+        }
+        try {
+            this.start();
+            this.generator.writeFieldName(key != null ? key : String.valueOf(this.index));
+            ++this.index;
+            if (formatter != null) {
+                final CharSequence formatted = formatter.apply(value);
+                if (formatted == null) {
+                    this.generator.writeNull();
+                } else {
+                    this.generator.writeString(formatted.toString());
+                }
+            } else {
+                this.writeValue(value);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeValue(final Object value) throws IOException {
+        if (!isContainer(value)) {
+            this.writeScalar(value);
+            return;
+        }
+
+        // containers are walked with an explicit stack (no recursion)
+        final ToStringLimits limits = this.getLimits();
+        final Set<Object> path = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<Container> stack = new ArrayDeque<>();
+        this.writeStart(value, stack, path, limits);
+        while (!stack.isEmpty()) {
+            final Container container = stack.peek();
+            if (container.iterator.hasNext() && container.count == limits.getMaxElements()) {
+                this.writeMore(container);
+            } else if (container.iterator.hasNext()) {
+                ++container.count;
+                Object element = container.iterator.next();
+                if (container.map) {
+                    final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) element;
+                    this.generator.writeFieldName(String.valueOf(entry.getKey()));
+                    element = entry.getValue();
+                }
+                if (isContainer(element)) {
+                    this.writeStart(element, stack, path, limits);
+                } else {
+                    this.writeScalar(element);
+                }
+                continue;
+            }
+            if (container.map) {
+                this.generator.writeEndObject();
+            } else {
+                this.generator.writeEndArray();
+            }
+            path.remove(stack.pop().container);
+        }
+    }
+
+    private static boolean isContainer(final Object value) {
+        return value instanceof Map || value instanceof Iterable || value != null && value.getClass().isArray();
+    }
+
+    private void writeStart(final Object value, final Deque<Container> stack, final Set<Object> path, final ToStringLimits limits)
+            throws IOException {
+        if (stack.size() >= limits.getMaxDepth()) {
+            this.generator.writeString(ToStringPlan.ELLIPSIS);
+        } else if (!path.add(value)) {
+            this.generator.writeString(ToStringPlan.CYCLE);
+        } else {
+            final Container container = new Container(value);
+            if (container.map) {
+                this.generator.writeStartObject();
+            } else {
+                this.generator.writeStartArray();
+            }
+            stack.push(container);
+        }
+    }
+
+    private void writeMore(final Container container) throws IOException {
+        String more = EMPTY;
+        if (container.size > -1) {
+            more = new StringBuilder(ToStringPlan.MORE_START).append(container.size - container.count)
+                    .append(ToStringPlan.MORE_END).toString();
+        }
+        if (container.map) {
+            this.generator.writeFieldName(ToStringPlan.ELLIPSIS);
+            this.generator.writeString(more);
+        } else {
+            this.generator.writeString(ToStringPlan.ELLIPSIS + more);
+        }
+        container.iterator = Collections.emptyIterator();
+    }
+
+    private void writeScalar(final Object value) throws IOException {
+        if (value == null) {
+            this.generator.writeNull();
+        } else if (value instanceof Boolean) {
+            this.generator.writeBoolean((Boolean) value);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            this.generator.writeNumber(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            final double number = ((Number) value).doubleValue();
+            if (Double.isNaN(number) || Double.isInfinite(number)) {
+                this.generator.writeString(String.valueOf(value));
+            } else if (value instanceof Float) {
+                this.generator.writeNumber((Float) value);
+            } else {
+                this.generator.writeNumber(number);
+            }
+        } else if (value instanceof BigDecimal) {
+            this.generator.writeNumber((BigDecimal) value);
+        } else if (value instanceof BigInteger) {
+            this.generator.writeNumber((BigInteger) value);
+        } else {
+            this.generator.writeString(String.valueOf(value));
+        }
+    }
+
+    /**
+     * A container being written
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    private static final class Container {
+
+        private final Object container;
+        private final boolean map;
+        private final int size;
+        private Iterator<?> iterator;
+        private int count;
+
+        private Container(final Object container) {
+            this.container = container;
+            this.map = container instanceof Map;
+            if (this.map) {
+                this.size = ((Map<?, ?>) container).size();
+                this.iterator = ((Map<?, ?>) container).entrySet().iterator();
+            } else if (container instanceof Iterable) {
+                this.size = container instanceof Collection ? ((Collection<?>) container).size() : -1;
+                this.iterator = ((Iterable<?>) container).iterator();
+            } else if (container instanceof Object[]) {
+                this.size = ((Object[]) container).length;
+                this.iterator = Arrays.asList((Object[]) container).iterator();
+            } else {
+                this.size = Array.getLength(container);
+                this.iterator = new PrimitiveArrayIterator(container);
+            }
+        }
+    }
+
+    /**
+     * Iterator over a primitive array
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    private static final class PrimitiveArrayIterator implements Iterator<Object> {
+
+        private final Object array;
+        private final int length;
+        private int index;
+
+        private PrimitiveArrayIterator(final Object array) {
+            this.array = array;
+            this.length = Array.getLength(array);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.index < this.length;
+        }
+
+        @Override
+        public Object next() {
+            if (this.index >= this.length) {
+                throw new NoSuchElementException();
+            }
+            return Array.get(this.array, this.index++);
+        }
+    }
+
+    /**
+     * Generator supplier
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    @FunctionalInterface
+    private interface GeneratorSupplier {
+
+        JsonGenerator get() throws IOException;
+    }
+}
@@ -66,6 +66,17 @@ public enum ToStringStyles {
      */
     JSON_QUOTED(ToStringStyleJSONQuoted::new),
 
+    /**
+     * The JSON toString style streamed through Jackson (valid and fully escaped
+     * JSON, typed values, the values without key get their position among all
+     * the properties as key, which may duplicate a key already appended)
+     * 
+     * <pre>
+     * {"test":{"0":"java.awt.Color[r=0,g=0,b=0]","1":0,"blue":"java.awt.Color[r=0,g=0,b=255]","value":120156.5689,"optional":"optional"}}
+     * </pre>
+     */
+    JSON_STREAMED(ToStringStyleJSONStreamed::new),
+
     /**
      * The readable toString style
      * 
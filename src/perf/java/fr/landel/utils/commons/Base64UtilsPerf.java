@@ -0,0 +1,188 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Check {@link Base64Utils}, {@link Base32Utils} and {@link VarintUtils}
+ * performance (compared to {@link Base64} and {@link HexUtils})
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+public class Base64UtilsPerf {
+
+    private static final int SIZE = 1 << 14;
+    private static final byte[] BYTES = new byte[SIZE];
+    private static final String ENCODED;
+    private static final int[] INTS = new int[SIZE / Integer.BYTES];
+
+    static {
+        final Random random = new Random(SIZE);
+        random.nextBytes(BYTES);
+        ENCODED = Base64Utils.encode(BYTES);
+        for (int i = 0; i < INTS.length; ++i) {
+            INTS[i] = random.nextInt() >>> random.nextInt(Integer.SIZE);
+        }
+    }
+
+    private final byte[] target = new byte[Base64Utils.encodedLength(SIZE, true)];
+    private final StringBuilder builder = new StringBuilder(this.target.length);
+    private final ByteBuffer direct = ByteBuffer.allocateDirect(SIZE);
+
+    /**
+     * Test method for {@link Base64.Encoder#encodeToString(byte[])}.
+     * 
+     * @return the encoded string
+     */
+    @Benchmark
+    public String testEncodeJdk() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(BYTES);
+    }
+
+    /**
+     * Test method for {@link Base64Utils#encode(byte[])}.
+     * 
+     * @return the encoded string
+     */
+    @Benchmark
+    public String testEncode() {
+        return Base64Utils.encode(BYTES);
+    }
+
+    /**
+     * Test method for {@link Base64.Encoder#encode(byte[], byte[])}.
+     * 
+     * @return the number of encoded bytes
+     */
+    @Benchmark
+    public int testEncodeIntoJdk() {
+        return Base64.getUrlEncoder().encode(BYTES, this.target);
+    }
+
+    /**
+     * Test method for
+     * {@link Base64Utils#encode(byte[], int, int, byte[], int, boolean)}.
+     * 
+     * @return the number of encoded bytes
+     */
+    @Benchmark
+    public int testEncodeInto() {
+        return Base64Utils.encode(BYTES, 0, SIZE, this.target, 0, true);
+    }
+
+    /**
+     * Test method for
+     * {@link Base64Utils#encodeTo(Appendable, byte[], int, int, boolean)}.
+     * 
+     * @return the builder length
+     * @throws IOException
+     *             never thrown by a string builder
+     */
+    @Benchmark
+    public int testEncodeTo() throws IOException {
+        this.builder.setLength(0);
+        Base64Utils.encodeTo(this.builder, BYTES, 0, SIZE, false);
+        return this.builder.length();
+    }
+
+    /**
+     * Test method for {@link Base64.Decoder#decode(String)}.
+     * 
+     * @return the decoded bytes
+     */
+    @Benchmark
+    public byte[] testDecodeJdk() {
+        return Base64.getUrlDecoder().decode(ENCODED);
+    }
+
+    /**
+     * Test method for {@link Base64Utils#decode(CharSequence)}.
+     * 
+     * @return the decoded bytes
+     */
+    @Benchmark
+    public byte[] testDecode() {
+        return Base64Utils.decode(ENCODED);
+    }
+
+    /**
+     * Test method for {@link Base64Utils#decode(CharSequence, ByteBuffer)}.
+     * 
+     * @return the number of decoded bytes
+     */
+    @Benchmark
+    public int testDecodeDirect() {
+        this.direct.clear();
+        return Base64Utils.decode(ENCODED, this.direct);
+    }
+
+    /**
+     * Test method for {@link Base32Utils#encode(byte[])}.
+     * 
+     * @return the encoded string
+     */
+    @Benchmark
+    public String testEncodeBase32() {
+        return Base32Utils.encode(BYTES);
+    }
+
+    /**
+     * Test method for {@link HexUtils#encode(byte[])}, to compare the
+     * encodings.
+     * 
+     * @return the encoded string
+     */
+    @Benchmark
+    public String testEncodeHex() {
+        return HexUtils.encode(BYTES);
+    }
+
+    /**
+     * Test method for {@link VarintUtils#putInt(byte[], int, int)} and
+     * {@link VarintUtils#getInt(byte[], int)}.
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testVarints(final Blackhole blackhole) {
+        int offset = 0;
+        for (int value : INTS) {
+            offset = VarintUtils.putInt(this.target, offset, value);
+        }
+        for (int i = 0; i < offset; i = VarintUtils.next(this.target, i)) {
+            blackhole.consume(VarintUtils.getInt(this.target, i));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Check {@link ByteUtils} performance (compared to a {@link ByteBuffer} per
+ * value)
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+public class ByteUtilsPerf {
+
+    private static final int SIZE = 1 << 16;
+    private static final byte[] BYTES = new byte[SIZE];
+
+    static {
+        new Random(SIZE).nextBytes(BYTES);
+    }
+
+    private final int[] ints = new int[SIZE / Integer.BYTES];
+
+    /**
+     * Test method for the previous {@link HexUtils#intToBytes(int)} (buffer
+     * allocated per value).
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testIntToBytesBuffer(final Blackhole blackhole) {
+        for (int i = 0; i < SIZE; ++i) {
+            blackhole.consume(ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(i).array());
+        }
+    }
+
+    /**
+     * Test method for {@link HexUtils#intToBytes(int)}.
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testIntToBytes(final Blackhole blackhole) {
+        for (int i = 0; i < SIZE; ++i) {
+            blackhole.consume(HexUtils.intToBytes(i));
+        }
+    }
+
+    /**
+     * Test method for {@link ByteBuffer#getLong(int)} (wrapped per value).
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testGetLongBuffer(final Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i += Long.BYTES) {
+            blackhole.consume(ByteBuffer.wrap(BYTES).order(ByteOrder.LITTLE_ENDIAN).getLong(i));
+        }
+    }
+
+    /**
+     * Test method for {@link ByteUtils#getLong(byte[], int, ByteOrder)}.
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testGetLong(final Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i += Long.BYTES) {
+            blackhole.consume(ByteUtils.getLong(BYTES, i, ByteOrder.LITTLE_ENDIAN));
+        }
+    }
+
+    /**
+     * Test method for {@link ByteUtils#getInt(byte[], int, ByteOrder)} (per
+     * value, into an array).
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testGetIntLoop(final Blackhole blackhole) {
+        for (int i = 0; i < this.ints.length; ++i) {
+            this.ints[i] = ByteUtils.getInt(BYTES, i * Integer.BYTES, ByteOrder.BIG_ENDIAN);
+        }
+        blackhole.consume(this.ints);
+    }
+
+    /**
+     * Test method for
+     * {@link ByteUtils#getInts(byte[], int, int[], int, int, ByteOrder)}.
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testGetInts(final Blackhole blackhole) {
+        blackhole.consume(ByteUtils.getInts(BYTES, 0, this.ints, 0, this.ints.length, ByteOrder.BIG_ENDIAN));
+    }
+}
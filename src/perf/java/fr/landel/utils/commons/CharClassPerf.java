@@ -0,0 +1,126 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.function.IntPredicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Check {@link CharClass} performance (compared to the previous
+ * {@link AsciiUtils} lambdas)
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+public class CharClassPerf {
+
+    private static final int SIZE = 1 << 12;
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+
+    /**
+     * The previous {@link AsciiUtils#IS_ALPHANUMERIC}
+     */
+    private static final IntPredicate LAMBDA = c -> (AsciiUtils.NUM_FIRST <= c && c <= AsciiUtils.NUM_LAST)
+            || (AsciiUtils.ALPHA_UC_FIRST <= c && c <= AsciiUtils.ALPHA_UC_LAST)
+            || (AsciiUtils.ALPHA_LC_FIRST <= c && c <= AsciiUtils.ALPHA_LC_LAST);
+
+    private static final String STRING;
+    private static final byte[] BYTES;
+
+    static {
+        final Random random = new Random(SIZE);
+        final StringBuilder builder = new StringBuilder(SIZE);
+        for (int i = 0; i < SIZE; ++i) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        STRING = builder.toString();
+        BYTES = STRING.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Test method for the previous lambda, char by char.
+     * 
+     * @return the index of the first char not alphanumeric
+     */
+    @Benchmark
+    public int testLambda() {
+        for (int i = 0; i < SIZE; ++i) {
+            if (!LAMBDA.test(STRING.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Test method for {@link CharClass#indexOfFirstNotIn(CharSequence)}.
+     * 
+     * @return the index of the first char not alphanumeric
+     */
+    @Benchmark
+    public int testIndexOfFirstNotIn() {
+        return CharClass.ALPHANUMERIC.indexOfFirstNotIn(STRING);
+    }
+
+    /**
+     * Test method for the previous lambda, byte by byte.
+     * 
+     * @return the index of the first byte not alphanumeric
+     */
+    @Benchmark
+    public int testLambdaBytes() {
+        for (int i = 0; i < SIZE; ++i) {
+            if (!LAMBDA.test(BYTES[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Test method for {@link CharClass#indexOfFirstNotIn(byte[], int, int)}
+     * (SWAR).
+     * 
+     * @return the index of the first byte not alphanumeric
+     */
+    @Benchmark
+    public int testIndexOfFirstNotInBytes() {
+        return CharClass.ALPHANUMERIC.indexOfFirstNotIn(BYTES, 0, SIZE);
+    }
+
+    /**
+     * Test method for {@link CharClass#countIn(byte[], int, int)} (SWAR).
+     * 
+     * @return the number of digits
+     */
+    @Benchmark
+    public int testCountInBytes() {
+        return CharClass.DIGITS.countIn(BYTES, 0, SIZE);
+    }
+}
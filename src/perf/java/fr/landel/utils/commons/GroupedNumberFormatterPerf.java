@@ -0,0 +1,150 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.text.DecimalFormat;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Check {@link GroupedNumberFormatter} performance, with concurrent threads
+ * (compared to a shared and synchronized {@link DecimalFormat}, and to one
+ * {@link DecimalFormat} per thread)
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class GroupedNumberFormatterPerf {
+
+    private static final String PATTERN = "###,###,###,###,###,###.###";
+    private static final int SIZE = 1_000;
+    private static final double[] DOUBLES = new double[SIZE];
+    private static final long[] LONGS = new long[SIZE];
+
+    static {
+        final Random random = new Random(SIZE);
+        for (int i = 0; i < SIZE; ++i) {
+            DOUBLES[i] = i % 2 == 0 ? Math.round(random.nextDouble() * 1e8) / 100.0 : random.nextDouble() * 1e6;
+            LONGS[i] = random.nextLong() >> random.nextInt(Long.SIZE);
+        }
+    }
+
+    private static final DecimalFormat SHARED = new DecimalFormat(PATTERN);
+    private static final ThreadLocal<DecimalFormat> PER_THREAD = ThreadLocal.withInitial(() -> new DecimalFormat(PATTERN));
+    private static final GroupedNumberFormatter FORMATTER = GroupedNumberFormatter.of(3);
+
+    /**
+     * Test method for {@link DecimalFormat#format(double)} (synchronized).
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testDecimalFormatShared(final Blackhole blackhole) {
+        for (double value : DOUBLES) {
+            synchronized (SHARED) {
+                blackhole.consume(SHARED.format(value));
+            }
+        }
+    }
+
+    /**
+     * Test method for {@link DecimalFormat#format(double)} (per thread).
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testDecimalFormatPerThread(final Blackhole blackhole) {
+        final DecimalFormat format = PER_THREAD.get();
+        for (double value : DOUBLES) {
+            blackhole.consume(format.format(value));
+        }
+    }
+
+    /**
+     * Test method for {@link GroupedNumberFormatter#format(Number)}.
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testFormatDouble(final Blackhole blackhole) {
+        for (double value : DOUBLES) {
+            blackhole.consume(FORMATTER.format(value));
+        }
+    }
+
+    /**
+     * Test method for
+     * {@link GroupedNumberFormatter#format(double, StringBuilder)} (into a
+     * reused builder).
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testFormatDoubleInto(final Blackhole blackhole) {
+        final StringBuilder builder = new StringBuilder();
+        for (double value : DOUBLES) {
+            builder.setLength(0);
+            blackhole.consume(FORMATTER.format(value, builder));
+        }
+    }
+
+    /**
+     * Test method for {@link DecimalFormat#format(long)} (per thread).
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testDecimalFormatLong(final Blackhole blackhole) {
+        final DecimalFormat format = PER_THREAD.get();
+        for (long value : LONGS) {
+            blackhole.consume(format.format(value));
+        }
+    }
+
+    /**
+     * Test method for {@link GroupedNumberFormatter#format(long, StringBuilder)}.
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testFormatLong(final Blackhole blackhole) {
+        final StringBuilder builder = new StringBuilder();
+        for (long value : LONGS) {
+            builder.setLength(0);
+            blackhole.consume(FORMATTER.format(value, builder));
+        }
+    }
+}
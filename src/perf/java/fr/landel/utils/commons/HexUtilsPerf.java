@@ -0,0 +1,199 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Check {@link HexUtils} codec performance, on digest sized inputs (compared to
+ * the previous boxed table encoding and to {@link Integer#parseInt(String, int)}
+ * decoding)
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+public class HexUtilsPerf {
+
+    private static final int SIZE = 1_000;
+    private static final int DIGEST_SIZE = 32;
+    private static final byte[][] DIGESTS = new byte[SIZE][DIGEST_SIZE];
+    private static final String[] HEXES = new String[SIZE];
+    private static final byte[] BLOB = new byte[1 << 20];
+    private static final Character[] BOXED = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+
+    static {
+        final Random random = new Random(SIZE);
+        for (int i = 0; i < SIZE; ++i) {
+            random.nextBytes(DIGESTS[i]);
+            HEXES[i] = HexUtils.encode(DIGESTS[i]);
+        }
+        random.nextBytes(BLOB);
+    }
+
+    private final ByteBuffer direct = ByteBuffer.allocateDirect(DIGEST_SIZE);
+    private final char[] chars = new char[DIGEST_SIZE * 2];
+    private final ByteBuffer blob = ByteBuffer.allocateDirect(BLOB.length).put(BLOB);
+    private final ByteArrayOutputStream encoded = new ByteArrayOutputStream(BLOB.length * 2);
+    private final StringBuilder dump = new StringBuilder(BLOB.length * 5);
+
+    /**
+     * Test method for the previous encoding (boxed table, then string, then
+     * builder copy).
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testEncodeBoxed(final Blackhole blackhole) {
+        for (byte[] digest : DIGESTS) {
+            final char[] hexChars = new char[digest.length * 2];
+            for (int j = 0; j < digest.length; j++) {
+                final int v = digest[j] & 0xFF;
+                hexChars[j * 2] = BOXED[v >>> 4];
+                hexChars[j * 2 + 1] = BOXED[v & 0x0F];
+            }
+            blackhole.consume(new StringBuilder(new String(hexChars)).toString());
+        }
+    }
+
+    /**
+     * Test method for {@link HexUtils#encode(byte[])}.
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testEncode(final Blackhole blackhole) {
+        for (byte[] digest : DIGESTS) {
+            blackhole.consume(HexUtils.encode(digest));
+        }
+    }
+
+    /**
+     * Test method for
+     * {@link HexUtils#encode(byte[], int, int, char[], int, boolean)} (into a
+     * reused array).
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testEncodeInto(final Blackhole blackhole) {
+        for (byte[] digest : DIGESTS) {
+            blackhole.consume(HexUtils.encode(digest, 0, digest.length, this.chars, 0, false));
+        }
+    }
+
+    /**
+     * Test method for {@link HexUtils#encode(ByteBuffer, boolean)} (direct
+     * buffer).
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testEncodeDirect(final Blackhole blackhole) {
+        for (byte[] digest : DIGESTS) {
+            this.direct.clear();
+            this.direct.put(digest).flip();
+            blackhole.consume(HexUtils.encode(this.direct, false));
+        }
+    }
+
+    /**
+     * Test method for decoding with {@link Integer#parseInt(String, int)} (per
+     * pair of digits).
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testDecodeParseInt(final Blackhole blackhole) {
+        for (String hex : HEXES) {
+            final byte[] bytes = new byte[hex.length() / 2];
+            for (int j = 0; j < bytes.length; ++j) {
+                bytes[j] = (byte) Integer.parseInt(hex.substring(j * 2, j * 2 + 2), 16);
+            }
+            blackhole.consume(bytes);
+        }
+    }
+
+    /**
+     * Test method for {@link HexUtils#decode(CharSequence)}.
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testDecode(final Blackhole blackhole) {
+        for (String hex : HEXES) {
+            blackhole.consume(HexUtils.decode(hex));
+        }
+    }
+
+    /**
+     * Test method for {@link HexUtils#encodingStream(OutputStream, boolean)}
+     * (1 MB, written by blocks of 4 KB).
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     * @throws IOException
+     *             on write failure
+     */
+    @Benchmark
+    public void testEncodingStream(final Blackhole blackhole) throws IOException {
+        this.encoded.reset();
+        try (OutputStream output = HexUtils.encodingStream(this.encoded, false)) {
+            for (int i = 0; i < BLOB.length; i += 4_096) {
+                output.write(BLOB, i, 4_096);
+            }
+        }
+        blackhole.consume(this.encoded.size());
+    }
+
+    /**
+     * Test method for {@link HexDump#formatTo(Appendable, ByteBuffer)} (1 MB,
+     * direct buffer).
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     * @throws IOException
+     *             on write failure
+     */
+    @Benchmark
+    public void testHexDump(final Blackhole blackhole) throws IOException {
+        this.blob.clear();
+        this.dump.setLength(0);
+        blackhole.consume(HexDump.CANONICAL.formatTo(this.dump, this.blob).length());
+    }
+}
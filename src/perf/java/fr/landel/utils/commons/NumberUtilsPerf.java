@@ -0,0 +1,337 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Check {@link NumberUtils} parsers performance (the exception-free primitive
+ * parsers compared to the boxed ones, on cells with 5% of garbage)
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+public class NumberUtilsPerf {
+
+    private static final int CELLS = 10_000;
+    private static final String[] INTEGERS = new String[CELLS];
+    private static final String[] DECIMALS = new String[CELLS];
+    private static final byte[] LINE;
+
+    /**
+     * Market data like values: prices with 2 to 6 decimals, sizes, and
+     * shortest representations of computed doubles (up to 17 digits)
+     */
+    private static final String[] PRICES = new String[CELLS];
+
+    /**
+     * Column of longs (1 million cells, with 5% of garbage)
+     */
+    private static final String[] COLUMN = new String[CELLS * 100];
+
+    static {
+        for (int i = 0; i < CELLS; ++i) {
+            if (i % 20 == 0) {
+                INTEGERS[i] = "n/a" + i;
+                DECIMALS[i] = i + "x";
+            } else {
+                INTEGERS[i] = String.valueOf(i * 7_919 - 3_000_000);
+                DECIMALS[i] = String.valueOf(i * 1.25e-3);
+            }
+        }
+        final StringBuilder line = new StringBuilder();
+        for (int i = 0; i < CELLS; ++i) {
+            line.append(i * 7_919 - 3_000_000).append(';').append(i * 0.25).append(';');
+        }
+        LINE = line.toString().getBytes(StandardCharsets.US_ASCII);
+
+        for (int i = 0; i < COLUMN.length; ++i) {
+            COLUMN[i] = i % 20 == 0 ? null : String.valueOf(i * 104_729L - 50_000_000L);
+        }
+
+        final Random random = new Random(CELLS);
+        for (int i = 0; i < CELLS; ++i) {
+            final double price = 10 + random.nextDouble() * 490;
+            switch (i % 3) {
+            case 0:
+                PRICES[i] = String.format(Locale.US, "%." + (2 + i % 5) + "f", price);
+                break;
+            case 1:
+                PRICES[i] = String.valueOf(random.nextInt(1_000_000));
+                break;
+            default:
+                PRICES[i] = String.valueOf(price * random.nextDouble());
+            }
+        }
+    }
+
+    private final NumberParseResult result = new NumberParseResult();
+    private final NumberClassification classification = new NumberClassification();
+    private final BitSet invalids = new BitSet(COLUMN.length);
+
+    /**
+     * Test method for {@link NumberUtils#parseInt(String, Integer)}.
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testParseIntBoxed(final Blackhole blackhole) {
+        for (String cell : INTEGERS) {
+            blackhole.consume(NumberUtils.parseInt(cell, (Integer) 0));
+        }
+    }
+
+    /**
+     * Test method for {@link NumberUtils#parseIntOrDefault(CharSequence, int)}.
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testParseIntPrimitive(final Blackhole blackhole) {
+        for (String cell : INTEGERS) {
+            blackhole.consume(NumberUtils.parseIntOrDefault(cell, 0));
+        }
+    }
+
+    /**
+     * Test method for
+     * {@link NumberUtils#parseInt(CharSequence, int, NumberParseResult)}.
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testParseIntStatus(final Blackhole blackhole) {
+        for (String cell : INTEGERS) {
+            if (NumberUtils.parseInt(cell, 10, this.result) == NumberParseResult.Status.VALID) {
+                blackhole.consume(this.result.getInt());
+            }
+        }
+    }
+
+    /**
+     * Test method for {@link NumberUtils#parseDouble(String, Double)}.
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testParseDoubleBoxed(final Blackhole blackhole) {
+        for (String cell : DECIMALS) {
+            blackhole.consume(NumberUtils.parseDouble(cell, (Double) 0.0));
+        }
+    }
+
+    /**
+     * Test method for {@link NumberUtils#parseDoubleOrDefault(CharSequence, double)}.
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testParseDoublePrimitive(final Blackhole blackhole) {
+        for (String cell : DECIMALS) {
+            blackhole.consume(NumberUtils.parseDoubleOrDefault(cell, 0.0));
+        }
+    }
+
+    /**
+     * Test method for {@link NumberUtils#parseLong(String, Long)} and
+     * {@link NumberUtils#parseDouble(String, Double)} (the line is decoded and
+     * split, each field is a new string).
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testParseLineSplit(final Blackhole blackhole) {
+        final String[] fields = new String(LINE, StandardCharsets.US_ASCII).split(";");
+        for (int i = 0; i < fields.length; i += 2) {
+            blackhole.consume(NumberUtils.parseLong(fields[i], (Long) 0L));
+            blackhole.consume(NumberUtils.parseDouble(fields[i + 1], (Double) 0.0));
+        }
+    }
+
+    /**
+     * Test method for {@link NumberUtils#parseLongOrDefault(byte[], int, int, int, long)}
+     * and {@link NumberUtils#parseDoubleOrDefault(byte[], int, int, double)} (the fields
+     * are parsed in the line buffer).
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testParseLineRange(final Blackhole blackhole) {
+        boolean integral = true;
+        int start = 0;
+        for (int i = 0; i < LINE.length; ++i) {
+            if (LINE[i] == ';') {
+                if (integral) {
+                    blackhole.consume(NumberUtils.parseLongOrDefault(LINE, start, i - start, 10, 0L));
+                } else {
+                    blackhole.consume(NumberUtils.parseDoubleOrDefault(LINE, start, i - start, 0.0));
+                }
+                integral = !integral;
+                start = i + 1;
+            }
+        }
+    }
+
+    /**
+     * Test method for {@link Double#parseDouble(String)} (reference).
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testParsePricesJdk(final Blackhole blackhole) {
+        for (String cell : PRICES) {
+            blackhole.consume(Double.parseDouble(cell));
+        }
+    }
+
+    /**
+     * Test method for {@link NumberUtils#parseDoubleOrDefault(CharSequence, double)}
+     * (Eisel-Lemire).
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testParsePrices(final Blackhole blackhole) {
+        for (String cell : PRICES) {
+            blackhole.consume(NumberUtils.parseDoubleOrDefault(cell, 0.0));
+        }
+    }
+
+    /**
+     * Test method for {@link NumberUtils#parseFloatOrDefault(CharSequence, float)}
+     * (Eisel-Lemire).
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testParsePricesFloat(final Blackhole blackhole) {
+        for (String cell : PRICES) {
+            blackhole.consume(NumberUtils.parseFloatOrDefault(cell, 0f));
+        }
+    }
+
+    /**
+     * Test method for {@link NumberUtils#isNumberDecimal(String, boolean)}.
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testIsNumberDecimal(final Blackhole blackhole) {
+        for (String cell : PRICES) {
+            blackhole.consume(NumberUtils.isNumberDecimal(cell, true));
+        }
+    }
+
+    /**
+     * Test method for
+     * {@link NumberUtils#classify(CharSequence, NumberClassification)} (check
+     * and value in one pass).
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testClassify(final Blackhole blackhole) {
+        for (String cell : PRICES) {
+            if (NumberUtils.classify(cell, this.classification)) {
+                blackhole.consume(this.classification.getDouble());
+            }
+        }
+    }
+
+    /**
+     * Check then parse (two passes, the legacy way).
+     * 
+     * @param blackhole
+     *            the JMH black hole
+     */
+    @Benchmark
+    public void testCheckThenParse(final Blackhole blackhole) {
+        for (String cell : PRICES) {
+            if (NumberUtils.isNumberDecimal(cell, true, true)) {
+                blackhole.consume(Double.parseDouble(cell));
+            }
+        }
+    }
+
+    /**
+     * Test method for {@link NumberUtils#parseLong(String, Long)} (per element,
+     * boxed).
+     * 
+     * @return the values
+     */
+    @Benchmark
+    public long[] testParseColumnPerElement() {
+        final long[] values = new long[COLUMN.length];
+        for (int i = 0; i < COLUMN.length; ++i) {
+            final Long value = NumberUtils.parseLong(COLUMN[i], (Long) null);
+            if (value != null) {
+                values[i] = value;
+            } else {
+                this.invalids.set(i);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Test method for {@link NumberUtils#parseLongs(CharSequence[], long, BitSet)}.
+     * 
+     * @return the values
+     */
+    @Benchmark
+    public long[] testParseColumnSequential() {
+        return NumberUtils.parseLongs(COLUMN, 0L, this.invalids);
+    }
+
+    /**
+     * Test method for
+     * {@link NumberUtils#parseLongsParallel(CharSequence[], long, BitSet)}.
+     * 
+     * @return the values
+     */
+    @Benchmark
+    public long[] testParseColumnParallel() {
+        return NumberUtils.parseLongsParallel(COLUMN, 0L, this.invalids);
+    }
+}
@@ -0,0 +1,87 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import java.util.Locale;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Check {@link StringFormatUtils} performance (compared to
+ * {@link String#format} and {@link StringUtils#inject})
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringFormatUtilsPerf {
+
+    private static final Object[] PARAMETERS = {"key"};
+    private static final Object[] NO_PARAMETERS = {};
+
+    private static final PreparedFormat FORMAT_1 = PreparedFormat.prepare("The value of '%s*' is %s", 1, 1);
+    private static final PreparedFormat FORMAT_2 = PreparedFormat
+            .prepare("%s: %,d, 0x%x, %.2f, %-10s|", 0, 5);
+
+    /**
+     * Test method for {@link String#format(Locale, String, Object...)}.
+     */
+    @Benchmark
+    public void testStringFormat() {
+        String.format(Locale.US, "The value of '%s' is %s", "key", "value");
+        String.format(Locale.US, "%s: %,d, 0x%x, %.2f, %-10s|", "name", 1_234, 255, 12.345, "left");
+    }
+
+    /**
+     * Test method for
+     * {@link StringFormatUtils#format(Locale, CharSequence, Object[], Object...)}.
+     */
+    @Benchmark
+    public void testFormat() {
+        StringUtils.format(Locale.US, "The value of '%s*' is %s", PARAMETERS, "value");
+        StringUtils.format(Locale.US, "%s: %,d, 0x%x, %.2f, %-10s|", NO_PARAMETERS, "name", 1_234, 255, 12.345,
+                "left");
+    }
+
+    /**
+     * Test method for {@link PreparedFormat#format(Locale, Object[], Object...)}
+     * (without the cache lookup).
+     */
+    @Benchmark
+    public void testPreparedFormat() {
+        FORMAT_1.format(Locale.US, PARAMETERS, "value");
+        FORMAT_2.format(Locale.US, NO_PARAMETERS, "name", 1_234, 255, 12.345, "left");
+    }
+
+    /**
+     * Test method for {@link StringUtils#inject(CharSequence, Object...)} (same
+     * values, without conversion).
+     */
+    @Benchmark
+    public void testInject() {
+        StringUtils.inject("The value of '{}' is {}", "key", "value");
+        StringUtils.inject("{}: {}, 0x{}, {}, {}|", "name", 1_234, 255, 12.345, "left");
+    }
+}
@@ -20,6 +20,12 @@
 package fr.landel.utils.commons;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -38,6 +44,31 @@ import org.openjdk.jmh.annotations.State;
 @State(Scope.Benchmark)
 public class StringUtilsPerf {
 
+    private static final CompiledTemplate TEMPLATE_1 = CompiledTemplate.compile("I'll go to the beach this afternoon");
+    private static final CompiledTemplate TEMPLATE_2 = CompiledTemplate.compile("I'll go to {} {3} {} {2}");
+    private static final CompiledTemplate TEMPLATE_3 = CompiledTemplate
+            .compile("I'll go to {{}}{3} {} {2}{{0}} {4} {text}");
+
+    private static final CompiledKeyTemplate KEY_TEMPLATE_1 = CompiledKeyTemplate
+            .compile("I'll go to {where} this {when}");
+    private static final CompiledKeyTemplate KEY_TEMPLATE_2 = CompiledKeyTemplate
+            .compile("I'll go to {where} this {when} {{when}}");
+    private static final Map<String, Object> KEY_ARGUMENTS = MapUtils2.newHashMap(Pair.of("where", "beach"),
+            Pair.of("when", "afternoon"));
+
+    private static final Map<String, String> KEYWORDS = new HashMap<>();
+    static {
+        for (int i = 0; i < 200; ++i) {
+            KEYWORDS.put("secret" + i + ";", "[redacted]");
+        }
+    }
+    private static final CompiledReplacer REPLACER = CompiledReplacer.compile(KEYWORDS);
+    private static final String PAYLOAD = StringUtils.repeat("user=john;token=secret12;level=secret199;", 256);
+
+    private static final List<Long> IDS = LongStream.range(1_000_000_000L, 1_002_000_000L).boxed().collect(Collectors.toList());
+
+    private static final String RECORD = StringUtils.repeat("field;12345;value with spaces;2026-10-18;", 256);
+
 //    @Override
 //    protected double getExpectedMinNbOpsPerSeconds() {
 //        return 100_000d;
@@ -55,6 +86,18 @@ public class StringUtilsPerf {
         StringUtils.inject("I'll go to {{}}{3} {} {2}{{0}} {4} {text}", "the", "this", "afternoon", "beach");
     }
 
+    /**
+     * Test method for {@link CompiledTemplate#render(Object...)} (without the
+     * cache lookup).
+     */
+    @Benchmark
+    public void testCompiledTemplate() {
+        TEMPLATE_1.render();
+        TEMPLATE_2.render();
+        TEMPLATE_2.render("the", "this", "afternoon", "beach");
+        TEMPLATE_3.render("the", "this", "afternoon", "beach");
+    }
+
     /**
      * Test method for
      * {@link StringUtils#injectKeys(CharSequence, java.util.Map.Entry...)}.
@@ -68,6 +111,91 @@ public class StringUtilsPerf {
         StringUtils.injectKeys("I'll go to {where}", Collections.singletonMap("where", "beach"));
     }
 
+    /**
+     * Test method for {@link CompiledKeyTemplate#render(java.util.Map)} (without
+     * the cache lookup).
+     */
+    @Benchmark
+    public void testCompiledKeyTemplate() {
+        KEY_TEMPLATE_1.render(Pair.of("where", "beach"), Pair.of("when", "afternoon"));
+        KEY_TEMPLATE_2.render(Pair.of("where", "beach"), Pair.of("when", "afternoon"));
+        KEY_TEMPLATE_1.render(KEY_ARGUMENTS);
+        KEY_TEMPLATE_1.render(KEY_ARGUMENTS::get);
+    }
+
+    /**
+     * Test method for {@link StringUtils#join(Iterable, String, Function)}
+     * (reference for {@link #testJoinParallel()}).
+     */
+    @Benchmark
+    public void testJoin() {
+        StringUtils.join(IDS, ",", null);
+    }
+
+    /**
+     * Test method for {@link StringUtils#joinParallel(java.util.Collection, String, Function)}.
+     */
+    @Benchmark
+    public void testJoinParallel() {
+        StringUtils.joinParallel(IDS, ",", null);
+    }
+
+    /**
+     * Test method for {@link StringUtils#joining(String, Function)}.
+     */
+    @Benchmark
+    public void testJoining() {
+        IDS.parallelStream().collect(StringUtils.joining(",", null));
+    }
+
+    /**
+     * Test method for {@link CompiledReplacer#replace(CharSequence)}.
+     */
+    @Benchmark
+    public void testCompiledReplacer() {
+        REPLACER.replace(PAYLOAD);
+    }
+
+    /**
+     * Test method for repeated {@link StringBuilder#indexOf(String)} and
+     * {@link StringBuilder#replace(int, int, String)} (reference for
+     * {@link #testCompiledReplacer()}).
+     */
+    @Benchmark
+    public void testReplaceLoop() {
+        final StringBuilder builder = new StringBuilder(PAYLOAD);
+        for (Map.Entry<String, String> entry : KEYWORDS.entrySet()) {
+            int pos = 0;
+            while ((pos = builder.indexOf(entry.getKey(), pos)) > -1) {
+                builder.replace(pos, pos + entry.getKey().length(), entry.getValue());
+                pos += entry.getValue().length();
+            }
+        }
+        builder.toString();
+    }
+
+    /**
+     * Test method for {@link StringUtils#substring(String, String, int, int)}.
+     */
+    @Benchmark
+    public void testSubstring() {
+        StringUtils.substring(RECORD, ";", 3);
+        StringUtils.substring(RECORD, ";", -2);
+        StringUtils.substring(RECORD, ";", 2, 5);
+        StringUtils.substring(RECORD, ";", 1, -1);
+    }
+
+    /**
+     * Test method for {@link StringUtils#concat(Object...)} and
+     * {@link StringUtils#concatLatin1(Object...)}.
+     */
+    @Benchmark
+    public void testConcat() {
+        StringUtils.concat("request ", 12_345L, " from ", "127.0.0.1", " took ", 12.5, " ms");
+        StringUtils.concat("I'll go to ", null, " beach this ", new StringBuilder("afternoon"));
+        StringUtils.concatLatin1("request ", 12_345L, " from ", "127.0.0.1", " took ", 12.5, " ms");
+    }
+
     /**
      * Test method for
      * {@link StringUtils#inject(java.lang.CharSequence, java.lang.Object[])}.
@@ -30,6 +30,7 @@ import samples.builder.Entity1;
 import samples.builder.Entity2;
 import samples.builder.Entity3;
 import samples.builder.Entity4;
+import samples.builder.Entity5;
 import samples.builder.EqualsProperty;
 
 /**
@@ -135,6 +136,35 @@ public class EqualsBuilderPerf {
         Objects.equals(e1, e2);
     }
 
+    /**
+     * Test method for {@link Equivalence}.
+     */
+    @Benchmark
+    public void testEquivalence() {
+        Entity5 e1 = new Entity5();
+        Entity5 e2 = new Entity5();
+
+        e1.setName("test");
+        e1.setValue(1);
+        e1.setDescription("desc");
+
+        e2.setName("text");
+        e2.setValue(1);
+        e2.setDescription("desc");
+
+        Objects.equals(e1, e2);
+
+        e2.setName("test");
+        e2.setValue(1);
+
+        Objects.equals(e1, e2);
+
+        e2.setName("test");
+        e2.setValue(2);
+
+        Objects.equals(e1, e2);
+    }
+
     /**
      * Test method for {@link EqualsProperty}.
      */
@@ -20,6 +20,8 @@
 package fr.landel.utils.commons.builder;
 
 import java.awt.Color;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -37,6 +39,10 @@ import org.openjdk.jmh.annotations.State;
 @State(Scope.Benchmark)
 public class ToStringBuilderPerf {
 
+	private static final ToStringDescriptor<Bean> DESCRIPTOR = ToStringBuilder.of(Bean.class);
+
+	private final Bean bean = new Bean();
+
 //    @Override
 //    protected double getExpectedMinNbOpsPerSeconds() {
 //        return 100_000d;
@@ -62,4 +68,62 @@ public class ToStringBuilderPerf {
 		builder.appendAndFormatIfPresent("optional", Optional.of("optional"), upper);
 		builder.build();
 	}
+
+	/**
+	 * Test method for {@link ToStringBuilder} (quoted JSON with containers).
+	 */
+	@Benchmark
+	public void testBuildJSONQuoted() {
+		final ToStringBuilder builder = new ToStringBuilder("test", ToStringStyles.JSON_QUOTED);
+		builder.append("id", 12);
+		builder.append("name", "a \"quoted\" name");
+		builder.append("list", Arrays.asList("a", "b", "c"));
+		builder.append("map", Collections.singletonMap("key", new Object[] {1, 2, 3}));
+		builder.appendIfNotNull("missing", null);
+		builder.build();
+	}
+
+	/**
+	 * Test method for {@link ToStringBuilder} (streamed JSON with containers).
+	 */
+	@Benchmark
+	public void testBuildJSONStreamed() {
+		final ToStringBuilder builder = new ToStringBuilder("test", ToStringStyles.JSON_STREAMED);
+		builder.append("id", 12);
+		builder.append("name", "a \"quoted\" name");
+		builder.append("list", Arrays.asList("a", "b", "c"));
+		builder.append("map", Collections.singletonMap("key", new Object[] {1, 2, 3}));
+		builder.appendIfNotNull("missing", null);
+		builder.build();
+	}
+
+	/**
+	 * Test method for {@link ToStringDescriptor#build(Object, ToStringStyles)}.
+	 */
+	@Benchmark
+	public void testDescriptor() {
+		DESCRIPTOR.build(this.bean, ToStringStyles.JSON);
+	}
+
+	/**
+	 * Test method for {@link ToStringBuilder} (handwritten equivalent of
+	 * {@link #testDescriptor()}).
+	 */
+	@Benchmark
+	public void testHandwritten() {
+		new ToStringBuilder(this.bean, ToStringStyles.JSON).append("id", this.bean.id).append("name", this.bean.name)
+				.append("ratio", this.bean.ratio).appendIfNotNull("comment", this.bean.comment).build();
+	}
+
+	private static class Bean {
+
+		@ToStringProperty
+		private final int id = 42;
+		@ToStringProperty
+		private final String name = "name";
+		@ToStringProperty
+		private final double ratio = 0.25;
+		@ToStringProperty(skipNull = true)
+		private final String comment = null;
+	}
 }
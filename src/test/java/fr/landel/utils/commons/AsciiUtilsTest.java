@@ -20,6 +20,7 @@
 package fr.landel.utils.commons;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.function.Function;
@@ -60,6 +61,15 @@ public class AsciiUtilsTest extends AbstractTest {
             assertEquals(alphaUC.chars().anyMatch(p.apply(i)), AsciiUtils.IS_ALPHA_UC.test(i));
             assertEquals(alpha.chars().anyMatch(p.apply(i)), AsciiUtils.IS_ALPHA.test(i));
             assertEquals(alphanumeric.chars().anyMatch(p.apply(i)), AsciiUtils.IS_ALPHANUMERIC.test(i));
+            assertEquals(i >= ' ' && i < 127, AsciiUtils.IS_PRINTABLE.test(i));
         }
+
+        assertFalse(AsciiUtils.IS_NUMERIC.test(-1));
+        assertFalse(AsciiUtils.IS_ALPHANUMERIC.test('a' + Character.MAX_VALUE + 1));
+
+        // the supplementary code points are kept by the negation
+        assertTrue(AsciiUtils.IS_NUMERIC.negate().test(0x1F600));
+        assertTrue(AsciiUtils.IS_NUMERIC.negate().test(-1));
+        assertEquals("\ud83d\ude00-", new String("1\ud83d\ude00-2".codePoints().filter(AsciiUtils.IS_NUMERIC.negate()).toArray(), 0, 2));
     }
 }
@@ -0,0 +1,164 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Check {@link Base32Utils}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class Base32UtilsTest extends AbstractTest {
+
+    private static final String ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+
+    /**
+     * Test constructor for {@link Base32Utils} .
+     */
+    @Test
+    public void testConstructors() {
+        assertTrue(checkPrivateConstructor(Base32Utils.class));
+    }
+
+    /**
+     * Test method for {@link Base32Utils#encode(byte[], int, int)}, compared
+     * to a bit by bit encoding.
+     */
+    @Test
+    public void testEncode() {
+        final Random random = new Random(37);
+        for (int i = 0; i < 500; ++i) {
+            final byte[] bytes = new byte[random.nextInt(100)];
+            random.nextBytes(bytes);
+            final String expected = encodeBits(bytes);
+
+            assertEquals(expected, Base32Utils.encode(bytes));
+            assertEquals(expected.length(), Base32Utils.encodedLength(bytes.length));
+            assertArrayEquals(bytes, Base32Utils.decode(expected));
+            assertArrayEquals(bytes, Base32Utils.decode(expected.toLowerCase()));
+        }
+
+        assertEquals("28T5C", Base32Utils.encode(new byte[] {0x12, 0x34, 0x56}));
+        assertEquals("ZZZZZZZZ", Base32Utils.encode(new byte[] {-1, -1, -1, -1, -1}));
+        assertEquals("", Base32Utils.encode(new byte[0]));
+        final char[] chars = new char[6];
+        Arrays.fill(chars, '.');
+        assertEquals(4, Base32Utils.encode(new byte[] {0, 0x12, 0x34}, 1, 2, chars, 1));
+        assertEquals(".28T0.", new String(chars));
+
+        assertException(() -> Base32Utils.encode((byte[]) null), NullPointerException.class);
+        assertException(() -> Base32Utils.encode(new byte[2], 1, 2), IndexOutOfBoundsException.class);
+        assertException(() -> Base32Utils.encodedLength(-1), IllegalArgumentException.class);
+    }
+
+    /**
+     * Test method for {@link Base32Utils#encode(ByteBuffer)} and
+     * {@link Base32Utils#encodeTo(Appendable, byte[], int, int)}.
+     * 
+     * @throws IOException
+     *             on write failure
+     */
+    @Test
+    public void testEncodeTo() throws IOException {
+        final byte[] bytes = new byte[5_003];
+        new Random(41).nextBytes(bytes);
+        final String expected = encodeBits(bytes);
+
+        assertEquals(expected, Base32Utils.encodeTo(new StringWriter(), bytes, 0, bytes.length).toString());
+        assertEquals(expected.substring(0, 8), Base32Utils.encodeTo(new StringBuilder(), bytes, 0, 5).toString());
+
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+        direct.flip();
+        assertEquals(expected, Base32Utils.encode(direct));
+        assertFalse(direct.hasRemaining());
+        assertEquals(expected, Base32Utils.encode(ByteBuffer.wrap(bytes)));
+    }
+
+    /**
+     * Test method for {@link Base32Utils#decode(CharSequence)},
+     * {@link Base32Utils#decode(CharSequence, int, int, byte[], int)} and
+     * {@link Base32Utils#decode(CharSequence, ByteBuffer)}.
+     */
+    @Test
+    public void testDecode() {
+        final byte[] expected = {0x12, 0x34, 0x56};
+        assertArrayEquals(expected, Base32Utils.decode("28T5C"));
+        assertArrayEquals(expected, Base32Utils.decode("28t5c"));
+        assertArrayEquals(expected, Base32Utils.decode("28-T5-C"));
+        assertArrayEquals(Base32Utils.decode("0011"), Base32Utils.decode("oOiL"));
+        assertArrayEquals(new byte[0], Base32Utils.decode("--"));
+
+        final byte[] target = new byte[5];
+        assertEquals(3, Base32Utils.decode("xx28T5Cxx", 2, 7, target, 1));
+        assertArrayEquals(new byte[] {0, 0x12, 0x34, 0x56, 0}, target);
+        assertEquals(3, Base32Utils.decodedLength("xx28T5Cxx", 2, 7));
+
+        assertException(() -> Base32Utils.decode("28U5C"), IllegalArgumentException.class, "Invalid Base32 character at index 2");
+        assertException(() -> Base32Utils.decode("28T"), IllegalArgumentException.class, "Invalid Base32 length");
+        assertException(() -> Base32Utils.decode("2"), IllegalArgumentException.class, "Invalid Base32 length");
+        assertException(() -> Base32Utils.decode("28é"), IllegalArgumentException.class);
+        assertException(() -> Base32Utils.decode("28T5C", 0, 5, target, 3), IndexOutOfBoundsException.class);
+        assertException(() -> Base32Utils.decode(null), NullPointerException.class);
+
+        final byte[] bytes = new byte[5_003];
+        new Random(43).nextBytes(bytes);
+        final String encoded = encodeBits(bytes).replaceAll("(.{7})", "$1-");
+        for (ByteBuffer buffer : Arrays.asList(ByteBuffer.allocate(bytes.length + 1), ByteBuffer.allocateDirect(bytes.length + 1))) {
+            buffer.position(1);
+            assertEquals(bytes.length, Base32Utils.decode(encoded, buffer));
+            assertFalse(buffer.hasRemaining());
+            buffer.position(1);
+            assertEquals(ByteBuffer.wrap(bytes), buffer);
+
+            buffer.position(2);
+            assertException(() -> Base32Utils.decode(encoded, buffer), BufferOverflowException.class);
+        }
+    }
+
+    private static String encodeBits(final byte[] bytes) {
+        final StringBuilder bits = new StringBuilder();
+        for (byte b : bytes) {
+            bits.append(String.format("%8s", Integer.toBinaryString(b & 0xFF)).replace(' ', '0'));
+        }
+        while (bits.length() % 5 != 0) {
+            bits.append('0');
+        }
+        final StringBuilder chars = new StringBuilder();
+        for (int i = 0; i < bits.length(); i += 5) {
+            chars.append(ALPHABET.charAt(Integer.parseInt(bits.substring(i, i + 5), 2)));
+        }
+        return chars.toString();
+    }
+}
@@ -0,0 +1,169 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Check {@link Base64Utils}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class Base64UtilsTest extends AbstractTest {
+
+    /**
+     * Test constructor for {@link Base64Utils} .
+     */
+    @Test
+    public void testConstructors() {
+        assertTrue(checkPrivateConstructor(Base64Utils.class));
+    }
+
+    /**
+     * Test method for {@link Base64Utils#encode(byte[], int, int, boolean)},
+     * compared to {@link Base64#getUrlEncoder()}.
+     */
+    @Test
+    public void testEncode() {
+        final Random random = new Random(23);
+        for (int i = 0; i < 500; ++i) {
+            final byte[] bytes = new byte[random.nextInt(100)];
+            random.nextBytes(bytes);
+            final String padded = Base64.getUrlEncoder().encodeToString(bytes);
+            final String unpadded = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+            assertEquals(unpadded, Base64Utils.encode(bytes));
+            assertEquals(padded, Base64Utils.encode(bytes, 0, bytes.length, true));
+            assertEquals(padded.length(), Base64Utils.encodedLength(bytes.length, true));
+            assertEquals(unpadded.length(), Base64Utils.encodedLength(bytes.length, false));
+
+            final byte[] ascii = new byte[padded.length() + 2];
+            assertEquals(padded.length(), Base64Utils.encode(bytes, 0, bytes.length, ascii, 1, true));
+            assertEquals(padded, new String(ascii, 1, padded.length(), StandardCharsets.US_ASCII));
+
+            assertArrayEquals(bytes, Base64Utils.decode(padded));
+            assertArrayEquals(bytes, Base64Utils.decode(unpadded));
+            assertArrayEquals(bytes, Base64Utils.decode(new StringBuilder(padded)));
+            assertArrayEquals(bytes, Base64Utils.decode(new StringBuilder(unpadded)));
+            assertArrayEquals(bytes, Base64.getUrlDecoder().decode(unpadded));
+        }
+
+        final byte[] bytes = {(byte) 0xfb, (byte) 0xff, 1, 2};
+        assertEquals("-_8", Base64Utils.encode(bytes, 0, 2, false));
+        assertEquals("-_8=", Base64Utils.encode(bytes, 0, 2, true));
+        assertEquals("_w==", Base64Utils.encode(bytes, 1, 1, true));
+        final char[] chars = new char[6];
+        Arrays.fill(chars, '.');
+        assertEquals(4, Base64Utils.encode(bytes, 1, 3, chars, 1, false));
+        assertEquals("._wEC.", new String(chars));
+
+        assertException(() -> Base64Utils.encode(null), NullPointerException.class);
+        assertException(() -> Base64Utils.encode(bytes, 3, 2, false), IndexOutOfBoundsException.class);
+        assertException(() -> Base64Utils.encode(bytes, 0, 4, chars, 0, true), IndexOutOfBoundsException.class);
+        assertException(() -> Base64Utils.encodedLength(-1, true), IllegalArgumentException.class);
+        assertException(() -> Base64Utils.encodedLength(Integer.MAX_VALUE, true), IllegalArgumentException.class);
+    }
+
+    /**
+     * Test method for {@link Base64Utils#encode(ByteBuffer, boolean)} and
+     * {@link Base64Utils#encodeTo(Appendable, byte[], int, int, boolean)}.
+     * 
+     * @throws IOException
+     *             on write failure
+     */
+    @Test
+    public void testEncodeTo() throws IOException {
+        final byte[] bytes = new byte[5_000];
+        new Random(29).nextBytes(bytes);
+        final String expected = Base64.getUrlEncoder().encodeToString(bytes);
+
+        assertEquals(expected, Base64Utils.encodeTo(new StringWriter(), bytes, 0, bytes.length, true).toString());
+        final CharBuffer chars = CharBuffer.allocate(expected.length());
+        Base64Utils.encodeTo(chars, bytes, 0, bytes.length, true);
+        assertEquals(expected, chars.flip().toString());
+
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+        direct.flip();
+        assertEquals(expected, Base64Utils.encode(direct, true));
+        assertFalse(direct.hasRemaining());
+        assertEquals(expected.substring(0, expected.length() - 1), Base64Utils.encode(ByteBuffer.wrap(bytes), false));
+
+        assertException(() -> Base64Utils.encodeTo(null, bytes, 0, 1, false), NullPointerException.class);
+    }
+
+    /**
+     * Test method for {@link Base64Utils#decode(CharSequence)},
+     * {@link Base64Utils#decode(CharSequence, int, int, byte[], int)} and
+     * {@link Base64Utils#decode(CharSequence, ByteBuffer)}.
+     */
+    @Test
+    public void testDecode() {
+        assertArrayEquals(new byte[] {(byte) 0xfb, (byte) 0xff}, Base64Utils.decode("-_8"));
+        assertArrayEquals(new byte[] {(byte) 0xfb, (byte) 0xff}, Base64Utils.decode("-_8="));
+        assertArrayEquals(new byte[0], Base64Utils.decode(""));
+
+        final byte[] target = new byte[5];
+        assertEquals(2, Base64Utils.decode("xx-_8=xx", 2, 6, target, 1));
+        assertArrayEquals(new byte[] {0, (byte) 0xfb, (byte) 0xff, 0, 0}, target);
+        assertEquals(2, Base64Utils.decodedLength("xx-_8=xx", 2, 6));
+
+        assertException(() -> Base64Utils.decode("-_8+"), IllegalArgumentException.class, "Invalid Base64 character at index 3");
+        assertException(() -> Base64Utils.decode("AAAA/AAA"), IllegalArgumentException.class, "Invalid Base64 character at index 4");
+        assertException(() -> Base64Utils.decode(new StringBuilder("-_8+")), IllegalArgumentException.class,
+                "Invalid Base64 character at index 3");
+        assertException(() -> Base64Utils.decode("AAAAA"), IllegalArgumentException.class, "Invalid Base64 length");
+        assertException(() -> Base64Utils.decode("AA="), IllegalArgumentException.class);
+        assertException(() -> Base64Utils.decode("A==="), IllegalArgumentException.class);
+        assertException(() -> Base64Utils.decode("AAéA"), IllegalArgumentException.class);
+        assertException(() -> Base64Utils.decode("AAAA", 0, 4, target, 3), IndexOutOfBoundsException.class);
+        assertException(() -> Base64Utils.decode(null), NullPointerException.class);
+
+        final byte[] bytes = new byte[5_000];
+        new Random(31).nextBytes(bytes);
+        final String encoded = Base64Utils.encode(bytes);
+        for (ByteBuffer buffer : Arrays.asList(ByteBuffer.allocate(bytes.length + 1), ByteBuffer.allocateDirect(bytes.length + 1))) {
+            buffer.position(1);
+            assertEquals(bytes.length, Base64Utils.decode(encoded, buffer));
+            assertFalse(buffer.hasRemaining());
+            buffer.position(1);
+            assertEquals(ByteBuffer.wrap(bytes), buffer);
+
+            buffer.position(2);
+            assertException(() -> Base64Utils.decode(encoded, buffer), BufferOverflowException.class);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Check {@link ByteUtils}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class ByteUtilsTest extends AbstractTest {
+
+    private static final ByteOrder[] ORDERS = {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN};
+
+    /**
+     * Test constructor for {@link ByteUtils} .
+     */
+    @Test
+    public void testConstructors() {
+        assertTrue(checkPrivateConstructor(ByteUtils.class));
+    }
+
+    /**
+     * Test method for the single value codecs over byte arrays, compared to
+     * {@link ByteBuffer}.
+     */
+    @Test
+    public void testArrays() {
+        final Random random = new Random(17);
+        final byte[] bytes = new byte[11];
+        for (ByteOrder order : ORDERS) {
+            for (int i = 0; i < 1_000; ++i) {
+                random.nextBytes(bytes);
+                final ByteBuffer expected = ByteBuffer.wrap(bytes).order(order);
+                final int offset = random.nextInt(3);
+
+                assertEquals(expected.getShort(offset), ByteUtils.getShort(bytes, offset, order));
+                assertEquals(expected.getInt(offset), ByteUtils.getInt(bytes, offset, order));
+                assertEquals(expected.getLong(offset), ByteUtils.getLong(bytes, offset, order));
+                assertEquals(Float.floatToRawIntBits(expected.getFloat(offset)),
+                        Float.floatToRawIntBits(ByteUtils.getFloat(bytes, offset, order)));
+                assertEquals(Double.doubleToRawLongBits(expected.getDouble(offset)),
+                        Double.doubleToRawLongBits(ByteUtils.getDouble(bytes, offset, order)));
+
+                final byte[] actual = new byte[bytes.length];
+                final long value = random.nextLong();
+                expected.putShort(offset, (short) value);
+                assertEquals(offset + 2, ByteUtils.putShort(actual, offset, (short) value, order));
+                assertArrayEquals(Arrays.copyOfRange(bytes, offset, offset + 2), Arrays.copyOfRange(actual, offset, offset + 2));
+                expected.putInt(offset, (int) value);
+                assertEquals(offset + 4, ByteUtils.putInt(actual, offset, (int) value, order));
+                assertArrayEquals(Arrays.copyOfRange(bytes, offset, offset + 4), Arrays.copyOfRange(actual, offset, offset + 4));
+                expected.putLong(offset, value);
+                assertEquals(offset + 8, ByteUtils.putLong(actual, offset, value, order));
+                assertArrayEquals(Arrays.copyOfRange(bytes, offset, offset + 8), Arrays.copyOfRange(actual, offset, offset + 8));
+                expected.putFloat(offset, Float.intBitsToFloat((int) value));
+                assertEquals(offset + 4, ByteUtils.putFloat(actual, offset, Float.intBitsToFloat((int) value), order));
+                assertArrayEquals(Arrays.copyOfRange(bytes, offset, offset + 4), Arrays.copyOfRange(actual, offset, offset + 4));
+                expected.putDouble(offset, Double.longBitsToDouble(value));
+                assertEquals(offset + 8, ByteUtils.putDouble(actual, offset, Double.longBitsToDouble(value), order));
+                assertArrayEquals(Arrays.copyOfRange(bytes, offset, offset + 8), Arrays.copyOfRange(actual, offset, offset + 8));
+            }
+        }
+
+        assertArrayEquals(new byte[] {0, 0, 0x12, 0x34, 0x56, 0x78}, writeInt(0x12345678, 2, ByteOrder.BIG_ENDIAN));
+        assertArrayEquals(new byte[] {0, 0, 0x78, 0x56, 0x34, 0x12}, writeInt(0x12345678, 2, ByteOrder.LITTLE_ENDIAN));
+
+        final byte[] four = new byte[4];
+        assertException(() -> ByteUtils.getInt(four, 1, ByteOrder.BIG_ENDIAN), IndexOutOfBoundsException.class);
+        assertException(() -> ByteUtils.getShort(four, -1, ByteOrder.BIG_ENDIAN), IndexOutOfBoundsException.class);
+        assertException(() -> ByteUtils.putLong(four, 0, 1L, ByteOrder.BIG_ENDIAN), IndexOutOfBoundsException.class);
+        assertException(() -> ByteUtils.getInt(four, 0, null), NullPointerException.class);
+        assertException(() -> ByteUtils.getInt((byte[]) null, 0, ByteOrder.BIG_ENDIAN), NullPointerException.class);
+    }
+
+    /**
+     * Test method for the single value codecs over heap and direct buffers,
+     * whatever the buffer order.
+     */
+    @Test
+    public void testBuffers() {
+        for (ByteBuffer buffer : Arrays.asList(ByteBuffer.allocate(16), ByteBuffer.allocateDirect(16))) {
+            for (ByteOrder bufferOrder : ORDERS) {
+                buffer.order(bufferOrder);
+                for (ByteOrder order : ORDERS) {
+                    buffer.clear();
+                    assertEquals(3, ByteUtils.putShort(buffer, 1, (short) 0x1234, order));
+                    assertEquals(0x1234, ByteUtils.getShort(buffer, 1, order));
+                    assertEquals(7, ByteUtils.putInt(buffer, 3, 0x12345678, order));
+                    assertEquals(0x12345678, ByteUtils.getInt(buffer, 3, order));
+                    assertEquals(0x12345678, ByteUtils.getInt(ByteBuffer.wrap(writeInt(0x12345678, 3, order)), 3, order));
+                    assertEquals(15, ByteUtils.putLong(buffer, 7, 0x0102030405060708L, order));
+                    assertEquals(0x0102030405060708L, ByteUtils.getLong(buffer, 7, order));
+                    assertEquals(order == ByteOrder.BIG_ENDIAN ? 1 : 8, buffer.get(7));
+                    assertEquals(4, ByteUtils.putFloat(buffer, 0, 1.5f, order));
+                    assertEquals(1.5f, ByteUtils.getFloat(buffer, 0, order));
+                    assertEquals(8, ByteUtils.putDouble(buffer, 0, -2.25, order));
+                    assertEquals(-2.25, ByteUtils.getDouble(buffer, 0, order));
+
+                    assertEquals(0, buffer.position());
+                    assertEquals(bufferOrder, buffer.order());
+                }
+            }
+            assertException(() -> ByteUtils.getLong(buffer, 9, ByteOrder.BIG_ENDIAN), IndexOutOfBoundsException.class);
+            assertException(() -> ByteUtils.getInt(buffer, 0, null), NullPointerException.class);
+        }
+        assertException(() -> ByteUtils.putInt(ByteBuffer.allocate(4).asReadOnlyBuffer(), 0, 1, ByteOrder.BIG_ENDIAN),
+                ReadOnlyBufferException.class);
+    }
+
+    /**
+     * Test method for the bulk codecs.
+     */
+    @Test
+    public void testBulk() {
+        final Random random = new Random(19);
+        final byte[] bytes = new byte[8 * 100];
+        random.nextBytes(bytes);
+        for (ByteOrder order : ORDERS) {
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes).order(order);
+
+            final short[] shorts = ByteUtils.toShorts(bytes, order);
+            final int[] ints = ByteUtils.toInts(bytes, order);
+            final long[] longs = ByteUtils.toLongs(bytes, order);
+            final float[] floats = ByteUtils.toFloats(bytes, order);
+            final double[] doubles = ByteUtils.toDoubles(bytes, order);
+            assertEquals(400, shorts.length);
+            assertEquals(200, ints.length);
+            assertEquals(100, longs.length);
+            for (int i = 0; i < longs.length; ++i) {
+                assertEquals(buffer.getShort(i * 2), shorts[i]);
+                assertEquals(buffer.getInt(i * 4), ints[i]);
+                assertEquals(buffer.getLong(i * 8), longs[i]);
+                assertEquals(Float.floatToRawIntBits(buffer.getFloat(i * 4)), Float.floatToRawIntBits(floats[i]));
+                assertEquals(Double.doubleToRawLongBits(buffer.getDouble(i * 8)), Double.doubleToRawLongBits(doubles[i]));
+            }
+
+            assertArrayEquals(bytes, ByteUtils.toBytes(shorts, order));
+            assertArrayEquals(bytes, ByteUtils.toBytes(ints, order));
+            assertArrayEquals(bytes, ByteUtils.toBytes(longs, order));
+            assertArrayEquals(bytes, ByteUtils.toBytes(floats, order));
+            assertArrayEquals(bytes, ByteUtils.toBytes(doubles, order));
+
+            // ranges
+            final int[] target = new int[5];
+            assertEquals(4 + 12, ByteUtils.getInts(bytes, 4, target, 1, 3, order));
+            assertArrayEquals(new int[] {0, ints[1], ints[2], ints[3], 0}, target);
+            final byte[] written = new byte[20];
+            assertEquals(18, ByteUtils.putInts(ints, 1, 4, written, 2, order));
+            assertArrayEquals(Arrays.copyOfRange(bytes, 4, 20), Arrays.copyOfRange(written, 2, 18));
+        }
+
+        assertArrayEquals(new byte[] {1, 0, 0, 0, 2, 0, 0, 0}, ByteUtils.toBytes(new int[] {1, 2}, ByteOrder.LITTLE_ENDIAN));
+        assertArrayEquals(new long[0], ByteUtils.toLongs(new byte[0], ByteOrder.BIG_ENDIAN));
+
+        assertException(() -> ByteUtils.toInts(new byte[6], ByteOrder.BIG_ENDIAN), IllegalArgumentException.class,
+                "The number of bytes (6) must be a multiple of 4");
+        assertException(() -> ByteUtils.getInts(new byte[8], 4, new int[2], 0, 2, ByteOrder.BIG_ENDIAN),
+                IndexOutOfBoundsException.class);
+        assertException(() -> ByteUtils.getInts(new byte[8], 0, new int[2], 1, 2, ByteOrder.BIG_ENDIAN),
+                IndexOutOfBoundsException.class);
+        assertException(() -> ByteUtils.putLongs(new long[2], 1, 2, new byte[16], 0, ByteOrder.BIG_ENDIAN),
+                IndexOutOfBoundsException.class);
+        assertException(() -> ByteUtils.putLongs(new long[2], 0, Integer.MAX_VALUE, new byte[16], 0, ByteOrder.BIG_ENDIAN),
+                IndexOutOfBoundsException.class);
+        assertException(() -> ByteUtils.toBytes(new int[1], null), NullPointerException.class);
+    }
+
+    private static byte[] writeInt(final int value, final int offset, final ByteOrder order) {
+        final byte[] bytes = new byte[offset + 4];
+        ByteUtils.putInt(bytes, offset, value, order);
+        return bytes;
+    }
+}
@@ -0,0 +1,188 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Check {@link CharClass}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class CharClassTest extends AbstractTest {
+
+    /**
+     * Test method for the constants and the factories.
+     */
+    @Test
+    public void testContains() {
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; ++c) {
+            final char ch = (char) c;
+            assertEquals(c >= '0' && c <= '9', CharClass.DIGITS.contains(ch));
+            assertEquals(c >= 'a' && c <= 'z', CharClass.ALPHA_LC.contains(ch));
+            assertEquals(c >= 'A' && c <= 'Z', CharClass.ALPHA_UC.contains(ch));
+            assertEquals(Character.isLetter(c) && c < 128, CharClass.ALPHA.contains(ch));
+            assertEquals(Character.isLetterOrDigit(c) && c < 128, CharClass.ALPHANUMERIC.contains(ch));
+            assertEquals(c >= ' ' && c < 127, CharClass.PRINTABLE.contains(ch));
+            assertEquals(c < 128, CharClass.ASCII.contains(ch));
+            assertFalse(CharClass.NONE.contains(ch));
+            assertTrue(CharClass.ALL.contains(ch));
+        }
+
+        assertTrue(CharClass.DIGITS.test('5'));
+        assertFalse(CharClass.ALL.test(-1));
+        assertFalse(CharClass.ALL.test(Character.MAX_VALUE + 1));
+        assertTrue(CharClass.ALL.negate().test(0x1F600));
+        assertTrue(CharClass.ALL.negate().test(-1));
+        assertFalse(CharClass.ALL.negate().test('a'));
+        assertTrue(CharClass.DIGITS.negate().test('a'));
+
+        final CharClass chars = CharClass.of('a', '\u00e9', '\u4e2d', '\uffff');
+        assertTrue(chars.contains('\u00e9'));
+        assertTrue(chars.contains('\u4e2d'));
+        assertTrue(chars.contains('\uffff'));
+        assertFalse(chars.contains('b'));
+        assertFalse(chars.contains('\u4e2e'));
+        assertEquals(chars, CharClass.of("\uffff\u4e2da\u00e9"));
+        assertEquals(CharClass.range('0', '9'), CharClass.DIGITS);
+        assertEquals(CharClass.ALPHANUMERIC, CharClass.matching(Character::isLetterOrDigit).intersection(CharClass.ASCII));
+        assertEquals(CharClass.ALL, CharClass.range(Character.MIN_VALUE, Character.MAX_VALUE));
+        assertEquals(CharClass.NONE, CharClass.of());
+
+        assertException(() -> CharClass.range('b', 'a'), IllegalArgumentException.class);
+        assertException(() -> CharClass.of((char[]) null), NullPointerException.class);
+        assertException(() -> CharClass.of((CharSequence) null), NullPointerException.class);
+        assertException(() -> CharClass.matching(null), NullPointerException.class);
+    }
+
+    /**
+     * Test method for {@link CharClass#union(CharClass)},
+     * {@link CharClass#intersection(CharClass)} and {@link CharClass#complement()}.
+     */
+    @Test
+    public void testOperations() {
+        final CharClass hex = CharClass.DIGITS.union(CharClass.range('a', 'f'));
+        assertEquals(CharClass.of("0123456789abcdef"), hex);
+        assertEquals(CharClass.range('a', 'f'), hex.intersection(CharClass.ALPHA));
+        assertEquals(CharClass.NONE, hex.intersection(hex.complement()));
+        assertEquals(CharClass.ALL, hex.union(hex.complement()));
+        assertEquals(hex, hex.complement().complement());
+        assertEquals(CharClass.ALPHA, CharClass.ALPHA_LC.union(CharClass.ALPHA_UC));
+        assertEquals(CharClass.ALL, CharClass.NONE.complement());
+        assertFalse(hex.complement().contains('a'));
+        assertTrue(hex.complement().contains('\u4e2d'));
+
+        assertEquals(hex.hashCode(), CharClass.of("fedcba9876543210").hashCode());
+        assertNotEquals(hex, CharClass.DIGITS);
+        assertNotEquals(hex, "hex");
+
+        assertEquals("[0-9a-f]", hex.toString());
+        assertEquals("[]", CharClass.NONE.toString());
+        assertEquals("[\\u0000-\\uffff]", CharClass.ALL.toString());
+        assertEquals("[\\-\\\\-\\^\\u00e9]", CharClass.of("-\\]^\u00e9").toString());
+
+        assertException(() -> hex.union(null), NullPointerException.class);
+        assertException(() -> hex.intersection(null), NullPointerException.class);
+    }
+
+    /**
+     * Test method for the bulk operations, compared to a char by char check
+     * (the byte arrays of 16 bytes and more are checked word by word).
+     */
+    @Test
+    public void testBulk() {
+        final String alphabet = "0123456789abcdefXYZ -_\u00e9\u00ff\u4e2d";
+        final List<CharClass> classes = Arrays.asList(CharClass.DIGITS, CharClass.ALPHANUMERIC, CharClass.PRINTABLE, CharClass.ASCII,
+                CharClass.ALL, CharClass.NONE, CharClass.DIGITS.complement(), CharClass.of("02468acegikmoqsuwy\u00e9"), CharClass.of("\u00ff"));
+        final Random random = new Random(59);
+
+        for (int n = 0; n < 2_000; ++n) {
+            final CharClass charClass = classes.get(random.nextInt(classes.size()));
+            // mostly long runs in the class, to reach the words
+            final char[] chars = new char[random.nextInt(64)];
+            for (int i = 0; i < chars.length; ++i) {
+                char c = alphabet.charAt(random.nextInt(alphabet.length()));
+                while (random.nextInt(8) > 0 && !charClass.contains(c) && charClass != CharClass.NONE) {
+                    c = alphabet.charAt(random.nextInt(alphabet.length()));
+                }
+                chars[i] = c;
+            }
+            final String string = new String(chars);
+            final byte[] bytes = new String(chars).replace('\u4e2d', '?').getBytes(StandardCharsets.ISO_8859_1);
+            final int offset = chars.length > 0 ? random.nextInt(chars.length) : 0;
+            final int length = chars.length - offset;
+
+            int expectedIndex = -1;
+            int expectedCount = 0;
+            int expectedByteIndex = -1;
+            int expectedByteCount = 0;
+            for (int i = offset; i < chars.length; ++i) {
+                if (charClass.contains(chars[i])) {
+                    ++expectedCount;
+                } else if (expectedIndex < 0) {
+                    expectedIndex = i;
+                }
+                if (charClass.contains((char) (bytes[i] & 0xFF))) {
+                    ++expectedByteCount;
+                } else if (expectedByteIndex < 0) {
+                    expectedByteIndex = i;
+                }
+            }
+
+            assertEquals(expectedIndex, charClass.indexOfFirstNotIn(string, offset, chars.length));
+            assertEquals(expectedIndex, charClass.indexOfFirstNotIn(chars, offset, length));
+            assertEquals(expectedByteIndex, charClass.indexOfFirstNotIn(bytes, offset, length));
+            assertEquals(expectedCount, charClass.countIn(string, offset, chars.length));
+            assertEquals(expectedCount, charClass.countIn(chars, offset, length));
+            assertEquals(expectedByteCount, charClass.countIn(bytes, offset, length));
+            assertEquals(expectedIndex < 0, charClass.allIn(string, offset, chars.length));
+            assertEquals(expectedIndex < 0, charClass.allIn(chars, offset, length));
+            assertEquals(expectedByteIndex < 0, charClass.allIn(bytes, offset, length));
+        }
+
+        assertEquals(4, CharClass.DIGITS.indexOfFirstNotIn("1234.5"));
+        assertEquals(-1, CharClass.DIGITS.indexOfFirstNotIn(new StringBuilder("12345")));
+        assertEquals(5, CharClass.DIGITS.countIn("1a2b3c4d5"));
+        assertTrue(CharClass.DIGITS.allIn(""));
+        assertFalse(CharClass.DIGITS.allIn("12345678901234567890x"));
+        final byte[] digits = "12345678901234567890123x".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(23, CharClass.DIGITS.indexOfFirstNotIn(digits, 0, digits.length));
+        assertEquals(-1, CharClass.DIGITS.indexOfFirstNotIn(digits, 0, 23));
+        assertEquals(23, CharClass.DIGITS.countIn(digits, 0, digits.length));
+        assertTrue(CharClass.DIGITS.allIn(digits, 1, 22));
+
+        assertException(() -> CharClass.DIGITS.indexOfFirstNotIn("123", 2, 4), IndexOutOfBoundsException.class);
+        assertException(() -> CharClass.DIGITS.countIn(new char[2], 3, 0), IndexOutOfBoundsException.class);
+        assertException(() -> CharClass.DIGITS.allIn(digits, -1, 2), IndexOutOfBoundsException.class);
+        assertException(() -> CharClass.DIGITS.indexOfFirstNotIn((CharSequence) null), NullPointerException.class);
+    }
+}
@@ -0,0 +1,249 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Check {@link CompiledKeyTemplate}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class CompiledKeyTemplateTest extends AbstractTest {
+
+    /**
+     * Test method for {@link CompiledKeyTemplate#compile(Pair, Pair, CharSequence)}.
+     */
+    @Test
+    public void testCompile() {
+        final CompiledKeyTemplate template = CompiledKeyTemplate.compile("I'll go to the {where} this {when}");
+
+        assertEquals("I'll go to the {where} this {when}", template.getPattern());
+        assertEquals("I'll go to the {where} this {when}", template.toString());
+        assertSame(template, CompiledKeyTemplate.compile(StringUtils.INCLUDE_CURLY_BRACES,
+                StringUtils.EXCLUDE_CURLY_BRACES, new StringBuilder("I'll go to the {where} this {when}")));
+        assertNotSame(template, CompiledKeyTemplate.compile(StringUtils.INCLUDE_DOLLAR_CURLY_BRACES,
+                StringUtils.EXCLUDE_DOLLAR_CURLY_BRACES, "I'll go to the {where} this {when}"));
+
+        assertException(() -> CompiledKeyTemplate.compile(null), IllegalArgumentException.class,
+                "The input char sequence cannot be null");
+        assertException(() -> CompiledKeyTemplate.compile(null, StringUtils.EXCLUDE_CURLY_BRACES, "test"),
+                IllegalArgumentException.class, "The include and exclude parameters cannot be null");
+        assertException(() -> CompiledKeyTemplate.compile(Pair.of("{", null), StringUtils.EXCLUDE_CURLY_BRACES, "test"),
+                IllegalArgumentException.class, "The include and exclude values cannot be null");
+        assertException(() -> CompiledKeyTemplate.compile(Pair.of("{", "}"), Pair.of("{", "}}"), "test"),
+                IllegalArgumentException.class, "The exclude values cannot be equal to include operators");
+        assertException(() -> CompiledKeyTemplate.compile(Pair.of("{", "}"), Pair.of("[[", "]]"), "test"),
+                IllegalArgumentException.class, "The exclude values must contain include operators");
+    }
+
+    /**
+     * Test method for {@link CompiledKeyTemplate#render(Map.Entry...)}.
+     */
+    @Test
+    public void testRenderEntries() {
+        final CompiledKeyTemplate template = CompiledKeyTemplate.compile("{key1} {key0} {key2} {key1} {{key1}}");
+
+        assertEquals("test1 {key0} test2 test1 {key1}",
+                template.render(Pair.of("key1", "test1"), Pair.of("key2", "test2")));
+        assertEquals("test1 {key0} {key2} test1 {key1}", template.render(Pair.of("key1", "test1"), null));
+        assertEquals("first {key0} {key2} first {key1}",
+                template.render(Pair.of("key1", "first"), Pair.of("key1", "second")));
+        assertEquals("{key1} {key0} {key2} {key1} {{key1}}", template.render());
+        assertEquals("{key1} {key0} {key2} {key1} {{key1}}", template.render((Pair<String, Object>[]) null));
+
+        assertEquals("Test null", CompiledKeyTemplate.compile("Test {null}").render(Pair.of(null, null)));
+    }
+
+    /**
+     * Test method for {@link CompiledKeyTemplate#render(Map)}.
+     */
+    @Test
+    public void testRenderMap() {
+        final CompiledKeyTemplate template = CompiledKeyTemplate.compile(StringUtils.INCLUDE_DOLLAR_CURLY_BRACES,
+                StringUtils.EXCLUDE_DOLLAR_CURLY_BRACES, "${key1} ${key0} ${key2} ${key1} ${{key1}} ${{key1} ${key1}}");
+
+        assertEquals("test1 ${key0} test2 test1 ${key1} ${{key1} test1}",
+                template.render(MapUtils2.newHashMap(Pair.of("key1", "test1"), Pair.of("key2", "test2"))));
+        assertEquals("null ${key0} ${key2} null ${key1} ${{key1} null}",
+                template.render(Collections.singletonMap("key1", null)));
+        assertEquals(template.getPattern(), template.render(Collections.emptyMap()));
+        assertEquals(template.getPattern(), template.render((Map<String, Object>) null));
+
+        final CompiledKeyTemplate nullKey = CompiledKeyTemplate.compile("Test {null}");
+        assertEquals("Test test", nullKey.render(Collections.singletonMap(null, "test")));
+        assertEquals("Test {null}", nullKey.render(new ConcurrentHashMap<>(Collections.singletonMap("key", "test"))));
+
+        // keys compared by their string representation (like the entries)
+        final CompiledKeyTemplate numbers = CompiledKeyTemplate.compile("{1} {2} {x}");
+        final Map<Integer, String> integers = MapUtils2.newHashMap(Pair.of(1, "one"), Pair.of(3, "three"));
+        assertEquals("one {2} {x}", numbers.render(integers));
+        assertEquals(numbers.renderEntries(Pair.of(1, "one"), Pair.of(3, "three")), numbers.render(integers));
+        assertEquals("one {2} {x}", numbers.render(new TreeMap<>(integers)));
+        final Map<String, String> identity = new IdentityHashMap<>();
+        identity.put(new String("x"), "X");
+        assertEquals("{1} {2} X", numbers.render(identity));
+
+        // the string-key index is built once per render, on the first miss
+        final AtomicInteger scans = new AtomicInteger();
+        final Map<Object, String> counting = new HashMap<Object, String>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public Set<Map.Entry<Object, String>> entrySet() {
+                scans.incrementAndGet();
+                return super.entrySet();
+            }
+        };
+        counting.put(1, "one");
+        counting.put("x", "X");
+        assertEquals("one {2} X {2} one {3}", CompiledKeyTemplate.compile("{1} {2} {x} {2} {1} {3}").render(counting));
+        assertEquals(1, scans.get());
+        assertEquals("X", CompiledKeyTemplate.compile("{x}").render(counting));
+        assertEquals(1, scans.get());
+
+        final Properties properties = new Properties();
+        properties.setProperty("where", "beach");
+        properties.setProperty("when", "afternoon");
+        assertEquals("I'll go to beach{where}beach {null}",
+                CompiledKeyTemplate.compile("I'll go to {where}{{where}}{where} {null}").render(properties));
+    }
+
+    /**
+     * Test method for {@link CompiledKeyTemplate#render(Function)}.
+     */
+    @Test
+    public void testRenderFunction() {
+        final CompiledKeyTemplate template = CompiledKeyTemplate.compile("I'll go to the {where} this {when} {{when}}");
+
+        assertEquals("I'll go to the WHERE this WHEN {when}", template.render(StringUtils::upperCase));
+        assertEquals("I'll go to the {where} this WHEN {when}",
+                template.render(key -> "when".equals(key) ? "WHEN" : null));
+
+        assertEquals("{a {b}} {b", CompiledKeyTemplate.compile("{a {b}} {b").render(key -> null));
+        assertEquals("{a B} {b", CompiledKeyTemplate.compile("{a {b}} {b").render(StringUtils::upperCase));
+
+        assertThrows(NullPointerException.class, () -> template.render((Function<String, Object>) null));
+    }
+
+    /**
+     * Test method for {@link CompiledKeyTemplate#renderTo(Appendable, Map)}.
+     * 
+     * @throws IOException
+     *             on error
+     */
+    @Test
+    public void testRenderTo() throws IOException {
+        final CompiledKeyTemplate template = CompiledKeyTemplate.compile("{key1} {key0} {key2} {key1} {{key1}}");
+        final Map<String, String> map = MapUtils2.newHashMap(Pair.of("key1", "test1"), Pair.of("key2", "test2"));
+
+        assertEquals(">test1 {key0} test2 test1 {key1}", template.renderTo(new StringBuilder(">"), map).toString());
+        assertEquals("test1 {key0} test2 test1 {key1}", template.renderTo(new StringWriter(), map).toString());
+        assertEquals("test1 {key0} test2 test1 {key1}",
+                template.renderTo(new StringWriter(), Pair.of("key1", "test1"), Pair.of("key2", "test2")).toString());
+        assertEquals("TEST1 TEST0 TEST2 TEST1 {key1}",
+                template.renderTo(new StringWriter(), key -> key.replace("key", "TEST")).toString());
+
+        assertThrows(NullPointerException.class, () -> template.renderTo((StringWriter) null, map));
+    }
+
+    /**
+     * Test method for
+     * {@link CompiledKeyTemplate#stream(Pair, Pair, java.io.Reader, Appendable, int, Map)}.
+     * 
+     * @throws IOException
+     *             on error
+     */
+    @Test
+    public void testStream() throws IOException {
+        final String pattern = "${key1} ${key0} ${key2} ${key1} ${{key1}} ${{key1} ${key1}} $${key2}";
+        final Map<String, String> map = MapUtils2.newHashMap(Pair.of("key1", "test1"), Pair.of("key2", "test2"));
+        final String expected = CompiledKeyTemplate
+                .compile(StringUtils.INCLUDE_DOLLAR_CURLY_BRACES, StringUtils.EXCLUDE_DOLLAR_CURLY_BRACES, pattern)
+                .render(map);
+
+        // chunks must keep place for the delimiters and the longest key
+        for (int chunkSize = 12; chunkSize <= pattern.length() + 1; ++chunkSize) {
+            assertEquals(expected,
+                    CompiledKeyTemplate.stream(StringUtils.INCLUDE_DOLLAR_CURLY_BRACES,
+                            StringUtils.EXCLUDE_DOLLAR_CURLY_BRACES, new StringReader(pattern), new StringWriter(),
+                            chunkSize, map).toString());
+            assertEquals(expected.replace("test", "TEST"),
+                    CompiledKeyTemplate.stream(StringUtils.INCLUDE_DOLLAR_CURLY_BRACES,
+                            StringUtils.EXCLUDE_DOLLAR_CURLY_BRACES, new StringReader(pattern), new StringWriter(),
+                            chunkSize, key -> map.containsKey(key) ? key.replace("key", "TEST") : null).toString());
+        }
+
+        // key longer than the chunk allows, kept as is
+        assertEquals("{key1234567} test1",
+                CompiledKeyTemplate.stream(StringUtils.INCLUDE_CURLY_BRACES, StringUtils.EXCLUDE_CURLY_BRACES,
+                        new StringReader("{key1234567} {key1}"), new StringBuilder(), 9,
+                        MapUtils2.newHashMap(Pair.of("key1", "test1"), Pair.of("key1234567", "long"))).toString());
+
+        // keys of the maximum length (chunk size - 2 * longest delimiter), at
+        // the minimum chunk size and at any position in the chunk
+        final Map<String, String> keys = MapUtils2.newHashMap(Pair.of("a", "A"), Pair.of("ab", "AB"), Pair.of("abc", "ABC"));
+        for (String prefix : Arrays.asList("", "x", "xy", "xyz", "}", "{", "$")) {
+            assertEquals(prefix + "A {a} A", CompiledKeyTemplate.stream(StringUtils.INCLUDE_CURLY_BRACES,
+                    StringUtils.EXCLUDE_CURLY_BRACES, new StringReader(prefix + "{a} {{a}} {a}"), new StringBuilder(), 5, keys)
+                    .toString());
+
+            final String dollars = prefix + "${abc} ${{abc}} ${abcd} ${ab}";
+            final String expectedDollars = CompiledKeyTemplate
+                    .compile(StringUtils.INCLUDE_DOLLAR_CURLY_BRACES, StringUtils.EXCLUDE_DOLLAR_CURLY_BRACES, dollars).render(keys);
+            assertEquals(prefix + "ABC ${abc} ${abcd} AB", expectedDollars);
+            assertEquals(expectedDollars, CompiledKeyTemplate.stream(StringUtils.INCLUDE_DOLLAR_CURLY_BRACES,
+                    StringUtils.EXCLUDE_DOLLAR_CURLY_BRACES, new StringReader(dollars), new StringBuilder(), 9, keys).toString());
+        }
+        assertThrows(IllegalArgumentException.class, () -> CompiledKeyTemplate.stream(StringUtils.INCLUDE_CURLY_BRACES,
+                StringUtils.EXCLUDE_CURLY_BRACES, new StringReader(pattern), new StringBuilder(), 4, map));
+
+        assertThrows(NullPointerException.class, () -> CompiledKeyTemplate.stream(StringUtils.INCLUDE_CURLY_BRACES,
+                StringUtils.EXCLUDE_CURLY_BRACES, null, new StringBuilder(), 10, map));
+        assertThrows(NullPointerException.class, () -> CompiledKeyTemplate.stream(StringUtils.INCLUDE_CURLY_BRACES,
+                StringUtils.EXCLUDE_CURLY_BRACES, new StringReader(pattern), new StringBuilder(), 10,
+                (Function<String, Object>) null));
+        assertThrows(IllegalArgumentException.class, () -> CompiledKeyTemplate.stream(StringUtils.INCLUDE_CURLY_BRACES,
+                StringUtils.EXCLUDE_CURLY_BRACES, new StringReader(pattern), new StringBuilder(), 4, map));
+    }
+}
@@ -0,0 +1,174 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Check {@link CompiledReplacer}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class CompiledReplacerTest extends AbstractTest {
+
+    /**
+     * Test method for {@link CompiledReplacer#replace(CharSequence)}.
+     */
+    @Test
+    public void testReplace() {
+        final CompiledReplacer replacer = CompiledReplacer
+                .compile(MapUtils2.newHashMap(Pair.of("password", "***"), Pair.of("pass", "*"), Pair.of("word", "w")));
+
+        assertEquals(3, replacer.size());
+        assertEquals("*=1, ***=2, w", replacer.replace("pass=1, password=2, word"));
+        assertEquals("***w", replacer.replace(new StringBuilder("passwordword")));
+        assertEquals("*wor", replacer.replace("passwor"));
+        assertEquals("nothing", replacer.replace("nothing"));
+        assertEquals("", replacer.replace(""));
+        assertNull(replacer.replace(null));
+
+        // leftmost wins over longest
+        final CompiledReplacer leftmost = CompiledReplacer
+                .compile(MapUtils2.newHashMap(Pair.of("bcd", "1"), Pair.of("abcde", "2"), Pair.of("cdefgh", "3")));
+        assertEquals("2", leftmost.replace("abcde"));
+        assertEquals("x1efg", leftmost.replace("xbcdefg"));
+        assertEquals("x3", leftmost.replace("xcdefgh"));
+
+        // replacements are not re-scanned
+        final Map<String, String> swap = new HashMap<>();
+        swap.put("a", "b");
+        swap.put("b", "a");
+        assertEquals("baab", CompiledReplacer.compile(swap).replace("abba"));
+
+        assertEquals("\u00e9t\u00e9", CompiledReplacer.compile(Collections.singletonMap("e", "\u00e9")).replace("et\u00e9"));
+        assertEquals("text", CompiledReplacer.compile(Collections.emptyMap()).replace("text"));
+    }
+
+    /**
+     * Test method for {@link CompiledReplacer#replace(CharSequence)} (long
+     * shared prefix, each char is read once, and random dictionaries compared
+     * to a naive leftmost-longest search).
+     */
+    @Test
+    public void testReplaceSharedPrefix() {
+        final String prefix = StringUtils.repeat('a', 1_000);
+        final CompiledReplacer replacer = CompiledReplacer.compile(MapUtils2.newHashMap(Pair.of("a", "x"), Pair.of(prefix + "b", "y")));
+
+        assertEquals(StringUtils.repeat('x', 200_000), replacer.replace(StringUtils.repeat('a', 200_000)));
+        assertEquals("xxy", replacer.replace("aa" + prefix + "b"));
+        assertEquals("xbx", replacer.replace("aba"));
+
+        final Random random = new Random(13);
+        for (int n = 0; n < 1_000; ++n) {
+            final Map<String, String> dictionary = new HashMap<>();
+            for (int i = random.nextInt(5); i >= 0; --i) {
+                dictionary.put(randomText(random, 1 + random.nextInt(4)), String.valueOf(i));
+            }
+            final String input = randomText(random, random.nextInt(30));
+
+            final StringBuilder expected = new StringBuilder();
+            for (int pos = 0; pos < input.length();) {
+                String longest = null;
+                for (String literal : dictionary.keySet()) {
+                    if (input.startsWith(literal, pos) && (longest == null || literal.length() > longest.length())) {
+                        longest = literal;
+                    }
+                }
+                if (longest != null) {
+                    expected.append(dictionary.get(longest));
+                    pos += longest.length();
+                } else {
+                    expected.append(input.charAt(pos++));
+                }
+            }
+            assertEquals(expected.toString(), CompiledReplacer.compile(dictionary).replace(input), dictionary + " / " + input);
+        }
+    }
+
+    private static String randomText(final Random random, final int length) {
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; ++i) {
+            chars[i] = (char) ('a' + random.nextInt(3));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Test method for {@link CompiledReplacer#replaceTo(Appendable, CharSequence)}.
+     * 
+     * @throws IOException
+     *             on write failure
+     */
+    @Test
+    public void testReplaceTo() throws IOException {
+        final CompiledReplacer replacer = CompiledReplacer.compile(Collections.singletonMap("secret", "[redacted]"));
+
+        final StringWriter writer = new StringWriter();
+        assertSame(writer, replacer.replaceTo(writer, "my secret is secret!"));
+        assertEquals("my [redacted] is [redacted]!", writer.toString());
+
+        assertEquals("> none", replacer.replaceTo(new StringBuilder("> "), "none").toString());
+
+        assertThrows(NullPointerException.class, () -> replacer.replaceTo(null, "text"));
+        assertThrows(NullPointerException.class, () -> replacer.replaceTo(writer, null));
+    }
+
+    /**
+     * Test method for {@link CompiledReplacer#compile(Map)}.
+     */
+    @Test
+    public void testCompile() {
+        final Map<String, String> dictionary = new HashMap<>();
+        dictionary.put("", "empty");
+        assertThrows(IllegalArgumentException.class, () -> CompiledReplacer.compile(dictionary));
+
+        dictionary.clear();
+        dictionary.put("key", null);
+        assertThrows(NullPointerException.class, () -> CompiledReplacer.compile(dictionary));
+
+        dictionary.clear();
+        dictionary.put(null, "value");
+        assertThrows(NullPointerException.class, () -> CompiledReplacer.compile(dictionary));
+
+        assertThrows(NullPointerException.class, () -> CompiledReplacer.compile(null));
+
+        // wide dictionary (binary search in the nodes)
+        final Map<String, String> wide = new HashMap<>();
+        for (char c = 'a'; c <= 'z'; ++c) {
+            wide.put("k" + c, String.valueOf(Character.toUpperCase(c)));
+        }
+        assertEquals("A-Z-M-k", CompiledReplacer.compile(wide).replace("ka-kz-km-k"));
+    }
+}
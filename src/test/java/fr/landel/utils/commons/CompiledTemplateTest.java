@@ -0,0 +1,141 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Check {@link CompiledTemplate}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class CompiledTemplateTest extends AbstractTest {
+
+    /**
+     * Test method for {@link CompiledTemplate#compile(CharSequence)}.
+     */
+    @Test
+    public void testCompile() {
+        final CompiledTemplate template = CompiledTemplate.compile("I'll go to the {1} this {}");
+
+        assertEquals("I'll go to the {1} this {}", template.getPattern());
+        assertEquals("I'll go to the {1} this {}", template.toString());
+        assertEquals(2, template.getArgumentsCount());
+        assertSame(template, CompiledTemplate.compile(new StringBuilder("I'll go to the {1} this {}")));
+
+        assertEquals(0, CompiledTemplate.compile("").getArgumentsCount());
+        assertEquals(0, CompiledTemplate.compile("text {{}}").getArgumentsCount());
+        assertEquals(13, CompiledTemplate.compile("{12} {}").getArgumentsCount());
+
+        assertThrows(NullPointerException.class, () -> CompiledTemplate.compile(null));
+    }
+
+    /**
+     * Test method for {@link CompiledTemplate#render(Object...)}.
+     */
+    @Test
+    public void testRender() {
+        CompiledTemplate template = CompiledTemplate.compile("I'll go to the {1} this {}");
+        assertEquals("I'll go to the beach this afternoon", template.render("afternoon", "beach"));
+        assertEquals("I'll go to the forest this morning", template.render("morning", "forest"));
+        assertEquals("I'll go to the {1} this morning", template.render("morning"));
+        assertEquals("I'll go to the {1} this {}", template.render());
+        assertEquals("I'll go to the {1} this {}", template.render((Object[]) null));
+        assertEquals("I'll go to the null this null", template.render(null, null));
+
+        template = CompiledTemplate.compile("I'll go to {{}}{3} {} {2}{{0}} {4} {text}");
+        assertEquals("I'll go to {}beach the afternoon{0} {4} {text}",
+                template.render("the", "this", "afternoon", "beach"));
+        assertEquals("I'll go to {}{3} {} {2}{0} {4} {text}", template.render());
+
+        template = CompiledTemplate.compile("{0}{0}{}{01}{0}}{{0}{-1}{");
+        assertEquals("aaa{01}{0}{0}{-1}{", template.render("a", "b"));
+
+        // adjacent placeholders are all replaced, whatever the value length
+        // (up to 1.0.20, the implementation gave "a{0} a{}" here)
+        assertEquals("aa ab", CompiledTemplate.compile("{0}{0} {}{}").render("a", "b"));
+        assertEquals("aa ab", StringUtils.inject("{0}{0} {}{}", "a", "b"));
+        assertEquals("abcabc", StringUtils.inject("{0}{0}", "abc"));
+
+        // injected values are not parsed
+        assertEquals("{1} {}", CompiledTemplate.compile("{} {}").render("{1}", "{}"));
+
+        assertEquals("{1234567890}", CompiledTemplate.compile("{1234567890}").render("a"));
+    }
+
+    /**
+     * Test method for {@link CompiledTemplate#renderTo(Appendable, Object...)}.
+     * 
+     * @throws IOException
+     *             on error
+     */
+    @Test
+    public void testRenderTo() throws IOException {
+        final CompiledTemplate template = CompiledTemplate.compile("I'll go to {{}}{3} {} {2}{{0}} {4} {text}");
+
+        assertEquals(">I'll go to {}beach the afternoon{0} {4} {text}",
+                template.renderTo(new StringBuilder(">"), "the", "this", "afternoon", "beach").toString());
+        assertEquals("I'll go to {}beach the afternoon{0} {4} {text}",
+                template.renderTo(new StringWriter(), "the", "this", "afternoon", "beach").toString());
+        assertEquals("I'll go to {}{3} {} {2}{0} {4} {text}", template.renderTo(new StringWriter()).toString());
+
+        assertThrows(NullPointerException.class, () -> template.renderTo((StringWriter) null, "the"));
+    }
+
+    /**
+     * Test method for
+     * {@link CompiledTemplate#stream(java.io.Reader, Appendable, int, Object...)}.
+     * 
+     * @throws IOException
+     *             on error
+     */
+    @Test
+    public void testStream() throws IOException {
+        final String pattern = "I'll go to {{}}{3} {} {2}{{0}} {4} {text} {{{1}}}{0}{";
+        final Object[] arguments = {"the", "this", "afternoon", "beach"};
+        final String expected = CompiledTemplate.compile(pattern).render(arguments);
+
+        for (int chunkSize = 1; chunkSize <= pattern.length() + 1; ++chunkSize) {
+            assertEquals(expected, CompiledTemplate
+                    .stream(new StringReader(pattern), new StringWriter(), chunkSize, arguments).toString());
+        }
+
+        // placeholder longer than the chunk size
+        assertEquals("{1234567890} {12} a", CompiledTemplate
+                .stream(new StringReader("{1234567890} {12} {0}"), new StringBuilder(), 2, "a").toString());
+
+        assertThrows(NullPointerException.class,
+                () -> CompiledTemplate.stream(null, new StringBuilder(), 10));
+        assertThrows(NullPointerException.class,
+                () -> CompiledTemplate.stream(new StringReader(pattern), null, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> CompiledTemplate.stream(new StringReader(pattern), new StringBuilder(), 0));
+    }
+}
@@ -0,0 +1,90 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Check {@link DecimalToBinary}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class DecimalToBinaryTest {
+
+    /**
+     * Test method for {@link DecimalToBinary#toDouble(boolean, long, int)}.
+     */
+    @Test
+    public void testToDouble() {
+        assertEquals(0.1, DecimalToBinary.toDouble(false, 1, -1), 0);
+        assertEquals(-123.456, DecimalToBinary.toDouble(true, 123_456, -3), 0);
+        assertEquals(1e23, DecimalToBinary.toDouble(false, 1, 23), 0);
+        assertEquals(Double.MAX_VALUE, DecimalToBinary.toDouble(false, 17_976_931_348_623_157L, 292), 0);
+        assertEquals(Double.POSITIVE_INFINITY, DecimalToBinary.toDouble(false, 17_976_931_348_623_159L, 292), 0);
+        assertEquals(Double.MIN_NORMAL, DecimalToBinary.toDouble(false, 22_250_738_585_072_014L, -324), 0);
+        assertEquals(Double.MIN_VALUE, DecimalToBinary.toDouble(false, 49, -325), 0);
+        assertEquals(0.0, DecimalToBinary.toDouble(false, 24, -325), 0);
+        assertEquals(Double.NEGATIVE_INFINITY, DecimalToBinary.toDouble(true, 1, 400), 0);
+        assertEquals(Double.doubleToLongBits(-0.0), Double.doubleToLongBits(DecimalToBinary.toDouble(true, 1, -400)));
+        // halfway between 2^53 and 2^53 + 2, rounded to even
+        assertEquals(9_007_199_254_740_992.0, DecimalToBinary.toDouble(false, 9_007_199_254_740_993L, 0), 0);
+        // unsigned mantissa (19 digits)
+        assertEquals(9.999999999999999999e18, DecimalToBinary.toDouble(false, -8_446_744_073_709_551_617L, 0), 0);
+
+        final Random random = new Random(1);
+        for (int i = 0; i < 100_000; ++i) {
+            final long mantissa = random.nextLong() >>> (1 + random.nextInt(40));
+            final int exponent = random.nextInt(650) - 340;
+            final double value = DecimalToBinary.toDouble(false, mantissa, exponent);
+            final double expected = Double.parseDouble(mantissa + "e" + exponent);
+            assertTrue(Double.isNaN(value) || Double.doubleToLongBits(expected) == Double.doubleToLongBits(value),
+                    mantissa + "e" + exponent);
+        }
+    }
+
+    /**
+     * Test method for {@link DecimalToBinary#toFloat(boolean, long, int)}.
+     */
+    @Test
+    public void testToFloat() {
+        assertEquals(0.1f, DecimalToBinary.toFloat(false, 1, -1), 0);
+        assertEquals(-123.456f, DecimalToBinary.toFloat(true, 123_456, -3), 0);
+        assertEquals(Float.MAX_VALUE, DecimalToBinary.toFloat(false, 34_028_235, 31), 0);
+        assertEquals(Float.POSITIVE_INFINITY, DecimalToBinary.toFloat(false, 34_028_236, 31), 0);
+        assertEquals(Float.MIN_VALUE, DecimalToBinary.toFloat(false, 14, -46), 0);
+        assertEquals(0f, DecimalToBinary.toFloat(false, 1, -50), 0);
+
+        final Random random = new Random(2);
+        for (int i = 0; i < 100_000; ++i) {
+            final long mantissa = random.nextLong() >>> (1 + random.nextInt(40));
+            final int exponent = random.nextInt(100) - 60;
+            final float value = DecimalToBinary.toFloat(false, mantissa, exponent);
+            final float expected = Float.parseFloat(mantissa + "e" + exponent);
+            assertTrue(Float.isNaN(value) || Float.floatToIntBits(expected) == Float.floatToIntBits(value), mantissa + "e" + exponent);
+        }
+    }
+}
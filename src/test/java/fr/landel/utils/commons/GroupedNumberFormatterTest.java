@@ -0,0 +1,192 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Check {@link GroupedNumberFormatter}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class GroupedNumberFormatterTest extends AbstractTest {
+
+    private static final String PATTERN = "###,###,###,###,###,###.###";
+
+    /**
+     * Test method for {@link GroupedNumberFormatter#format(Number)}.
+     */
+    @Test
+    public void testFormat() {
+        final GroupedNumberFormatter formatter = GroupedNumberFormatter.of(Locale.US, 3);
+
+        assertEquals("126,123.125", formatter.format(126_123.1246));
+        assertEquals("-1,234,567", formatter.format(-1_234_567L));
+        assertEquals("0.5", formatter.format(0.5));
+        assertEquals("0", formatter.format(0.0));
+        assertEquals("-0", formatter.format(-0.0));
+        assertEquals("-0", formatter.format(-0.0001));
+        assertEquals("1,000", formatter.format(999.9996));
+        assertEquals("2.001", formatter.format(2.0005));
+        // tie of the shortest representation, rounded like DecimalFormat.format(Object)
+        assertEquals("0", formatter.format(0.0005));
+        assertEquals("-0", formatter.format(-0.0005));
+        assertEquals("100,000,000,000,000,000,000", formatter.format(1e20));
+        assertEquals("NaN", formatter.format(Double.NaN));
+        assertEquals("-\u221E", formatter.format(Double.NEGATIVE_INFINITY));
+        assertEquals("-9,223,372,036,854,775,808", formatter.format(Long.MIN_VALUE));
+        assertEquals("12", formatter.format((byte) 12));
+        assertEquals("12,345", formatter.format(new AtomicLong(12_345)));
+        assertEquals("0.1", formatter.format(0.1f));
+        assertEquals("1,234.568", formatter.format(new BigDecimal("1234.5675")));
+        assertEquals("0.002", formatter.format(new BigDecimal("0.0015")));
+        assertEquals("-0", formatter.format(new BigDecimal("-0.0004")));
+        assertEquals("100,000", formatter.format(new BigDecimal("1E+5")));
+        assertEquals("-123,456,789,012,345,678,901,234,567,890", formatter.format(new BigInteger("-123456789012345678901234567890")));
+
+        // no-break space (or narrow no-break space, depending on the JDK)
+        assertEquals("126 123,1", GroupedNumberFormatter.of(Locale.FRANCE, 1).format(126_123.1246).replace('\u202F', ' ')
+                .replace('\u00A0', ' '));
+        assertEquals("126,124", GroupedNumberFormatter.of(Locale.US, 0).format(126_123.5));
+        assertEquals("126,122", GroupedNumberFormatter.of(Locale.US, 0).format(126_122.5));
+        // nearest scaled fraction rounded up to the next integer
+        assertEquals("-19,442,893,780,121", GroupedNumberFormatter.of(Locale.US, 0).format(-1.9442893780120996E13));
+
+        assertException(() -> formatter.format((Number) null), IllegalArgumentException.class);
+        assertException(() -> GroupedNumberFormatter.of(Locale.US, -1), IllegalArgumentException.class);
+        assertException(() -> GroupedNumberFormatter.of(Locale.US, GroupedNumberFormatter.MAX_FRACTION_DIGITS + 1),
+                IllegalArgumentException.class);
+        assertException(() -> GroupedNumberFormatter.of(null, 3), NullPointerException.class);
+    }
+
+    /**
+     * Test method for {@link GroupedNumberFormatter#format(double, StringBuilder)}
+     * and {@link GroupedNumberFormatter#formatTo(Appendable, Number)}.
+     * 
+     * @throws IOException
+     *             on write failure
+     */
+    @Test
+    public void testFormatTo() throws IOException {
+        final GroupedNumberFormatter formatter = GroupedNumberFormatter.of(Locale.US, 3);
+
+        final StringBuilder builder = new StringBuilder("value=");
+        assertEquals("value=1,234.5; -12", formatter.format(-12L, formatter.format(1_234.5, builder).append("; ")).toString());
+        assertEquals("1,234.5", formatter.formatTo(new StringWriter(), 1_234.5).toString());
+        assertEquals("x1,234", formatter.formatTo(new StringBuilder("x"), 1_234).toString());
+
+        assertException(() -> formatter.format(1.0, null), NullPointerException.class);
+        assertException(() -> formatter.formatTo(null, 1.0), NullPointerException.class);
+    }
+
+    /**
+     * Check the output against {@link DecimalFormat}
+     */
+    @Test
+    public void testDecimalFormat() {
+        final Random random = new Random(20);
+        for (Locale locale : new Locale[] {Locale.US, Locale.GERMANY, Locale.forLanguageTag("ar-EG")}) {
+            for (int digits : new int[] {0, 3, 9}) {
+                final DecimalFormat expected = new DecimalFormat(PATTERN, DecimalFormatSymbols.getInstance(locale));
+                expected.setMaximumFractionDigits(digits);
+                final GroupedNumberFormatter formatter = GroupedNumberFormatter.of(locale, digits);
+
+                for (int i = 0; i < 10_000; ++i) {
+                    final double value;
+                    if (i % 3 == 0) {
+                        value = Double.longBitsToDouble(random.nextLong());
+                    } else if (i % 3 == 1) {
+                        value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(24) - 6);
+                    } else {
+                        // ties
+                        value = random.nextInt(1_000_000) / Math.pow(10, digits) + 0.5 / Math.pow(10, digits);
+                    }
+                    assertEquals(expected.format((Object) value), formatter.format(value), String.valueOf(value));
+
+                    final long number = random.nextLong() >> random.nextInt(Long.SIZE);
+                    assertEquals(expected.format(number), formatter.format(number));
+
+                    final BigDecimal decimal = new BigDecimal(BigInteger.valueOf(random.nextLong()), random.nextInt(30) - 10);
+                    assertEquals(expected.format(decimal), formatter.format(decimal));
+                }
+            }
+        }
+    }
+
+    /**
+     * Check the formatter with concurrent threads
+     * 
+     * @throws Exception
+     *             on failure
+     */
+    @Test
+    public void testConcurrency() throws Exception {
+        final GroupedNumberFormatter formatter = GroupedNumberFormatter.of(Locale.US, 3);
+        final DecimalFormat expected = new DecimalFormat(PATTERN, DecimalFormatSymbols.getInstance(Locale.US));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Boolean>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; ++t) {
+                final int seed = t;
+                futures.add(executor.submit(() -> {
+                    final Random random = new Random(seed);
+                    for (int i = 0; i < 5_000; ++i) {
+                        final double value = random.nextInt(100_000_000) / 1_000.0 + 0.0005;
+                        final String text;
+                        synchronized (expected) {
+                            text = expected.format((Object) value);
+                        }
+                        if (!text.equals(formatter.format(value))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertFalse(!future.get(1, TimeUnit.MINUTES));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
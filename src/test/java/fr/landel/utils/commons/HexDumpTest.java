@@ -0,0 +1,143 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Check {@link HexDump}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class HexDumpTest extends AbstractTest {
+
+    private static final String DUMP = "00000000  48 65 6c 6c 6f 2c 20 68  65 78 64 75 6d 70 21 0a  |Hello, hexdump!.|\n"
+            + "00000010  61 6e 64 20 6d 6f 72 65  20 62 79 74 65 73 00 01  |and more bytes..|\n"
+            + "00000020  ff 7f                                             |..|\n"
+            + "00000022\n";
+
+    private static final String ZEROS = "00000000  00 00 00 00 00 00 00 00  00 00 00 00 00 00 00 00  |................|\n";
+
+    private static final byte[] BYTES = "Hello, hexdump!\nand more bytes\u0000\u0001\u00ff\u007f".getBytes(StandardCharsets.ISO_8859_1);
+
+    /**
+     * Test method for {@link HexDump#format(byte[])}.
+     */
+    @Test
+    public void testFormat() {
+        assertEquals(DUMP, HexDump.CANONICAL.format(BYTES));
+        assertEquals("", HexDump.CANONICAL.format(new byte[0]));
+        assertEquals("00000000  65 78 64                                          |exd|\n00000003\n",
+                HexDump.CANONICAL.format(BYTES, 8, 3));
+
+        // repeated lines squeezed (like hexdump -C)
+        assertEquals(ZEROS + "*\n00000040\n", HexDump.CANONICAL.format(new byte[64]));
+        assertEquals(ZEROS + "*\n00000020  00 00 00 00 00 00 00 00                           |........|\n00000028\n",
+                HexDump.CANONICAL.format(new byte[40]));
+        final byte[] repeated = new byte[80];
+        repeated[16] = 1;
+        repeated[79] = 1;
+        assertEquals(ZEROS + "00000010  01 00 00 00 00 00 00 00  00 00 00 00 00 00 00 00  |................|\n"
+                + "00000020  00 00 00 00 00 00 00 00  00 00 00 00 00 00 00 00  |................|\n*\n"
+                + "00000040  00 00 00 00 00 00 00 00  00 00 00 00 00 00 00 01  |................|\n00000050\n",
+                HexDump.CANONICAL.format(repeated));
+        assertEquals(ZEROS + ZEROS.replace("00000000", "00000010"),
+                HexDump.builder().squeeze(false).endOffset(false).build().format(new byte[32]));
+        assertEquals("00 00\n*\n", HexDump.builder().bytesPerLine(2).offset(false).ascii(false).build().format(new byte[6]));
+
+        assertEquals("FFFFFFFE  48 65 6C  |Hel|\n100000001  6C 6F     |lo|\n100000003\n",
+                HexDump.builder().bytesPerLine(3).groupSize(0).startOffset(0xFFFFFFFEL).upperCase(true).build().format(BYTES, 0, 5));
+        assertEquals("48 65  6c 6c  6f\n", HexDump.builder().bytesPerLine(8).groupSize(2).offset(false).ascii(false).build()
+                .format(BYTES, 0, 5));
+        assertEquals("48 65 6c  |Hel|\n6c 6f     |lo|\n",
+                HexDump.builder().bytesPerLine(3).groupSize(4).offset(false).build().format(BYTES, 0, 5));
+
+        assertException(() -> HexDump.CANONICAL.format((byte[]) null), NullPointerException.class);
+        assertException(() -> HexDump.CANONICAL.format(BYTES, 30, 10), IndexOutOfBoundsException.class);
+        assertException(() -> HexDump.builder().bytesPerLine(0), IllegalArgumentException.class);
+        assertException(() -> HexDump.builder().groupSize(-1), IllegalArgumentException.class);
+        assertException(() -> HexDump.builder().startOffset(-1), IllegalArgumentException.class);
+    }
+
+    /**
+     * Test method for {@link HexDump#formatTo(Appendable, ByteBuffer)},
+     * {@link HexDump#formatTo(Appendable, java.io.InputStream)},
+     * {@link HexDump#formatTo(Appendable, java.nio.channels.ReadableByteChannel)}
+     * and {@link HexDump#formatTo(Appendable, Path)}.
+     * 
+     * @throws IOException
+     *             on read or write failure
+     */
+    @Test
+    public void testFormatTo() throws IOException {
+        final ByteBuffer direct = ByteBuffer.allocateDirect(BYTES.length).put(BYTES);
+        direct.flip();
+        assertEquals(DUMP, HexDump.CANONICAL.format(direct));
+        assertFalse(direct.hasRemaining());
+        assertEquals(DUMP, HexDump.CANONICAL.formatTo(new StringWriter(), ByteBuffer.wrap(BYTES)).toString());
+        assertEquals(DUMP, HexDump.CANONICAL.formatTo(new StringBuilder(), new ByteArrayInputStream(BYTES)).toString());
+
+        // several chunks, the last one is partial
+        final byte[] bytes = new byte[100_003];
+        new Random(5).nextBytes(bytes);
+        final String expected = HexDump.CANONICAL.format(bytes);
+        assertEquals(6_252, expected.split("\n").length);
+        assertEquals(expected, HexDump.CANONICAL.formatTo(new StringWriter(), new ByteArrayInputStream(bytes)).toString());
+        assertEquals(expected,
+                HexDump.CANONICAL.formatTo(new StringBuilder(), Channels.newChannel(new ByteArrayInputStream(bytes))).toString());
+
+        final Path path = Files.createTempFile("hexdump", ".bin");
+        try {
+            Files.write(path, bytes);
+            assertEquals(expected, HexDump.CANONICAL.formatTo(new StringBuilder(), path).toString());
+        } finally {
+            Files.delete(path);
+        }
+
+        // squeezed lines over several chunks
+        final byte[] zeros = new byte[100_003];
+        zeros[50_000] = 1;
+        final String squeezed = HexDump.CANONICAL.format(zeros);
+        assertEquals(ZEROS + "*\n0000c350  01 00 00 00 00 00 00 00  00 00 00 00 00 00 00 00  |................|\n"
+                + "0000c360  00 00 00 00 00 00 00 00  00 00 00 00 00 00 00 00  |................|\n*\n"
+                + "000186a0  00 00 00                                          |...|\n000186a3\n", squeezed);
+        assertEquals(squeezed, HexDump.CANONICAL.formatTo(new StringWriter(), new ByteArrayInputStream(zeros)).toString());
+        assertEquals(squeezed,
+                HexDump.CANONICAL.formatTo(new StringBuilder(), Channels.newChannel(new ByteArrayInputStream(zeros))).toString());
+
+        assertException(() -> HexDump.CANONICAL.formatTo(null, BYTES, 0, 1), NullPointerException.class);
+        assertException(() -> HexDump.CANONICAL.formatTo(new StringBuilder(), (Path) null), NullPointerException.class);
+    }
+}
@@ -19,10 +19,30 @@
  */
 package fr.landel.utils.commons;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.Pipe;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -74,4 +94,386 @@ public class HexUtilsTest extends AbstractTest {
 
         assertEquals("414243", HexUtils.byteArrayToHexString(bytes));
     }
+
+    /**
+     * Test method for {@link HexUtils#encode(byte[], int, int, boolean)} .
+     */
+    @Test
+    public void testEncode() {
+        final byte[] bytes = {0, 1, 0x0f, 0x10, 0x7f, (byte) 0x80, (byte) 0xab, (byte) 0xff};
+
+        assertEquals("00010f107f80abff", HexUtils.encode(bytes));
+        assertEquals("00010F107F80ABFF", HexUtils.encode(bytes, true));
+        assertEquals("0f107f", HexUtils.encode(bytes, 2, 3, false));
+        assertEquals("", HexUtils.encode(new byte[0]));
+        assertEquals("", HexUtils.encode(bytes, 8, 0, false));
+
+        final char[] chars = new char[10];
+        Arrays.fill(chars, '-');
+        assertEquals(4, HexUtils.encode(bytes, 6, 2, chars, 3, true));
+        assertEquals("---ABFF---", new String(chars));
+
+        assertException(() -> HexUtils.encode((byte[]) null), NullPointerException.class);
+        assertException(() -> HexUtils.encode(bytes, 7, 2, false), IndexOutOfBoundsException.class);
+        assertException(() -> HexUtils.encode(bytes, -1, 2, false), IndexOutOfBoundsException.class);
+        assertException(() -> HexUtils.encode(bytes, 0, 2, chars, 7, false), IndexOutOfBoundsException.class);
+
+        final Random random = new Random(42);
+        for (int i = 0; i < 100; ++i) {
+            final byte[] input = new byte[random.nextInt(1_200)];
+            random.nextBytes(input);
+            final StringBuilder expected = new StringBuilder();
+            for (byte b : input) {
+                expected.append(String.format("%02x", b));
+            }
+            assertEquals(expected.toString(), HexUtils.encode(input));
+            assertArrayEquals(input, HexUtils.decode(expected));
+            assertArrayEquals(input, HexUtils.decode(expected.toString().toUpperCase()));
+        }
+    }
+
+    /**
+     * Test method for {@link HexUtils#encode(ByteBuffer, boolean)} and
+     * {@link HexUtils#encode(ByteBuffer, ByteBuffer, boolean)} .
+     */
+    @Test
+    public void testEncodeBuffer() {
+        final byte[] bytes = {0x12, 0x34, (byte) 0xab, (byte) 0xcd};
+        for (ByteBuffer buffer : Arrays.asList(ByteBuffer.wrap(bytes), ByteBuffer.allocateDirect(4).put(bytes))) {
+            buffer.position(1).limit(3);
+            assertEquals("34AB", HexUtils.encode(buffer, true));
+            assertEquals(3, buffer.position());
+            assertFalse(buffer.hasRemaining());
+
+            for (ByteBuffer target : Arrays.asList(ByteBuffer.allocate(6), ByteBuffer.allocateDirect(6))) {
+                buffer.position(1);
+                target.position(1);
+                assertEquals(4, HexUtils.encode(buffer, target, false));
+                assertEquals(3, buffer.position());
+                assertEquals(5, target.position());
+                target.flip().position(1);
+                assertEquals("34ab", StandardCharsets.US_ASCII.decode(target).toString());
+
+                buffer.position(0);
+                target.clear().position(1);
+                assertException(() -> HexUtils.encode(buffer, target, false), BufferOverflowException.class);
+                assertEquals(0, buffer.position());
+                assertEquals(1, target.position());
+            }
+        }
+
+        // sliced heap buffer (array offset)
+        final ByteBuffer slice = ByteBuffer.wrap(bytes, 2, 2).slice();
+        assertEquals("abcd", HexUtils.encode(slice, false));
+    }
+
+    /**
+     * Test method for
+     * {@link HexUtils#encodeTo(Appendable, byte[], int, int, boolean)} and
+     * {@link HexUtils#encodeTo(Appendable, ByteBuffer, boolean)} .
+     * 
+     * @throws IOException
+     *             on write failure
+     */
+    @Test
+    public void testEncodeTo() throws IOException {
+        final byte[] bytes = new byte[1_300];
+        new Random(7).nextBytes(bytes);
+        final String expected = HexUtils.encode(bytes, true);
+
+        assertEquals("x" + expected, HexUtils.encodeTo(new StringBuilder("x"), bytes, 0, bytes.length, true).toString());
+        assertEquals(expected.substring(20, 40), HexUtils.encodeTo(new StringWriter(), bytes, 10, 10, true).toString());
+
+        final CharBuffer chars = CharBuffer.allocate(expected.length());
+        HexUtils.encodeTo(chars, bytes, 0, bytes.length, true);
+        assertEquals(expected, chars.flip().toString());
+
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+        direct.flip();
+        assertEquals(expected, HexUtils.encodeTo(new StringBuilder(), direct, true).toString());
+        assertFalse(direct.hasRemaining());
+        assertEquals(expected.toLowerCase(), HexUtils.encodeTo(new StringWriter(), ByteBuffer.wrap(bytes), false).toString());
+
+        assertException(() -> HexUtils.encodeTo(null, bytes, 0, 1, false), NullPointerException.class);
+        assertException(() -> HexUtils.encodeTo(new StringBuilder(), bytes, 1_299, 2, false), IndexOutOfBoundsException.class);
+    }
+
+    /**
+     * Test method for {@link HexUtils#decode(CharSequence, boolean)} .
+     */
+    @Test
+    public void testDecode() {
+        final byte[] expected = {0x12, 0x34, (byte) 0xab, (byte) 0xcd};
+
+        assertArrayEquals(expected, HexUtils.decode("1234abcd"));
+        assertArrayEquals(expected, HexUtils.decode("1234ABcD"));
+        assertArrayEquals(new byte[0], HexUtils.decode(""));
+        assertArrayEquals(expected, HexUtils.decode("12:34:AB:CD", true));
+        assertArrayEquals(expected, HexUtils.decode(" 1 2 3 4 - ab cd\n", true));
+        assertArrayEquals(new byte[0], HexUtils.decode("::", true));
+
+        assertException(() -> HexUtils.decode(null), NullPointerException.class);
+        assertException(() -> HexUtils.decode("12:3"), IllegalArgumentException.class,
+                "Invalid hexadecimal character at index 2");
+        assertException(() -> HexUtils.decode("123"), IllegalArgumentException.class,
+                "The number of hexadecimal digits must be even");
+        assertException(() -> HexUtils.decode("12:3", true), IllegalArgumentException.class);
+        assertException(() -> HexUtils.decode("1g"), IllegalArgumentException.class);
+        assertException(() -> HexUtils.decode("1\u0660"), IllegalArgumentException.class);
+
+        final byte[] target = new byte[6];
+        assertEquals(2, HexUtils.decode("xx34abxx", 2, 6, target, 1, false));
+        assertArrayEquals(new byte[] {0, 0x34, (byte) 0xab, 0, 0, 0}, target);
+        assertEquals(3, HexUtils.decode("1 2 3 4 5 6", 0, 11, target, 3, true));
+        assertArrayEquals(new byte[] {0, 0x34, (byte) 0xab, 0x12, 0x34, 0x56}, target);
+        assertException(() -> HexUtils.decode("1234", 0, 4, target, 5, false), IndexOutOfBoundsException.class);
+        assertException(() -> HexUtils.decode("1234", 2, 6, target, 0, false), IndexOutOfBoundsException.class);
+
+        // nothing is written on error (odd, invalid or overflow)
+        final byte[] untouched = new byte[2];
+        assertException(() -> HexUtils.decode("12345", 0, 5, untouched, 0, true), IllegalArgumentException.class);
+        assertException(() -> HexUtils.decode("1234g6", 0, 6, untouched, 0, false), IllegalArgumentException.class,
+                "Invalid hexadecimal character at index 4");
+        assertException(() -> HexUtils.decode("12 34 56", 0, 8, untouched, 0, true), IndexOutOfBoundsException.class);
+        assertArrayEquals(new byte[2], untouched);
+
+        assertTrue(HexUtils.isDigit('0'));
+        assertTrue(HexUtils.isDigit('f'));
+        assertTrue(HexUtils.isDigit('F'));
+        assertFalse(HexUtils.isDigit('g'));
+        assertFalse(HexUtils.isDigit('\uff10'));
+    }
+
+    /**
+     * Test method for {@link HexUtils#decode(CharSequence, ByteBuffer, boolean)}
+     * and {@link HexUtils#decode(ByteBuffer, ByteBuffer, boolean)} .
+     */
+    @Test
+    public void testDecodeBuffer() {
+        final byte[] bytes = new byte[1_200];
+        new Random(3).nextBytes(bytes);
+        final String hex = HexUtils.encode(bytes);
+        final String separated = hex.replaceAll("(..)", "$1 ");
+
+        for (ByteBuffer target : Arrays.asList(ByteBuffer.allocate(bytes.length + 1), ByteBuffer.allocateDirect(bytes.length + 1))) {
+            target.position(1);
+            assertEquals(bytes.length, HexUtils.decode(hex, target, false));
+            assertEquals(bytes.length + 1, target.position());
+            target.position(1);
+            assertEquals(ByteBuffer.wrap(bytes), target);
+
+            target.clear().position(1);
+            assertEquals(bytes.length, HexUtils.decode(separated, target, true));
+            target.position(1);
+            assertEquals(ByteBuffer.wrap(bytes), target);
+
+            target.clear().position(2);
+            assertException(() -> HexUtils.decode(separated, target, true), BufferOverflowException.class);
+
+            for (ByteBuffer source : Arrays.asList(ByteBuffer.wrap(separated.getBytes(StandardCharsets.US_ASCII)),
+                    ByteBuffer.allocateDirect(separated.length()).put(separated.getBytes(StandardCharsets.US_ASCII)))) {
+                source.position(0);
+                target.clear();
+                assertEquals(bytes.length, HexUtils.decode(source, target, true));
+                assertFalse(source.hasRemaining());
+                assertEquals(ByteBuffer.wrap(bytes), target.flip());
+            }
+        }
+        assertException(() -> HexUtils.decode(ByteBuffer.wrap(new byte[] {'1', '2', ':', '3'}), ByteBuffer.allocate(2), false),
+                IllegalArgumentException.class, "Invalid hexadecimal character at index 2");
+        assertException(() -> HexUtils.decode(ByteBuffer.wrap(new byte[] {'1', '2'}), ByteBuffer.allocate(0), false),
+                BufferOverflowException.class);
+        assertException(() -> HexUtils.decode("12", ByteBuffer.allocate(1).asReadOnlyBuffer(), false),
+                ReadOnlyBufferException.class);
+
+        // nothing is written and the positions are not moved on error
+        for (ByteBuffer target : Arrays.asList(ByteBuffer.allocate(2), ByteBuffer.allocateDirect(2))) {
+            for (String invalid : Arrays.asList("12 3", "1234g6", "12:34:56")) {
+                final ByteBuffer source = ByteBuffer.wrap(invalid.getBytes(StandardCharsets.US_ASCII));
+                target.clear();
+                final boolean lenient = invalid.indexOf(' ') > -1 || invalid.indexOf(':') > -1;
+                assertThrows(RuntimeException.class, () -> HexUtils.decode(invalid, target, lenient));
+                assertThrows(RuntimeException.class, () -> HexUtils.decode(source, target, lenient));
+                assertEquals(0, source.position());
+                assertEquals(0, target.position());
+                assertEquals(ByteBuffer.allocate(2), target);
+            }
+        }
+    }
+
+    /**
+     * Test method for {@link HexUtils#encodingStream(OutputStream, boolean)}
+     * and {@link HexUtils#decodingStream(OutputStream, boolean)} .
+     * 
+     * @throws IOException
+     *             on write failure
+     */
+    @Test
+    public void testOutputStreams() throws IOException {
+        final byte[] bytes = new byte[50_001];
+        new Random(11).nextBytes(bytes);
+        final String hex = HexUtils.encode(bytes, true);
+
+        final ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        try (OutputStream output = HexUtils.encodingStream(encoded, true)) {
+            output.write(bytes[0]);
+            output.write(bytes, 1, 999);
+            output.write(bytes, 1_000, bytes.length - 1_000);
+        }
+        assertEquals(hex, new String(encoded.toByteArray(), StandardCharsets.US_ASCII));
+
+        final ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        try (OutputStream output = HexUtils.decodingStream(decoded, false)) {
+            final byte[] ascii = hex.getBytes(StandardCharsets.US_ASCII);
+            // odd chunks, the pairs are split
+            for (int i = 0; i < ascii.length; i += 333) {
+                output.write(ascii, i, Math.min(333, ascii.length - i));
+            }
+        }
+        assertArrayEquals(bytes, decoded.toByteArray());
+
+        final ByteArrayOutputStream lenient = new ByteArrayOutputStream();
+        try (OutputStream output = HexUtils.decodingStream(lenient, true)) {
+            output.write("12 3\n4:ab".getBytes(StandardCharsets.US_ASCII));
+        }
+        assertArrayEquals(new byte[] {0x12, 0x34, (byte) 0xab}, lenient.toByteArray());
+
+        assertException(() -> HexUtils.decodingStream(new ByteArrayOutputStream(), false).write('g'), IOException.class,
+                "Invalid hexadecimal character at index 0");
+        assertException(() -> {
+            try (OutputStream output = HexUtils.decodingStream(new ByteArrayOutputStream(), true)) {
+                output.write('a');
+            }
+        }, IOException.class, "The number of hexadecimal digits must be even");
+        assertException(() -> {
+            final OutputStream output = HexUtils.encodingStream(new ByteArrayOutputStream(), false);
+            output.close();
+            output.write(1);
+        }, IOException.class);
+        assertException(() -> HexUtils.encodingStream((OutputStream) null, false), NullPointerException.class);
+    }
+
+    /**
+     * Test method for {@link HexUtils#encodingStream(InputStream, boolean)},
+     * {@link HexUtils#decodingStream(InputStream, boolean)},
+     * {@link HexUtils#encodingChannel(ReadableByteChannel, boolean)} and
+     * {@link HexUtils#decodingChannel(ReadableByteChannel, boolean)} .
+     * 
+     * @throws IOException
+     *             on read failure
+     */
+    @Test
+    public void testInputStreams() throws IOException {
+        final byte[] bytes = new byte[50_001];
+        new Random(13).nextBytes(bytes);
+        final byte[] hex = HexUtils.encode(bytes).getBytes(StandardCharsets.US_ASCII);
+
+        try (InputStream input = HexUtils.encodingStream(new ByteArrayInputStream(bytes), false)) {
+            assertArrayEquals(hex, readAll(input));
+        }
+        try (InputStream input = HexUtils.decodingStream(new ByteArrayInputStream(hex), false)) {
+            assertEquals(bytes[0] & 0xFF, input.read());
+            assertArrayEquals(Arrays.copyOfRange(bytes, 1, bytes.length), readAll(input));
+            assertEquals(-1, input.read());
+        }
+        final byte[] separated = "  12:ab\n".getBytes(StandardCharsets.US_ASCII);
+        try (InputStream input = HexUtils.decodingStream(new ByteArrayInputStream(separated), true)) {
+            assertArrayEquals(new byte[] {0x12, (byte) 0xab}, readAll(input));
+        }
+        assertException(() -> readAll(HexUtils.decodingStream(new ByteArrayInputStream("12:ab".getBytes(StandardCharsets.US_ASCII)), false)),
+                IOException.class, "Invalid hexadecimal character at index 2");
+        assertException(() -> readAll(HexUtils.decodingStream(new ByteArrayInputStream("123".getBytes(StandardCharsets.US_ASCII)), false)),
+                IOException.class, "The number of hexadecimal digits must be even");
+
+        for (boolean direct : new boolean[] {false, true}) {
+            final ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(1_000) : ByteBuffer.allocate(1_000);
+            final ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+            try (ReadableByteChannel channel = HexUtils.encodingChannel(Channels.newChannel(new ByteArrayInputStream(bytes)), false)) {
+                while (channel.read(buffer) > -1) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        encoded.write(buffer.get());
+                    }
+                    buffer.clear();
+                }
+            }
+            assertArrayEquals(hex, encoded.toByteArray());
+
+            final ReadableByteChannel channel = HexUtils.decodingChannel(Channels.newChannel(new ByteArrayInputStream(hex)), false);
+            assertArrayEquals(bytes, readAll(Channels.newInputStream(channel)));
+            assertTrue(channel.isOpen());
+            channel.close();
+            assertFalse(channel.isOpen());
+            assertException(() -> channel.read(buffer), ClosedChannelException.class);
+        }
+        assertException(() -> HexUtils.decodingChannel(null, false), NullPointerException.class);
+
+        // non-blocking channel: the stream methods are not supported (no busy
+        // wait), the channel method returns 0
+        final byte[] digits = "0a1b2c".getBytes(StandardCharsets.US_ASCII);
+        try (InputStream input = (InputStream) HexUtils.decodingChannel(slowChannel(digits), false)) {
+            assertException(() -> input.read(), IllegalBlockingModeException.class);
+            assertException(() -> input.read(new byte[2], 0, 2), IllegalBlockingModeException.class);
+        }
+        final Pipe pipe = Pipe.open();
+        pipe.source().configureBlocking(false);
+        pipe.sink().write(ByteBuffer.wrap(digits));
+        try (InputStream input = (InputStream) HexUtils.decodingChannel(pipe.source(), false)) {
+            assertException(() -> input.read(), IllegalBlockingModeException.class);
+            assertEquals(3, ((ReadableByteChannel) input).read(ByteBuffer.allocate(3)));
+        } finally {
+            pipe.sink().close();
+        }
+        final ReadableByteChannel slow = HexUtils.decodingChannel(slowChannel(digits), false);
+        final ByteBuffer target = ByteBuffer.allocate(3);
+        assertEquals(0, slow.read(target));
+        while (target.hasRemaining()) {
+            assertTrue(slow.read(target) > -1);
+        }
+        assertEquals(-1, slow.read(ByteBuffer.allocate(1)));
+        assertEquals(ByteBuffer.wrap(new byte[] {0x0a, 0x1b, 0x2c}), target.flip());
+    }
+
+    /**
+     * A channel which returns no byte before each byte (like a non-blocking
+     * channel)
+     */
+    private static ReadableByteChannel slowChannel(final byte[] bytes) {
+        final ByteBuffer source = ByteBuffer.wrap(bytes);
+        return new ReadableByteChannel() {
+            private boolean empty;
+
+            @Override
+            public int read(final ByteBuffer target) {
+                this.empty = !this.empty;
+                if (!source.hasRemaining()) {
+                    return -1;
+                } else if (this.empty) {
+                    return 0;
+                }
+                target.put(source.get());
+                return 1;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+                // nothing to close
+            }
+        };
+    }
+
+    private static byte[] readAll(final InputStream input) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[777];
+        int read;
+        while ((read = input.read(buffer, 0, buffer.length)) > -1) {
+            output.write(buffer, 0, read);
+        }
+        return output.toByteArray();
+    }
 }
@@ -19,8 +19,17 @@
  */
 package fr.landel.utils.commons;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -483,4 +492,277 @@ public class NumberUtilsParsersTest extends AbstractTest {
         assertException(() -> NumberUtils.parseByte("10.0F", value, false), NumberFormatException.class);
     }
 
+    /**
+     * Test method for
+     * {@link NumberUtils#parseIntOrDefault(CharSequence, int, int)}.
+     */
+    @Test
+    public void testParseIntPrimitive() {
+        assertEquals(12, NumberUtils.parseIntOrDefault("12", -1));
+        assertEquals(-12, NumberUtils.parseIntOrDefault(new StringBuilder("-12"), -1));
+        assertEquals(12, NumberUtils.parseIntOrDefault("+12", -1));
+        assertEquals(Integer.MIN_VALUE, NumberUtils.parseIntOrDefault("-2147483648", -1));
+        assertEquals(Integer.MAX_VALUE, NumberUtils.parseIntOrDefault("2147483647", -1));
+        assertEquals(-1, NumberUtils.parseIntOrDefault("2147483648", -1));
+        assertEquals(-1, NumberUtils.parseIntOrDefault(null, -1));
+        assertEquals(-1, NumberUtils.parseIntOrDefault("", -1));
+        assertEquals(-1, NumberUtils.parseIntOrDefault("-", -1));
+        assertEquals(-1, NumberUtils.parseIntOrDefault("  12 ", -1));
+        assertEquals(-1, NumberUtils.parseIntOrDefault("12L", -1));
+        assertEquals(255, NumberUtils.parseIntOrDefault("ff", -1, 16));
+        assertEquals(-1, NumberUtils.parseIntOrDefault("ff", -1, 10));
+        assertEquals(-1, NumberUtils.parseIntOrDefault("1", -1, 37));
+
+        assertEquals(Long.MIN_VALUE, NumberUtils.parseLongOrDefault("-9223372036854775808", -1L));
+        assertEquals(-1L, NumberUtils.parseLongOrDefault("9223372036854775808", -1L));
+        assertEquals(-0x7fL, NumberUtils.parseLongOrDefault("-7f", -1L, 16));
+
+        assertEquals(Short.MIN_VALUE, NumberUtils.parseShortOrDefault("-32768", (short) -1));
+        assertEquals((short) -1, NumberUtils.parseShortOrDefault("32768", (short) -1));
+        assertEquals(Byte.MAX_VALUE, NumberUtils.parseByteOrDefault("127", (byte) -1));
+        assertEquals((byte) -1, NumberUtils.parseByteOrDefault("128", (byte) -1));
+        assertEquals((byte) 10, NumberUtils.parseByteOrDefault("1010", (byte) -1, 2));
+    }
+
+    /**
+     * Test method for
+     * {@link NumberUtils#parseLong(CharSequence, int, NumberParseResult)}.
+     */
+    @Test
+    public void testParseIntegralStatus() {
+        final NumberParseResult result = new NumberParseResult();
+
+        assertEquals(NumberParseResult.Status.EMPTY, result.getStatus());
+        assertEquals(NumberParseResult.Status.VALID, NumberUtils.parseInt("-42", 10, result));
+        assertEquals(-42, result.getInt());
+        assertEquals(-42L, result.getLong());
+        assertEquals(-42.0, result.getDouble(), 0);
+        assertTrue(result.isValid());
+
+        assertEquals(NumberParseResult.Status.EMPTY, NumberUtils.parseInt(null, 10, result));
+        assertEquals(NumberParseResult.Status.EMPTY, NumberUtils.parseInt("", 10, result));
+        assertFalse(result.isValid());
+        assertException(result::getInt, IllegalStateException.class);
+
+        assertEquals(NumberParseResult.Status.INVALID, NumberUtils.parseInt("+", 10, result));
+        assertEquals(NumberParseResult.Status.INVALID, NumberUtils.parseInt("1a", 10, result));
+        assertEquals(NumberParseResult.Status.INVALID, NumberUtils.parseInt("1", 1, result));
+        // invalid wins over overflow
+        assertEquals(NumberParseResult.Status.INVALID, NumberUtils.parseInt("99999999999x", 10, result));
+
+        assertEquals(NumberParseResult.Status.OVERFLOW, NumberUtils.parseInt("2147483648", 10, result));
+        assertEquals(NumberParseResult.Status.OVERFLOW, NumberUtils.parseInt("-2147483649", 10, result));
+        assertEquals(NumberParseResult.Status.OVERFLOW, NumberUtils.parseLong("99999999999999999999", 10, result));
+        assertEquals(NumberParseResult.Status.OVERFLOW, NumberUtils.parseShort("-32769", 10, result));
+        assertEquals(NumberParseResult.Status.OVERFLOW, NumberUtils.parseByte("80", 16, result));
+        assertEquals("OVERFLOW", result.toString());
+
+        assertEquals(NumberParseResult.Status.VALID, NumberUtils.parseByte("-80", 16, result));
+        assertEquals(Byte.MIN_VALUE, result.getInt());
+        assertEquals(NumberParseResult.Status.VALID, NumberUtils.parseLong("zz", 36, result));
+        assertEquals(36 * 36 - 1, result.getLong());
+        assertEquals("VALID(1295, 1295.0)", result.toString());
+
+        assertException(() -> NumberUtils.parseInt("1", 10, (NumberParseResult) null), NullPointerException.class);
+    }
+
+    /**
+     * Test method for {@link NumberUtils#parseDoubleOrDefault(CharSequence, double)}
+     * and {@link NumberUtils#parseDouble(CharSequence, NumberParseResult)}.
+     */
+    @Test
+    public void testParseFloatingPrimitive() {
+        final double delta = 0.000001;
+
+        assertEquals(12.5, NumberUtils.parseDoubleOrDefault("12.5", -1), delta);
+        assertEquals(-1000.0, NumberUtils.parseDoubleOrDefault(" -1e3d ", -1), delta);
+        assertEquals(1.0, NumberUtils.parseDoubleOrDefault("1.", -1), delta);
+        assertEquals(0.5, NumberUtils.parseDoubleOrDefault(".5", -1), delta);
+        assertEquals(8.0, NumberUtils.parseDoubleOrDefault("0x1p3", -1), delta);
+        assertEquals(1.5, NumberUtils.parseDoubleOrDefault("0X.Cp1", -1), delta);
+        assertEquals(Double.POSITIVE_INFINITY, NumberUtils.parseDoubleOrDefault("1e999", -1), delta);
+        assertEquals(Double.NEGATIVE_INFINITY, NumberUtils.parseDoubleOrDefault("-Infinity", -1), delta);
+        assertTrue(Double.isNaN(NumberUtils.parseDoubleOrDefault("NaN", -1)));
+        assertEquals(-1, NumberUtils.parseDoubleOrDefault(null, -1), delta);
+        assertEquals(-1, NumberUtils.parseDoubleOrDefault("  ", -1), delta);
+        assertEquals(-1, NumberUtils.parseDoubleOrDefault(".", -1), delta);
+        assertEquals(-1, NumberUtils.parseDoubleOrDefault("1e", -1), delta);
+        assertEquals(-1, NumberUtils.parseDoubleOrDefault("1e+", -1), delta);
+        assertEquals(-1, NumberUtils.parseDoubleOrDefault("1.0dd", -1), delta);
+        assertEquals(-1, NumberUtils.parseDoubleOrDefault("0x1", -1), delta);
+        assertEquals(-1, NumberUtils.parseDoubleOrDefault("NaNd", -1), delta);
+        assertEquals(-1, NumberUtils.parseDoubleOrDefault("1.2.3", -1), delta);
+
+        assertEquals(1.5f, NumberUtils.parseFloatOrDefault("1.5f", -1f), (float) delta);
+        assertEquals(-1f, NumberUtils.parseFloatOrDefault("f", -1f), (float) delta);
+
+        final NumberParseResult result = new NumberParseResult();
+        assertEquals(NumberParseResult.Status.VALID, NumberUtils.parseDouble("2.5", result));
+        assertEquals(2.5, result.getDouble(), delta);
+        assertEquals(2L, result.getLong());
+        assertEquals(NumberParseResult.Status.VALID, NumberUtils.parseFloat("0.1", result));
+        assertEquals(0.1f, result.getFloat(), 0);
+        assertEquals(NumberParseResult.Status.EMPTY, NumberUtils.parseDouble("", result));
+        assertEquals(NumberParseResult.Status.INVALID, NumberUtils.parseDouble("1,5", result));
+        assertEquals(NumberParseResult.Status.INVALID, NumberUtils.parseFloat("-", result));
+
+        assertException(() -> NumberUtils.parseDouble("1", (NumberParseResult) null), NullPointerException.class);
+    }
+    /**
+     * Test method for
+     * {@link NumberUtils#parseIntOrDefault(CharSequence, int, int, int, int)} and the
+     * other range parsers of integral numbers.
+     */
+    @Test
+    public void testParseIntegralRange() {
+        final String line = "id=-42;ff;+7;x";
+        final char[] chars = line.toCharArray();
+        final byte[] bytes = line.getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals(-42, NumberUtils.parseIntOrDefault(line, 3, 3, 10, 0));
+        assertEquals(-42, NumberUtils.parseIntOrDefault(chars, 3, 3, 10, 0));
+        assertEquals(-42, NumberUtils.parseIntOrDefault(bytes, 3, 3, 10, 0));
+        assertEquals(255L, NumberUtils.parseLongOrDefault(bytes, 7, 2, 16, 0L));
+        assertEquals((short) 7, NumberUtils.parseShortOrDefault(chars, 10, 2, 10, (short) 0));
+        assertEquals((byte) -1, NumberUtils.parseByteOrDefault(line, 7, 2, 16, (byte) -1));
+        assertEquals(-1, NumberUtils.parseIntOrDefault(bytes, 13, 1, 10, -1));
+        assertEquals(-1, NumberUtils.parseIntOrDefault(line, 0, 0, 10, -1));
+        assertEquals(-1, NumberUtils.parseIntOrDefault((CharSequence) null, 0, 0, 10, -1));
+        // same rules as the whole sequence parsers
+        for (String input : Arrays.asList(" 12", "12 ", "\u0661\u0662", "+12", "-", "12L", "0x12", "9223372036854775808")) {
+            final String padded = ";" + input + ";";
+            assertEquals(NumberUtils.parseLongOrDefault(input, -1L), NumberUtils.parseLongOrDefault(padded, 1, input.length(), 10, -1L),
+                    input);
+            assertEquals(NumberUtils.parseIntOrDefault(input, -1),
+                    NumberUtils.parseIntOrDefault(padded.toCharArray(), 1, input.length(), 10, -1), input);
+        }
+        assertEquals(12L, NumberUtils.parseLongOrDefault("\u0661\u0662", 0, 2, 10, -1L));
+
+        final NumberParseResult result = new NumberParseResult();
+        assertEquals(NumberParseResult.Status.VALID, NumberUtils.parseLong(chars, 3, 3, 10, result));
+        assertEquals(-42L, result.getLong());
+        assertEquals(NumberParseResult.Status.OVERFLOW, NumberUtils.parseByte(bytes, 7, 2, 16, result));
+        assertEquals(NumberParseResult.Status.INVALID, NumberUtils.parseShort(line, 0, 2, 10, result));
+        assertEquals(NumberParseResult.Status.EMPTY, NumberUtils.parseInt(bytes, 2, 0, 10, result));
+
+        assertException(() -> NumberUtils.parseIntOrDefault(line, -1, 2, 10, 0), IndexOutOfBoundsException.class);
+        assertException(() -> NumberUtils.parseIntOrDefault(chars, 13, 2, 10, 0), IndexOutOfBoundsException.class);
+        assertException(() -> NumberUtils.parseIntOrDefault(bytes, 0, -1, 10, 0), IndexOutOfBoundsException.class);
+        assertException(() -> NumberUtils.parseInt(bytes, 0, 1, 10, (NumberParseResult) null), NullPointerException.class);
+    }
+
+    /**
+     * Test method for
+     * {@link NumberUtils#parseDoubleOrDefault(CharSequence, int, int, double)} and the
+     * other range parsers of decimal numbers.
+     */
+    @Test
+    public void testParseDecimalRange() {
+        final double delta = 0.000001;
+        final String line = "12.5;-.5e2;3f;Infinity;1.;0.1;1e";
+        final char[] chars = line.toCharArray();
+        final byte[] bytes = line.getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals(12.5, NumberUtils.parseDoubleOrDefault(line, 0, 4, 0.0), delta);
+        assertEquals(-50.0, NumberUtils.parseDoubleOrDefault(chars, 5, 5, 0.0), delta);
+        assertEquals(3.0, NumberUtils.parseDoubleOrDefault(bytes, 11, 2, 0.0), delta);
+        assertEquals(Double.POSITIVE_INFINITY, NumberUtils.parseDoubleOrDefault(bytes, 14, 8, 0.0), delta);
+        assertEquals(0.1f, NumberUtils.parseFloatOrDefault(chars, 26, 3, 0f), 0);
+        // same rules as the whole sequence parsers (Double#parseDouble), but
+        // without trimming
+        assertEquals(1.0, NumberUtils.parseDoubleOrDefault(line, 23, 2, -1.0), delta);
+        assertEquals(-1.0, NumberUtils.parseDoubleOrDefault(line, 30, 2, -1.0), delta);
+        for (String input : Arrays.asList("5.", "NaN", "-Infinity", "0x1p3", "1e5d", ".5f", "1e", "1..2", "0x")) {
+            final String padded = ";" + input + ";";
+            assertEquals(NumberUtils.parseDoubleOrDefault(input, -1.0), NumberUtils.parseDoubleOrDefault(padded, 1, input.length(), -1.0),
+                    input);
+            assertEquals(NumberUtils.parseFloatOrDefault(input, -1f),
+                    NumberUtils.parseFloatOrDefault(padded.getBytes(StandardCharsets.US_ASCII), 1, input.length(), -1f), input);
+        }
+        assertEquals(-1f, NumberUtils.parseFloatOrDefault(bytes, 4, 0, -1f), 0);
+
+        // long mantissas and large exponents are exactly rounded
+        final String precise = "2.2250738585072014E-308;9007199254740993;123456789012345678901234567890";
+        assertEquals(2.2250738585072014E-308, NumberUtils.parseDoubleOrDefault(precise, 0, 23, 0.0), 0);
+        assertEquals(9007199254740993.0, NumberUtils.parseDoubleOrDefault(precise, 24, 16, 0.0), 0);
+        assertEquals(123456789012345678901234567890.0, NumberUtils.parseDoubleOrDefault(precise.toCharArray(), 41, 30, 0.0), 0);
+
+        final NumberParseResult result = new NumberParseResult();
+        assertEquals(NumberParseResult.Status.VALID, NumberUtils.parseDouble(bytes, 0, 4, result));
+        assertEquals(12.5, result.getDouble(), delta);
+        assertEquals(NumberParseResult.Status.VALID, NumberUtils.parseFloat(line, 5, 5, result));
+        assertEquals(-50f, result.getFloat(), 0);
+        assertEquals(NumberParseResult.Status.INVALID, NumberUtils.parseDouble(chars, 4, 2, result));
+        assertEquals(NumberParseResult.Status.EMPTY, NumberUtils.parseFloat((char[]) null, 0, 0, result));
+
+        // surrounding whitespaces are invalid, like in the integral ranges
+        final String spaced = "; 12;12 ; ;";
+        for (int[] range : new int[][] {{1, 3}, {5, 3}, {9, 1}}) {
+            assertEquals(-1.0, NumberUtils.parseDoubleOrDefault(spaced, range[0], range[1], -1.0), 0);
+            assertEquals(-1f, NumberUtils.parseFloatOrDefault(spaced.toCharArray(), range[0], range[1], -1f), 0);
+            assertEquals(-1, NumberUtils.parseIntOrDefault(spaced.getBytes(StandardCharsets.US_ASCII), range[0], range[1], 10, -1));
+            assertEquals(NumberParseResult.Status.INVALID, NumberUtils.parseDouble(spaced, range[0], range[1], result));
+            assertEquals(NumberParseResult.Status.INVALID, NumberUtils.parseInt(spaced, range[0], range[1], 10, result));
+        }
+        // the whole sequence parsers trim like Double#parseDouble
+        assertEquals(12.0, NumberUtils.parseDoubleOrDefault(" 12", -1.0), 0);
+
+        assertException(() -> NumberUtils.parseDoubleOrDefault(line, 30, 5, 0.0), IndexOutOfBoundsException.class);
+    }
+
+    /**
+     * Test method for {@link NumberUtils#parseInts(CharSequence[], int, BitSet)}
+     * and the other column parsers.
+     */
+    @Test
+    public void testParseColumns() {
+        final BitSet invalids = new BitSet();
+        invalids.set(10);
+
+        assertArrayEquals(new int[] {12, -1, -1, -1, -5},
+                NumberUtils.parseInts(new String[] {"12", null, "x", "2147483648", "-5"}, -1, invalids));
+        assertEquals("{1, 2, 3}", invalids.toString());
+        assertArrayEquals(new long[] {12, 0, 2147483648L}, NumberUtils.parseLongs(Arrays.asList("12", "", "2147483648"), 0L, invalids));
+        assertEquals("{1}", invalids.toString());
+        assertArrayEquals(new double[] {1.5, Double.NaN, 2e-3}, NumberUtils.parseDoubles(new StringBuilder[] {new StringBuilder("1.5"),
+                new StringBuilder("1.5.2"), new StringBuilder("2e-3")}, Double.NaN, invalids));
+        assertEquals("{1}", invalids.toString());
+        assertArrayEquals(new int[0], NumberUtils.parseInts(new String[0], 0, invalids));
+        assertTrue(invalids.isEmpty());
+        assertArrayEquals(new int[] {1, 0}, NumberUtils.parseIntsParallel(new String[] {"1", "x"}, 0, null));
+
+        // large columns (split into chunks if the pool is parallel)
+        final int size = ColumnParser.CHUNK_SIZE * 5 + 3;
+        final String[] cells = new String[size];
+        for (int i = 0; i < size; ++i) {
+            cells[i] = i % 7 == 0 ? "n/a" : String.valueOf(i * 31L - 5_000);
+        }
+        final List<String> list = new LinkedList<>(Arrays.asList(cells));
+        final BitSet expected = new BitSet();
+        final int[] ints = new int[size];
+        final long[] longs = new long[size];
+        final double[] doubles = new double[size];
+        for (int i = 0; i < size; ++i) {
+            ints[i] = NumberUtils.parseIntOrDefault(cells[i], -1);
+            longs[i] = NumberUtils.parseLongOrDefault(cells[i], -1L);
+            doubles[i] = NumberUtils.parseDoubleOrDefault(cells[i], -1.0);
+            expected.set(i, i % 7 == 0);
+        }
+
+        assertArrayEquals(ints, NumberUtils.parseInts(cells, -1, invalids));
+        assertEquals(expected, invalids);
+        assertArrayEquals(ints, NumberUtils.parseIntsParallel(cells, -1, invalids));
+        assertEquals(expected, invalids);
+        assertArrayEquals(ints, NumberUtils.parseIntsParallel(list, -1, invalids));
+        assertEquals(expected, invalids);
+        assertArrayEquals(longs, NumberUtils.parseLongsParallel(cells, -1L, invalids));
+        assertEquals(expected, invalids);
+        assertArrayEquals(longs, NumberUtils.parseLongs(list, -1L, null));
+        assertArrayEquals(doubles, NumberUtils.parseDoublesParallel(list, -1.0, invalids));
+        assertEquals(expected, invalids);
+        assertArrayEquals(doubles, NumberUtils.parseDoubles(cells, -1.0, null));
+
+        assertException(() -> NumberUtils.parseInts((String[]) null, 0, null), NullPointerException.class);
+        assertException(() -> NumberUtils.parseDoublesParallel((List<String>) null, 0, null), NullPointerException.class);
+    }
 }
@@ -684,6 +684,85 @@ public class NumberUtilsTest extends AbstractTest {
         assertFalse(NumberUtils.isNumberDecimal((Object) null));
     }
 
+    /**
+     * Test method for {@link NumberUtils#classify} .
+     */
+    @Test
+    public void testClassify() {
+        final NumberClassification classification = new NumberClassification();
+
+        assertTrue(NumberUtils.classify("25", classification));
+        assertEquals(NumberClassification.Type.BYTE, classification.getType());
+        assertTrue(classification.isInteger());
+        assertFalse(classification.isDecimal());
+        assertFalse(classification.isNegative());
+        assertEquals((byte) 25, classification.getValue());
+
+        assertTrue(NumberUtils.classify("-128", classification));
+        assertEquals(NumberClassification.Type.BYTE, classification.getType());
+        assertTrue(classification.isNegative());
+        assertEquals(-128L, classification.getLong());
+
+        assertEquals(NumberClassification.Type.SHORT, NumberUtils.classify("128").getType());
+        assertEquals(NumberClassification.Type.INTEGER, NumberUtils.classify("-40000").getType());
+        assertEquals(NumberClassification.Type.LONG, NumberUtils.classify("2147483648").getType());
+        assertEquals(Long.MIN_VALUE, NumberUtils.classify("-9223372036854775808").getValue());
+        assertEquals(new BigInteger("9223372036854775808"), NumberUtils.classify("9223372036854775808").getValue());
+
+        assertTrue(NumberUtils.classify("+40l", classification));
+        assertEquals(NumberClassification.Type.LONG, classification.getType());
+        assertEquals('l', classification.getSuffix());
+        assertEquals(40L, classification.getValue());
+
+        assertTrue(NumberUtils.classify("2.5", classification));
+        assertEquals(NumberClassification.Type.FLOAT, classification.getType());
+        assertTrue(classification.isDecimal());
+        assertEquals(0, classification.getSuffix());
+        assertEquals(2.5f, classification.getValue());
+
+        assertTrue(NumberUtils.classify("-3.14159265358", classification));
+        assertEquals(NumberClassification.Type.DOUBLE, classification.getType());
+        assertEquals(-3.14159265358, classification.getDouble(), 0);
+
+        assertTrue(NumberUtils.classify(".5e-3", classification));
+        assertTrue(classification.hasExponent());
+        assertEquals(-3, classification.getExponent());
+        assertEquals(5e-4f, classification.getFloat(), 0);
+
+        assertTrue(NumberUtils.classify("2.5D", classification));
+        assertEquals(NumberClassification.Type.DOUBLE, classification.getType());
+        assertEquals('D', classification.getSuffix());
+        assertEquals(2.5, classification.getValue());
+
+        assertTrue(NumberUtils.classify("1.5e400", classification));
+        assertEquals(NumberClassification.Type.BIG_DECIMAL, classification.getType());
+        assertEquals(new BigDecimal("1.5e400"), classification.getValue());
+        assertEquals(Double.POSITIVE_INFINITY, classification.getDouble(), 0);
+        assertException(() -> classification.getLong(), IllegalStateException.class);
+
+        assertTrue(NumberUtils.classify("-Infinity", classification));
+        assertTrue(classification.isInfinite());
+        assertEquals(Float.NEGATIVE_INFINITY, classification.getValue());
+
+        assertTrue(NumberUtils.classify("x=255;", 2, 3, classification));
+        assertEquals(NumberClassification.Type.SHORT, classification.getType());
+        assertEquals((short) 255, classification.getValue());
+        assertException(() -> NumberUtils.classify("255", 2, 3, classification), IndexOutOfBoundsException.class);
+        assertException(() -> NumberUtils.classify("255", null), NullPointerException.class);
+
+        for (String invalid : new String[] {null, "", "+", "-", "L", ".", "25.", "1e", "1e5L", "2.5L", "25ff", "Inf", "0x10", " 1"}) {
+            assertFalse(NumberUtils.classify(invalid, classification), invalid);
+            assertFalse(classification.isNumber());
+            assertNull(classification.getType());
+            assertException(() -> classification.getValue(), IllegalStateException.class);
+        }
+
+        // fixed: sign or suffix only
+        assertFalse(NumberUtils.isNumberInteger("+", true));
+        assertFalse(NumberUtils.isNumberInteger("L", true));
+        assertFalse(NumberUtils.isNumberDecimal("-", true, true));
+    }
+
     /**
      * Test method for {@link NumberUtils#signum} .
      */
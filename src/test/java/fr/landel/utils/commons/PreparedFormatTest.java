@@ -0,0 +1,177 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.IllegalFormatConversionException;
+import java.util.Locale;
+import java.util.UnknownFormatConversionException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Check {@link PreparedFormat}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class PreparedFormatTest extends AbstractTest {
+
+    /**
+     * Test method for {@link PreparedFormat#prepare(CharSequence, int, int)}.
+     */
+    @Test
+    public void testPrepare() {
+        final PreparedFormat format = PreparedFormat.prepare("%s '%s*' '%s*' '%1$.2f' '%1$s*' '%s' '%s'", 2, 3);
+
+        assertEquals("%s '%s*' '%s*' '%1$.2f' '%1$s*' '%s' '%s'", format.getPattern());
+        assertEquals("%3$s '%1$s' '%2$s' '%3$.2f' '%1$s' '%4$s' '%5$s'", format.getFormat());
+        assertEquals(format.getFormat(), format.toString());
+        assertEquals(2, format.getParametersCount());
+        assertEquals(3, format.getArgumentsCount());
+
+        assertSame(format,
+                PreparedFormat.prepare(new StringBuilder("%s '%s*' '%s*' '%1$.2f' '%1$s*' '%s' '%s'"), 2, 3));
+        assertNotSame(format, PreparedFormat.prepare("%s '%s*' '%s*' '%1$.2f' '%1$s*' '%s' '%s'", 2, 2));
+        assertEquals("%3$s '%1$s' '%2$s' '%3$.2f' '%1$s' '%4$s' ''",
+                PreparedFormat.prepare("%s '%s*' '%s*' '%1$.2f' '%1$s*' '%s' '%s'", 2, 2).getFormat());
+
+        assertEquals("%4$s '%2$s'", PreparedFormat.prepare("%s '%s*'", 2, 2, 3, 1).getFormat());
+        assertEquals("", PreparedFormat.prepare("", 0, 0).getFormat());
+        assertEquals("100", PreparedFormat.prepare("100%", 0, 0).getFormat());
+
+        assertThrows(NullPointerException.class, () -> PreparedFormat.prepare(null, 0, 0));
+    }
+
+    /**
+     * Test method for {@link PreparedFormat#format(Locale, Object[], Object...)}.
+     */
+    @Test
+    public void testFormat() {
+        final PreparedFormat format = PreparedFormat.prepare("%s '%s*' '%s*' '%1$.2f' '%1$s*' '%s' '%s'", 2, 3);
+        final Object[] parameters = new Object[] {"param1", "param2"};
+
+        assertEquals("1.5 'param1' 'param2' '1.50' 'param1' 'arg2' 'arg3'",
+                format.format(Locale.US, parameters, 1.5f, "arg2", "arg3"));
+        assertEquals("1.5 'param1' 'param2' '1,50' 'param1' 'arg2' 'arg3'",
+                format.format(Locale.FRENCH, parameters, 1.5f, "arg2", "arg3"));
+
+        // other counts, prepared again
+        assertEquals("1.5 'param1' 'param2' '1.50' 'param1' 'arg2' ''",
+                format.format(Locale.US, parameters, 1.5f, "arg2"));
+        assertEquals("1.5 'param1' 'param2' '1.50' 'param1' 'arg2' ''",
+                PreparedFormat.prepare("%s '%s*' '%s*' '%1$.2f' '%1$s*' '%s' '%s'", 2, 1, 3, 1).format(Locale.US,
+                        parameters, 1.5f, "arg2"));
+
+        assertEquals("test", PreparedFormat.prepare("%s", 0, 1).format(new Object[0], "test"));
+
+        assertThrows(NullPointerException.class, () -> format.format(Locale.US, null, "arg"));
+        assertEquals("", PreparedFormat.prepare("%2$s", 0, 2).format(new Object[0], "test"));
+        assertThrows(IllegalFormatConversionException.class,
+                () -> PreparedFormat.prepare("%d", 0, 1).format(new Object[0], "test"));
+    }
+
+    /**
+     * Test method for {@link PreparedFormat#format(Locale, Object[], Object...)}
+     * (conversions rendered without {@link java.util.Formatter}).
+     */
+    @Test
+    public void testFormatConversions() {
+        final Object[] none = new Object[0];
+        final String[] formats = {"%1$s|%1$10s|%1$-10s|%1$.2s|%1$8.3s",
+                "%1$d|%1$8d|%1$-8d|%1$+d|%1$ d|%1$08d|%1$,d|%1$(d",
+                "%1$+,015d|%1$(,d|%1$ (8d", "%1$x|%1$X|%1$#x|%1$#X|%1$08x|%1$#010X|%1$-8x|",
+                "%1$f|%1$.0f|%1$.2f|%1$12.3f|%1$-12.3f|%1$+.1f|%1$ .1f|%1$012.2f|%1$,.2f|%1$(.3f|%1$+,015.2f"};
+        final Object[] values = {0, 1, -1, 42, 123_456_789, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE,
+                (short) -3, (byte) -128, 0d, -0d, 0.5, 1.5, 2.5, 0.125, 1.005, 9.995, 99.5, 1_234_567.891, -0.0001,
+                1e23, Double.MIN_VALUE, Double.MAX_VALUE, 1.025f, -3.14159f};
+
+        for (Locale locale : new Locale[] {Locale.US, Locale.FRANCE, Locale.GERMANY, new Locale("hi", "IN")}) {
+            for (String format : formats) {
+                for (Object value : values) {
+                    final boolean numeric = format.indexOf('d') > -1 || format.indexOf('x') > -1;
+                    if (numeric && !(value instanceof Long || value instanceof Integer || value instanceof Short
+                            || value instanceof Byte) || format.indexOf('f') > -1 && !(value instanceof Double
+                                    || value instanceof Float)) {
+                        continue;
+                    }
+                    assertEquals(String.format(locale, format, value),
+                            PreparedFormat.prepare(format, 0, 1).format(locale, none, value), format + " " + value);
+                }
+            }
+        }
+
+        // the text specifiers are also reindexed by prepareFormat
+        final PreparedFormat text = PreparedFormat.prepare("%1$s %% %n", 0, 3);
+        assertEquals(String.format(Locale.US, text.getFormat(), "a", "b", "c"),
+                text.format(Locale.US, none, "a", "b", "c"));
+
+        // delegated to the formatter
+        assertEquals(String.format(Locale.US, "%1$e %1$g %1$a", 1234.5),
+                PreparedFormat.prepare("%1$e %1$g %1$a", 0, 1).format(Locale.US, none, 1234.5));
+        assertEquals("1970", PreparedFormat.prepare("%tY", 0, 1).format(Locale.US, none, new Date(0)));
+        assertEquals("12,345,678,901,234,567,890 NaN null",
+                PreparedFormat.prepare("%,d %f %d", 0, 3).format(Locale.US, none,
+                        new BigInteger("12345678901234567890"), Double.NaN, null));
+        final Locale arabic = new Locale("ar", "EG");
+        assertEquals(String.format(arabic, "%d %.2f", 42, 1.5),
+                PreparedFormat.prepare("%d %.2f", 0, 2).format(arabic, none, 42, 1.5));
+        assertEquals("a b b", PreparedFormat.prepare("%1$s %2$s %2$<s", 0, 2).format(Locale.US, none, "a", "b"));
+
+        assertThrows(IllegalFormatConversionException.class,
+                () -> PreparedFormat.prepare("%s %d", 0, 2).format(new Object[0], "test", "test"));
+        assertThrows(UnknownFormatConversionException.class,
+                () -> PreparedFormat.prepare("%s %d %1$", 0, 2).format(new Object[0], "test", "test"));
+    }
+
+    /**
+     * Test method for
+     * {@link PreparedFormat#formatTo(StringBuilder, Locale, Object[], Object...)}.
+     */
+    @Test
+    public void testFormatTo() {
+        final PreparedFormat format = PreparedFormat.prepare("%s*: %,.2f", 1, 1);
+
+        assertEquals("> total: 1,234.57",
+                format.formatTo(new StringBuilder("> "), Locale.US, new Object[] {"total"}, 1234.567).toString());
+        assertEquals("total: 1,234 items",
+                PreparedFormat.prepare("%s*: %,d items", 1, 1)
+                        .formatTo(new StringBuilder(), Locale.US, new Object[] {"total"}, 1234).toString());
+
+        // reentrant call from toString
+        final Object reentrant = new Object() {
+            @Override
+            public String toString() {
+                return format.format(Locale.US, new Object[] {"inner"}, 1d);
+            }
+        };
+        assertEquals("[inner: 1.00]: 2.00",
+                PreparedFormat.prepare("[%s*]: %.2f", 1, 1).format(Locale.US, new Object[] {reentrant}, 2d));
+
+        assertThrows(NullPointerException.class, () -> format.formatTo(null, Locale.US, new Object[] {"total"}, 1d));
+    }
+}
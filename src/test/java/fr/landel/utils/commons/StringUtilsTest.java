@@ -19,22 +19,39 @@
  */
 package fr.landel.utils.commons;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.Spliterator;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
@@ -209,6 +226,13 @@ public class StringUtilsTest extends AbstractTest {
 		// not checked
 		assertEquals("", StringUtils.substring(str, "::", 100, 10));
 		assertEquals("", StringUtils.substring(str, "::", -10, 2));
+
+		// overlapping separator, split from the left whatever the direction
+		assertEquals(":b", StringUtils.substring("a:::b", "::", -1));
+		assertEquals("a", StringUtils.substring("a:::b", "::", -2));
+		assertEquals("abab", StringUtils.substring("abababa", "aba", 0, -1));
+
+		assertThrows(IllegalArgumentException.class, () -> StringUtils.substring("a:b", "", 0));
 	}
 
 	/**
@@ -505,6 +529,64 @@ public class StringUtilsTest extends AbstractTest {
 		}
 	}
 
+	/**
+	 * Test method for
+	 * {@link StringUtils#injectTo(Appendable, CharSequence, Object...)} and
+	 * {@link StringUtils#injectTo(Appendable, java.io.Reader, Object...)}.
+	 * 
+	 * @throws IOException on error
+	 */
+	@Test
+	public void testInjectTo() throws IOException {
+		assertEquals("", StringUtils.injectTo(new StringBuilder(), "", "test").toString());
+		assertEquals("Test", StringUtils.injectTo(new StringBuilder(), "Test", (Object[]) null).toString());
+		assertEquals(">I'll go to the beach this afternoon", StringUtils
+				.injectTo(new StringBuilder(">"), "I'll go to the {1} this {}", "afternoon", "beach").toString());
+		assertEquals("I'll go to {}beach the afternoon{0} {4} {text}",
+				StringUtils.injectTo(new StringWriter(), "I'll go to {{}}{3} {} {2}{{0}} {4} {text}", "the", "this",
+						"afternoon", "beach").toString());
+
+		assertEquals("I'll go to {}beach the afternoon{0} {4} {text}",
+				StringUtils.injectTo(new StringWriter(),
+						new StringReader("I'll go to {{}}{3} {} {2}{{0}} {4} {text}"), "the", "this", "afternoon",
+						"beach").toString());
+
+		assertThrows(IllegalArgumentException.class, () -> StringUtils.injectTo(new StringBuilder(), (String) null));
+		assertThrows(NullPointerException.class, () -> StringUtils.injectTo(null, "{}", "test"));
+		assertThrows(NullPointerException.class,
+				() -> StringUtils.injectTo(new StringBuilder(), (StringReader) null, "test"));
+	}
+
+	/**
+	 * Test method for
+	 * {@link StringUtils#injectKeysTo(Appendable, CharSequence, Map)} and
+	 * {@link StringUtils#injectKeysTo(Appendable, java.io.Reader, Map)}.
+	 * 
+	 * @throws IOException on error
+	 */
+	@Test
+	public void testInjectKeysTo() throws IOException {
+		final Map<String, Object> map = new HashMap<>();
+		map.put("key1", "test1");
+		map.put("key2", "test2");
+
+		assertEquals("", StringUtils.injectKeysTo(new StringBuilder(), "", map).toString());
+		assertEquals("{key1}", StringUtils.injectKeysTo(new StringBuilder(), "{key1}", null).toString());
+		assertEquals("test1 {key0} test2 test1 {key1}", StringUtils
+				.injectKeysTo(new StringWriter(), "{key1} {key0} {key2} {key1} {{key1}}", map).toString());
+		assertEquals("test1 {key0} test2 test1 {key1}", StringUtils
+				.injectKeysTo(new StringWriter(), new StringReader("{key1} {key0} {key2} {key1} {{key1}}"), map)
+				.toString());
+		assertEquals("test1 ${key1}", StringUtils.injectKeysTo(new StringBuilder(), Pair.of("${", "}"),
+				Pair.of("$${", "}}"), new StringReader("${key1} $${key1}}"), map).toString());
+
+		assertThrows(IllegalArgumentException.class,
+				() -> StringUtils.injectKeysTo(new StringBuilder(), (String) null, map));
+		assertThrows(IllegalArgumentException.class, () -> StringUtils.injectKeysTo(new StringBuilder(),
+				Pair.of("{", "}"), Pair.of("{", "}"), "{key1}", map));
+		assertThrows(NullPointerException.class, () -> StringUtils.injectKeysTo(null, "{key1}", map));
+	}
+
 	/**
 	 * Test method for
 	 * {@link StringUtils#injectKeys(CharSequence, org.apache.commons.lang3.tuple.Pair...)}
@@ -806,6 +888,59 @@ public class StringUtilsTest extends AbstractTest {
 		assertEquals("\\\"t\"o\"t\"\"o", StringUtils.replaceQuotes("\\'t\'o't''o"));
 	}
 
+	/**
+	 * Test method for {@link StringUtils#joinParallel(Collection, String, Function)}
+	 * and {@link StringUtils#joinParallel(Spliterator, String, Function)}
+	 */
+	@Test
+	public void testJoinParallel() {
+		final List<Integer> ids = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+		final String expected = ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+
+		assertEquals(expected, StringUtils.joinParallel(ids, ",", null));
+		assertEquals(expected.replace(",", ""), StringUtils.joinParallel(ids, null, null));
+		assertEquals(ids.stream().map(i -> "#" + i).collect(Collectors.joining(", ")),
+				StringUtils.joinParallel(new LinkedList<>(ids), ", ", i -> "#" + i));
+
+		assertEquals("a,,null,b", StringUtils.joinParallel(Arrays.asList("a", "", null, "b"), ",", null));
+		assertEquals("A,,null", StringUtils.joinParallel(Arrays.spliterator(new String[] { "a", "", null }), ",",
+				StringUtils::upperCase));
+		assertEquals("", StringUtils.joinParallel(Collections.emptyList(), ",", null));
+		assertNull(StringUtils.joinParallel((Collection<String>) null, ",", null));
+		assertNull(StringUtils.joinParallel((Spliterator<String>) null, ",", null));
+	}
+
+	/**
+	 * Test method for {@link StringUtils#joining(String, Function)}
+	 */
+	@Test
+	public void testJoining() {
+		final List<Integer> ids = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+		final String expected = ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+
+		assertEquals(expected, ids.parallelStream().collect(StringUtils.joining(",", null)));
+		assertEquals(expected, ids.stream().collect(StringUtils.joining(",", String::valueOf)));
+		assertEquals("1|null|3", Stream.of(1, null, 3).collect(StringUtils.joining("|", null)));
+		assertEquals("", Stream.empty().collect(StringUtils.joining("|", null)));
+		assertEquals("ab", Stream.of("a", "b").collect(StringUtils.joining(null, null)));
+	}
+
+	/**
+	 * Test method for {@link StringUtils#replaceEach(CharSequence, Map)}
+	 */
+	@Test
+	public void testReplaceEach() {
+		final Map<String, String> replacements = new HashMap<>();
+		replacements.put("password", "***");
+		replacements.put("pass", "*");
+
+		assertEquals("*=1, ***=2", StringUtils.replaceEach("pass=1, password=2", replacements));
+		assertEquals("text", StringUtils.replaceEach("text", replacements));
+		assertNull(StringUtils.replaceEach(null, replacements));
+
+		assertThrows(NullPointerException.class, () -> StringUtils.replaceEach("text", null));
+	}
+
 	/**
 	 * Test method for {@link StringUtils#concat(Object...)}
 	 */
@@ -821,6 +956,79 @@ public class StringUtilsTest extends AbstractTest {
 
 		assertException(() -> StringUtils.concat((Object[]) null), NullPointerException.class,
 				"Parameter 'objects' cannot be null");
+
+		assertEquals("12.5truex", StringUtils.concat(1, 2.5, true, new StringBuilder("x")));
+		assertEquals("\u00e9\u20ac", StringUtils.concat("\u00e9", '\u20ac'));
+		assertEquals("test", StringUtils.concat("test"));
+	}
+
+	/**
+	 * Test method for {@link StringUtils#concatLatin1(Object...)}
+	 */
+	@Test
+	public void testConcatLatin1() {
+		assertArrayEquals(new byte[0], StringUtils.concatLatin1());
+		assertArrayEquals("null test 12".getBytes(StandardCharsets.ISO_8859_1),
+				StringUtils.concatLatin1(null, " test ", 12));
+		assertArrayEquals("\u00e9t\u00e9 ?".getBytes(StandardCharsets.ISO_8859_1),
+				StringUtils.concatLatin1("\u00e9t\u00e9", ' ', "\u20ac"));
+
+		// one '?' per code point (emoji as surrogate pair, even split)
+		final String emoji = "a\ud83d\ude00b\ud83d\ud83d\ude00\ude00";
+		assertArrayEquals(emoji.getBytes(StandardCharsets.ISO_8859_1), StringUtils.concatLatin1(emoji));
+		assertArrayEquals("a?b???".getBytes(StandardCharsets.ISO_8859_1), StringUtils.concatLatin1(emoji));
+		assertArrayEquals("??".getBytes(StandardCharsets.ISO_8859_1),
+				StringUtils.concatLatin1('\ud83d', '\ude00', "\ud83d\ude00"));
+
+		assertException(() -> StringUtils.concatLatin1((Object[]) null), NullPointerException.class,
+				"Parameter 'objects' cannot be null");
+	}
+
+	/**
+	 * Test method for {@link StringUtils#concatTo(Appendable, Object...)} and
+	 * {@link StringUtils#concatTo(ByteBuffer, Object...)}
+	 * 
+	 * @throws IOException on write failure
+	 */
+	@Test
+	public void testConcatTo() throws IOException {
+		final StringBuilder builder = new StringBuilder("> ");
+		assertSame(builder, StringUtils.concatTo(builder, null, " test ", 12, '\u20ac'));
+		assertEquals("> null test 12\u20ac", builder.toString());
+
+		final ByteBuffer heap = ByteBuffer.allocate(20);
+		heap.put((byte) '>');
+		assertSame(heap, StringUtils.concatTo(heap, null, " test ", 12, "\u00e9"));
+		assertEquals(14, heap.position());
+		assertEquals(">null test 12\u00e9", new String(heap.array(), 0, 14, StandardCharsets.ISO_8859_1));
+
+		final ByteBuffer direct = ByteBuffer.allocateDirect(4);
+		StringUtils.concatTo(direct, "a", '\u20ac', 'b');
+		assertEquals(3, direct.position());
+		direct.flip();
+		assertEquals('a', direct.get());
+		assertEquals('?', direct.get());
+
+		final ByteBuffer emoji = ByteBuffer.allocate(3);
+		StringUtils.concatTo(emoji, "\ud83d\ude00", "\ud83d", '\ude00', "!");
+		assertEquals(3, emoji.position());
+		assertEquals("??!", new String(emoji.array(), StandardCharsets.ISO_8859_1));
+		final ByteBuffer directEmoji = ByteBuffer.allocateDirect(2);
+		StringUtils.concatTo(directEmoji, "\ud83d\ude00", '\ud83d');
+		assertEquals(2, directEmoji.position());
+
+		final ByteBuffer small = ByteBuffer.allocate(3);
+		assertThrows(BufferOverflowException.class, () -> StringUtils.concatTo(small, "ab", "cd"));
+		assertEquals(0, small.position());
+		assertThrows(ReadOnlyBufferException.class,
+				() -> StringUtils.concatTo(ByteBuffer.allocate(3).asReadOnlyBuffer(), "ab"));
+
+		assertException(() -> StringUtils.concatTo((Appendable) null, "a"), NullPointerException.class,
+				"Parameter 'output' cannot be null");
+		assertException(() -> StringUtils.concatTo((ByteBuffer) null, "a"), NullPointerException.class,
+				"Parameter 'buffer' cannot be null");
+		assertException(() -> StringUtils.concatTo(builder, (Object[]) null), NullPointerException.class,
+				"Parameter 'objects' cannot be null");
 	}
 
 	/**
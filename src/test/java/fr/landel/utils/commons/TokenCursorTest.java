@@ -0,0 +1,127 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Check {@link TokenCursor}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class TokenCursorTest extends AbstractTest {
+
+    /**
+     * Test method for {@link TokenCursor#next()} and
+     * {@link TokenCursor#previous()}.
+     */
+    @Test
+    public void testNavigation() {
+        final TokenCursor cursor = TokenCursor.of("test1::test2:test3::::test4", "::");
+
+        final List<String> tokens = new ArrayList<>();
+        while (cursor.next()) {
+            tokens.add(cursor.token().toString());
+        }
+        assertEquals(Arrays.asList("test1", "test2:test3", "", "test4"), tokens);
+        assertEquals(22, cursor.start());
+        assertEquals(27, cursor.end());
+
+        tokens.clear();
+        cursor.reset();
+        assertFalse(cursor.isPositioned());
+        while (cursor.previous()) {
+            tokens.add(cursor.substring());
+        }
+        assertEquals(Arrays.asList("test4", "", "test2:test3", "test1"), tokens);
+        assertTrue(cursor.isPositioned());
+        assertTrue(cursor.next());
+        assertEquals("test2:test3", cursor.substring());
+
+        final TokenCursor empty = TokenCursor.of("", ";");
+        assertTrue(empty.next());
+        assertEquals("", empty.substring());
+        assertFalse(empty.next());
+        assertFalse(empty.previous());
+
+        assertThrows(IllegalStateException.class, () -> cursor.reset().token());
+        assertThrows(IllegalStateException.class, () -> cursor.start());
+        assertThrows(NullPointerException.class, () -> TokenCursor.of(null, ";"));
+        assertThrows(NullPointerException.class, () -> TokenCursor.of("a", null));
+        assertThrows(IllegalArgumentException.class, () -> TokenCursor.of("a", ""));
+    }
+
+    /**
+     * Test method for {@link TokenCursor#moveTo(int)}.
+     */
+    @Test
+    public void testMoveTo() {
+        final TokenCursor cursor = TokenCursor.of(new StringBuilder("a;b;c"), ";");
+
+        assertTrue(cursor.moveTo(0));
+        assertEquals("a", cursor.substring());
+        assertTrue(cursor.moveTo(2));
+        assertEquals("c", cursor.token().toString());
+        assertTrue(cursor.moveTo(-1));
+        assertEquals("c", cursor.substring());
+        assertTrue(cursor.moveTo(-3));
+        assertEquals("a", cursor.substring());
+
+        assertFalse(cursor.moveTo(3));
+        assertFalse(cursor.isPositioned());
+        assertFalse(cursor.moveTo(-4));
+        assertFalse(cursor.isPositioned());
+    }
+
+    /**
+     * Test method for {@link TokenCursor} with a separator overlapping itself.
+     */
+    @Test
+    public void testOverlapping() {
+        assertTrue(TokenCursor.isOverlapping("::"));
+        assertTrue(TokenCursor.isOverlapping("aba"));
+        assertFalse(TokenCursor.isOverlapping("ab"));
+        assertFalse(TokenCursor.isOverlapping(";"));
+
+        // the tokens are the ones of a split from the left
+        final TokenCursor cursor = TokenCursor.of("a:::b::c", "::");
+        assertTrue(cursor.moveTo(-1));
+        assertEquals("c", cursor.substring());
+        assertTrue(cursor.previous());
+        assertEquals(":b", cursor.substring());
+        assertTrue(cursor.previous());
+        assertEquals("a", cursor.substring());
+        assertFalse(cursor.previous());
+
+        assertEquals(3, TokenCursor.countTokens("a:::b::c", "::"));
+        assertEquals(3, TokenCursor.lastIndexOfToken("a:::b::c", "::", -2));
+    }
+}
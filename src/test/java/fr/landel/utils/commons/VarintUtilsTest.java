@@ -0,0 +1,162 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Check {@link VarintUtils}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class VarintUtilsTest extends AbstractTest {
+
+    /**
+     * Test constructor for {@link VarintUtils} .
+     */
+    @Test
+    public void testConstructors() {
+        assertTrue(checkPrivateConstructor(VarintUtils.class));
+    }
+
+    /**
+     * Test method for {@link VarintUtils#encodeZigZag(int)} and
+     * {@link VarintUtils#decodeZigZag(int)}.
+     */
+    @Test
+    public void testZigZag() {
+        assertEquals(0, VarintUtils.encodeZigZag(0));
+        assertEquals(1, VarintUtils.encodeZigZag(-1));
+        assertEquals(2, VarintUtils.encodeZigZag(1));
+        assertEquals(3, VarintUtils.encodeZigZag(-2));
+        assertEquals(-1, VarintUtils.encodeZigZag(Integer.MIN_VALUE));
+        assertEquals(-2, VarintUtils.encodeZigZag(Integer.MAX_VALUE));
+        assertEquals(-1L, VarintUtils.encodeZigZag(Long.MIN_VALUE));
+        assertEquals(3L, VarintUtils.encodeZigZag(-2L));
+
+        final Random random = new Random(47);
+        for (int i = 0; i < 1_000; ++i) {
+            final int value = random.nextInt();
+            final long longValue = random.nextLong();
+            assertEquals(value, VarintUtils.decodeZigZag(VarintUtils.encodeZigZag(value)));
+            assertEquals(longValue, VarintUtils.decodeZigZag(VarintUtils.encodeZigZag(longValue)));
+        }
+    }
+
+    /**
+     * Test method for the array codecs.
+     */
+    @Test
+    public void testArrays() {
+        final byte[] bytes = new byte[12];
+        assertEquals(3, VarintUtils.putInt(bytes, 1, 300));
+        assertArrayEquals(new byte[] {0, (byte) 0xac, 0x02}, Arrays.copyOf(bytes, 3));
+        assertEquals(300, VarintUtils.getInt(bytes, 1));
+        assertEquals(300L, VarintUtils.getLong(bytes, 1));
+        assertEquals(3, VarintUtils.next(bytes, 1));
+
+        assertEquals(5, VarintUtils.putInt(bytes, 0, -1));
+        assertArrayEquals(new byte[] {-1, -1, -1, -1, 0x0f}, Arrays.copyOf(bytes, 5));
+        assertEquals(-1, VarintUtils.getInt(bytes, 0));
+        assertEquals(10, VarintUtils.putLong(bytes, 0, -1L));
+        assertEquals(-1L, VarintUtils.getLong(bytes, 0));
+        assertEquals(10, VarintUtils.next(bytes, 0));
+        assertEquals(1, VarintUtils.putSignedInt(bytes, 0, -2));
+        assertEquals(3, bytes[0]);
+        assertEquals(-2, VarintUtils.getSignedInt(bytes, 0));
+        assertEquals(1, VarintUtils.putSignedLong(bytes, 0, -1L));
+        assertEquals(-1L, VarintUtils.getSignedLong(bytes, 0));
+
+        final Random random = new Random(53);
+        for (int i = 0; i < 1_000; ++i) {
+            final int value = random.nextInt() >>> random.nextInt(Integer.SIZE);
+            final long longValue = random.nextLong() >>> random.nextInt(Long.SIZE);
+            final int end = VarintUtils.putInt(bytes, 2, value);
+            assertEquals(VarintUtils.sizeOf(value), end - 2);
+            assertEquals(end, VarintUtils.next(bytes, 2));
+            assertEquals(value, VarintUtils.getInt(bytes, 2));
+            final int longEnd = VarintUtils.putLong(bytes, 1, longValue);
+            assertEquals(VarintUtils.sizeOf(longValue), longEnd - 1);
+            assertEquals(longValue, VarintUtils.getLong(bytes, 1));
+            assertEquals(-value, VarintUtils.getSignedInt(bytes, VarintUtils.putSignedInt(bytes, 0, -value) - VarintUtils.sizeOf(
+                    VarintUtils.encodeZigZag(-value))));
+        }
+        assertEquals(1, VarintUtils.sizeOf(0));
+        assertEquals(1, VarintUtils.sizeOf(127));
+        assertEquals(2, VarintUtils.sizeOf(128));
+        assertEquals(5, VarintUtils.sizeOf(-1));
+        assertEquals(10, VarintUtils.sizeOf(-1L));
+        assertEquals(9, VarintUtils.sizeOf(Long.MAX_VALUE));
+
+        assertException(() -> VarintUtils.putInt(new byte[1], 0, 128), IndexOutOfBoundsException.class);
+        assertException(() -> VarintUtils.getInt(new byte[] {(byte) 0x80}, 0), IndexOutOfBoundsException.class);
+        assertException(() -> VarintUtils.getInt(new byte[] {-1, -1, -1, -1, 0x10}, 0), IllegalArgumentException.class,
+                "Malformed varint at offset 0");
+        assertException(() -> VarintUtils.getInt(new byte[] {-1, -1, -1, -1, -1, 0}, 0), IllegalArgumentException.class);
+        assertException(() -> VarintUtils.getLong(new byte[] {-1, -1, -1, -1, -1, -1, -1, -1, -1, 2}, 0), IllegalArgumentException.class);
+        assertException(() -> VarintUtils.next(new byte[11], -1), IndexOutOfBoundsException.class);
+        final byte[] tooLong = new byte[11];
+        Arrays.fill(tooLong, (byte) 0x80);
+        assertException(() -> VarintUtils.next(tooLong, 0), IllegalArgumentException.class);
+    }
+
+    /**
+     * Test method for the buffer codecs.
+     */
+    @Test
+    public void testBuffers() {
+        for (ByteBuffer buffer : Arrays.asList(ByteBuffer.allocate(32), ByteBuffer.allocateDirect(32))) {
+            assertEquals(2, VarintUtils.putInt(buffer, 300));
+            assertEquals(5, VarintUtils.putInt(buffer, Integer.MIN_VALUE));
+            assertEquals(10, VarintUtils.putLong(buffer, Long.MIN_VALUE));
+            assertEquals(1, VarintUtils.putSignedInt(buffer, -1));
+            assertEquals(10, VarintUtils.putSignedLong(buffer, Long.MIN_VALUE));
+            assertEquals(28, buffer.position());
+            buffer.flip();
+
+            assertEquals(300, VarintUtils.getInt(buffer));
+            assertEquals(Integer.MIN_VALUE, VarintUtils.getInt(buffer));
+            assertEquals(Long.MIN_VALUE, VarintUtils.getLong(buffer));
+            assertEquals(-1, VarintUtils.getSignedInt(buffer));
+            assertEquals(Long.MIN_VALUE, VarintUtils.getSignedLong(buffer));
+            assertEquals(28, buffer.position());
+
+            buffer.clear().position(30);
+            assertException(() -> VarintUtils.putLong(buffer, Long.MAX_VALUE), BufferOverflowException.class);
+            assertEquals(30, buffer.position());
+            assertEquals(2, VarintUtils.putInt(buffer, 128));
+            buffer.position(30).limit(31);
+            assertException(() -> VarintUtils.getInt(buffer), BufferUnderflowException.class);
+        }
+        assertException(() -> VarintUtils.getInt(ByteBuffer.wrap(new byte[] {-1, -1, -1, -1, -1, 0})), IllegalArgumentException.class);
+    }
+}
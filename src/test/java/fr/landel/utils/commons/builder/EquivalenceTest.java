@@ -0,0 +1,256 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import fr.landel.utils.commons.exception.FunctionException;
+
+/**
+ * Check {@link Equivalence}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class EquivalenceTest {
+
+    /**
+     * Test method for {@link Equivalence#equals(Object, Object)}.
+     */
+    @Test
+    public void testEquals() {
+        final Equivalence<Bean> equivalence = Equivalence.builder(Bean.class).appendInt(Bean::getCount).appendLong(Bean::getId)
+                .appendDouble(Bean::getRate).appendBoolean(Bean::isActive).append(Bean::getName).append(Bean::getTags).build();
+
+        final Bean bean1 = new Bean(1, 2L, 3.5, true, "name", "a", "b");
+        final Bean bean2 = new Bean(1, 2L, 3.5, true, "name", "a", "b");
+
+        assertEquals(Bean.class, equivalence.getType());
+        assertTrue(equivalence.equals(bean1, bean1));
+        assertTrue(equivalence.equals(bean1, bean2));
+        assertTrue(equivalence.equals(null, null));
+        assertFalse(equivalence.equals(bean1, null));
+        assertFalse(equivalence.equals(null, bean1));
+        assertFalse(equivalence.equals(bean1, "bean"));
+        assertFalse(equivalence.equals(bean1, new SubBean(1, 2L, 3.5, true, "name", "a", "b")));
+
+        assertFalse(equivalence.equals(bean1, new Bean(0, 2L, 3.5, true, "name", "a", "b")));
+        assertFalse(equivalence.equals(bean1, new Bean(1, 0L, 3.5, true, "name", "a", "b")));
+        assertFalse(equivalence.equals(bean1, new Bean(1, 2L, 3.6, true, "name", "a", "b")));
+        assertFalse(equivalence.equals(bean1, new Bean(1, 2L, 3.5, false, "name", "a", "b")));
+        assertFalse(equivalence.equals(bean1, new Bean(1, 2L, 3.5, true, null, "a", "b")));
+        assertFalse(equivalence.equals(bean1, new Bean(1, 2L, 3.5, true, "name", "a")));
+
+        assertTrue(equivalence.equals(new Bean(1, 2L, Double.NaN, true, null), new Bean(1, 2L, Double.NaN, true, null)));
+        assertFalse(equivalence.equals(new Bean(1, 2L, 0.0, true, null), new Bean(1, 2L, -0.0, true, null)));
+
+        final Equivalence<Bean> subclasses = Equivalence.builder(Bean.class).acceptSubclasses().appendProperty("count").build();
+        assertTrue(subclasses.equals(bean1, new SubBean(1, 0L, 0, false, null)));
+        assertFalse(subclasses.equals(bean1, "bean"));
+
+        assertThrows(NullPointerException.class, () -> Equivalence.builder(null));
+        assertThrows(NullPointerException.class, () -> Equivalence.builder(Bean.class).append(null));
+        assertThrows(NullPointerException.class, () -> Equivalence.builder(Bean.class).append(Bean::getName, null));
+        assertThrows(NullPointerException.class, () -> Equivalence.builder(Bean.class).appendInt(null));
+    }
+
+    /**
+     * Test method for {@link Equivalence#hashCode(Object)}.
+     */
+    @Test
+    public void testHashCode() {
+        final Equivalence<Bean> equivalence = Equivalence.builder(Bean.class).appendInt(Bean::getCount).appendLong(Bean::getId)
+                .appendDouble(Bean::getRate).appendBoolean(Bean::isActive).append(Bean::getName).build();
+
+        final Bean bean = new Bean(1, 2L, 3.5, true, "name");
+        final int expected = new HashCodeBuilder2<>(bean).append(Bean::getCount).append(Bean::getId).append(Bean::getRate)
+                .append(Bean::isActive).append(Bean::getName).toHashCode();
+
+        assertEquals(expected, equivalence.hashCode(bean));
+        assertEquals(equivalence.hashCode(bean), equivalence.hashCode(new Bean(1, 2L, 3.5, true, "name")));
+        assertNotEquals(equivalence.hashCode(bean), equivalence.hashCode(new Bean(1, 2L, 3.5, true, "other")));
+        assertEquals(17, equivalence.hashCode(null));
+
+        final Equivalence<Bean> arrays = Equivalence.builder(Bean.class).append(Bean::getTags).append(Bean::getValues).build();
+        final Bean bean1 = new Bean(1, 2L, 3.5, true, "name", "a", "b");
+        final Bean bean2 = new Bean(1, 2L, 3.5, true, "name", "a", "b");
+        assertTrue(arrays.equals(bean1, bean2));
+        assertEquals(arrays.hashCode(bean1), arrays.hashCode(bean2));
+        assertEquals(new HashCodeBuilder2<>(bean1).append(Bean::getTags).append(Bean::getValues).toHashCode(), arrays.hashCode(bean1));
+        bean2.values[0] = 9;
+        assertFalse(arrays.equals(bean1, bean2));
+        assertNotEquals(arrays.hashCode(bean1), arrays.hashCode(bean2));
+
+        // nested and primitive arrays, hashed element by element
+        final Object[] nested = {new Object[] {"a", null, new int[] {1, 2}}, new boolean[] {true, false}, new char[] {'c'},
+                new long[] {1L << 40}, new double[] {0.5}, new float[] {1.5f}, new byte[] {-1}, new short[] {7}, null};
+        final Equivalence<Object[]> deep = Equivalence.builder(Object[].class).append(Function.identity()).build();
+        assertEquals(new HashCodeBuilder2<>(nested).append(Function.identity()).toHashCode(), deep.hashCode(nested));
+    }
+
+    /**
+     * Test method for
+     * {@link Equivalence.EquivalenceBuilder#append(java.util.function.Function, java.util.function.BiPredicate, java.util.function.ToIntFunction)}.
+     */
+    @Test
+    public void testPredicate() {
+        final Equivalence<Bean> ignoreCase = Equivalence.builder(Bean.class).append(Bean::getName, String::equalsIgnoreCase).build();
+
+        assertTrue(ignoreCase.equals(new Bean(1, 2L, 3.5, true, "name"), new Bean(0, 0L, 0, false, "NAME")));
+        assertTrue(ignoreCase.equals(new Bean(1, 2L, 3.5, true, null), new Bean(0, 0L, 0, false, null)));
+        assertFalse(ignoreCase.equals(new Bean(1, 2L, 3.5, true, "name"), new Bean(0, 0L, 0, false, null)));
+        assertFalse(ignoreCase.equals(new Bean(1, 2L, 3.5, true, "name"), new Bean(0, 0L, 0, false, "other")));
+
+        // not hashed without hash function
+        assertEquals(17, ignoreCase.hashCode(new Bean(1, 2L, 3.5, true, "name")));
+
+        final Equivalence<Bean> hashed = Equivalence.builder(Bean.class)
+                .append(Bean::getName, String::equalsIgnoreCase, s -> s.toLowerCase().hashCode()).build();
+        assertEquals(hashed.hashCode(new Bean(1, 2L, 3.5, true, "name")), hashed.hashCode(new Bean(1, 2L, 3.5, true, "NAME")));
+        assertEquals(17 * 37, hashed.hashCode(new Bean(1, 2L, 3.5, true, null)));
+    }
+
+    /**
+     * Test method for {@link Equivalence.EquivalenceBuilder#appendProperty(String)}.
+     */
+    @Test
+    public void testAppendProperty() {
+        final Equivalence<SubBean> byName = Equivalence.builder(SubBean.class).appendProperty("count").appendProperty("id")
+                .appendProperty("rate").appendProperty("active").appendProperty("name").appendProperty("level")
+                .appendProperty("ratio").appendProperty("label").build();
+        final Equivalence<SubBean> byGetter = Equivalence.builder(SubBean.class).appendInt(Bean::getCount).appendLong(Bean::getId)
+                .appendDouble(Bean::getRate).appendBoolean(Bean::isActive).append(Bean::getName).appendInt(b -> b.level)
+                .appendInt(b -> Float.floatToIntBits(b.ratio)).append(SubBean::getLabel).build();
+
+        final SubBean bean = new SubBean(1, 2L, 3.5, true, "name");
+        assertTrue(byName.equals(bean, new SubBean(1, 2L, 3.5, true, "name")));
+        assertFalse(byName.equals(bean, new SubBean(1, 2L, 3.5, false, "name")));
+        assertEquals(byGetter.hashCode(bean), byName.hashCode(bean));
+        assertEquals(new HashCodeBuilder2<>(bean).append(Bean::getCount).append(Bean::getId).append(Bean::getRate)
+                .append(Bean::isActive).append(Bean::getName).append(b -> b.level).append(b -> b.ratio).append(SubBean::getLabel)
+                .toHashCode(), byName.hashCode(bean));
+
+        assertThrows(IllegalArgumentException.class, () -> Equivalence.builder(Bean.class).appendProperty("unknown"));
+        assertThrows(NullPointerException.class, () -> Equivalence.builder(Bean.class).appendProperty(null));
+
+        final Equivalence<Failing> failing = Equivalence.builder(Failing.class).appendProperty("value").build();
+        assertThrows(IllegalStateException.class, () -> failing.hashCode(new Failing()));
+        final Equivalence<Failing> checked = Equivalence.builder(Failing.class).appendProperty("checked").build();
+        assertThrows(FunctionException.class, () -> checked.hashCode(new Failing()));
+    }
+
+    /**
+     * Test method for {@link Equivalence.EquivalenceBuilder#appendSuper(Equivalence)}.
+     */
+    @Test
+    public void testAppendSuper() {
+        final Equivalence<Bean> parent = Equivalence.builder(Bean.class).appendInt(Bean::getCount).build();
+        final Equivalence<SubBean> child = Equivalence.builder(SubBean.class).appendSuper(parent).append(SubBean::getLabel).build();
+
+        assertTrue(child.equals(new SubBean(1, 2L, 3.5, true, "name"), new SubBean(1, 0L, 0, false, null)));
+        assertFalse(child.equals(new SubBean(1, 2L, 3.5, true, "name"), new SubBean(2, 2L, 3.5, true, "name")));
+        assertEquals((17 * 37 + 1) * 37 + "label".hashCode(), child.hashCode(new SubBean(1, 2L, 3.5, true, "name")));
+        assertTrue(child.toString().contains("properties=2"));
+
+        assertThrows(NullPointerException.class, () -> Equivalence.builder(SubBean.class).appendSuper(null));
+    }
+
+    private static class Bean {
+
+        private final int count;
+        private final long id;
+        private final double rate;
+        private final boolean active;
+        private final String name;
+        private final String[] tags;
+        private final int[] values = {1, 2};
+
+        Bean(final int count, final long id, final double rate, final boolean active, final String name, final String... tags) {
+            this.count = count;
+            this.id = id;
+            this.rate = rate;
+            this.active = active;
+            this.name = name;
+            this.tags = tags;
+        }
+
+        public int getCount() {
+            return this.count;
+        }
+
+        public long getId() {
+            return this.id;
+        }
+
+        public double getRate() {
+            return this.rate;
+        }
+
+        public boolean isActive() {
+            return this.active;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public String[] getTags() {
+            return this.tags;
+        }
+
+        public int[] getValues() {
+            return this.values;
+        }
+    }
+
+    private static class SubBean extends Bean {
+
+        private final short level = 3;
+        private final float ratio = 0.5f;
+
+        SubBean(final int count, final long id, final double rate, final boolean active, final String name, final String... tags) {
+            super(count, id, rate, active, name, tags);
+        }
+
+        public String getLabel() {
+            return "label";
+        }
+    }
+
+    public static class Failing {
+
+        public String getValue() {
+            throw new IllegalStateException("failure");
+        }
+
+        public String getChecked() throws Exception {
+            throw new Exception("checked");
+        }
+    }
+}
@@ -21,12 +21,28 @@ package fr.landel.utils.commons.builder;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.awt.Color;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -369,6 +385,96 @@ public class ToStringBuilderTest {
                 + "{\"id\":\"3\",\"name\":\"kelig\"}],\"array\":[\"test\",\"test\"],\"map\":[\"key\":\"value\"]}", builder.build());
     }
 
+    /**
+     * Test method for {@link ToStringBuilder#build()}.
+     */
+    @Test
+    public void testStyleJSONStreamedBuild() {
+        StringBuilder expected = new StringBuilder("{\"test\":");
+        expected.append("{");
+        expected.append("\"0\":\"java.awt.Color[r=0,g=0,b=0]\"");
+        expected.append(",");
+        expected.append("\"1\":\"{test\"");
+        expected.append(",");
+        expected.append("\"2\":\"0\"");
+        expected.append(",");
+        expected.append("\"blue\":\"java.awt.Color[r=0,g=0,b=255]\"");
+        expected.append(",");
+        expected.append("\"value\":\"").append(String.format("%,.3f", 120156.569)).append("\"");
+        expected.append(",");
+        expected.append("\"5\":\"optional\"");
+        expected.append(",");
+        expected.append("\"6\":\"OPTIONAL\"");
+        expected.append(",");
+        expected.append("\"optional\":\"optional\"");
+        expected.append("}}");
+
+        ToStringBuilder builder = new ToStringBuilder("test", ToStringStyles.JSON_STREAMED);
+        builder.append(Color.BLACK);
+        builder.append("{test");
+        builder.appendAndFormat(Color.BLACK, color -> String.valueOf(color.getBlue()));
+        builder.append("blue", Color.BLUE);
+        builder.appendAndFormat("value", 120_156.568_9, ToStringBuilder.NUMBER_FORMATTER);
+        builder.appendIfPresent(Optional.empty());
+        builder.appendIfPresent(Optional.of("optional"));
+        builder.appendAndFormatIfPresent(Optional.of("optional"), text -> text.toUpperCase());
+        builder.appendIfPresent("optional", Optional.ofNullable(null));
+        builder.appendIfPresent("optional", Optional.of("optional"));
+
+        assertEquals(expected.toString(), builder.build());
+        assertEquals(expected.toString(), builder.build());
+
+        final Map<Object, Object> map = new LinkedHashMap<>();
+        map.put(1, new int[] {1, 2});
+        map.put(null, Arrays.asList(true, null, 1.5f, Double.NaN, new BigDecimal("1.10"), new Object[0]));
+
+        builder = new ToStringBuilder(ToStringStyles.JSON_STREAMED);
+        builder.append("id", 1L);
+        builder.append("name", "\"test\"\\\n\u0001é");
+        builder.append("map", map);
+        builder.appendAndFormat("formatted", 1, v -> null);
+
+        assertEquals("{\"id\":1,\"name\":\"\\\"test\\\"\\\\\\n\\u0001é\",\"map\":{\"1\":[1,2],\"null\":[true,null,1.5,\"NaN\",1.10,[]]},"
+                + "\"formatted\":null}", builder.build());
+
+        // typed values (documented example) and positional key not checked against the appended keys
+        builder = new ToStringBuilder("test", ToStringStyles.JSON_STREAMED);
+        builder.append(Color.BLACK).append(0).append("blue", Color.BLUE).append("value", 120_156.568_9);
+        builder.appendIfPresent("optional", Optional.of("optional"));
+        assertEquals("{\"test\":{\"0\":\"java.awt.Color[r=0,g=0,b=0]\",\"1\":0,\"blue\":\"java.awt.Color[r=0,g=0,b=255]\","
+                + "\"value\":120156.5689,\"optional\":\"optional\"}}", builder.build());
+
+        assertEquals("{\"0\":\"a\",\"0\":\"b\"}", new ToStringBuilder(ToStringStyles.JSON_STREAMED).append("a").append("0", "b").build());
+        // the position counts the keyed properties too
+        assertEquals("{\"0\":\"x\",\"k\":\"v\",\"2\":\"y\"}",
+                new ToStringBuilder(ToStringStyles.JSON_STREAMED).append("x").append("k", "v").append("y").build());
+
+        // deep containers
+        List<Object> deep = new ArrayList<>();
+        for (int i = 0; i < 10_000; ++i) {
+            deep = new ArrayList<>(Collections.singletonList(deep));
+        }
+        final String json = new ToStringBuilder(ToStringStyles.JSON_STREAMED).append("deep", deep).build();
+        assertEquals(10_001 * 2 + "{\"deep\":}".length(), json.length());
+
+        // writer and stream
+        final StringWriter writer = new StringWriter();
+        assertEquals("", new ToStringBuilder("w", () -> new ToStringStyleJSONStreamed(writer)).append("k", "v").build());
+        assertEquals("{\"w\":{\"k\":\"v\"}}", writer.toString());
+
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        assertEquals("", new ToStringBuilder(() -> new ToStringStyleJSONStreamed(stream)).append("é", "€").build());
+        assertEquals("{\"é\":\"€\"}", new String(stream.toByteArray(), StandardCharsets.UTF_8));
+
+        final ToStringStyle style = new ToStringStyleJSONStreamed();
+        style.append("key", "value");
+        assertThrows(IllegalStateException.class, () -> style.setObject("title"));
+        style.build();
+        assertThrows(IllegalStateException.class, () -> style.append("key", "value"));
+        assertThrows(NullPointerException.class, () -> new ToStringStyleJSONStreamed((Writer) null));
+        assertThrows(NullPointerException.class, () -> new ToStringStyleJSONStreamed((OutputStream) null));
+    }
+
     /**
      * Test method for {@link ToStringBuilder#build()}.
      */
@@ -534,6 +640,145 @@ public class ToStringBuilderTest {
         }
     }
 
+    /**
+     * Test method for {@link ToStringBuilder#build()} (rendering plan).
+     */
+    @Test
+    public void testBuildPlan() {
+        final AbstractToStringStyle style = new ToStringStyleJSONQuoted();
+        assertSame(ToStringPlan.of(style), ToStringPlan.of(new ToStringStyleJSONQuoted()));
+
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("k\"ey", new Object[] {"a", null, Arrays.asList(1, "b\"c")});
+        map.put("empty", Collections.emptyList());
+
+        style.append("map", map);
+        assertEquals("{\"v\":{\"map\":[\"k\\\"ey\":[\"a\",,[\"1\",\"b\\\"c\"]],\"empty\":[]]}}",
+                style.setObject("v").build());
+
+        // build can be called several times, the title can be changed after the first append
+        style.append(1, (Function<Integer, CharSequence>) v -> "one");
+        assertEquals("{\"t'\\\"\":{\"map\":[\"k\\\"ey\":[\"a\",,[\"1\",\"b\\\"c\"]],\"empty\":[]],\"one\"}}",
+                style.setObject("t'\"").build());
+        assertEquals(style.build(), style.build());
+        assertEquals("{\"map\":[\"k\\\"ey\":[\"a\",,[\"1\",\"b\\\"c\"]],\"empty\":[]],\"one\"}",
+                style.setObject("").build());
+
+        assertEquals("{T:{key:value}}", new ToStringBuilder("T\"'", ToStringStyles.JSON).append("'key'", "\"value\"").build());
+        assertEquals("T = \n['key' = 'value',\n['1'],\n[x]]",
+                new ToStringBuilder("T", ToStringStyles.READABLE).append("key", " value ").append(Arrays.asList(1)).append("[x]")
+                        .build());
+
+        // the plan of the other classes is compiled for each instance (the tags can depend on the instance)
+        assertNotSame(ToStringPlan.of(separated("|")), ToStringPlan.of(separated("|")));
+        assertEquals("{a|b}", new ToStringBuilder(() -> separated("|")).append("a").append("b").build());
+        assertEquals("{a;b}", new ToStringBuilder(() -> separated(";")).append("a").append("b").build());
+    }
+
+    private static AbstractToStringStyle separated(final String separator) {
+        return new ToStringStyleJSON() {
+
+            /**
+             * serialVersionUID
+             */
+            private static final long serialVersionUID = 3016815396428203374L;
+
+            @Override
+            protected String getPropertiesSeparator() {
+                return separator;
+            }
+        };
+    }
+
+    /**
+     * Test method for {@link ToStringBuilder#setLimits(ToStringLimits)}.
+     */
+    @Test
+    public void testLimits() {
+        final List<Object> self = new ArrayList<>(Arrays.asList(1));
+        self.add(self);
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("a", 1);
+        map.put("self", map);
+        map.put("list", Arrays.asList(1, Arrays.asList(2, Arrays.asList(3))));
+
+        // cycles are always detected
+        assertEquals("t[self=[1,(cycle)],map=[a=1,self=(cycle),list=[1,[2,[3]]]]]",
+                new ToStringBuilder("t").append("self", self).append("map", map).build());
+        assertEquals("{t:{self:[1,(cycle)]}}", new ToStringBuilder("t", ToStringStyles.JSON).append("self", self).build());
+
+        final Iterable<Integer> iterable = () -> Arrays.asList(1, 2, 3).iterator();
+        assertEquals("t[list=[1,2,\u2026(+2 more)],array=[1,2,\u2026(+1 more)],iterable=[1,2,\u2026],"
+                + "map=[a=1,self=(cycle),\u2026(+1 more)]]",
+                new ToStringBuilder("t").setLimits(ToStringLimits.UNLIMITED.withMaxElements(2)).append("list", Arrays.asList(1, 2, 3, 4))
+                        .append("array", new int[] {1, 2, 3}).append("iterable", iterable).append("map", map).build());
+
+        assertEquals("t[list=[1,[\u2026]],empty=[]]", new ToStringBuilder("t").setLimits(ToStringLimits.UNLIMITED.withMaxDepth(1))
+                .append("list", Arrays.asList(1, Arrays.asList(2))).append("empty", new Object[0]).build());
+
+        final ToStringBuilder builder = new ToStringBuilder("t").setLimits(ToStringLimits.UNLIMITED.withMaxLength(12));
+        builder.append("k", "value").append("list", Arrays.asList(1, 2, 3, 4)).append("x", 1);
+        assertEquals("t[k=value,li\u2026]", builder.build());
+
+        // the elements after the limit are never read
+        final Iterable<Integer> infinite = () -> new Iterator<Integer>() {
+            private int value;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return this.value++;
+            }
+        };
+        assertEquals("[[0,1,2,\u2026]]", new ToStringBuilder().setLimits(ToStringLimits.UNLIMITED.withMaxElements(3)).append(infinite)
+                .build());
+        assertEquals("[[0,1,2,\u2026]", new ToStringBuilder().setLimits(ToStringLimits.UNLIMITED.withMaxLength(8)).append(infinite)
+                .build());
+
+        // the text of a value or a key is not copied beyond the maximum length
+        final AtomicInteger reads = new AtomicInteger();
+        final CharSequence huge = new CharSequence() {
+            @Override
+            public int length() {
+                return 1_000_000;
+            }
+
+            @Override
+            public char charAt(final int index) {
+                reads.incrementAndGet();
+                return 'a';
+            }
+
+            @Override
+            public CharSequence subSequence(final int start, final int end) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        assertEquals("[aaaaaaa\u2026]",
+                new ToStringBuilder().setLimits(ToStringLimits.UNLIMITED.withMaxLength(8)).appendAndFormat(1, v -> huge).build());
+        assertTrue(reads.get() <= 8);
+        reads.set(0);
+        assertEquals("[aaaaaaa\u2026]",
+                new ToStringBuilder().setLimits(ToStringLimits.UNLIMITED.withMaxLength(8)).append(huge, "v").build());
+        assertTrue(reads.get() <= 8);
+        assertEquals("{\"t\":{\"k\":\"\\\u2026}}",
+                new ToStringBuilder("t", ToStringStyles.JSON_QUOTED).setLimits(ToStringLimits.UNLIMITED.withMaxLength(12))
+                        .append("k", String.join("", Collections.nCopies(100_000, "\""))).build());
+
+        assertEquals("{\"t\":{\"self\":[1,\"(cycle)\"],\"map\":{\"a\":1,\"self\":\"(cycle)\",\"\u2026\":\"(+1 more)\"},"
+                + "\"deep\":[[\"\u2026\"]],\"list\":[1,2,\"\u2026(+1 more)\"]}}",
+                new ToStringBuilder("t", ToStringStyles.JSON_STREAMED).setLimits(ToStringLimits.of(2, 2, 1))
+                        .append("self", self).append("map", map).append("deep", Arrays.asList(Arrays.asList(Arrays.asList(1))))
+                        .append("list", Arrays.asList(1, 2, 3)).build());
+
+        assertThrows(NullPointerException.class, () -> new ToStringBuilder().setLimits(null));
+        assertThrows(NullPointerException.class, () -> new ToStringBuilder(MyStyle::new).setLimits(null));
+    }
+
     private class MyStyle extends AbstractToStringStyle {
 
         /**
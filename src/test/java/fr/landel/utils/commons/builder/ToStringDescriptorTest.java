@@ -0,0 +1,169 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Check {@link ToStringDescriptor}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class ToStringDescriptorTest {
+
+    /**
+     * Test method for {@link ToStringBuilder#of(Class)}.
+     */
+    @Test
+    public void testOf() {
+        final ToStringDescriptor<Child> descriptor = ToStringBuilder.of(Child.class);
+
+        assertSame(descriptor, ToStringBuilder.of(Child.class));
+        assertNotSame(descriptor, ToStringBuilder.ofGetters(Child.class));
+        assertEquals(Child.class, descriptor.getType());
+        assertEquals(Arrays.asList("id", "name", "active", "tags"), descriptor.getKeys());
+        assertThrows(UnsupportedOperationException.class, () -> descriptor.getKeys().add("key"));
+
+        final Child child = new Child();
+        final String title = Child.class.getCanonicalName();
+        assertEquals(title + "[id=12,name=null,active=true,tags=[a,b]]", descriptor.build(child));
+        assertEquals("{" + title + ":{id:12,name:null,active:true,tags:[a,b]}}", descriptor.build(child, ToStringStyles.JSON));
+        assertEquals("{\"" + title + "\":{\"id\":\"12\",\"name\":\"null\",\"active\":\"true\",\"tags\":[\"a\",\"b\"]}}",
+                descriptor.build(child, ToStringStyles.JSON_QUOTED));
+
+        assertEquals("child[id=12,name=null,active=true,tags=[a,b],extra=1]",
+                descriptor.appendTo(new ToStringBuilder("child"), child).append("extra", 1).build());
+
+        assertEquals(Child.class.getName() + "[id, name, active, tags]", descriptor.toString());
+        assertEquals("[]", ToStringBuilder.of(Object.class).build(new Object()).replace(Object.class.getCanonicalName(), ""));
+
+        assertThrows(NullPointerException.class, () -> ToStringBuilder.of(null));
+        assertThrows(NullPointerException.class, () -> descriptor.build(null));
+        assertThrows(NullPointerException.class, () -> descriptor.appendTo(null, child));
+    }
+
+    /**
+     * Test method for {@link ToStringBuilder#ofGetters(Class)}.
+     */
+    @Test
+    public void testOfGetters() {
+        final ToStringDescriptor<Child> descriptor = ToStringBuilder.ofGetters(Child.class);
+
+        assertSame(descriptor, ToStringBuilder.ofGetters(Child.class));
+        assertEquals(Arrays.asList("URL", "active", "id", "label"), descriptor.getKeys());
+        assertEquals("(test:(URL:http://,active:true,id:12,label:#12))", descriptor.appendTo(
+                new ToStringBuilder("test", ToStringStyles.PARENTHESIS), new Child()).build());
+
+        final ToStringDescriptor<Failing> failing = ToStringBuilder.ofGetters(Failing.class);
+        assertThrows(IllegalStateException.class, () -> failing.build(new Failing()));
+    }
+
+    /**
+     * Test method for {@link ToStringProperty}.
+     */
+    @Test
+    public void testAnnotated() {
+        final ToStringDescriptor<Annotated> descriptor = ToStringBuilder.of(Annotated.class);
+
+        assertSame(descriptor, ToStringBuilder.of(Annotated.class));
+        assertEquals(Arrays.asList("key", "optional", "size", "computed"), descriptor.getKeys());
+        assertEquals(Arrays.asList("key", "optional", "size", "computed"), ToStringBuilder.ofGetters(Annotated.class).getKeys());
+
+        final Annotated annotated = new Annotated();
+        assertEquals("annotated[key=value,size=5,computed=VALUE]", descriptor.appendTo(new ToStringBuilder("annotated"), annotated)
+                .build());
+
+        annotated.optional = "here";
+        assertEquals("annotated[key=value,optional=here,size=5,computed=VALUE]",
+                descriptor.appendTo(new ToStringBuilder("annotated"), annotated).build());
+    }
+
+    private static class Parent {
+
+        public static final String CONSTANT = "constant";
+
+        protected final int id = 12;
+        protected String name;
+
+        public int getId() {
+            return this.id;
+        }
+
+        public String getLabel() {
+            return "#" + this.id;
+        }
+    }
+
+    private static class Child extends Parent {
+
+        private final boolean active = true;
+        private final String[] tags = {"a", "b"};
+        protected transient String cache = "cache";
+
+        public boolean isActive() {
+            return this.active;
+        }
+
+        public String getURL() {
+            return "http://";
+        }
+
+        public String compute() {
+            return this.cache;
+        }
+    }
+
+    private static class Failing {
+
+        public String getValue() {
+            throw new IllegalStateException("failure");
+        }
+    }
+
+    private static class Annotated {
+
+        @ToStringProperty("key")
+        private String value = "value";
+
+        @ToStringProperty(skipNull = true)
+        private String optional;
+
+        protected String ignored = "ignored";
+
+        @ToStringProperty
+        public int getSize() {
+            return this.value.length();
+        }
+
+        @ToStringProperty("computed")
+        public String upper() {
+            return this.value.toUpperCase();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.commons.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Check {@link ToStringLimits}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class ToStringLimitsTest {
+
+    /**
+     * Test method for {@link ToStringLimits#of(int, int, int)}.
+     */
+    @Test
+    public void testOf() {
+        final ToStringLimits limits = ToStringLimits.of(2, 10, 1_000);
+
+        assertEquals(2, limits.getMaxDepth());
+        assertEquals(10, limits.getMaxElements());
+        assertEquals(1_000, limits.getMaxLength());
+        assertEquals("(maxDepth:2,maxElements:10,maxLength:1000)", limits.toString());
+
+        assertEquals(3, limits.withMaxDepth(3).getMaxDepth());
+        assertEquals(10, limits.withMaxDepth(3).getMaxElements());
+        assertEquals(5, limits.withMaxElements(5).getMaxElements());
+        assertEquals(50, limits.withMaxLength(50).getMaxLength());
+        assertEquals(Integer.MAX_VALUE, ToStringLimits.UNLIMITED.getMaxDepth());
+
+        assertThrows(IllegalArgumentException.class, () -> ToStringLimits.of(0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> limits.withMaxElements(0));
+        assertThrows(IllegalArgumentException.class, () -> limits.withMaxLength(-1));
+    }
+}
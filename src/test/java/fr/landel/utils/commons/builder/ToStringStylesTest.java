@@ -42,6 +42,7 @@ public class ToStringStylesTest {
         assertTrue(ToStringStyleJSON.class.isAssignableFrom(ToStringStyles.JSON.getSupplier().get().getClass()));
         assertTrue(ToStringStyleJSONSpaced.class.isAssignableFrom(ToStringStyles.JSON_SPACED.getSupplier().get().getClass()));
         assertTrue(ToStringStyleJSONQuoted.class.isAssignableFrom(ToStringStyles.JSON_QUOTED.getSupplier().get().getClass()));
+        assertTrue(ToStringStyleJSONStreamed.class.isAssignableFrom(ToStringStyles.JSON_STREAMED.getSupplier().get().getClass()));
         assertTrue(ToStringStyleParenthesis.class.isAssignableFrom(ToStringStyles.PARENTHESIS.getSupplier().get().getClass()));
         assertTrue(ToStringStyleReadable.class.isAssignableFrom(ToStringStyles.READABLE.getSupplier().get().getClass()));
 
@@ -0,0 +1,87 @@
+/*-
+ * #%L
+ * utils-commons
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package samples.builder;
+
+import fr.landel.utils.commons.builder.Equivalence;
+
+public class Entity5 {
+
+    private static final Equivalence<Entity5> EQUIVALENCE = Equivalence.builder(Entity5.class).appendLong(Entity5::getValue)
+            .append(Entity5::getDescription).build();
+
+    private String name;
+    private long value;
+    private String description;
+
+    /**
+     * @return the name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * @param name
+     *            the name to set
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return the value
+     */
+    public long getValue() {
+        return this.value;
+    }
+
+    /**
+     * @param value
+     *            the value to set
+     */
+    public void setValue(long value) {
+        this.value = value;
+    }
+
+    /**
+     * @return the description
+     */
+    public String getDescription() {
+        return this.description;
+    }
+
+    /**
+     * @param description
+     *            the description to set
+     */
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return EQUIVALENCE.equals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return EQUIVALENCE.hashCode(this);
+    }
+}